@@ -1,37 +1,91 @@
 package com.example.demo.application.review;
 
 import com.example.demo.domain.member.entity.Member;
+import com.example.demo.domain.outbox.entity.ChangeType;
+import com.example.demo.domain.outbox.service.OutboxService;
 import com.example.demo.domain.review.adaptor.ReviewAdaptor;
 import com.example.demo.domain.review.entity.Review;
+import com.example.demo.domain.review.writebehind.ReviewWriteBehindQueue;
 import com.example.demo.infrastructure.exception.object.general.GeneralException;
 import com.example.demo.infrastructure.exception.payload.code.ErrorStatus;
 import com.example.demo.domain.store.adaptor.StoreAdaptor;
 import com.example.demo.domain.store.entity.Store;
+import com.example.demo.domain.store.event.StoreDetailChangedEvent;
+import com.example.demo.domain.store.trending.StoreActivityType;
+import com.example.demo.domain.store.trending.TrendingStoreCounter;
 import com.example.demo.infrastructure.annotation.usecase.UseCase;
+import com.example.demo.infrastructure.config.datasource.DataSourceRoutingContext;
 import com.example.demo.presentation.review.dto.ReviewRequest;
 import com.example.demo.presentation.review.dto.ReviewResponse;
-import lombok.RequiredArgsConstructor;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
 
 @UseCase
-@RequiredArgsConstructor
-@Transactional
 public class CreateReviewUseCase {
 
     private final ReviewAdaptor reviewAdaptor;
     private final StoreAdaptor storeAdaptor;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<ReviewWriteBehindQueue> reviewWriteBehindQueue;
+    private final TrendingStoreCounter trendingStoreCounter;
+    private final TransactionTemplate transaction;
+
+    public CreateReviewUseCase(ReviewAdaptor reviewAdaptor,
+                               StoreAdaptor storeAdaptor,
+                               OutboxService outboxService,
+                               ApplicationEventPublisher eventPublisher,
+                               ObjectProvider<ReviewWriteBehindQueue> reviewWriteBehindQueue,
+                               TrendingStoreCounter trendingStoreCounter,
+                               PlatformTransactionManager transactionManager) {
+        this.reviewAdaptor = reviewAdaptor;
+        this.storeAdaptor = storeAdaptor;
+        this.outboxService = outboxService;
+        this.eventPublisher = eventPublisher;
+        this.reviewWriteBehindQueue = reviewWriteBehindQueue;
+        this.trendingStoreCounter = trendingStoreCounter;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
 
+    /**
+     * 리뷰 작성
+     * write-behind 경로는 저널 동기화를 기다리는 동안 커넥션을 잡지 않도록 트랜잭션 밖에서 처리하고,
+     * 동기 저장만 트랜잭션으로 묶는다.
+     */
     public ReviewResponse.CreateReviewResponse execute(Member currentMember, ReviewRequest.CreateReview request) {
         validateRequest(request);
-        
-        Store store = storeAdaptor.queryById(request.getStoreId());
-        
-        // 중복 리뷰 체크
-        reviewAdaptor.queryReviewByStoreAndMember(store.getId(), currentMember.getId())
-                .ifPresent(existingReview -> {
-                    throw new GeneralException(ErrorStatus._BAD_REQUEST);
-                });
-        
+
+        // write-behind 모드: 업소 존재와 중복 리뷰를 확인하고 저장은 배치로 미룬다
+        ReviewWriteBehindQueue writeBehindQueue = reviewWriteBehindQueue.getIfAvailable();
+        if (writeBehindQueue != null) {
+            storeAdaptor.validateExists(request.getStoreId());
+            validateNotReviewed(request.getStoreId(), currentMember.getId());
+            ReviewWriteBehindQueue.OfferResult result = writeBehindQueue.offer(
+                    request.getStoreId(), currentMember.getId(), request.getRating(), request.getContent());
+            if (result == ReviewWriteBehindQueue.OfferResult.DUPLICATE) {
+                throw new GeneralException(ErrorStatus._BAD_REQUEST);
+            }
+            if (result == ReviewWriteBehindQueue.OfferResult.ACCEPTED) {
+                trendingStoreCounter.record(request.getStoreId(), StoreActivityType.REVIEW);
+                return ReviewResponse.CreateReviewResponse.pending(
+                        request.getStoreId(), currentMember, request.getRating(), request.getContent());
+            }
+        }
+
+        return Objects.requireNonNull(transaction.execute(status -> saveNow(currentMember, request)));
+    }
+
+    private ReviewResponse.CreateReviewResponse saveNow(Member currentMember, ReviewRequest.CreateReview request) {
+        // 업소는 존재 확인 겸 응답용 이름만 조회하고, FK 는 프록시로 연결한다
+        Long storeId = request.getStoreId();
+        String storeName = storeAdaptor.queryStoreName(storeId);
+        Store store = storeAdaptor.getReference(storeId);
+
+        // 중복 리뷰는 유니크 제약(uk_review_store_member_active) 위반으로 저장 시 _BAD_REQUEST 처리
         Review review = Review.builder()
                 .store(store)
                 .member(currentMember)
@@ -40,8 +94,23 @@ public class CreateReviewUseCase {
                 .build();
         
         Review savedReview = reviewAdaptor.save(review);
+        outboxService.recordReviewChanged(savedReview.getId(), storeId, ChangeType.CREATED);
+        eventPublisher.publishEvent(new StoreDetailChangedEvent(storeId));
+        trendingStoreCounter.record(storeId, StoreActivityType.REVIEW);
         
-        return ReviewResponse.CreateReviewResponse.from(savedReview);
+        return ReviewResponse.CreateReviewResponse.from(savedReview, storeName);
+    }
+
+    /**
+     * 이미 저장된 활성 리뷰가 있으면 동기 저장의 유니크 제약 위반과 같은 _BAD_REQUEST
+     * 대기열이 배치를 저장한 직후의 요청도 걸러야 하므로 레플리카가 아닌 primary 에서 확인한다.
+     */
+    private void validateNotReviewed(Long storeId, Long memberId) {
+        boolean reviewed = DataSourceRoutingContext.callOnPrimary(
+                () -> reviewAdaptor.queryReviewByStoreAndMember(storeId, memberId).isPresent());
+        if (reviewed) {
+            throw new GeneralException(ErrorStatus._BAD_REQUEST);
+        }
     }
 
     private void validateRequest(ReviewRequest.CreateReview request) {
@@ -1,12 +1,16 @@
 package com.example.demo.application.review;
 
 import com.example.demo.domain.member.entity.Member;
+import com.example.demo.domain.outbox.entity.ChangeType;
+import com.example.demo.domain.outbox.service.OutboxService;
 import com.example.demo.domain.review.adaptor.ReviewAdaptor;
 import com.example.demo.domain.review.entity.Review;
 import com.example.demo.infrastructure.exception.object.general.GeneralException;
 import com.example.demo.infrastructure.exception.payload.code.ErrorStatus;
+import com.example.demo.domain.store.event.StoreDetailChangedEvent;
 import com.example.demo.infrastructure.annotation.usecase.UseCase;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 @UseCase
@@ -15,6 +19,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteReviewUseCase {
 
     private final ReviewAdaptor reviewAdaptor;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void execute(Member currentMember, Long reviewId) {
         Review review = reviewAdaptor.queryById(reviewId);
@@ -22,6 +28,8 @@ public class DeleteReviewUseCase {
         validateOwnership(review, currentMember.getId());
         
         reviewAdaptor.delete(review);
+        outboxService.recordReviewChanged(reviewId, review.getStore().getId(), ChangeType.DELETED);
+        eventPublisher.publishEvent(new StoreDetailChangedEvent(review.getStore().getId()));
     }
 
     private void validateOwnership(Review review, Long currentMemberId) {
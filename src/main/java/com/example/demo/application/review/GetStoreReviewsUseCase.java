@@ -1,29 +1,44 @@
 package com.example.demo.application.review;
 
+import com.example.demo.application.support.RequestCoalescer;
 import com.example.demo.domain.review.adaptor.ReviewAdaptor;
 import com.example.demo.domain.review.entity.Review;
 import com.example.demo.domain.store.adaptor.StoreAdaptor;
 import com.example.demo.infrastructure.annotation.usecase.UseCase;
 import com.example.demo.presentation.review.dto.ReviewRequest;
 import com.example.demo.presentation.review.dto.ReviewResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Objects;
 
 @UseCase
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class GetStoreReviewsUseCase {
 
     private final ReviewAdaptor reviewAdaptor;
     private final StoreAdaptor storeAdaptor;
+    private final RequestCoalescer requestCoalescer;
+    private final TransactionTemplate readOnlyTransaction;
 
+    public GetStoreReviewsUseCase(ReviewAdaptor reviewAdaptor,
+                                  StoreAdaptor storeAdaptor,
+                                  RequestCoalescer requestCoalescer,
+                                  PlatformTransactionManager transactionManager) {
+        this.reviewAdaptor = reviewAdaptor;
+        this.storeAdaptor = storeAdaptor;
+        this.requestCoalescer = requestCoalescer;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Transactional(readOnly = true)
     public ReviewResponse.ReviewList execute(Long storeId, ReviewRequest.GetReviews request) {
         // 스토어 존재 확인
-        storeAdaptor.queryById(storeId);
+        storeAdaptor.validateExists(storeId);
         
         PageRequest pageRequest = PageRequest.of(request.getPage(), request.getSize());
         Page<Review> reviewPage = reviewAdaptor.queryReviewsByStoreId(storeId, pageRequest);
@@ -31,9 +46,19 @@ public class GetStoreReviewsUseCase {
         return ReviewResponse.ReviewList.from(reviewPage);
     }
 
+    /**
+     * 업소 평점 정보 조회
+     * 같은 업소/개수에 대한 동시 요청은 한 번만 조회하며, 대기 중인 요청이 커넥션을 잡지 않도록
+     * 트랜잭션은 실제 조회하는 요청에서만 시작한다.
+     */
     public ReviewResponse.StoreRating executeStoreRating(Long storeId, int topReviewLimit) {
+        return requestCoalescer.execute("store_rating", List.of(storeId, topReviewLimit),
+                () -> Objects.requireNonNull(readOnlyTransaction.execute(status -> loadStoreRating(storeId, topReviewLimit))));
+    }
+
+    private ReviewResponse.StoreRating loadStoreRating(Long storeId, int topReviewLimit) {
         // 스토어 존재 확인
-        storeAdaptor.queryById(storeId);
+        storeAdaptor.validateExists(storeId);
         
         // 평균 평점 조회
         Double averageRating = reviewAdaptor.queryAverageRatingByStoreId(storeId).orElse(0.0);
@@ -1,14 +1,18 @@
 package com.example.demo.application.review;
 
 import com.example.demo.domain.member.entity.Member;
+import com.example.demo.domain.outbox.entity.ChangeType;
+import com.example.demo.domain.outbox.service.OutboxService;
 import com.example.demo.domain.review.adaptor.ReviewAdaptor;
 import com.example.demo.domain.review.entity.Review;
 import com.example.demo.infrastructure.exception.object.general.GeneralException;
 import com.example.demo.infrastructure.exception.payload.code.ErrorStatus;
+import com.example.demo.domain.store.event.StoreDetailChangedEvent;
 import com.example.demo.infrastructure.annotation.usecase.UseCase;
 import com.example.demo.presentation.review.dto.ReviewRequest;
 import com.example.demo.presentation.review.dto.ReviewResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 @UseCase
@@ -17,6 +21,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateReviewUseCase {
 
     private final ReviewAdaptor reviewAdaptor;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ReviewResponse.ReviewInfo execute(Member currentMember, Long reviewId, ReviewRequest.UpdateReview request) {
         Review review = reviewAdaptor.queryById(reviewId);
@@ -26,6 +32,8 @@ public class UpdateReviewUseCase {
         
         review.updateReview(request.getRating(), request.getContent());
         Review updatedReview = reviewAdaptor.save(review);
+        outboxService.recordReviewChanged(reviewId, review.getStore().getId(), ChangeType.UPDATED);
+        eventPublisher.publishEvent(new StoreDetailChangedEvent(review.getStore().getId()));
         
         return ReviewResponse.ReviewInfo.from(updatedReview);
     }
@@ -0,0 +1,185 @@
+package com.example.demo.application.store;
+
+import com.example.demo.domain.member.entity.Member;
+import com.example.demo.domain.store.adaptor.StoreAdaptor;
+import com.example.demo.domain.store.entity.Address;
+import com.example.demo.domain.store.entity.Store;
+import com.example.demo.infrastructure.annotation.usecase.UseCase;
+import com.example.demo.infrastructure.exception.object.general.GeneralException;
+import com.example.demo.infrastructure.exception.payload.code.ErrorStatus;
+import com.example.demo.presentation.store.dto.StoreResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 업소 전체 내보내기 UseCase (관리자 전용)
+ * 업소를 한 건씩 스트리밍 조회해 응답 스트림에 바로 기록하고, 기록한 엔티티는 영속성 컨텍스트에서 분리하여
+ * 업소 수와 관계없이 힙 사용량이 일정하게 유지되도록 한다.
+ */
+@Slf4j
+@UseCase
+public class ExportStoresUseCase {
+
+    // 응답 버퍼를 비우는 행 단위
+    private static final int FLUSH_INTERVAL = 500;
+
+    private static final String[] CSV_HEADER = {
+        "storeId", "storeName", "category", "majorCategory", "subCategory", "contactNumber",
+        "sido", "sigun", "fullAddress", "latitude", "longitude", "createdDate", "lastModifiedDate"
+    };
+
+    private final StoreAdaptor storeAdaptor;
+    private final EntityManager entityManager;
+    private final ObjectWriter jsonLineWriter;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportStoresUseCase(StoreAdaptor storeAdaptor,
+                               EntityManager entityManager,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager) {
+        this.storeAdaptor = storeAdaptor;
+        this.entityManager = entityManager;
+        this.jsonLineWriter = objectMapper.writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .withRootValueSeparator("\n");
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 응답 본문에 업소 목록을 직접 기록하는 StreamingResponseBody 반환
+     * 실제 조회는 응답 스트림 기록 시점에 별도 읽기 전용 트랜잭션에서 수행된다.
+     */
+    public StreamingResponseBody execute(Member member, ExportFormat format) {
+        if (member.isNotAdmin()) {
+            throw new GeneralException(ErrorStatus.AUTH_ADMIN_PRIVILEGES_REQUIRED);
+        }
+
+        return outputStream -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Store> stores = storeAdaptor.streamActiveStores()) {
+                long count = switch (format) {
+                    case JSONL -> writeJsonLines(stores.iterator(), outputStream);
+                    case CSV -> writeCsv(stores.iterator(), outputStream);
+                };
+                log.info("업소 내보내기 완료 - format: {}, count: {}", format, count);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private long writeJsonLines(Iterator<Store> stores, OutputStream outputStream) throws IOException {
+        long count = 0;
+        try (SequenceWriter sequenceWriter = jsonLineWriter.writeValues(outputStream)) {
+            while (stores.hasNext()) {
+                Store store = stores.next();
+                sequenceWriter.write(StoreResponse.StoreInfo.from(store));
+                entityManager.detach(store);
+                if (++count % FLUSH_INTERVAL == 0) {
+                    sequenceWriter.flush();
+                }
+            }
+            // 마지막 행도 개행으로 끝나도록 버퍼를 비운 뒤 기록
+            sequenceWriter.flush();
+            if (count > 0) {
+                outputStream.write('\n');
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(Iterator<Store> stores, OutputStream outputStream) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        // 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 기록
+        writer.write('\uFEFF');
+        writeCsvRow(writer, (Object[]) CSV_HEADER);
+        while (stores.hasNext()) {
+            Store store = stores.next();
+            Address address = store.getAddress();
+            writeCsvRow(writer,
+                store.getId(), store.getStoreName(), store.getCategory(),
+                store.getMajorCategory(), store.getSubCategory(), store.getContactNumber(),
+                address != null ? address.getSido() : null,
+                address != null ? address.getSigun() : null,
+                address != null ? address.getFullAddress() : null,
+                address != null ? address.getLatitude() : null,
+                address != null ? address.getLongitude() : null,
+                store.getCreatedDate(), store.getLastModifiedDate());
+            entityManager.detach(store);
+            if (++count % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = neutralizeFormula(value);
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * 엑셀 등에서 수식으로 실행되지 않도록 수식 시작 문자(= + - @, 탭, CR)로 시작하는 문자열 앞에 작은따옴표를 붙인다
+     * 업소명/주소 등 입력값에만 적용하며 숫자(좌표, ID)와 날짜는 그대로 기록한다.
+     */
+    private String neutralizeFormula(Object value) {
+        String text = value.toString();
+        if (!(value instanceof CharSequence) || text.isEmpty()) {
+            return text;
+        }
+        return switch (text.charAt(0)) {
+            case '=', '+', '-', '@', '\t', '\r' -> "'" + text;
+            default -> text;
+        };
+    }
+
+    /**
+     * 내보내기 형식
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum ExportFormat {
+        JSONL("application/x-ndjson", "jsonl"),
+        CSV("text/csv;charset=UTF-8", "csv");
+
+        private final String contentType;
+        private final String extension;
+    }
+}
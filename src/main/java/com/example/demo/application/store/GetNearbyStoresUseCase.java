@@ -1,13 +1,22 @@
 package com.example.demo.application.store;
 
 import com.example.demo.domain.review.adaptor.ReviewAdaptor;
+import com.example.demo.domain.review.cache.StoreRatingCache;
 import com.example.demo.domain.review.entity.Review;
 import com.example.demo.domain.store.adaptor.StoreAdaptor;
-import com.example.demo.domain.store.entity.Store;
+import com.example.demo.domain.store.cursor.NearbyCursorCodec;
 import com.example.demo.domain.store.exception.StoreErrorStatus;
 import com.example.demo.domain.store.exception.StoreHandler;
+import com.example.demo.domain.store.index.StoreNearbyGridIndex;
+import com.example.demo.domain.store.ranking.StoreRelevanceRanker;
 import com.example.demo.domain.store.validator.StoreValidator;
 import com.example.demo.domain.store.util.DistanceUtils;
+import com.example.demo.domain.store.vo.NearbyCursor;
+import com.example.demo.domain.store.vo.StoreDistance;
+import com.example.demo.domain.store.vo.StoreMenuSummary;
+import com.example.demo.domain.store.vo.StoreNearbyFilter;
+import com.example.demo.domain.store.vo.StoreNearbySort;
+import com.example.demo.domain.store.vo.StoreSummary;
 import com.example.demo.infrastructure.annotation.usecase.UseCase;
 import com.example.demo.presentation.review.dto.ReviewResponse;
 import com.example.demo.presentation.store.dto.StoreResponse;
@@ -18,9 +27,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 
 /**
  * 사용자 현재 위치 기반 착한가격업소 조회 UseCase
@@ -30,11 +38,20 @@ import org.springframework.data.domain.PageRequest;
 @Transactional(readOnly = true)
 public class GetNearbyStoresUseCase {
 
+    private static final Comparator<StoreDistance> DISTANCE_ORDER = Comparator
+        .comparingDouble(StoreDistance::distanceKm)
+        .thenComparing(StoreDistance::storeId);
+
     private final StoreAdaptor storeAdaptor;
     private final ReviewAdaptor reviewAdaptor;
+    private final StoreRatingCache storeRatingCache;
+    private final StoreNearbyGridIndex storeNearbyGridIndex;
+    private final StoreRelevanceRanker storeRelevanceRanker;
+    private final NearbyCursorCodec nearbyCursorCodec;
 
     /**
      * 사용자 현재 위치 기반 가까운 착한가격업소 조회
+     * 거리순 정렬이면 (거리, 업소 ID) 커서로 다음 페이지를 이어서 조회할 수 있다.
      * @return 거리 정보가 포함된 주변 업소 목록 응답
      */
     public StoreResponse.NearbyStoreList execute(StoreRequest.GetNearbyStores request) {
@@ -45,32 +62,63 @@ public class GetNearbyStoresUseCase {
 
         // 입력값 검증
         validateInputParameters(userLatitude, userLongitude, limit, radiusKm);
-        
-        List<Store> nearbyStores;
 
-        if (radiusKm != null) {
-            // 반경 내 조회를 Adaptor로 위임 (DB 정렬: 거리순) + 메뉴 fetch join 보장
-            nearbyStores = storeAdaptor.queryStoresWithinRadiusWithMenus(
-                userLatitude,
-                userLongitude,
-                radiusKm,
-                limit
-            );
-        } else {
-            // 반경 제한이 없으면 좌표 보유 업소를 메뉴까지 fetch join 후 메모리에서 거리 정렬
-            List<Store> allStoresWithCoordinates = storeAdaptor.queryStoresWithCoordinatesFetchMenus();
-            nearbyStores = allStoresWithCoordinates.stream()
-                .sorted(createDistanceComparator(userLatitude, userLongitude))
-                .limit(limit)
+        boolean relevance = request.sortOrDefault() == StoreNearbySort.RELEVANCE;
+        NearbyCursor after = decodeCursor(request, relevance);
+        StoreNearbyFilter filter = request.toFilter();
+        List<LocatedStore> located;
+        // 다음 페이지 기준 위치 (요약 조인에서 삭제된 업소가 빠져도 한 페이지를 다 읽었으면 이어서 조회)
+        NearbyCursor next = null;
+
+        if (relevance) {
+            // 거리순 후보를 격자 인덱스에서 받아 평점/리뷰 수/인기도를 합산한 점수로 다시 고른다
+            located = storeRelevanceRanker.nearest(userLatitude, userLongitude, radiusKm, limit, filter).stream()
+                .map(nearby -> new LocatedStore(nearby.store(), nearby.distanceKm()))
                 .toList();
+        } else if (!filter.isEmpty()) {
+            // 가격/업종/분류 조건은 격자 인덱스의 후보 생성 단계에서 적용 (메뉴를 읽은 뒤 거르지 않음)
+            located = storeNearbyGridIndex.nearest(userLatitude, userLongitude, radiusKm, limit, filter, after).stream()
+                .map(nearby -> new LocatedStore(nearby.store(), nearby.distanceKm()))
+                .toList();
+            if (located.size() == limit) {
+                LocatedStore last = located.get(located.size() - 1);
+                next = new NearbyCursor(last.distanceKm(), last.store().storeId());
+            }
+        } else {
+            List<StoreDistance> distances;
+            if (radiusKm != null) {
+                // 반경 내 조회를 Adaptor로 위임 (DB 정렬: 거리, 업소 ID 순), 엔티티 대신 요약 프로젝션만 조회
+                distances = storeAdaptor.queryDistancesWithinRadius(userLatitude, userLongitude, radiusKm, limit, after);
+            } else {
+                // 반경 제한이 없으면 좌표만 조회해 메모리에서 거리 정렬 후, 상위 limit 건만 요약 조회
+                distances = storeAdaptor.queryCoordinates().stream()
+                    .map(coordinate -> new StoreDistance(coordinate.storeId(), DistanceUtils.calculateDistanceKm(
+                        userLatitude, userLongitude, coordinate.latitude(), coordinate.longitude())))
+                    .filter(distance -> after == null || after.isBefore(distance.distanceKm(), distance.storeId()))
+                    .sorted(DISTANCE_ORDER)
+                    .limit(limit)
+                    .toList();
+            }
+            located = withSummaries(distances);
+            if (distances.size() == limit) {
+                StoreDistance last = distances.get(distances.size() - 1);
+                next = new NearbyCursor(last.distanceKm(), last.storeId());
+            }
         }
-        
+
+        List<StoreSummary> nearbyStores = located.stream()
+            .map(LocatedStore::store)
+            .toList();
+        Map<Long, Double> distances = located.stream()
+            .collect(Collectors.toMap(store -> store.store().storeId(), LocatedStore::distanceKm));
+
         // 스토어들의 리뷰 정보를 한 번에 조회
         List<Long> storeIds = nearbyStores.stream()
-                .map(Store::getId)
+                .map(StoreSummary::storeId)
                 .toList();
         
-        Map<Long, ReviewAdaptor.StoreRatingInfo> storeRatings = reviewAdaptor.queryStoreRatings(storeIds);
+        Map<Long, ReviewAdaptor.StoreRatingInfo> storeRatings = storeRatingCache.getRatings(storeIds);
+        Map<Long, List<StoreMenuSummary>> storeMenus = storeAdaptor.queryMenuSummaries(storeIds);
         
         // 상위 리뷰 정보를 포함한 리뷰 요약 정보 생성
         Map<Long, StoreResponse.ReviewSummary> reviewSummaries = storeIds.stream()
@@ -91,63 +139,61 @@ public class GetNearbyStoresUseCase {
                     }
                 ));
 
-        // Store 엔터티를 NearbyStore DTO로 변환 (거리 정보 및 리뷰 정보 포함)
+        // 업소 요약을 NearbyStore DTO로 변환 (거리 정보, 메뉴 및 리뷰 정보 포함)
         List<StoreResponse.NearbyStore> nearbyStoreDtos = nearbyStores.stream()
             .map(store -> StoreResponse.NearbyStore.from(
                 store,
-                distanceToStore(userLatitude, userLongitude, store),
-                reviewSummaries.get(store.getId())
+                storeMenus.getOrDefault(store.storeId(), List.of()),
+                distances.get(store.storeId()),
+                reviewSummaries.get(store.storeId())
             ))
             .toList();
 
-        // 최종 응답 객체 생성 및 반환
-        return StoreResponse.NearbyStoreList.from(userLatitude, userLongitude, nearbyStoreDtos);
+        // 최종 응답 객체 생성 및 반환 (한 페이지를 다 읽었으면 마지막 위치를 다음 커서로)
+        String nextCursor = next != null ? nearbyCursorCodec.encode(next, request.cursorScope()) : null;
+        return StoreResponse.NearbyStoreList.from(userLatitude, userLongitude, nearbyStoreDtos, nextCursor);
     }
 
-
     /**
-     * 입력 파라미터 검증
+     * 요청 커서 검증 (관련도 정렬은 점수가 요청마다 달라질 수 있어 커서를 받지 않는다)
      */
-    private void validateInputParameters(Double latitude, Double longitude, Integer limit, Double radiusKm) {
-        StoreValidator.validateCoordinates(latitude, longitude);
-
-        if (limit == null || limit <= 0) {
-            throw new StoreHandler(StoreErrorStatus.INVALID_LIMIT);
+    private NearbyCursor decodeCursor(StoreRequest.GetNearbyStores request, boolean relevance) {
+        if (request.getCursor() == null || request.getCursor().isBlank()) {
+            return null;
         }
-        
-        if (limit > 100) {
-            throw new StoreHandler(StoreErrorStatus.INVALID_LIMIT);
-        }
-
-        if (radiusKm != null) {
-            StoreValidator.validateRadius(radiusKm);
+        if (relevance) {
+            throw new StoreHandler(StoreErrorStatus.UNSUPPORTED_NEARBY_CURSOR);
         }
+        return nearbyCursorCodec.decode(request.getCursor(), request.cursorScope());
     }
 
     /**
-     * 거리 기준 정렬을 위한 Comparator 생성
+     * 거리순 ID 목록의 업소 요약을 순서대로 조회 (그 사이 삭제된 업소는 제외)
      */
-    private Comparator<Store> createDistanceComparator(Double userLatitude, Double userLongitude) {
-        return (store1, store2) -> {
-            double distance1 = distanceToStore(userLatitude, userLongitude, store1);
-            double distance2 = distanceToStore(userLatitude, userLongitude, store2);
-            return Double.compare(distance1, distance2);
-        };
+    private List<LocatedStore> withSummaries(List<StoreDistance> distances) {
+        Map<Long, StoreSummary> summaries = storeAdaptor.querySummariesInOrder(
+                distances.stream().map(StoreDistance::storeId).toList()).stream()
+            .collect(Collectors.toMap(StoreSummary::storeId, Function.identity()));
+
+        return distances.stream()
+            .filter(distance -> summaries.containsKey(distance.storeId()))
+            .map(distance -> new LocatedStore(summaries.get(distance.storeId()), distance.distanceKm()))
+            .toList();
     }
 
+
     /**
-     * 사용자 위치와 업소 간의 거리 계산
+     * 입력 파라미터 검증
      */
-    private double distanceToStore(Double userLatitude, Double userLongitude, Store store) {
-        if (store.getAddress() == null || !store.getAddress().hasValidCoordinates()) {
-            return Double.MAX_VALUE;
+    private void validateInputParameters(Double latitude, Double longitude, Integer limit, Double radiusKm) {
+        StoreValidator.validateCoordinates(latitude, longitude);
+        StoreValidator.validateLimit(limit);
+
+        if (radiusKm != null) {
+            StoreValidator.validateRadius(radiusKm);
         }
+    }
 
-        return DistanceUtils.calculateDistanceKm(
-            userLatitude,
-            userLongitude,
-            store.getAddress().getLatitude(),
-            store.getAddress().getLongitude()
-        );
+    private record LocatedStore(StoreSummary store, double distanceKm) {
     }
 }
@@ -0,0 +1,39 @@
+package com.example.demo.application.store;
+
+import com.example.demo.application.support.RequestCoalescer;
+import com.example.demo.domain.store.adaptor.StoreReadModelAdaptor;
+import com.example.demo.domain.store.counter.StoreViewCounter;
+import com.example.demo.domain.store.trending.StoreActivityType;
+import com.example.demo.domain.store.trending.TrendingStoreCounter;
+import com.example.demo.infrastructure.annotation.usecase.UseCase;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업소 상세 조회 UseCase (읽기 모델)
+ * 미리 직렬화해 둔 상세 응답을 PK 조회 한 번으로 반환하고,
+ * 문서가 없거나 stale 이면 저장 없이 응답만 구성해 반환한다. (저장은 StoreDetailDocumentBuilder 의 이벤트/주기 작업이 맡는다)
+ * 업소가 없으면 아무것도 쓰지 않고 STORE_NOT_FOUND 로 응답한다.
+ * 같은 업소에 대한 동시 요청은 하나의 조회/재구성 결과를 함께 사용한다.
+ * 조회 수는 합쳐진 요청도 각각 조회 수/인기 업소 카운터에 기록한다.
+ */
+@UseCase
+@RequiredArgsConstructor
+public class GetStoreDetailDocumentUseCase {
+
+    private final StoreReadModelAdaptor storeReadModelAdaptor;
+    private final StoreDetailDocumentBuilder storeDetailDocumentBuilder;
+    private final RequestCoalescer requestCoalescer;
+    private final TrendingStoreCounter trendingStoreCounter;
+    private final StoreViewCounter storeViewCounter;
+
+    /**
+     * @return ApiResponseDto 로 감싼 업소 상세 응답 JSON 바이트
+     */
+    public byte[] execute(Long storeId) {
+        byte[] document = requestCoalescer.execute("store_detail", storeId, () -> storeReadModelAdaptor.queryFreshDocument(storeId)
+            .orElseGet(() -> storeDetailDocumentBuilder.build(storeId)));
+        storeViewCounter.increment(storeId);
+        trendingStoreCounter.record(storeId, StoreActivityType.VIEW);
+        return document;
+    }
+}
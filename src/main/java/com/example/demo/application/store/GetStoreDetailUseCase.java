@@ -1,47 +1,208 @@
 package com.example.demo.application.store;
 
 import com.example.demo.domain.review.adaptor.ReviewAdaptor;
-import com.example.demo.domain.review.entity.Review;
 import com.example.demo.domain.store.adaptor.StoreAdaptor;
 import com.example.demo.domain.store.entity.Store;
+import com.example.demo.domain.store.exception.StoreErrorStatus;
+import com.example.demo.domain.store.exception.StoreHandler;
 import com.example.demo.infrastructure.annotation.usecase.UseCase;
+import com.example.demo.infrastructure.config.datasource.DataSourceRoutingContext;
 import com.example.demo.presentation.review.dto.ReviewResponse;
 import com.example.demo.presentation.store.dto.StoreResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
+/**
+ * 업소 상세 조회
+ * 업소+메뉴, 평균 평점, 리뷰 수, 상위 리뷰는 서로 독립적인 조회이므로 전용 풀에서 병렬로 실행한다.
+ * 각 조회는 별도의 읽기 전용 트랜잭션(커넥션)에서 실행되며, 리뷰 쪽 조회가 제한 시간을 넘기거나 실패하면
+ * 해당 값 없이 partial 응답을 반환한다. 업소 조회 실패는 그대로 전파한다.
+ * 동시에 잡는 커넥션 수는 풀 스레드 수로 제한되며, 다른 요청이 커넥션을 얻지 못하는 일이 없도록 Hikari 풀의 절반을 넘지 않는다.
+ */
 @Slf4j
 @UseCase
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class GetStoreDetailUseCase {
 
+    private static final int TOP_REVIEW_LIMIT = 5;
+
     private final StoreAdaptor storeAdaptor;
     private final ReviewAdaptor reviewAdaptor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor executor;
+    private final long storeTimeoutNanos;
+    private final long reviewTimeoutNanos;
+
+    public GetStoreDetailUseCase(StoreAdaptor storeAdaptor,
+                                 ReviewAdaptor reviewAdaptor,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.store.detail.parallel.enabled:true}") boolean parallel,
+                                 @Value("${app.store.detail.parallel.pool-size:8}") int poolSize,
+                                 @Value("${app.store.detail.parallel.queue-capacity:200}") int queueCapacity,
+                                 @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+                                 @Value("${app.store.detail.store-timeout-ms:2000}") long storeTimeoutMillis,
+                                 @Value("${app.store.detail.review-timeout-ms:500}") long reviewTimeoutMillis) {
+        this.storeAdaptor = storeAdaptor;
+        this.reviewAdaptor = reviewAdaptor;
+        this.meterRegistry = meterRegistry;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(storeTimeoutMillis)));
+        this.storeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(storeTimeoutMillis);
+        this.reviewTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(reviewTimeoutMillis);
+        this.executor = parallel ? createExecutor(fanOutLimit(poolSize, connectionPoolSize), queueCapacity) : null;
+    }
 
     public StoreResponse.StoreDetailWithReviews execute(Long storeId) {
+        long startedAt = System.nanoTime();
+        boolean pinnedToPrimary = DataSourceRoutingContext.isPinnedToPrimary();
+
         // 업소 정보 조회 (메뉴 포함)
-        Store store = storeAdaptor.queryByIdFetchMenu(storeId);
-        
+        Future<Store> storeFuture = submit(() -> storeAdaptor.queryByIdFetchMenu(storeId), pinnedToPrimary);
+
         // 리뷰 통계 정보 조회
-        Double averageRating = reviewAdaptor.queryAverageRatingByStoreId(storeId).orElse(0.0);
-        long reviewCount = reviewAdaptor.countReviewsByStoreId(storeId);
-        
-        // 상위 리뷰 조회 (최신 5개)
-        List<Review> topReviews = reviewAdaptor.queryTopReviewsByStoreId(storeId, 5);
-        List<ReviewResponse.ReviewInfo> topReviewInfos = topReviews.stream()
-                .map(ReviewResponse.ReviewInfo::from)
-                .toList();
+        Future<Double> averageFuture = submit(
+                () -> reviewAdaptor.queryAverageRatingByStoreId(storeId).orElse(0.0), pinnedToPrimary);
+        Future<Long> countFuture = submit(() -> reviewAdaptor.countReviewsByStoreId(storeId), pinnedToPrimary);
+
+        // 상위 리뷰 조회 (최신 5개), 연관 엔티티 접근이 필요하므로 트랜잭션 안에서 변환
+        Future<List<ReviewResponse.ReviewInfo>> topReviewsFuture = submit(
+                () -> reviewAdaptor.queryTopReviewsByStoreId(storeId, TOP_REVIEW_LIMIT).stream()
+                        .map(ReviewResponse.ReviewInfo::from)
+                        .toList(),
+                pinnedToPrimary);
+
+        Store store;
+        try {
+            store = awaitStore(storeFuture, startedAt + storeTimeoutNanos, storeId);
+        } catch (RuntimeException e) {
+            averageFuture.cancel(true);
+            countFuture.cancel(true);
+            topReviewsFuture.cancel(true);
+            throw e;
+        }
+
+        long reviewDeadline = startedAt + reviewTimeoutNanos;
+        Double averageRating = awaitOrNull(averageFuture, reviewDeadline, "average_rating", storeId);
+        Long reviewCount = awaitOrNull(countFuture, reviewDeadline, "review_count", storeId);
+        List<ReviewResponse.ReviewInfo> topReviews = awaitOrNull(topReviewsFuture, reviewDeadline, "top_reviews", storeId);
 
         // 리뷰 요약 정보 생성
+        boolean partial = averageRating == null || reviewCount == null || topReviews == null;
         StoreResponse.ReviewSummary reviewSummary = StoreResponse.ReviewSummary.from(
-                averageRating, reviewCount, topReviewInfos
+                averageRating, reviewCount, topReviews, partial
         );
 
         return StoreResponse.StoreDetailWithReviews.from(store, reviewSummary);
     }
 
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 조회를 별도 읽기 전용 트랜잭션으로 감싸 실행 (순차 모드에서는 호출 스레드에서 바로 실행)
+     * primary 고정 여부는 스레드 로컬이므로 작업 스레드로 옮겨서 적용한다.
+     */
+    private <T> Future<T> submit(Supplier<T> query, boolean pinnedToPrimary) {
+        Supplier<T> transactional = () -> readOnlyTransaction.execute(status -> query.get());
+        Callable<T> task = pinnedToPrimary
+                ? () -> DataSourceRoutingContext.callOnPrimary(transactional)
+                : transactional::get;
+
+        FutureTask<T> future = new FutureTask<>(task);
+        if (executor == null) {
+            future.run();
+        } else {
+            executor.execute(future);
+        }
+        return future;
+    }
+
+    private Store awaitStore(Future<Store> future, long deadline, Long storeId) {
+        try {
+            return future.get(remaining(deadline), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new StoreHandler(StoreErrorStatus.DATABASE_ERROR);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("업소 상세 조회 시간 초과 - storeId: {}", storeId);
+            throw new StoreHandler(StoreErrorStatus.STORE_DETAIL_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StoreHandler(StoreErrorStatus.STORE_DETAIL_TIMEOUT);
+        }
+    }
+
+    /**
+     * 부가 조회 결과 대기 (시간 초과/실패 시 null)
+     */
+    private <T> T awaitOrNull(Future<T> future, long deadline, String part, Long storeId) {
+        try {
+            return future.get(remaining(deadline), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("업소 상세 부가 조회 시간 초과 - storeId: {}, part: {}", storeId, part);
+        } catch (ExecutionException e) {
+            log.warn("업소 상세 부가 조회 실패 - storeId: {}, part: {}", storeId, part, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        meterRegistry.counter("store.detail.degraded", "part", part).increment();
+        return null;
+    }
+
+    /**
+     * 상세 조회 풀 스레드 수 (= 병렬 조회가 동시에 잡는 최대 커넥션 수)
+     * 설정 값이 Hikari 풀의 절반을 넘으면 절반으로 줄인다. 넘치는 조회는 큐에서 기다리며 커넥션을 잡지 않는다.
+     */
+    static int fanOutLimit(int poolSize, int connectionPoolSize) {
+        int limit = Math.max(1, Math.min(poolSize, connectionPoolSize / 2));
+        if (limit < poolSize) {
+            log.info("업소 상세 병렬 조회 스레드 수를 커넥션 풀 크기에 맞춰 조정 - 설정: {}, 적용: {}, 커넥션 풀: {}",
+                    poolSize, limit, connectionPoolSize);
+        }
+        return limit;
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    /**
+     * 상세 조회 전용 풀
+     * 다른 @Async 실행기에 영향을 주지 않도록 빈으로 등록하지 않는다. 큐가 가득 차면 호출 스레드에서 실행한다.
+     */
+    private static ThreadPoolTaskExecutor createExecutor(int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("store-detail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,37 @@
+package com.example.demo.application.store;
+
+import com.example.demo.domain.store.exception.StoreErrorStatus;
+import com.example.demo.domain.store.exception.StoreHandler;
+import com.example.demo.domain.store.index.StoreFacetIndex;
+import com.example.demo.domain.store.validator.StoreValidator;
+import com.example.demo.domain.store.vo.StoreFacetCondition;
+import com.example.demo.infrastructure.annotation.usecase.UseCase;
+import com.example.demo.presentation.store.dto.StoreResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업소 패싯 검색 UseCase
+ * 업종/분류/지역/활성 조건 조합의 업소 목록과 항목별 업소 수를 메모리 비트맵 인덱스에서 조회한다.
+ */
+@UseCase
+@RequiredArgsConstructor
+public class GetStoreFacetsUseCase {
+
+    private final StoreFacetIndex storeFacetIndex;
+
+    public StoreResponse.StoreFacets execute(StoreFacetCondition condition, Integer page, Integer size) {
+        StoreValidator.validatePage(page);
+        StoreValidator.validateLimit(size);
+        if (condition.sigun() != null && condition.sido() == null) {
+            throw new StoreHandler(StoreErrorStatus.INVALID_REGION_FILTER);
+        }
+
+        long offset = (long) page * size;
+        if (offset > Integer.MAX_VALUE) {
+            throw new StoreHandler(StoreErrorStatus.INVALID_PAGE);
+        }
+
+        StoreFacetIndex.FacetResult result = storeFacetIndex.query(condition, (int) offset, size);
+        return StoreResponse.StoreFacets.from(page, size, result);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.application.store;
+
+import com.example.demo.domain.store.index.StoreCluster;
+import com.example.demo.domain.store.index.StoreClusterIndex;
+import com.example.demo.domain.store.validator.StoreValidator;
+import com.example.demo.domain.store.vo.CoordinateRange;
+import com.example.demo.infrastructure.annotation.usecase.UseCase;
+import com.example.demo.presentation.store.dto.StoreResponse;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 지도 뷰포트 기반 업소 클러스터 조회 UseCase
+ */
+@UseCase
+@RequiredArgsConstructor
+public class GetStoreMapUseCase {
+
+    private final StoreClusterIndex storeClusterIndex;
+
+    /**
+     * 뷰포트 안의 업소를 줌 레벨에 맞는 클러스터로 조회
+     * @return 클러스터별 업소 수와 무게중심 좌표 목록
+     */
+    public StoreResponse.MapClusterList execute(CoordinateRange viewport, Integer zoom) {
+        StoreValidator.validateViewport(viewport);
+        StoreValidator.validateZoomLevel(zoom, StoreClusterIndex.MIN_ZOOM, StoreClusterIndex.MAX_ZOOM);
+
+        List<StoreCluster> clusters = storeClusterIndex.queryClusters(viewport, zoom);
+
+        return StoreResponse.MapClusterList.from(zoom, clusters);
+    }
+}
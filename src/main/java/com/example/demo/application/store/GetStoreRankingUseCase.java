@@ -0,0 +1,62 @@
+package com.example.demo.application.store;
+
+import com.example.demo.domain.review.ranking.RankingScope;
+import com.example.demo.domain.review.ranking.StoreRatingLeaderboard;
+import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.exception.StoreErrorStatus;
+import com.example.demo.domain.store.exception.StoreHandler;
+import com.example.demo.domain.store.validator.StoreValidator;
+import com.example.demo.domain.store.vo.RegionName;
+import com.example.demo.infrastructure.annotation.usecase.UseCase;
+import com.example.demo.presentation.store.dto.StoreResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업소 평점 순위 조회 UseCase
+ * 리뷰 테이블을 매번 집계하지 않고 메모리(또는 Redis) 리더보드에서 페이지 단위로 읽는다.
+ */
+@UseCase
+@RequiredArgsConstructor
+public class GetStoreRankingUseCase {
+
+    private final StoreRatingLeaderboard storeRatingLeaderboard;
+
+    /**
+     * 조건이 없으면 전체, 시도(+시군) 또는 업종 중 하나로 순위 구분을 정한다.
+     */
+    public StoreResponse.StoreRankingList execute(String sido, String sigun, Category category,
+                                                  Integer page, Integer size) {
+        StoreValidator.validatePage(page);
+        StoreValidator.validateLimit(size);
+
+        long offset = (long) page * size;
+        if (offset > Integer.MAX_VALUE) {
+            throw new StoreHandler(StoreErrorStatus.INVALID_PAGE);
+        }
+
+        RankingScope scope = resolveScope(sido, sigun, category);
+        StoreRatingLeaderboard.Page rankingPage = storeRatingLeaderboard.page(scope, (int) offset, size);
+
+        return StoreResponse.StoreRankingList.from(page, size, rankingPage);
+    }
+
+    private static RankingScope resolveScope(String sido, String sigun, Category category) {
+        RegionName region = RegionName.of(sido, sigun);
+        boolean hasSido = region.sido() != null;
+        boolean hasSigun = region.sigun() != null;
+
+        if ((hasSigun && !hasSido) || (category != null && hasSido)) {
+            throw new StoreHandler(StoreErrorStatus.INVALID_RANKING_SCOPE);
+        }
+        if (category != null) {
+            return RankingScope.category(category);
+        }
+        if (hasSigun) {
+            return RankingScope.sigun(region.sido(), region.sigun());
+        }
+        if (hasSido) {
+            return RankingScope.sido(region.sido());
+        }
+        return RankingScope.global();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demo.application.store;
+
+import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.exception.StoreErrorStatus;
+import com.example.demo.domain.store.exception.StoreHandler;
+import com.example.demo.domain.store.stats.StatsDimension;
+import com.example.demo.domain.store.stats.StoreStatsCube;
+import com.example.demo.domain.store.stats.StoreStatsKey;
+import com.example.demo.domain.store.vo.RegionName;
+import com.example.demo.infrastructure.annotation.usecase.UseCase;
+import com.example.demo.presentation.store.dto.StoreResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.StringUtils;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 업소 통계 조회 UseCase
+ * 지역/업종/대분류 조합별 업소 수, 평균 메뉴 가격, 평균 평점을 메모리 통계 큐브에서 합산해 반환한다.
+ */
+@UseCase
+@RequiredArgsConstructor
+public class GetStoreStatsUseCase {
+
+    private final StoreStatsCube storeStatsCube;
+
+    public StoreResponse.StoreStatsList execute(List<StatsDimension> groupBy,
+                                                String sido, String sigun,
+                                                Category category, String majorCategory) {
+        RegionName region = RegionName.of(sido, sigun);
+        StoreStatsKey filter = new StoreStatsKey(region.sido(), region.sigun(), category, trimToNull(majorCategory));
+        if (filter.sigun() != null && filter.sido() == null) {
+            throw new StoreHandler(StoreErrorStatus.INVALID_REGION_FILTER);
+        }
+
+        Set<StatsDimension> dimensions = groupBy == null || groupBy.isEmpty()
+            ? EnumSet.noneOf(StatsDimension.class)
+            : EnumSet.copyOf(groupBy);
+
+        return StoreResponse.StoreStatsList.from(
+            List.copyOf(dimensions),
+            storeStatsCube.total(filter),
+            storeStatsCube.rollUp(dimensions, filter)
+        );
+    }
+
+    private static String trimToNull(String value) {
+        return StringUtils.hasText(value) ? value.trim() : null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.demo.application.store;
+
+import com.example.demo.domain.store.index.StoreClusterIndex;
+import com.example.demo.domain.store.index.StoreTileIndex;
+import com.example.demo.domain.store.validator.StoreValidator;
+import com.example.demo.infrastructure.annotation.usecase.UseCase;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 지도 업소 벡터 타일 조회 UseCase
+ */
+@UseCase
+@RequiredArgsConstructor
+public class GetStoreTileUseCase {
+
+    private final StoreTileIndex storeTileIndex;
+
+    /**
+     * (z, x, y) 타일의 업소 레이어를 Mapbox Vector Tile 형식으로 조회
+     * @return 인코딩된 타일과 생성 기준 스냅샷 버전
+     */
+    public StoreTileIndex.StoreTile execute(Integer z, Integer x, Integer y) {
+        StoreValidator.validateZoomLevel(z, StoreClusterIndex.MIN_ZOOM, StoreClusterIndex.MAX_ZOOM);
+        StoreValidator.validateTileCoordinates(z, x, y);
+
+        return storeTileIndex.getTile(z, x, y);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.demo.application.store;
+
+import com.example.demo.domain.store.exception.StoreErrorStatus;
+import com.example.demo.domain.store.exception.StoreHandler;
+import com.example.demo.domain.store.index.StoreLocationIndex;
+import com.example.demo.domain.store.trending.TrendingStoreCounter;
+import com.example.demo.domain.store.validator.StoreValidator;
+import com.example.demo.domain.store.vo.StoreSummary;
+import com.example.demo.infrastructure.annotation.usecase.UseCase;
+import com.example.demo.presentation.store.dto.StoreResponse;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 인기 업소 조회 UseCase
+ * 최근 윈도우의 조회/리뷰 활동량(store_activity 합계 + 이 노드의 미반영 증가분) 상위 업소를 고르고, 업소 정보는 위치 스냅샷에서 채운다.
+ * 지역 필터는 스냅샷의 시도/시군과 정확히 일치하는 업소만 포함한다.
+ */
+@UseCase
+@RequiredArgsConstructor
+public class GetTrendingStoresUseCase {
+
+    private final TrendingStoreCounter trendingStoreCounter;
+    private final StoreLocationIndex storeLocationIndex;
+
+    public StoreResponse.TrendingStoreList execute(String sido, String sigun, Integer limit) {
+        StoreValidator.validateLimit(limit);
+
+        boolean hasSido = sido != null && !sido.isBlank();
+        boolean hasSigun = sigun != null && !sigun.isBlank();
+        if (hasSigun && !hasSido) {
+            throw new StoreHandler(StoreErrorStatus.INVALID_RANKING_SCOPE);
+        }
+        String sidoFilter = hasSido ? sido.trim() : null;
+        String sigunFilter = hasSigun ? sigun.trim() : null;
+
+        StoreLocationIndex.Snapshot snapshot = storeLocationIndex.snapshot();
+        List<StoreResponse.TrendingStore> stores = trendingStoreCounter.top(limit, storeId -> {
+                StoreSummary store = snapshot.find(storeId);
+                return store != null
+                       && (sidoFilter == null || sidoFilter.equals(store.sido()))
+                       && (sigunFilter == null || sigunFilter.equals(store.sigun()));
+            }).stream()
+            .map(count -> StoreResponse.TrendingStore.from(snapshot.find(count.storeId()), count))
+            .toList();
+
+        return StoreResponse.TrendingStoreList.builder()
+            .totalCount(stores.size())
+            .stores(stores)
+            .build();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.demo.application.store;
+
+import com.example.demo.domain.store.adaptor.StoreReadModelAdaptor;
+import com.example.demo.domain.store.event.StoreDetailChangedEvent;
+import com.example.demo.domain.store.exception.StoreErrorStatus;
+import com.example.demo.domain.store.exception.StoreHandler;
+import com.example.demo.infrastructure.config.datasource.DataSourceRoutingContext;
+import com.example.demo.infrastructure.exception.payload.dto.ApiResponseDto;
+import com.example.demo.presentation.store.dto.StoreResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 업소 상세 읽기 모델 구성기
+ * 상세 응답을 조립해 ApiResponseDto 형태 그대로 직렬화하고 store_read_model 에 저장한다.
+ * 저장은 쓰기 쪽에서만 한다: 변경 이벤트가 발행되면 커밋 전에 기존 문서를 stale 로 표시하고 커밋 후 비동기로 다시 구성하며,
+ * 문서가 없거나 재구성에 실패해 stale 로 남은 업소는 주기 작업이 나눠서 채운다.
+ * 조회 요청은 문서가 없으면 저장 없이 응답만 구성한다. (build)
+ */
+@Slf4j
+@Component
+public class StoreDetailDocumentBuilder {
+
+    private final GetStoreDetailUseCase getStoreDetailUseCase;
+    private final StoreReadModelAdaptor storeReadModelAdaptor;
+    private final ObjectMapper objectMapper;
+    private final int sweepBatchSize;
+
+    public StoreDetailDocumentBuilder(GetStoreDetailUseCase getStoreDetailUseCase,
+                                      StoreReadModelAdaptor storeReadModelAdaptor,
+                                      ObjectMapper objectMapper,
+                                      @Value("${app.store.read-model.sweep-batch-size:200}") int sweepBatchSize) {
+        this.getStoreDetailUseCase = getStoreDetailUseCase;
+        this.storeReadModelAdaptor = storeReadModelAdaptor;
+        this.objectMapper = objectMapper;
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    /**
+     * 상세 문서를 구성만 하고 저장하지 않음 (조회 요청용)
+     * 업소가 없으면 STORE_NOT_FOUND 를 그대로 전파한다.
+     */
+    public byte[] build(Long storeId) {
+        return encode(getStoreDetailUseCase.execute(storeId));
+    }
+
+    /**
+     * 상세 문서를 다시 구성하여 저장 후 반환
+     * 저장에 실패하더라도 구성한 문서는 그대로 반환한다.
+     * 방금 커밋된 변경을 반영해야 하므로 레플리카가 아닌 primary 에서 읽는다.
+     */
+    public byte[] rebuild(Long storeId) {
+        return DataSourceRoutingContext.callOnPrimary(() -> rebuildDocument(storeId));
+    }
+
+    private byte[] rebuildDocument(Long storeId) {
+        long revision = storeReadModelAdaptor.prepareRevision(storeId);
+        StoreResponse.StoreDetailWithReviews detail = getStoreDetailUseCase.execute(storeId);
+        byte[] document = encode(detail);
+
+        // 리뷰 조회가 지연/실패한 부분 응답은 저장하지 않고 stale 로 남겨 다음 주기 작업에서 다시 구성한다
+        if (detail.getReviewSummary().isPartial()) {
+            log.debug("리뷰 정보가 누락된 상세 문서는 저장 생략 - storeId: {}", storeId);
+            return document;
+        }
+
+        try {
+            if (!storeReadModelAdaptor.saveDocument(storeId, revision, document)) {
+                log.debug("재구성 중 변경이 발생하여 읽기 모델 저장 생략 - storeId: {}", storeId);
+            }
+        } catch (DataAccessException e) {
+            // 저장에 실패한 문서는 stale 로 남아 다음 변경/주기 작업 때 다시 구성된다
+            log.warn("업소 상세 읽기 모델 저장 실패 - storeId: {}, message: {}", storeId, e.getMessage());
+        }
+        return document;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void markStale(StoreDetailChangedEvent event) {
+        storeReadModelAdaptor.markStale(event.storeId());
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void rebuildAfterCommit(StoreDetailChangedEvent event) {
+        rebuildQuietly(event.storeId());
+    }
+
+    /**
+     * 문서가 없거나 stale 인 업소를 배치 크기만큼 다시 구성
+     * 최초 적재와, 커밋 후 재구성이 실패하거나 노드가 종료되어 stale 로 남은 문서를 채운다.
+     */
+    @Scheduled(fixedDelayString = "${app.store.read-model.sweep-interval-ms:10000}")
+    public void sweep() {
+        // 대상 ID 만 레플리카에서 읽고, 문서 구성(rebuild)은 primary 에서 읽는다
+        List<Long> storeIds = storeReadModelAdaptor.queryStoreIdsToBuild(sweepBatchSize);
+        if (storeIds.isEmpty()) {
+            return;
+        }
+        storeIds.forEach(this::rebuildQuietly);
+        log.debug("업소 상세 읽기 모델 주기 구성 - count: {}", storeIds.size());
+    }
+
+    private void rebuildQuietly(Long storeId) {
+        try {
+            rebuild(storeId);
+        } catch (StoreHandler e) {
+            if (e.getCode() == StoreErrorStatus.STORE_NOT_FOUND) {
+                storeReadModelAdaptor.delete(storeId);
+                return;
+            }
+            log.warn("업소 상세 읽기 모델 재구성 실패 - storeId: {}", storeId, e);
+        } catch (RuntimeException e) {
+            log.warn("업소 상세 읽기 모델 재구성 실패 - storeId: {}", storeId, e);
+        }
+    }
+
+    private byte[] encode(StoreResponse.StoreDetailWithReviews detail) {
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponseDto.onSuccess(detail));
+        } catch (JsonProcessingException e) {
+            throw new StoreHandler(StoreErrorStatus.DATABASE_ERROR);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.example.demo.domain.store.entity.Store;
 import com.example.demo.domain.store.service.StoreService;
 import com.example.demo.domain.store.vo.StoreSearchCondition;
 import com.example.demo.infrastructure.annotation.usecase.UseCase;
+import com.example.demo.presentation.store.dto.StoreResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -37,9 +38,11 @@ public class StoreUseCase {
 
     /**
      * 업소 목록 조회 (전체)
+     * 엔티티 대신 목록 표시에 필요한 컬럼만 프로젝션으로 조회
      */
-    public Page<Store> getActiveStores(Pageable pageable) {
-        return storeAdaptor.queryActiveStores(pageable);
+    public Page<StoreResponse.StoreInfo> getActiveStores(Pageable pageable) {
+        return storeAdaptor.queryActiveSummaries(pageable)
+            .map(StoreResponse.StoreInfo::from);
     }
 
     /**
@@ -94,16 +97,12 @@ public class StoreUseCase {
 
     /**
      * 지도 표시용 업소 조회 (좌표 정보가 있는 업소만)
+     * 엔티티 대신 지도 표시에 필요한 컬럼만 프로젝션으로 조회
      */
-    public List<Store> getStoresForMap() {
-        return storeAdaptor.queryStoresWithCoordinates();
-    }
-
-    /**
-     * 통계 정보 조회 - 지역별 업소 수
-     */
-    public List<Object[]> getStoreStatsByRegion() {
-        return storeAdaptor.queryStoreCountByRegion();
+    public List<StoreResponse.MapStoreInfo> getStoresForMap() {
+        return storeAdaptor.queryMapPoints().stream()
+            .map(StoreResponse.MapStoreInfo::from)
+            .toList();
     }
 
     // === 생성/수정 관련 UseCase ===
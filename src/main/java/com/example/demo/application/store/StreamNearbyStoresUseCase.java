@@ -0,0 +1,137 @@
+package com.example.demo.application.store;
+
+import com.example.demo.domain.review.adaptor.ReviewAdaptor;
+import com.example.demo.domain.review.cache.StoreRatingCache;
+import com.example.demo.domain.store.adaptor.StoreAdaptor;
+import com.example.demo.domain.store.cursor.NearbyCursorCodec;
+import com.example.demo.domain.store.exception.StoreErrorStatus;
+import com.example.demo.domain.store.exception.StoreHandler;
+import com.example.demo.domain.store.index.StoreNearbyGridIndex;
+import com.example.demo.domain.store.ranking.StoreRelevanceRanker;
+import com.example.demo.domain.store.validator.StoreValidator;
+import com.example.demo.domain.store.vo.NearbyCursor;
+import com.example.demo.domain.store.vo.StoreDistance;
+import com.example.demo.domain.store.vo.StoreMenuSummary;
+import com.example.demo.domain.store.vo.StoreNearbyFilter;
+import com.example.demo.domain.store.vo.StoreNearbySort;
+import com.example.demo.domain.store.vo.StoreSummary;
+import com.example.demo.infrastructure.annotation.usecase.UseCase;
+import com.example.demo.presentation.store.dto.StoreRequest;
+import com.example.demo.presentation.store.dto.StoreResponse;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주변 업소 스트리밍 조회 UseCase
+ * 메모리 격자 인덱스에서 거리순(또는 관련도순) 상위 업소(가격/업종 조건 적용)를 고르며, 평점/메뉴를 작은 묶음 단위로 조회해 순서대로 내보낸다.
+ * 거리순은 격자 인덱스가 고리 단위로 순서를 확정하는 대로 받아 묶음을 채우므로, 전체 순위를 매기기 전에 첫 묶음을 내보낸다.
+ * 관련도순은 후보 전체의 점수를 매긴 뒤에야 순서가 정해지므로 순위 목록을 한 번에 받는다.
+ * 블로킹 조회(인덱스 재구성, 평점 캐시 적재, 메뉴 조회)는 boundedElastic 에서 실행하고,
+ * 다음 묶음은 클라이언트가 요청할 때만 순위를 이어 매기고 조회하므로 느린 클라이언트가 DB 부하를 앞당기지 않는다.
+ * 상위 리뷰는 업소마다 쿼리가 필요하므로 포함하지 않는다. (상세 조회에서 제공)
+ * 거리순 조회는 일반 조회의 nextCursor 를 받아 그 뒤부터 내보낼 수 있다. (커서를 발급한 것과 같은 조회 경로에서 이어서 조회)
+ */
+@UseCase
+@RequiredArgsConstructor
+public class StreamNearbyStoresUseCase {
+
+    private static final int CHUNK_SIZE = 10;
+
+    private final StoreNearbyGridIndex storeNearbyGridIndex;
+    private final StoreRelevanceRanker storeRelevanceRanker;
+    private final StoreRatingCache storeRatingCache;
+    private final StoreAdaptor storeAdaptor;
+    private final NearbyCursorCodec nearbyCursorCodec;
+
+    public Flux<StoreResponse.NearbyStore> execute(StoreRequest.GetNearbyStores request) {
+        Double latitude = request.getLatitude();
+        Double longitude = request.getLongitude();
+        Integer limit = request.getLimit();
+        Double radiusKm = request.getRadiusKm();
+
+        // 입력값 검증은 스트림 시작 전에 수행하여 일반 오류 응답으로 처리되도록 한다
+        StoreValidator.validateCoordinates(latitude, longitude);
+        StoreValidator.validateLimit(limit);
+        if (radiusKm != null) {
+            StoreValidator.validateRadius(radiusKm);
+        }
+
+        StoreNearbyFilter filter = request.toFilter();
+        boolean relevance = request.sortOrDefault() == StoreNearbySort.RELEVANCE;
+        NearbyCursor after = null;
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            if (relevance) {
+                throw new StoreHandler(StoreErrorStatus.UNSUPPORTED_NEARBY_CURSOR);
+            }
+            after = nearbyCursorCodec.decode(request.getCursor(), request.cursorScope());
+        }
+        NearbyCursor resumeAfter = after;
+
+        return locate(latitude, longitude, radiusKm, limit, filter, relevance, resumeAfter)
+            .subscribeOn(Schedulers.boundedElastic())
+            .buffer(CHUNK_SIZE)
+            .concatMap(chunk -> Mono.fromCallable(() -> toNearbyStores(chunk))
+                .subscribeOn(Schedulers.boundedElastic()), 1)
+            .flatMapIterable(stores -> stores);
+    }
+
+    /**
+     * 내보낼 업소를 거리순(또는 관련도순)으로 조회
+     * 커서는 그것을 발급한 경로에서 이어서 조회한다. 일반 조회는 조건 없이 반경만 주면 DB 에서 계산한 거리로 커서를 만들므로,
+     * 그 커서는 메모리 격자 인덱스(Java 거리 계산)가 아닌 같은 DB 조회로 이어가야 경계 근처 업소가 중복되거나 빠지지 않는다.
+     */
+    private Flux<StoreNearbyGridIndex.NearbyStore> locate(Double latitude, Double longitude, Double radiusKm, int limit,
+                                                          StoreNearbyFilter filter, boolean relevance, NearbyCursor after) {
+        if (relevance) {
+            return Flux.defer(() -> Flux.fromIterable(
+                storeRelevanceRanker.nearest(latitude, longitude, radiusKm, limit, filter)));
+        }
+        if (after == null || !filter.isEmpty() || radiusKm == null) {
+            return Flux.fromIterable(() -> storeNearbyGridIndex.iterate(latitude, longitude, radiusKm, limit, filter, after));
+        }
+        return Flux.defer(() -> Flux.fromIterable(locateAfterCursor(latitude, longitude, radiusKm, limit, after)));
+    }
+
+    private List<StoreNearbyGridIndex.NearbyStore> locateAfterCursor(Double latitude, Double longitude, Double radiusKm,
+                                                                     int limit, NearbyCursor after) {
+        List<StoreDistance> distances = storeAdaptor.queryDistancesWithinRadius(latitude, longitude, radiusKm, limit, after);
+        Map<Long, StoreSummary> summaries = storeAdaptor.querySummariesInOrder(
+                distances.stream().map(StoreDistance::storeId).toList()).stream()
+            .collect(Collectors.toMap(StoreSummary::storeId, Function.identity()));
+        return distances.stream()
+            .filter(distance -> summaries.containsKey(distance.storeId()))
+            .map(distance -> new StoreNearbyGridIndex.NearbyStore(
+                summaries.get(distance.storeId()), distance.distanceKm(), null))
+            .toList();
+    }
+
+    private List<StoreResponse.NearbyStore> toNearbyStores(List<StoreNearbyGridIndex.NearbyStore> chunk) {
+        List<Long> storeIds = chunk.stream()
+            .map(ranked -> ranked.store().storeId())
+            .toList();
+
+        Map<Long, ReviewAdaptor.StoreRatingInfo> ratings = storeRatingCache.getRatings(storeIds);
+        Map<Long, List<StoreMenuSummary>> menus = storeAdaptor.queryMenuSummaries(storeIds);
+
+        return chunk.stream()
+            .map(ranked -> {
+                Long storeId = ranked.store().storeId();
+                ReviewAdaptor.StoreRatingInfo rating = ratings.get(storeId);
+                StoreResponse.ReviewSummary reviewSummary = StoreResponse.ReviewSummary.from(
+                    rating != null ? rating.getAverageRating() : 0.0,
+                    rating != null ? rating.getReviewCount() : 0L,
+                    List.of()
+                );
+                return StoreResponse.NearbyStore.from(
+                    ranked.store(), menus.getOrDefault(storeId, List.of()), ranked.distanceKm(), reviewSummary);
+            })
+            .toList();
+    }
+}
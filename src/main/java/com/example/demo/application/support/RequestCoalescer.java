@@ -0,0 +1,98 @@
+package com.example.demo.application.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키 동시 조회 합치기 (single-flight)
+ * 같은 이름/키로 진행 중인 조회가 있으면 새로 조회하지 않고 그 결과(또는 예외)를 함께 받는다.
+ * 결과를 저장하지는 않으므로 조회가 끝난 뒤 들어온 요청은 다시 조회한다.
+ * 대기하는 동안 커넥션을 잡지 않도록 트랜잭션 바깥에서 호출해야 한다.
+ * 먼저 시작한 조회가 wait-timeout-ms 안에 끝나지 않으면 기다리지 않고 직접 조회한다. (멈춘 조회 하나에 요청이 모두 묶이지 않도록)
+ */
+@Slf4j
+@Component
+public class RequestCoalescer {
+
+    private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long waitTimeoutMillis;
+
+    public RequestCoalescer(MeterRegistry meterRegistry,
+                            @Value("${app.request-coalescing.wait-timeout-ms:2000}") long waitTimeoutMillis) {
+        this.meterRegistry = meterRegistry;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        Gauge.builder("request.coalescing.in_flight", inFlight, Map::size)
+            .description("진행 중인 합치기 대상 조회 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * @param name   조회 종류 (메트릭 태그로 사용)
+     * @param key    조회 키 (equals/hashCode 구현 필요)
+     * @param loader 실제 조회
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object key, Supplier<T> loader) {
+        FlightKey flightKey = new FlightKey(name, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            counter(name, "coalesced").increment();
+            return (T) await(name, existing, loader);
+        }
+
+        counter(name, "leader").increment();
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private Object await(String name, CompletableFuture<Object> flight, Supplier<?> loader) {
+        try {
+            return flight.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            counter(name, "timeout").increment();
+            log.debug("합치기 대기 시간 초과, 직접 조회 - name: {}, timeoutMs: {}", name, waitTimeoutMillis);
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return loader.get();
+        }
+    }
+
+    private Counter counter(String name, String role) {
+        return meterRegistry.counter("request.coalescing.requests", "name", name, "role", role);
+    }
+
+    private record FlightKey(String name, Object key) {
+    }
+}
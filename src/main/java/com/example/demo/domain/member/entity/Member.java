@@ -44,7 +44,7 @@ public class Member extends BaseTimeEntity {
     private int point;
 
     //business
-    private boolean isNotAdmin() {
+    public boolean isNotAdmin() {
         return this.role != Role.ADMIN;
     }
 
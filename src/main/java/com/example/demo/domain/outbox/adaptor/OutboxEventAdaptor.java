@@ -0,0 +1,54 @@
+package com.example.demo.domain.outbox.adaptor;
+
+import com.example.demo.domain.outbox.entity.OutboxDeadLetter;
+import com.example.demo.domain.outbox.entity.OutboxEvent;
+import com.example.demo.domain.outbox.repository.OutboxDeadLetterRepository;
+import com.example.demo.domain.outbox.repository.OutboxEventRepository;
+import com.example.demo.infrastructure.annotation.adaptor.Adaptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Adaptor
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OutboxEventAdaptor {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDeadLetterRepository outboxDeadLetterRepository;
+
+    public List<OutboxEvent> queryPending(long cursor, LocalDateTime visibleBefore, int limit) {
+        return outboxEventRepository.findPending(cursor, visibleBefore, PageRequest.ofSize(limit));
+    }
+
+    public List<OutboxEvent> queryByIds(Collection<Long> ids) {
+        return outboxEventRepository.findByIds(ids);
+    }
+
+    public long queryMaxId() {
+        return outboxEventRepository.findMaxId();
+    }
+
+    /**
+     * 아웃박스 기록은 반드시 변경을 일으킨 트랜잭션 안에서 수행
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void saveAll(List<OutboxEvent> events) {
+        outboxEventRepository.saveAll(events);
+    }
+
+    @Transactional
+    public void park(OutboxEvent event, String errorMessage) {
+        outboxDeadLetterRepository.save(OutboxDeadLetter.of(event, errorMessage));
+    }
+
+    @Transactional
+    public int deleteOccurredBefore(LocalDateTime before) {
+        return outboxEventRepository.deleteOccurredBefore(before);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.demo.domain.outbox.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ChangeType {
+    CREATED("생성"),
+    UPDATED("수정"),
+    DELETED("삭제");
+
+    private final String description;
+}
@@ -0,0 +1,73 @@
+package com.example.demo.domain.outbox.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전달을 포기하고 보류한 아웃박스 이벤트
+ * 최대 재시도를 넘겨도 구독자가 처리하지 못한 이벤트를 원본 내용과 함께 남겨, 원인 확인 후 수동으로 다시 처리할 수 있게 한다.
+ * 원본 outbox_event 는 보관 기간이 지나면 삭제되므로 필요한 값은 모두 복사해 둔다.
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "outbox_dead_letter",
+    indexes = {
+        @Index(name = "idx_outbox_dead_letter_event_id", columnList = "outbox_event_id")
+    }
+)
+public class OutboxDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_dead_letter_id")
+    private Long id;
+
+    @Column(name = "outbox_event_id", nullable = false)
+    private Long outboxEventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private OutboxEventType eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20)
+    private ChangeType changeType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "failed_at", nullable = false)
+    private LocalDateTime failedAt;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    public static OutboxDeadLetter of(OutboxEvent event, String errorMessage) {
+        return OutboxDeadLetter.builder()
+            .outboxEventId(event.getId())
+            .eventType(event.getEventType())
+            .changeType(event.getChangeType())
+            .aggregateId(event.getAggregateId())
+            .storeId(event.getStoreId())
+            .occurredAt(event.getOccurredAt())
+            .failedAt(LocalDateTime.now())
+            .errorMessage(errorMessage != null && errorMessage.length() > 500 ? errorMessage.substring(0, 500) : errorMessage)
+            .build();
+    }
+}
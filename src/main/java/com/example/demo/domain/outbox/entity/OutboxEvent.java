@@ -0,0 +1,72 @@
+package com.example.demo.domain.outbox.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스 이벤트
+ * 업소/리뷰 변경과 같은 트랜잭션에서 기록되며, 각 노드의 OutboxRelay 가 순서대로 읽어 인프로세스 구독자에게 전달한다.
+ * 노드마다 자체 커서로 읽기 때문에 행을 소비(삭제)하지 않고, 보관 기간이 지나면 일괄 삭제한다.
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "outbox_event",
+    indexes = {
+        @Index(name = "idx_outbox_event_occurred_at", columnList = "occurred_at")
+    }
+)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private OutboxEventType eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20)
+    private ChangeType changeType;
+
+    // STORE_CHANGED: 업소 ID, REVIEW_CHANGED: 리뷰 ID
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    public static OutboxEvent storeChanged(Long storeId, ChangeType changeType) {
+        return OutboxEvent.builder()
+            .eventType(OutboxEventType.STORE_CHANGED)
+            .changeType(changeType)
+            .aggregateId(storeId)
+            .storeId(storeId)
+            .occurredAt(LocalDateTime.now())
+            .build();
+    }
+
+    public static OutboxEvent reviewChanged(Long reviewId, Long storeId, ChangeType changeType) {
+        return OutboxEvent.builder()
+            .eventType(OutboxEventType.REVIEW_CHANGED)
+            .changeType(changeType)
+            .aggregateId(reviewId)
+            .storeId(storeId)
+            .occurredAt(LocalDateTime.now())
+            .build();
+    }
+}
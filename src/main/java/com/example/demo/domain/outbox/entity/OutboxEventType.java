@@ -0,0 +1,13 @@
+package com.example.demo.domain.outbox.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    STORE_CHANGED("업소 변경"),
+    REVIEW_CHANGED("리뷰 변경");
+
+    private final String description;
+}
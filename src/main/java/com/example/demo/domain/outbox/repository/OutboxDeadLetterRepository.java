@@ -0,0 +1,7 @@
+package com.example.demo.domain.outbox.repository;
+
+import com.example.demo.domain.outbox.entity.OutboxDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxDeadLetterRepository extends JpaRepository<OutboxDeadLetter, Long> {
+}
@@ -0,0 +1,37 @@
+package com.example.demo.domain.outbox.repository;
+
+import com.example.demo.domain.outbox.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 커서 이후의 이벤트를 ID 순으로 조회
+     * visibleBefore 이후 기록된 이벤트는 아직 커밋되지 않은 앞 번호가 있을 수 있어 제외한다.
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id > :cursor AND e.occurredAt <= :visibleBefore ORDER BY e.id")
+    List<OutboxEvent> findPending(@Param("cursor") long cursor,
+                                  @Param("visibleBefore") LocalDateTime visibleBefore,
+                                  Pageable pageable);
+
+    /**
+     * 커서가 지나친 뒤 늦게 커밋된 이벤트 조회 (빈 ID 재확인용)
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id IN :ids ORDER BY e.id")
+    List<OutboxEvent> findByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM OutboxEvent e")
+    long findMaxId();
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.occurredAt < :before")
+    int deleteOccurredBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,265 @@
+package com.example.demo.domain.outbox.service;
+
+import com.example.demo.domain.outbox.adaptor.OutboxEventAdaptor;
+import com.example.demo.domain.outbox.entity.OutboxEvent;
+import com.example.demo.domain.outbox.entity.OutboxEventType;
+import com.example.demo.domain.review.event.ReviewChangedEvent;
+import com.example.demo.domain.store.event.StoreChangedEvent;
+import com.example.demo.infrastructure.config.datasource.DataSourceRoutingContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 릴레이
+ * 노드마다 자체 커서로 outbox_event 를 ID 순으로 읽어 StoreChangedEvent / ReviewChangedEvent 묶음으로 발행한다.
+ * 모든 구독자가 예외 없이 처리한 뒤에만 커서를 전진시키므로 같은 이벤트가 다시 전달될 수 있다(at-least-once).
+ * 커서는 메모리에만 두며, 기동 시점의 최신 ID부터 시작한다 (기동 직후의 캐시/인덱스는 어차피 비어 있음).
+ * IDENTITY ID 는 커밋 순서와 다를 수 있어, 커서가 건너뛴 ID 는 빈 ID 로 기억해 두고 늦게 커밋되면 전달한다.
+ * 빈 ID 는 gap-timeout 이 지나면(롤백 등으로 끝내 나타나지 않는 경우) 잊는다.
+ * 최대 재시도를 넘긴 배치는 이벤트별로 다시 전달하고, 그래도 실패한 이벤트만 outbox_dead_letter 에 보류한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxEventAdaptor outboxEventAdaptor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final Duration commitGrace;
+    private final int maxAttempts;
+    private final Duration retention;
+    private final Duration gapTimeout;
+    private final int maxGaps;
+
+    private final Counter deliveredCounter;
+    private final Counter failureCounter;
+    private final Counter parkedCounter;
+    private final Counter expiredGapCounter;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong cursor = new AtomicLong(-1);
+    // 커서보다 작지만 아직 전달하지 못한 ID -> 처음 발견한 시각
+    private final NavigableMap<Long, LocalDateTime> gaps = new ConcurrentSkipListMap<>();
+
+    private int failedAttempts;
+
+    public OutboxRelay(OutboxEventAdaptor outboxEventAdaptor,
+                       ApplicationEventPublisher eventPublisher,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${app.outbox.relay.commit-grace-ms:1000}") long commitGraceMillis,
+                       @Value("${app.outbox.relay.max-attempts:5}") int maxAttempts,
+                       @Value("${app.outbox.relay.gap-timeout-ms:300000}") long gapTimeoutMillis,
+                       @Value("${app.outbox.relay.max-gaps:10000}") int maxGaps,
+                       @Value("${app.outbox.retention-hours:24}") long retentionHours) {
+        this.outboxEventAdaptor = outboxEventAdaptor;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.commitGrace = Duration.ofMillis(commitGraceMillis);
+        this.maxAttempts = maxAttempts;
+        this.retention = Duration.ofHours(retentionHours);
+        this.gapTimeout = Duration.ofMillis(gapTimeoutMillis);
+        this.maxGaps = maxGaps;
+
+        this.deliveredCounter = Counter.builder("outbox.relay.delivered")
+            .description("구독자에게 전달된 아웃박스 이벤트 수")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("outbox.relay.failures")
+            .description("구독자 처리 실패로 재시도된 배치 수")
+            .register(meterRegistry);
+        this.parkedCounter = Counter.builder("outbox.relay.parked")
+            .description("최대 재시도 초과로 보류(dead letter)한 아웃박스 이벤트 수")
+            .register(meterRegistry);
+        this.expiredGapCounter = Counter.builder("outbox.relay.gaps.expired")
+            .description("유예 시간 안에 나타나지 않아 포기한 빈 ID 수")
+            .register(meterRegistry);
+        Gauge.builder("outbox.relay.lag", lagMillis, AtomicLong::get)
+            .description("가장 오래된 미전달 이벤트의 대기 시간")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        Gauge.builder("outbox.relay.cursor", cursor, AtomicLong::get)
+            .description("마지막으로 전달한 아웃박스 이벤트 ID")
+            .register(meterRegistry);
+        Gauge.builder("outbox.relay.gaps", gaps, Map::size)
+            .description("늦은 커밋을 기다리는 빈 ID 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 레플리카에서 읽으면 복제 지연이 커밋 유예 시간을 넘을 때 이벤트를 건너뛸 수 있으므로 primary 에서 읽는다.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval-ms:500}")
+    public void poll() {
+        DataSourceRoutingContext.runOnPrimary(this::pollPending);
+    }
+
+    private void pollPending() {
+        if (cursor.get() < 0) {
+            cursor.set(outboxEventAdaptor.queryMaxId());
+            log.info("아웃박스 릴레이 시작 - cursor: {}", cursor.get());
+        }
+
+        if (!deliverLateCommits()) {
+            return;
+        }
+
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> batch = outboxEventAdaptor.queryPending(cursor.get(), now.minus(commitGrace), batchSize);
+            if (batch.isEmpty()) {
+                lagMillis.set(0);
+                return;
+            }
+            lagMillis.set(Duration.between(batch.get(0).getOccurredAt(), now).toMillis());
+
+            if (!deliver(batch)) {
+                return;
+            }
+            trackGaps(cursor.get(), batch, now);
+            cursor.set(batch.get(batch.size() - 1).getId());
+            if (batch.size() < batchSize) {
+                lagMillis.set(0);
+                return;
+            }
+        }
+    }
+
+    @Scheduled(cron = "${app.outbox.cleanup-cron:0 30 4 * * *}")
+    public void cleanup() {
+        int deleted = outboxEventAdaptor.deleteOccurredBefore(LocalDateTime.now().minus(retention));
+        log.info("보관 기간이 지난 아웃박스 이벤트 삭제 - count: {}", deleted);
+    }
+
+    /**
+     * 빈 ID 중 그 사이 커밋된 이벤트 전달 (전달 실패 시 false)
+     */
+    private boolean deliverLateCommits() {
+        if (gaps.isEmpty()) {
+            return true;
+        }
+
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(gapTimeout);
+        int expired = 0;
+        for (Map.Entry<Long, LocalDateTime> gap : gaps.entrySet()) {
+            if (gap.getValue().isBefore(expiredBefore)) {
+                gaps.remove(gap.getKey());
+                expired++;
+            }
+        }
+        if (expired > 0) {
+            expiredGapCounter.increment(expired);
+            log.debug("유예 시간이 지난 빈 아웃박스 ID 포기 - count: {}", expired);
+        }
+
+        List<Long> ids = new ArrayList<>(gaps.keySet());
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<OutboxEvent> late = outboxEventAdaptor.queryByIds(ids.subList(from, Math.min(from + batchSize, ids.size())));
+            if (late.isEmpty()) {
+                continue;
+            }
+            if (!deliver(late)) {
+                return false;
+            }
+            late.forEach(event -> gaps.remove(event.getId()));
+        }
+        return true;
+    }
+
+    /**
+     * 직전 커서와 이번 배치 사이에서 건너뛴 ID 를 빈 ID 로 기록
+     */
+    private void trackGaps(long previousCursor, List<OutboxEvent> batch, LocalDateTime now) {
+        long expected = previousCursor + 1;
+        for (OutboxEvent event : batch) {
+            for (long id = Math.max(expected, event.getId() - maxGaps); id < event.getId(); id++) {
+                gaps.putIfAbsent(id, now);
+            }
+            expected = event.getId() + 1;
+        }
+
+        // ID 가 크게 건너뛴 경우(대량 롤백 등) 메모리를 제한하기 위해 가장 오래된 빈 ID 부터 포기한다
+        int overflow = gaps.size() - maxGaps;
+        if (overflow > 0) {
+            for (int i = 0; i < overflow; i++) {
+                gaps.pollFirstEntry();
+            }
+            expiredGapCounter.increment(overflow);
+            log.warn("빈 아웃박스 ID 가 최대치를 넘어 오래된 항목 포기 - count: {}", overflow);
+        }
+    }
+
+    /**
+     * 배치 전달 (실패 시 false, 최대 재시도 초과 시 실패한 이벤트만 보류하고 true)
+     */
+    private boolean deliver(List<OutboxEvent> batch) {
+        List<StoreChangedEvent.Change> storeChanges = new ArrayList<>();
+        List<ReviewChangedEvent.Change> reviewChanges = new ArrayList<>();
+        for (OutboxEvent event : batch) {
+            if (event.getEventType() == OutboxEventType.STORE_CHANGED) {
+                storeChanges.add(new StoreChangedEvent.Change(
+                    event.getId(), event.getStoreId(), event.getChangeType(), event.getOccurredAt()));
+            } else {
+                reviewChanges.add(new ReviewChangedEvent.Change(
+                    event.getId(), event.getAggregateId(), event.getStoreId(), event.getChangeType(), event.getOccurredAt()));
+            }
+        }
+
+        try {
+            if (!storeChanges.isEmpty()) {
+                eventPublisher.publishEvent(new StoreChangedEvent(List.copyOf(storeChanges)));
+            }
+            if (!reviewChanges.isEmpty()) {
+                eventPublisher.publishEvent(new ReviewChangedEvent(List.copyOf(reviewChanges)));
+            }
+            failedAttempts = 0;
+            deliveredCounter.increment(batch.size());
+            return true;
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            if (++failedAttempts < maxAttempts) {
+                log.warn("아웃박스 이벤트 전달 실패 - 재시도 예정 (attempt: {}/{}, firstId: {})",
+                    failedAttempts, maxAttempts, batch.get(0).getId(), e);
+                return false;
+            }
+            log.error("아웃박스 이벤트 전달 최대 재시도 초과 - 이벤트별로 다시 전달 (ids: {} ~ {})",
+                batch.get(0).getId(), batch.get(batch.size() - 1).getId(), e);
+            failedAttempts = 0;
+            batch.forEach(this::deliverOrPark);
+            return true;
+        }
+    }
+
+    private void deliverOrPark(OutboxEvent event) {
+        try {
+            if (event.getEventType() == OutboxEventType.STORE_CHANGED) {
+                eventPublisher.publishEvent(new StoreChangedEvent(List.of(new StoreChangedEvent.Change(
+                    event.getId(), event.getStoreId(), event.getChangeType(), event.getOccurredAt()))));
+            } else {
+                eventPublisher.publishEvent(new ReviewChangedEvent(List.of(new ReviewChangedEvent.Change(
+                    event.getId(), event.getAggregateId(), event.getStoreId(), event.getChangeType(), event.getOccurredAt()))));
+            }
+            deliveredCounter.increment();
+        } catch (RuntimeException e) {
+            log.error("아웃박스 이벤트 보류 - id: {}, type: {}, storeId: {}",
+                event.getId(), event.getEventType(), event.getStoreId(), e);
+            outboxEventAdaptor.park(event, e.toString());
+            parkedCounter.increment();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.demo.domain.outbox.service;
+
+import com.example.demo.domain.outbox.adaptor.OutboxEventAdaptor;
+import com.example.demo.domain.outbox.entity.ChangeType;
+import com.example.demo.domain.outbox.entity.OutboxEvent;
+import com.example.demo.infrastructure.cache.CacheCoherenceManager;
+import com.example.demo.infrastructure.cache.CacheEntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 변경 이벤트를 아웃박스에 기록하는 도메인 서비스
+ * 호출한 쓰기 트랜잭션 안에서만 기록되며, 트랜잭션이 롤백되면 이벤트도 함께 사라진다.
+ * 아웃박스 전달 전에도 각 노드의 로컬 캐시가 바로 비워지도록 커밋 후 캐시 무효화 메시지를 함께 발행한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventAdaptor outboxEventAdaptor;
+    private final CacheCoherenceManager cacheCoherenceManager;
+
+    public void recordStoreChanged(Long storeId, ChangeType changeType) {
+        outboxEventAdaptor.saveAll(List.of(OutboxEvent.storeChanged(storeId, changeType)));
+        cacheCoherenceManager.invalidateAfterCommit(CacheEntityType.STORE, List.of(storeId));
+    }
+
+    public void recordStoresChanged(List<Long> storeIds, ChangeType changeType) {
+        if (storeIds.isEmpty()) {
+            return;
+        }
+        outboxEventAdaptor.saveAll(storeIds.stream()
+            .map(storeId -> OutboxEvent.storeChanged(storeId, changeType))
+            .toList());
+        cacheCoherenceManager.invalidateAfterCommit(CacheEntityType.STORE, storeIds);
+    }
+
+    public void recordReviewChanged(Long reviewId, Long storeId, ChangeType changeType) {
+        outboxEventAdaptor.saveAll(List.of(OutboxEvent.reviewChanged(reviewId, storeId, changeType)));
+        cacheCoherenceManager.invalidateAfterCommit(CacheEntityType.STORE_RATING, List.of(storeId));
+    }
+
+    /**
+     * 여러 리뷰 변경을 한 번에 기록 (reviewIdToStoreId: 리뷰 ID -> 업소 ID)
+     */
+    public void recordReviewsChanged(Map<Long, Long> reviewIdToStoreId, ChangeType changeType) {
+        if (reviewIdToStoreId.isEmpty()) {
+            return;
+        }
+        outboxEventAdaptor.saveAll(reviewIdToStoreId.entrySet().stream()
+            .map(entry -> OutboxEvent.reviewChanged(entry.getKey(), entry.getValue(), changeType))
+            .toList());
+        cacheCoherenceManager.invalidateAfterCommit(CacheEntityType.STORE_RATING,
+            reviewIdToStoreId.values().stream().distinct().toList());
+    }
+}
@@ -1,11 +1,14 @@
 package com.example.demo.domain.review.adaptor;
 
 import com.example.demo.domain.review.entity.Review;
+import com.example.demo.domain.review.vo.StoreRatingAggregate;
 import com.example.demo.infrastructure.exception.object.general.GeneralException;
 import com.example.demo.infrastructure.exception.payload.code.ErrorStatus;
 import com.example.demo.domain.review.repository.ReviewRepository;
 import com.example.demo.infrastructure.annotation.adaptor.Adaptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,15 +31,26 @@ public class ReviewAdaptor {
                 .orElseThrow(() -> new GeneralException(ErrorStatus._BAD_REQUEST));
     }
 
+    /**
+     * 저장 후 바로 flush 하여 제약 위반과 동시 수정 충돌을 오류 코드로 변환
+     * 업소/회원당 활성 리뷰 중복(uk_review_store_member_active) 등 무결성 위반은 _BAD_REQUEST,
+     * 다른 요청이 먼저 수정한 경우(@Version 불일치)는 _CONFLICT
+     */
     @Transactional
     public Review save(Review review) {
-        return reviewRepository.save(review);
+        try {
+            return reviewRepository.saveAndFlush(review);
+        } catch (DataIntegrityViolationException e) {
+            throw new GeneralException(ErrorStatus._BAD_REQUEST);
+        } catch (OptimisticLockingFailureException e) {
+            throw new GeneralException(ErrorStatus._CONFLICT);
+        }
     }
 
     @Transactional
     public void delete(Review review) {
         review.deactivate();
-        reviewRepository.save(review);
+        save(review);
     }
 
     public Page<Review> queryReviewsByStoreId(Long storeId, Pageable pageable) {
@@ -80,6 +94,20 @@ public class ReviewAdaptor {
                 ));
     }
 
+    /**
+     * 활성 업소 전체의 리뷰 집계 조회 (리뷰 테이블 전체 GROUP BY, 재구성 시에만 사용)
+     */
+    public List<StoreRatingAggregate> queryRatingAggregates() {
+        return reviewRepository.findRatingAggregates();
+    }
+
+    public List<StoreRatingAggregate> queryRatingAggregates(List<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return List.of();
+        }
+        return reviewRepository.findRatingAggregatesByStoreIds(storeIds);
+    }
+
     /**
      * 스토어 평점 정보 클래스
      */
@@ -0,0 +1,95 @@
+package com.example.demo.domain.review.cache;
+
+import com.example.demo.domain.review.adaptor.ReviewAdaptor;
+import com.example.demo.domain.review.event.ReviewChangedEvent;
+import com.example.demo.infrastructure.cache.CacheEntityType;
+import com.example.demo.infrastructure.cache.LocalCacheRegion;
+import com.example.demo.infrastructure.cache.LocalTtlCache;
+import com.example.demo.infrastructure.config.datasource.DataSourceRoutingContext;
+import com.example.demo.infrastructure.config.datasource.RecentChangeTracker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 업소별 평점 요약 로컬 캐시
+ * 리뷰 변경 시 CacheCoherenceManager 를 통해 모든 노드에서 무효화되며,
+ * 아웃박스 ReviewChangedEvent 와 TTL 이 메시지 유실 시의 안전장치 역할을 한다.
+ * 무효화 직후 다시 적재하는 업소만 primary 에서 읽고, 그 밖의 적재(최초, TTL 만료)는 레플리카에서 읽는다.
+ */
+@Component
+public class StoreRatingCache implements LocalCacheRegion {
+
+    private static final ReviewAdaptor.StoreRatingInfo NO_RATING = ReviewAdaptor.StoreRatingInfo.builder()
+        .averageRating(0.0)
+        .reviewCount(0L)
+        .build();
+
+    private final ReviewAdaptor reviewAdaptor;
+    private final LocalTtlCache<Long, ReviewAdaptor.StoreRatingInfo> cache;
+    private final RecentChangeTracker<Long> recentChanges = new RecentChangeTracker<>();
+
+    public StoreRatingCache(ReviewAdaptor reviewAdaptor,
+                            @Value("${app.cache.store-rating.ttl-seconds:60}") long ttlSeconds,
+                            @Value("${app.cache.store-rating.max-size:50000}") int maxSize) {
+        this.reviewAdaptor = reviewAdaptor;
+        this.cache = new LocalTtlCache<>(Duration.ofSeconds(ttlSeconds), maxSize);
+    }
+
+    /**
+     * 여러 업소의 평점 요약 조회 (리뷰가 없는 업소는 평점 0, 리뷰 0건)
+     */
+    public Map<Long, ReviewAdaptor.StoreRatingInfo> getRatings(List<Long> storeIds) {
+        return cache.getAll(storeIds, this::loadRatings);
+    }
+
+    @EventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        evict(event.storeIds());
+    }
+
+    @Override
+    public CacheEntityType entityType() {
+        return CacheEntityType.STORE_RATING;
+    }
+
+    @Override
+    public void evict(Collection<Long> ids) {
+        recentChanges.markChanged(ids);
+        cache.evict(ids);
+    }
+
+    @Override
+    public void evictAll() {
+        recentChanges.markChanged();
+        cache.evictAll();
+    }
+
+    private Map<Long, ReviewAdaptor.StoreRatingInfo> loadRatings(List<Long> storeIds) {
+        // 방금 무효화된 업소는 레플리카 지연 중 이전 평점이 TTL 동안 캐시되지 않도록 primary 에서 읽는다
+        List<Long> changed = recentChanges.recentOf(storeIds);
+        Set<Long> changedIds = new HashSet<>(changed);
+        List<Long> unchanged = storeIds.stream()
+            .filter(storeId -> !changedIds.contains(storeId))
+            .toList();
+        Map<Long, ReviewAdaptor.StoreRatingInfo> ratings = new HashMap<>();
+        if (!changed.isEmpty()) {
+            ratings.putAll(DataSourceRoutingContext.callOnPrimary(() -> reviewAdaptor.queryStoreRatings(changed)));
+        }
+        if (!unchanged.isEmpty()) {
+            ratings.putAll(reviewAdaptor.queryStoreRatings(unchanged));
+        }
+        for (Long storeId : storeIds) {
+            ratings.putIfAbsent(storeId, NO_RATING);
+        }
+        return ratings;
+    }
+}
@@ -19,6 +19,10 @@ import lombok.experimental.SuperBuilder;
                 @Index(name = "idx_review_member", columnList = "member_id"),
                 @Index(name = "idx_review_rating", columnList = "rating"),
                 @Index(name = "idx_review_created_date", columnList = "createdDate")
+        },
+        uniqueConstraints = {
+                // 활성 리뷰는 업소/회원당 하나 (비활성 리뷰는 active_marker 가 NULL 이라 제약에서 제외)
+                @UniqueConstraint(name = "uk_review_store_member_active", columnNames = {"store_id", "member_id", "active_marker"})
         }
 )
 public class Review extends BaseTimeEntity {
@@ -28,6 +32,11 @@ public class Review extends BaseTimeEntity {
     @Column(name = "review_id")
     private Long id;
 
+    // 동시 수정 감지용 (기존 행은 0으로 채워지도록 기본값 지정)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "store_id", nullable = false)
     private Store store;
@@ -46,6 +55,13 @@ public class Review extends BaseTimeEntity {
     @Builder.Default
     private boolean isActive = true;
 
+    /**
+     * is_active 에서 계산되는 컬럼 (활성 1, 비활성 NULL), DB 가 관리하므로 읽기 전용
+     */
+    @Column(name = "active_marker", insertable = false, updatable = false,
+            columnDefinition = "tinyint generated always as (if(is_active, 1, null)) stored")
+    private Integer activeMarker;
+
     // 비즈니스 로직
     public void updateReview(Integer rating, String content) {
         if (rating != null && rating >= 1 && rating <= 5) {
@@ -0,0 +1,25 @@
+package com.example.demo.domain.review.event;
+
+import com.example.demo.domain.outbox.entity.ChangeType;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 아웃박스에서 전달되는 리뷰 변경 이벤트 묶음
+ * 같은 변경이 두 번 이상 전달될 수 있으므로(at-least-once) 구독자는 멱등하게 처리해야 한다.
+ */
+public record ReviewChangedEvent(List<Change> changes) {
+
+    public Set<Long> storeIds() {
+        Set<Long> storeIds = new LinkedHashSet<>();
+        for (Change change : changes) {
+            storeIds.add(change.storeId());
+        }
+        return storeIds;
+    }
+
+    public record Change(long sequence, Long reviewId, Long storeId, ChangeType changeType, LocalDateTime occurredAt) {}
+}
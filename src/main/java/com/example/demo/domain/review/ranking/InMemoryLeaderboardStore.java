@@ -0,0 +1,98 @@
+package com.example.demo.domain.review.ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 노드 로컬 정렬 저장소
+ * 순위 구분마다 점수순 skip list 와 업소별 현재 점수를 함께 두어 갱신은 O(log n), 상위 k 개 조회는 O(k) 로 처리한다.
+ * 조회는 잠금 없이 수행하므로 갱신 중인 업소가 잠시 빠지거나 이전 점수로 보일 수 있다.
+ */
+public class InMemoryLeaderboardStore implements LeaderboardStore {
+
+    private static final Comparator<Ranked> ORDER = Comparator
+        .comparingDouble(Ranked::score).reversed()
+        .thenComparingLong(Ranked::storeId);
+
+    private volatile Map<String, Board> boards = new ConcurrentHashMap<>();
+
+    @Override
+    public void replaceAll(Map<String, Map<Long, Double>> scores) {
+        Map<String, Board> rebuilt = new ConcurrentHashMap<>();
+        scores.forEach((scopeKey, storeScores) -> {
+            Board board = new Board();
+            storeScores.forEach((storeId, score) -> board.put(storeId, score));
+            rebuilt.put(scopeKey, board);
+        });
+        boards = rebuilt;
+    }
+
+    @Override
+    public void update(String scopeKey, long storeId, double score) {
+        boards.computeIfAbsent(scopeKey, key -> new Board()).put(storeId, score);
+    }
+
+    @Override
+    public void remove(String scopeKey, long storeId) {
+        Board board = boards.get(scopeKey);
+        if (board != null) {
+            board.remove(storeId);
+        }
+    }
+
+    @Override
+    public List<Long> range(String scopeKey, int offset, int limit) {
+        Board board = boards.get(scopeKey);
+        if (board == null) {
+            return List.of();
+        }
+
+        List<Long> storeIds = new ArrayList<>(limit);
+        Iterator<Ranked> iterator = board.ordered.iterator();
+        for (int skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+        while (storeIds.size() < limit && iterator.hasNext()) {
+            storeIds.add(iterator.next().storeId());
+        }
+        return storeIds;
+    }
+
+    @Override
+    public long size(String scopeKey) {
+        Board board = boards.get(scopeKey);
+        return board == null ? 0 : board.scores.size();
+    }
+
+    private record Ranked(long storeId, double score) {
+    }
+
+    private static final class Board {
+
+        private final ConcurrentSkipListSet<Ranked> ordered = new ConcurrentSkipListSet<>(ORDER);
+        private final ConcurrentHashMap<Long, Double> scores = new ConcurrentHashMap<>();
+
+        private void put(long storeId, double score) {
+            Double previous = scores.put(storeId, score);
+            if (previous != null) {
+                if (previous == score) {
+                    return;
+                }
+                ordered.remove(new Ranked(storeId, previous));
+            }
+            ordered.add(new Ranked(storeId, score));
+        }
+
+        private void remove(long storeId) {
+            Double previous = scores.remove(storeId);
+            if (previous != null) {
+                ordered.remove(new Ranked(storeId, previous));
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.domain.review.ranking;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 순위 구분별 (업소 ID, 점수) 정렬 저장소
+ * 점수 내림차순으로 조회하며, 쓰기는 StoreRatingLeaderboard 가 직렬화하여 호출한다.
+ */
+public interface LeaderboardStore {
+
+    /**
+     * 전체 교체 (scopeKey -> storeId -> score)
+     */
+    void replaceAll(Map<String, Map<Long, Double>> scores);
+
+    void update(String scopeKey, long storeId, double score);
+
+    void remove(String scopeKey, long storeId);
+
+    /**
+     * 점수 내림차순으로 offset 부터 limit 개의 업소 ID
+     */
+    List<Long> range(String scopeKey, int offset, int limit);
+
+    long size(String scopeKey);
+}
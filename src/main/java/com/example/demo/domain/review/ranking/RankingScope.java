@@ -0,0 +1,39 @@
+package com.example.demo.domain.review.ranking;
+
+import com.example.demo.domain.store.entity.Category;
+
+/**
+ * 순위 구분 (전체, 시도, 시군, 업종)
+ * 시군은 이름이 겹칠 수 있으므로(예: 중구) 시도와 함께 구분한다.
+ */
+public record RankingScope(Type type, String value) {
+
+    public enum Type {
+        GLOBAL, SIDO, SIGUN, CATEGORY
+    }
+
+    private static final RankingScope GLOBAL = new RankingScope(Type.GLOBAL, "");
+
+    public static RankingScope global() {
+        return GLOBAL;
+    }
+
+    public static RankingScope sido(String sido) {
+        return new RankingScope(Type.SIDO, sido);
+    }
+
+    public static RankingScope sigun(String sido, String sigun) {
+        return new RankingScope(Type.SIGUN, sido + "/" + sigun);
+    }
+
+    public static RankingScope category(Category category) {
+        return new RankingScope(Type.CATEGORY, category.name());
+    }
+
+    /**
+     * 저장소 키 (예: global, sido:서울특별시, sigun:서울특별시/중구, category:CAFE)
+     */
+    public String key() {
+        return type == Type.GLOBAL ? "global" : type.name().toLowerCase() + ":" + value;
+    }
+}
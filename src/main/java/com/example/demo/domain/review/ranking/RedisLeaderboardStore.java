@@ -0,0 +1,110 @@
+package com.example.demo.domain.review.ranking;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis sorted set 정렬 저장소
+ * 순위 구분마다 ZSET 하나(member: 업소 ID)를 사용하고, 존재하는 구분 키는 별도 SET 으로 관리한다.
+ * 모든 노드가 같은 변경을 반영하지만 ZADD/ZREM 은 멱등이므로 결과는 같다.
+ * 동점 업소는 Redis 규칙(member 역순)으로 정렬된다.
+ */
+public class RedisLeaderboardStore implements LeaderboardStore {
+
+    private static final int WRITE_CHUNK_SIZE = 1000;
+    // 구성 도중 노드가 죽어도 임시 키가 남지 않도록 만료를 건다
+    private static final Duration BUILDING_KEY_TTL = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final String scopeIndexKey;
+
+    public RedisLeaderboardStore(StringRedisTemplate redisTemplate, String keyPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.scopeIndexKey = keyPrefix + "scopes";
+    }
+
+    /**
+     * 임시 키에 채운 뒤 RENAME 으로 교체하여 조회 중인 순위가 비어 보이지 않게 한다.
+     * 여러 노드가 동시에 재구성해도 서로의 임시 키를 지우거나 섞지 않도록 재구성마다 고유한 임시 키를 쓴다.
+     */
+    @Override
+    public void replaceAll(Map<String, Map<Long, Double>> scores) {
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        String buildId = UUID.randomUUID().toString();
+        for (Map.Entry<String, Map<Long, Double>> scope : scores.entrySet()) {
+            String buildingKey = key(scope.getKey()) + ":building:" + buildId;
+
+            Set<ZSetOperations.TypedTuple<String>> chunk = new HashSet<>();
+            for (Map.Entry<Long, Double> entry : scope.getValue().entrySet()) {
+                chunk.add(ZSetOperations.TypedTuple.of(String.valueOf(entry.getKey()), entry.getValue()));
+                if (chunk.size() == WRITE_CHUNK_SIZE) {
+                    zSet.add(buildingKey, chunk);
+                    chunk = new HashSet<>();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                zSet.add(buildingKey, chunk);
+            }
+            redisTemplate.expire(buildingKey, BUILDING_KEY_TTL);
+            if (!scope.getValue().isEmpty()) {
+                redisTemplate.rename(buildingKey, key(scope.getKey()));
+            }
+        }
+
+        // 더 이상 업소가 없는 구분 삭제
+        Set<String> previousScopes = redisTemplate.opsForSet().members(scopeIndexKey);
+        if (previousScopes != null) {
+            List<String> staleScopes = previousScopes.stream()
+                .filter(scopeKey -> !scores.containsKey(scopeKey))
+                .toList();
+            if (!staleScopes.isEmpty()) {
+                redisTemplate.delete(staleScopes.stream().map(this::key).toList());
+                redisTemplate.opsForSet().remove(scopeIndexKey, staleScopes.toArray());
+            }
+        }
+        if (!scores.isEmpty()) {
+            redisTemplate.opsForSet().add(scopeIndexKey, scores.keySet().toArray(String[]::new));
+        }
+    }
+
+    @Override
+    public void update(String scopeKey, long storeId, double score) {
+        redisTemplate.opsForZSet().add(key(scopeKey), String.valueOf(storeId), score);
+        redisTemplate.opsForSet().add(scopeIndexKey, scopeKey);
+    }
+
+    @Override
+    public void remove(String scopeKey, long storeId) {
+        redisTemplate.opsForZSet().remove(key(scopeKey), String.valueOf(storeId));
+    }
+
+    @Override
+    public List<Long> range(String scopeKey, int offset, int limit) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(key(scopeKey), offset, offset + limit - 1L);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream()
+            .map(Long::valueOf)
+            .toList();
+    }
+
+    @Override
+    public long size(String scopeKey) {
+        Long size = redisTemplate.opsForZSet().zCard(key(scopeKey));
+        return size == null ? 0 : size;
+    }
+
+    private String key(String scopeKey) {
+        return keyPrefix + scopeKey;
+    }
+}
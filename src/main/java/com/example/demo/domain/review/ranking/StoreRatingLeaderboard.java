@@ -0,0 +1,265 @@
+package com.example.demo.domain.review.ranking;
+
+import com.example.demo.domain.review.adaptor.ReviewAdaptor;
+import com.example.demo.domain.review.event.ReviewChangedEvent;
+import com.example.demo.domain.review.vo.StoreRatingAggregate;
+import com.example.demo.domain.store.event.StoreChangedEvent;
+import com.example.demo.infrastructure.config.datasource.DataSourceRoutingContext;
+import com.example.demo.infrastructure.config.datasource.RecentChangeTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 업소 평점 리더보드 (전체, 시도별, 시군별, 업종별)
+ * 리뷰 수가 적은 업소가 상위를 차지하지 않도록 베이지안 보정 점수 (C * m + 평균 * n) / (C + n) 로 정렬한다.
+ * (m: 전체 평균 평점, C: 사전 가중치, n: 리뷰 수)
+ *
+ * 최초 조회 시 리뷰 테이블 전체 집계로 구성하고, 이후에는 아웃박스 리뷰/업소 변경 이벤트마다 해당 업소만 다시 집계하여
+ * 속한 순위 구분들에 반영한다. m 은 재구성 시점 값으로 고정하며 최대 보관 시간이 지나면 다시 계산한다.
+ */
+@Slf4j
+@Component
+public class StoreRatingLeaderboard {
+
+    private final ReviewAdaptor reviewAdaptor;
+    private final LeaderboardStore leaderboardStore;
+    private final double priorWeight;
+    private final Duration maxAge;
+
+    // 갱신과 재구성을 직렬화 (DB 조회를 감싸므로 synchronized 대신 사용)
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final RecentChangeTracker<Long> recentChanges = new RecentChangeTracker<>();
+    private volatile Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private volatile double priorMean;
+    private volatile Instant builtAt;
+
+    public StoreRatingLeaderboard(ReviewAdaptor reviewAdaptor,
+                                  LeaderboardStore leaderboardStore,
+                                  @Value("${app.review.ranking.prior-weight:10}") double priorWeight,
+                                  @Value("${app.review.ranking.max-age-seconds:3600}") long maxAgeSeconds) {
+        this.reviewAdaptor = reviewAdaptor;
+        this.leaderboardStore = leaderboardStore;
+        this.priorWeight = priorWeight;
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+    }
+
+    /**
+     * 순위 구분의 offset 부터 limit 개 조회 (1위부터 순서대로)
+     * 공유 저장소(Redis)에는 다른 노드가 먼저 반영한 업소가 있을 수 있으므로, 이 노드에 없는 업소는 DB 에서 집계해 채운다.
+     * 그래도 없는 업소(삭제 등)는 빼고, 순위는 남은 업소 순서대로 매긴다.
+     */
+    public Page page(RankingScope scope, int offset, int limit) {
+        ensureFresh();
+
+        List<Long> storeIds = leaderboardStore.range(scope.key(), offset, limit);
+        Map<Long, Entry> current = entries;
+        Map<Long, Entry> loaded = loadMissing(storeIds, current);
+
+        List<RankedStore> rankings = new ArrayList<>(storeIds.size());
+        for (Long storeId : storeIds) {
+            Entry entry = current.get(storeId);
+            if (entry == null) {
+                entry = loaded.get(storeId);
+            }
+            if (entry != null) {
+                rankings.add(entry.toRanked(offset + rankings.size() + 1));
+            }
+        }
+        return new Page(rankings, leaderboardStore.size(scope.key()));
+    }
+
+    private Map<Long, Entry> loadMissing(List<Long> storeIds, Map<Long, Entry> current) {
+        List<Long> missing = storeIds.stream()
+            .filter(storeId -> !current.containsKey(storeId))
+            .toList();
+        if (missing.isEmpty()) {
+            return Map.of();
+        }
+
+        // 다른 노드가 방금 커밋된 변경으로 반영한 업소이므로 primary 에서 읽는다
+        double mean = priorMean;
+        Map<Long, Entry> loaded = new HashMap<>();
+        for (StoreRatingAggregate aggregate : DataSourceRoutingContext.callOnPrimary(
+                () -> reviewAdaptor.queryRatingAggregates(missing))) {
+            loaded.put(aggregate.storeId(), toEntry(aggregate, mean));
+        }
+        return loaded;
+    }
+
+    @EventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        refresh(event.storeIds());
+    }
+
+    /**
+     * 업소명, 주소, 업종 변경과 비활성화 반영
+     */
+    @EventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        refresh(event.storeIds());
+    }
+
+    /**
+     * 주어진 업소만 다시 집계하여 반영 (구성 전이면 다음 재구성에서 반영되므로 무시)
+     * 이벤트가 중복 전달되어도 최신 집계로 덮어쓰므로 결과는 같다.
+     */
+    public void refresh(Collection<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return;
+        }
+        recentChanges.markChanged();
+        if (builtAt == null) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            // 커밋 직후 이벤트이므로 레플리카 지연으로 이전 집계를 반영하지 않도록 primary 에서 읽는다
+            List<StoreRatingAggregate> aggregates = DataSourceRoutingContext.callOnPrimary(
+                () -> reviewAdaptor.queryRatingAggregates(List.copyOf(storeIds)));
+
+            Map<Long, Entry> updated = new HashMap<>();
+            for (StoreRatingAggregate aggregate : aggregates) {
+                updated.put(aggregate.storeId(), toEntry(aggregate, priorMean));
+            }
+            for (Long storeId : storeIds) {
+                apply(storeId, entries.get(storeId), updated.get(storeId));
+            }
+        } catch (RuntimeException e) {
+            // 일부만 반영되었을 수 있으므로 다음 조회에서 전체 재구성
+            log.warn("리더보드 갱신 실패, 재구성 예정 - storeIds: {}", storeIds, e);
+            builtAt = null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void apply(Long storeId, Entry previous, Entry updated) {
+        if (previous != null) {
+            Set<RankingScope> remaining = updated != null ? Set.copyOf(updated.scopes()) : Set.of();
+            for (RankingScope scope : previous.scopes()) {
+                if (!remaining.contains(scope)) {
+                    leaderboardStore.remove(scope.key(), storeId);
+                }
+            }
+        }
+
+        if (updated == null) {
+            entries.remove(storeId);
+            return;
+        }
+        for (RankingScope scope : updated.scopes()) {
+            leaderboardStore.update(scope.key(), storeId, updated.score());
+        }
+        entries.put(storeId, updated);
+    }
+
+    /**
+     * 구성 전이면 조회 스레드가 구성하고, 보관 시간이 지난 경우에는 한 스레드만 재구성하며 나머지는 기존 순위를 읽는다.
+     */
+    private void ensureFresh() {
+        Instant current = builtAt;
+        if (current == null) {
+            writeLock.lock();
+            try {
+                if (builtAt == null) {
+                    rebuild();
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        } else if (current.plus(maxAge).isBefore(Instant.now()) && writeLock.tryLock()) {
+            try {
+                if (builtAt != null && builtAt.plus(maxAge).isBefore(Instant.now())) {
+                    rebuild();
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    private void rebuild() {
+        // 변경 직후 재구성(갱신 실패 후 등)만 primary 에서 읽고, 최초/최대 보관 시간 만료 재구성은 레플리카에서 읽는다
+        List<StoreRatingAggregate> aggregates = recentChanges.callOnPrimaryIfRecent(reviewAdaptor::queryRatingAggregates);
+
+        double ratingSum = 0;
+        long reviewCount = 0;
+        for (StoreRatingAggregate aggregate : aggregates) {
+            ratingSum += aggregate.averageRating() * aggregate.reviewCount();
+            reviewCount += aggregate.reviewCount();
+        }
+        double mean = reviewCount == 0 ? 0.0 : ratingSum / reviewCount;
+
+        Map<Long, Entry> rebuilt = new ConcurrentHashMap<>();
+        Map<String, Map<Long, Double>> scores = new HashMap<>();
+        for (StoreRatingAggregate aggregate : aggregates) {
+            Entry entry = toEntry(aggregate, mean);
+            rebuilt.put(entry.storeId(), entry);
+            for (RankingScope scope : entry.scopes()) {
+                scores.computeIfAbsent(scope.key(), key -> new HashMap<>()).put(entry.storeId(), entry.score());
+            }
+        }
+
+        leaderboardStore.replaceAll(scores);
+        entries = rebuilt;
+        priorMean = mean;
+        builtAt = Instant.now();
+
+        log.info("업소 평점 리더보드 재구성 완료: {}개 업소, {}개 구분 (전체 평균 {})",
+            rebuilt.size(), scores.size(), String.format("%.2f", mean));
+    }
+
+    private Entry toEntry(StoreRatingAggregate aggregate, double mean) {
+        double average = aggregate.averageRating() != null ? aggregate.averageRating() : 0.0;
+        long count = aggregate.reviewCount();
+        double score = (priorWeight * mean + average * count) / (priorWeight + count);
+        return new Entry(aggregate, average, count, score);
+    }
+
+    private record Entry(StoreRatingAggregate aggregate, double averageRating, long reviewCount, double score) {
+
+        Long storeId() {
+            return aggregate.storeId();
+        }
+
+        List<RankingScope> scopes() {
+            List<RankingScope> scopes = new ArrayList<>(4);
+            scopes.add(RankingScope.global());
+            if (aggregate.sido() != null) {
+                scopes.add(RankingScope.sido(aggregate.sido()));
+                if (aggregate.sigun() != null) {
+                    scopes.add(RankingScope.sigun(aggregate.sido(), aggregate.sigun()));
+                }
+            }
+            if (aggregate.category() != null) {
+                scopes.add(RankingScope.category(aggregate.category()));
+            }
+            return scopes;
+        }
+
+        RankedStore toRanked(int rank) {
+            return new RankedStore(rank, aggregate.storeId(), aggregate.storeName(), averageRating, reviewCount, score);
+        }
+    }
+
+    public record RankedStore(int rank, Long storeId, String storeName, double averageRating,
+                              long reviewCount, double score) {
+    }
+
+    public record Page(List<RankedStore> rankings, long totalCount) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.demo.domain.review.repository;
+
+import com.example.demo.domain.review.writebehind.PendingReview;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 리뷰 다건 저장 (JPA 를 거치지 않는 multi-row INSERT)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewBulkRepository {
+
+    private static final String INSERT_PREFIX =
+        "INSERT INTO review (store_id, member_id, rating, content, is_active, version, created_date, last_modified_date) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, true, 0, ?, ?)";
+    // 유니크 키 충돌만 건너뛰고, FK 위반/값 잘림 등 다른 행 오류는 예외로 올린다
+    private static final String ON_DUPLICATE_SKIP = " ON DUPLICATE KEY UPDATE review_id = review_id";
+    private static final String KEY_PLACEHOLDER = "(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 한 문장으로 저장하고, 이번 배치로 실제 저장된 리뷰를 반환
+     * 같은 업소/회원의 활성 리뷰가 이미 있는 행은 건너뛴다.
+     * 모든 행의 생성 시각을 createdAt 으로 맞춰 두고, 배치의 (업소, 회원) 쌍 중 그 시각으로 저장된 행을 다시 조회해 ID 를 얻는다.
+     */
+    public List<InsertedReview> insertSkippingDuplicates(List<PendingReview> reviews, LocalDateTime createdAt) {
+        if (reviews.isEmpty()) {
+            return List.of();
+        }
+
+        // DB 정밀도(마이크로초)에 맞춰야 다시 조회할 때 같은 값으로 비교된다
+        Timestamp timestamp = Timestamp.valueOf(createdAt.truncatedTo(ChronoUnit.MICROS));
+        List<Object> args = new ArrayList<>(reviews.size() * 6);
+        for (PendingReview review : reviews) {
+            args.add(review.storeId());
+            args.add(review.memberId());
+            args.add(review.rating());
+            args.add(review.content());
+            args.add(timestamp);
+            args.add(timestamp);
+        }
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(reviews.size(), ROW_PLACEHOLDER))
+            + ON_DUPLICATE_SKIP;
+        int affected = jdbcTemplate.update(sql, args.toArray());
+        if (affected == 0) {
+            return List.of();
+        }
+
+        Set<ReviewKey> keys = keysOf(reviews);
+        List<Object> selectArgs = new ArrayList<>(keys.size() * 2 + 1);
+        selectArgs.add(timestamp);
+        addKeyArgs(selectArgs, keys);
+
+        return jdbcTemplate.query(
+            "SELECT review_id, store_id, member_id FROM review " +
+            "WHERE created_date = ? AND active_marker = 1 AND (store_id, member_id) IN (" + keyPlaceholders(keys.size()) + ")",
+            (rs, rowNum) -> new InsertedReview(rs.getLong("review_id"), rs.getLong("store_id"), rs.getLong("member_id")),
+            selectArgs.toArray());
+    }
+
+    /**
+     * (업소, 회원) 쌍별 가장 최근 리뷰 생성 시각 (삭제된 리뷰 포함)
+     * 이미 반영했을 수 있는 요청을 다시 저장하기 전에, 그 요청 이후 만들어진 리뷰가 있는지 확인하는 데 쓴다.
+     */
+    public Map<ReviewKey, LocalDateTime> queryLatestCreatedDates(Collection<ReviewKey> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> args = new ArrayList<>(keys.size() * 2);
+        addKeyArgs(args, keys);
+
+        Map<ReviewKey, LocalDateTime> latest = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT store_id, member_id, MAX(created_date) AS latest FROM review " +
+            "WHERE (store_id, member_id) IN (" + keyPlaceholders(keys.size()) + ") GROUP BY store_id, member_id",
+            rs -> {
+                latest.put(new ReviewKey(rs.getLong("store_id"), rs.getLong("member_id")),
+                    rs.getTimestamp("latest").toLocalDateTime());
+            },
+            args.toArray());
+        return latest;
+    }
+
+    private static Set<ReviewKey> keysOf(List<PendingReview> reviews) {
+        Set<ReviewKey> keys = new LinkedHashSet<>();
+        for (PendingReview review : reviews) {
+            keys.add(new ReviewKey(review.storeId(), review.memberId()));
+        }
+        return keys;
+    }
+
+    private static void addKeyArgs(List<Object> args, Collection<ReviewKey> keys) {
+        for (ReviewKey key : keys) {
+            args.add(key.storeId());
+            args.add(key.memberId());
+        }
+    }
+
+    private static String keyPlaceholders(int count) {
+        return String.join(", ", Collections.nCopies(count, KEY_PLACEHOLDER));
+    }
+
+    public record InsertedReview(Long reviewId, Long storeId, Long memberId) {
+    }
+
+    public record ReviewKey(Long storeId, Long memberId) {
+    }
+}
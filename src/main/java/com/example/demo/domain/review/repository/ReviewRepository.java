@@ -1,6 +1,7 @@
 package com.example.demo.domain.review.repository;
 
 import com.example.demo.domain.review.entity.Review;
+import com.example.demo.domain.review.vo.StoreRatingAggregate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -56,6 +57,24 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
            "FROM Review r WHERE r.store.id IN :storeIds AND r.isActive = true GROUP BY r.store.id")
     List<StoreRatingProjection> findStoreRatings(@Param("storeIds") List<Long> storeIds);
 
+    /**
+     * 활성 업소 전체의 리뷰 집계 조회 (리더보드 재구성용, 리뷰가 없는 업소는 제외)
+     */
+    @Query("SELECT new com.example.demo.domain.review.vo.StoreRatingAggregate(" +
+           "s.id, s.storeName, s.category, s.address.sido, s.address.sigun, AVG(r.rating), COUNT(r)) " +
+           "FROM Review r JOIN r.store s WHERE r.isActive = true AND s.isActive = true " +
+           "GROUP BY s.id, s.storeName, s.category, s.address.sido, s.address.sigun")
+    List<StoreRatingAggregate> findRatingAggregates();
+
+    /**
+     * 주어진 업소들의 리뷰 집계 조회 (리더보드 부분 갱신용)
+     */
+    @Query("SELECT new com.example.demo.domain.review.vo.StoreRatingAggregate(" +
+           "s.id, s.storeName, s.category, s.address.sido, s.address.sigun, AVG(r.rating), COUNT(r)) " +
+           "FROM Review r JOIN r.store s WHERE s.id IN :storeIds AND r.isActive = true AND s.isActive = true " +
+           "GROUP BY s.id, s.storeName, s.category, s.address.sido, s.address.sigun")
+    List<StoreRatingAggregate> findRatingAggregatesByStoreIds(@Param("storeIds") List<Long> storeIds);
+
     /**
      * 스토어 평점 정보를 위한 Projection 인터페이스
      */
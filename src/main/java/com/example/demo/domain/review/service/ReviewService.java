@@ -1,6 +1,7 @@
 package com.example.demo.domain.review.service;
 
 import com.example.demo.domain.review.adaptor.ReviewAdaptor;
+import com.example.demo.domain.review.cache.StoreRatingCache;
 import com.example.demo.domain.review.entity.Review;
 import com.example.demo.domain.store.adaptor.StoreAdaptor;
 import lombok.RequiredArgsConstructor;
@@ -21,12 +22,13 @@ public class ReviewService {
 
     private final ReviewAdaptor reviewAdaptor;
     private final StoreAdaptor storeAdaptor;
+    private final StoreRatingCache storeRatingCache;
 
     /**
      * 여러 업소의 리뷰 통계를 효율적으로 조회
      */
     public Map<Long, ReviewAdaptor.StoreRatingInfo> getStoreRatings(List<Long> storeIds) {
-        return reviewAdaptor.queryStoreRatings(storeIds);
+        return storeRatingCache.getRatings(storeIds);
     }
 
     /**
@@ -34,7 +36,7 @@ public class ReviewService {
      */
     public List<Review> getTopReviews(Long storeId, int limit) {
         // 스토어 존재 확인
-        storeAdaptor.queryById(storeId);
+        storeAdaptor.validateExists(storeId);
         return reviewAdaptor.queryTopReviewsByStoreId(storeId, limit);
     }
 
@@ -0,0 +1,25 @@
+package com.example.demo.domain.review.vo;
+
+import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.vo.RegionName;
+
+/**
+ * 업소별 활성 리뷰 집계와 순위 구분에 필요한 업소 정보 (JPQL 생성자 프로젝션)
+ */
+public record StoreRatingAggregate(
+    Long storeId,
+    String storeName,
+    Category category,
+    String sido,
+    String sigun,
+    Double averageRating,
+    Long reviewCount
+) {
+
+    // 순위 구분 키가 조회 조건과 같도록 지역 명칭을 RegionName 으로 맞춘다 (반복되는 명칭은 공유 인스턴스)
+    public StoreRatingAggregate {
+        RegionName region = RegionName.of(sido, sigun);
+        sido = region.sido();
+        sigun = region.sigun();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.domain.review.writebehind;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장 대기 중인 리뷰 작성 요청 (저널 한 줄)
+ */
+public record PendingReview(
+    long sequence,
+    Long storeId,
+    Long memberId,
+    Integer rating,
+    String content,
+    LocalDateTime requestedAt
+) {
+}
@@ -0,0 +1,343 @@
+package com.example.demo.domain.review.writebehind;
+
+import com.example.demo.domain.outbox.entity.ChangeType;
+import com.example.demo.domain.outbox.service.OutboxService;
+import com.example.demo.domain.review.repository.ReviewBulkRepository;
+import com.example.demo.domain.store.event.StoreDetailChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 리뷰 작성 write-behind 대기열
+ * 요청 스레드는 저널에 기록(그룹 커밋으로 디스크 동기화)하고 바로 응답하며, 전용 스레드가 짧은 주기로 모아서
+ * multi-row INSERT 한 번으로 저장한다. 아웃박스 기록과 상세 읽기 모델 갱신도 배치 단위로 처리한다.
+ * 업소/회원당 활성 리뷰 하나는 유니크 제약(uk_review_store_member_active)이 보장한다. 대기열에 같은 업소/회원 항목이 있으면
+ * offer 가 DUPLICATE 를 반환해 호출 측이 바로 거절하고, 이미 저장된 리뷰와의 중복은 호출 측이 offer 전에 확인한다.
+ * (그 사이 동기 저장 경로로 먼저 저장된 드문 경우만 저장 시 제외되며 duplicates 지표로 남는다)
+ * 중복 외의 행 오류(FK 위반 등)가 섞인 배치는 행 단위로 나눠 저장하고 오류 행만 버린다.
+ * 대기열이 가득 찼거나 종료 중이면 offer 가 REJECTED 를 반환하고 호출 측이 동기 저장으로 처리한다.
+ * 저널 체크포인트는 배치마다 쓰지 않고 checkpoint-interval-ms 마다(그리고 종료 시) 남긴다.
+ * 체크포인트 이후 반영된 항목은 재시작 시 다시 읽히지만 저장 전에 이미 반영됐는지 확인해 걸러진다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.review.write-behind", name = "enabled", havingValue = "true")
+public class ReviewWriteBehindQueue implements SmartLifecycle {
+
+    private final ReviewBulkRepository reviewBulkRepository;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ReviewWriteJournal journal;
+    private final int batchSize;
+    private final int maxPending;
+    private final long flushIntervalMillis;
+    private final long checkpointIntervalNanos;
+
+    private final Queue<PendingReview> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    // 대기 중인 업소/회원 (같은 리뷰가 대기열에 두 번 들어가지 않도록 offer 잠금 안에서 예약한다)
+    private final Set<ReviewBulkRepository.ReviewKey> pendingKeys = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock offerLock = new ReentrantLock();
+
+    private final Counter insertedCounter;
+    private final Counter duplicateCounter;
+    private final Counter rejectedCounter;
+    private final Counter failureCounter;
+    private final Counter droppedCounter;
+
+    private volatile ScheduledExecutorService flusher;
+    // 이 시퀀스까지는 이전 실행이나 실패한 시도에서 이미 반영됐을 수 있어 저장 전에 확인한다
+    private volatile long uncertainUpTo;
+    // flush 스레드에서만 접근 (DB 반영을 마친 마지막 시퀀스와 저널에 체크포인트로 남긴 시퀀스)
+    private long appliedUpTo;
+    private long checkpointedUpTo;
+    private long lastCheckpointNanos = System.nanoTime();
+
+    public ReviewWriteBehindQueue(ReviewBulkRepository reviewBulkRepository,
+                                  OutboxService outboxService,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.review.write-behind.journal-dir:./data/review-journal}") String journalDir,
+                                  @Value("${app.review.write-behind.batch-size:200}") int batchSize,
+                                  @Value("${app.review.write-behind.max-pending:10000}") int maxPending,
+                                  @Value("${app.review.write-behind.flush-interval-ms:5}") long flushIntervalMillis,
+                                  @Value("${app.review.write-behind.checkpoint-interval-ms:1000}") long checkpointIntervalMillis) {
+        this.reviewBulkRepository = reviewBulkRepository;
+        this.outboxService = outboxService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.journal = new ReviewWriteJournal(Path.of(journalDir), objectMapper, 4L * 1024 * 1024);
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.checkpointIntervalNanos = TimeUnit.MILLISECONDS.toNanos(checkpointIntervalMillis);
+
+        this.insertedCounter = Counter.builder("review.write_behind.inserted")
+            .description("배치로 저장된 리뷰 수")
+            .register(meterRegistry);
+        this.duplicateCounter = Counter.builder("review.write_behind.duplicates")
+            .description("유니크 제약으로 제외된 리뷰 수")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("review.write_behind.rejected")
+            .description("대기열이 가득 차 동기 저장으로 넘긴 요청 수")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("review.write_behind.failures")
+            .description("배치 저장 실패 횟수")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("review.write_behind.dropped")
+            .description("중복 외의 제약 위반으로 버린 리뷰 수")
+            .register(meterRegistry);
+        Gauge.builder("review.write_behind.pending", pendingCount, AtomicInteger::get)
+            .description("저장 대기 중인 리뷰 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 저장 대기열에 추가 (저널 기록 후 ACCEPTED)
+     * 같은 업소/회원 리뷰가 이미 대기 중이면 저널에 기록하지 않고 DUPLICATE 를 반환한다.
+     * 호출 측 트랜잭션 밖에서 호출해야 디스크 동기화를 기다리는 동안 DB 커넥션을 잡지 않는다.
+     */
+    public OfferResult offer(Long storeId, Long memberId, Integer rating, String content) {
+        if (flusher == null || pendingCount.get() >= maxPending) {
+            rejectedCounter.increment();
+            return OfferResult.REJECTED;
+        }
+
+        // 저널 순서와 대기열 순서가 같아야 체크포인트 이전 항목이 누락되지 않는다 (잠금 안에서는 기록만 한다)
+        ReviewBulkRepository.ReviewKey key = new ReviewBulkRepository.ReviewKey(storeId, memberId);
+        PendingReview entry;
+        offerLock.lock();
+        try {
+            if (!pendingKeys.add(key)) {
+                return OfferResult.DUPLICATE;
+            }
+            entry = journal.append(storeId, memberId, rating, content);
+            pending.add(entry);
+            pendingCount.incrementAndGet();
+        } catch (UncheckedIOException e) {
+            log.warn("리뷰 저널 기록 실패, 동기 저장으로 처리", e);
+            pendingKeys.remove(key);
+            rejectedCounter.increment();
+            return OfferResult.REJECTED;
+        } finally {
+            offerLock.unlock();
+        }
+
+        try {
+            journal.sync(entry.sequence());
+        } catch (UncheckedIOException e) {
+            // 이미 대기열에 들어가 곧 저장되므로 동기 저장으로 넘기면 중복된다. 저장 전 종료 시에만 유실될 수 있다.
+            log.warn("리뷰 저널 동기화 실패 - sequence: {}", entry.sequence(), e);
+            failureCounter.increment();
+        }
+        return OfferResult.ACCEPTED;
+    }
+
+    @Override
+    public void start() {
+        List<PendingReview> unapplied = journal.readUnapplied();
+        if (!unapplied.isEmpty()) {
+            log.info("리뷰 저널 미반영 항목 복구: {}건", unapplied.size());
+            pending.addAll(unapplied);
+            pendingCount.addAndGet(unapplied.size());
+            unapplied.forEach(entry -> pendingKeys.add(new ReviewBulkRepository.ReviewKey(entry.storeId(), entry.memberId())));
+            uncertainUpTo = unapplied.get(unapplied.size() - 1).sequence();
+        }
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "review-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        flusher = executor;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = flusher;
+        flusher = null;
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 항목은 최대한 반영하고, 실패분은 저널에 남아 재시작 시 반영된다
+        flush();
+        checkpoint();
+        journal.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return flusher != null;
+    }
+
+    /**
+     * 대기열 앞에서부터 배치 단위로 저장
+     * 저장에 실패하면 항목을 그대로 두고 다음 주기에 다시 시도한다.
+     */
+    void flush() {
+        drain();
+        if (System.nanoTime() - lastCheckpointNanos >= checkpointIntervalNanos) {
+            checkpoint();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            List<PendingReview> batch = peekBatch();
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            int inserted;
+            try {
+                inserted = applyBatch(batch);
+            } catch (RuntimeException e) {
+                // 커밋 여부를 알 수 없으므로 재시도할 때는 이미 반영된 요청인지 확인한다
+                uncertainUpTo = Math.max(uncertainUpTo, batch.get(batch.size() - 1).sequence());
+                failureCounter.increment();
+                log.warn("리뷰 배치 저장 실패, 다음 주기에 재시도 - size: {}", batch.size(), e);
+                return;
+            }
+
+            for (PendingReview entry : batch) {
+                pending.poll();
+                pendingKeys.remove(new ReviewBulkRepository.ReviewKey(entry.storeId(), entry.memberId()));
+            }
+            pendingCount.addAndGet(-batch.size());
+            appliedUpTo = batch.get(batch.size() - 1).sequence();
+
+            insertedCounter.increment(inserted);
+            duplicateCounter.increment(batch.size() - inserted);
+
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private void checkpoint() {
+        lastCheckpointNanos = System.nanoTime();
+        if (appliedUpTo > checkpointedUpTo) {
+            journal.checkpoint(appliedUpTo);
+            checkpointedUpTo = appliedUpTo;
+        }
+    }
+
+    private List<PendingReview> peekBatch() {
+        List<PendingReview> batch = new ArrayList<>(batchSize);
+        Iterator<PendingReview> iterator = pending.iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            batch.add(iterator.next());
+        }
+        return batch;
+    }
+
+    private int applyBatch(List<PendingReview> batch) {
+        List<PendingReview> toWrite = batch.get(0).sequence() <= uncertainUpTo ? excludeAlreadyApplied(batch) : batch;
+        if (toWrite.isEmpty()) {
+            return 0;
+        }
+        try {
+            return writeBatch(toWrite);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("리뷰 배치에 제약 위반 행 포함, 행 단위로 저장 - size: {}", toWrite.size());
+            int inserted = 0;
+            for (PendingReview entry : toWrite) {
+                inserted += writeSkippingInvalid(entry);
+            }
+            return inserted;
+        }
+    }
+
+    private int writeSkippingInvalid(PendingReview entry) {
+        try {
+            return writeBatch(List.of(entry));
+        } catch (DataIntegrityViolationException e) {
+            droppedCounter.increment();
+            log.error("리뷰 저장 불가로 제외 - sequence: {}, storeId: {}, memberId: {}",
+                entry.sequence(), entry.storeId(), entry.memberId(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * 요청 이후 같은 업소/회원의 리뷰가 만들어졌으면 이미 반영된 요청으로 보고 제외
+     * 저장 후 체크포인트 전에 종료된 항목을 다시 반영할 때, 그 사이 사용자가 삭제한 리뷰가 되살아나지 않게 한다.
+     */
+    private List<PendingReview> excludeAlreadyApplied(List<PendingReview> batch) {
+        Map<ReviewBulkRepository.ReviewKey, LocalDateTime> latestCreatedDates = reviewBulkRepository.queryLatestCreatedDates(
+            batch.stream().map(entry -> new ReviewBulkRepository.ReviewKey(entry.storeId(), entry.memberId())).collect(Collectors.toSet()));
+
+        return batch.stream()
+            .filter(entry -> {
+                LocalDateTime latest = latestCreatedDates.get(new ReviewBulkRepository.ReviewKey(entry.storeId(), entry.memberId()));
+                return latest == null || latest.isBefore(entry.requestedAt().truncatedTo(ChronoUnit.MICROS));
+            })
+            .toList();
+    }
+
+    private int writeBatch(List<PendingReview> batch) {
+        Integer inserted = transactionTemplate.execute(status -> {
+            Map<Long, Long> storeIdByReviewId = reviewBulkRepository
+                .insertSkippingDuplicates(batch, LocalDateTime.now()).stream()
+                .collect(Collectors.toMap(ReviewBulkRepository.InsertedReview::reviewId,
+                    ReviewBulkRepository.InsertedReview::storeId));
+
+            outboxService.recordReviewsChanged(storeIdByReviewId, ChangeType.CREATED);
+            storeIdByReviewId.values().stream()
+                .distinct()
+                .forEach(storeId -> eventPublisher.publishEvent(new StoreDetailChangedEvent(storeId)));
+            return storeIdByReviewId.size();
+        });
+        return inserted != null ? inserted : 0;
+    }
+
+    public enum OfferResult {
+        // 저널에 기록되어 배치로 저장된다
+        ACCEPTED,
+        // 같은 업소/회원 리뷰가 이미 대기 중
+        DUPLICATE,
+        // 대기열이 가득 찼거나 종료 중 (동기 저장으로 처리)
+        REJECTED
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.demo.domain.review.writebehind;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 리뷰 저장 대기열의 로컬 저널
+ * 요청을 받을 때마다 한 줄(JSON)씩 추가하고 디스크에 동기화한 뒤 응답하므로, 반영 전에 프로세스가 죽어도
+ * 재시작 시 체크포인트 이후 항목을 다시 읽어 반영한다. 반영이 끝난 항목만 남으면 저널을 비운다.
+ * 디스크 동기화는 그룹 커밋으로 처리해, 동시에 들어온 요청들이 fsync 한 번을 나눠 쓴다.
+ * 저널은 노드 로컬 디스크에 있으므로 노드를 교체하면 남은 항목이 유실될 수 있다.
+ */
+@Slf4j
+public class ReviewWriteJournal implements AutoCloseable {
+
+    private static final String JOURNAL_FILE = "review-journal.log";
+    private static final String CHECKPOINT_FILE = "review-journal.checkpoint";
+
+    private final Path journalPath;
+    private final Path checkpointPath;
+    private final ObjectMapper objectMapper;
+    private final long compactThresholdBytes;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private FileChannel channel;
+    private long lastAppended;
+    private long checkpoint;
+    private volatile long lastSynced;
+
+    public ReviewWriteJournal(Path directory, ObjectMapper objectMapper, long compactThresholdBytes) {
+        this.journalPath = directory.resolve(JOURNAL_FILE);
+        this.checkpointPath = directory.resolve(CHECKPOINT_FILE);
+        this.objectMapper = objectMapper;
+        this.compactThresholdBytes = compactThresholdBytes;
+        try {
+            Files.createDirectories(directory);
+            this.checkpoint = readCheckpoint();
+            this.lastAppended = checkpoint;
+            this.lastSynced = checkpoint;
+            this.channel = openChannel();
+        } catch (IOException e) {
+            throw new UncheckedIOException("리뷰 저널을 열 수 없습니다: " + journalPath, e);
+        }
+    }
+
+    /**
+     * 체크포인트 이후의 미반영 항목 (시작 시 한 번 호출)
+     * 마지막 줄이 잘려 있으면(기록 중 종료) 건너뛴다.
+     */
+    public List<PendingReview> readUnapplied() {
+        List<PendingReview> unapplied = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(journalPath, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    PendingReview entry = objectMapper.readValue(line, PendingReview.class);
+                    lastAppended = Math.max(lastAppended, entry.sequence());
+                    if (entry.sequence() > checkpoint) {
+                        unapplied.add(entry);
+                    }
+                } catch (JsonProcessingException e) {
+                    log.warn("리뷰 저널의 손상된 항목 건너뜀: {}", e.getOriginalMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        lastSynced = lastAppended;
+        return unapplied;
+    }
+
+    /**
+     * 다음 시퀀스로 항목을 기록하고 반환 (디스크 동기화는 sync 로 따로 기다린다)
+     */
+    public PendingReview append(Long storeId, Long memberId, Integer rating, String content) {
+        appendLock.lock();
+        try {
+            PendingReview entry = new PendingReview(lastAppended + 1, storeId, memberId, rating, content, LocalDateTime.now());
+            byte[] line = (objectMapper.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            lastAppended = entry.sequence();
+            return entry;
+        } catch (IOException e) {
+            throw new UncheckedIOException("리뷰 저널 기록 실패", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * sequence 까지의 항목이 디스크에 동기화될 때까지 대기
+     * 먼저 잠금을 잡은 요청이 그때까지 기록된 항목 전체를 동기화하고, 뒤따라 온 요청은 그 결과로 바로 반환한다.
+     */
+    public void sync(long sequence) {
+        if (lastSynced >= sequence) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (lastSynced >= sequence) {
+                return;
+            }
+            long syncedUpTo;
+            appendLock.lock();
+            try {
+                syncedUpTo = lastAppended;
+            } finally {
+                appendLock.unlock();
+            }
+            channel.force(false);
+            lastSynced = syncedUpTo;
+        } catch (IOException e) {
+            throw new UncheckedIOException("리뷰 저널 동기화 실패", e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * sequence 까지 DB 반영 완료 기록
+     * 이후 추가된 항목이 없고 저널이 커졌으면 비운다.
+     */
+    public void checkpoint(long sequence) {
+        appendLock.lock();
+        try {
+            Path temp = checkpointPath.resolveSibling(CHECKPOINT_FILE + ".tmp");
+            Files.writeString(temp, Long.toString(sequence), StandardCharsets.UTF_8);
+            Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            checkpoint = sequence;
+
+            if (sequence == lastAppended && channel.size() > compactThresholdBytes) {
+                channel.truncate(0);
+                channel.position(0);
+                channel.force(true);
+            }
+        } catch (IOException e) {
+            // 체크포인트를 못 남기면 재시작 시 다시 반영되지만, 이미 반영된 요청은 저장 전에 걸러진다
+            log.warn("리뷰 저널 체크포인트 기록 실패 - sequence: {}", sequence, e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("리뷰 저널 닫기 실패", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private FileChannel openChannel() throws IOException {
+        FileChannel opened = FileChannel.open(journalPath,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        opened.position(opened.size());
+
+        // 기록 중 종료로 마지막 줄이 잘렸으면 다음 항목이 이어 붙지 않도록 줄을 끊어 둔다
+        if (opened.size() > 0) {
+            ByteBuffer last = ByteBuffer.allocate(1);
+            opened.read(last, opened.size() - 1);
+            if (last.get(0) != '\n') {
+                opened.write(ByteBuffer.wrap(new byte[]{'\n'}));
+            }
+        }
+        return opened;
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointPath)) {
+            return 0L;
+        }
+        String value = Files.readString(checkpointPath, StandardCharsets.UTF_8).trim();
+        return value.isEmpty() ? 0L : Long.parseLong(value);
+    }
+}
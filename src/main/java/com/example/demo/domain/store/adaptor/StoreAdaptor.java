@@ -1,11 +1,21 @@
 package com.example.demo.domain.store.adaptor;
 
+import com.example.demo.domain.store.dictionary.StoreCodeDictionary;
 import com.example.demo.domain.store.entity.Category;
 import com.example.demo.domain.store.entity.Store;
 import com.example.demo.domain.store.exception.StoreErrorStatus;
 import com.example.demo.domain.store.exception.StoreHandler;
+import com.example.demo.domain.store.repository.StoreMenuRepository;
 import com.example.demo.domain.store.repository.StoreRepository;
 import com.example.demo.domain.store.validator.StoreValidator;
+import com.example.demo.domain.store.vo.CoordinateRange;
+import com.example.demo.domain.store.vo.NearbyCursor;
+import com.example.demo.domain.store.vo.StoreCoordinate;
+import com.example.demo.domain.store.vo.StoreDistance;
+import com.example.demo.domain.store.vo.StoreMapPoint;
+import com.example.demo.domain.store.vo.StoreMenuStats;
+import com.example.demo.domain.store.vo.StoreMenuSummary;
+import com.example.demo.domain.store.vo.StoreSummary;
 import com.example.demo.infrastructure.annotation.adaptor.Adaptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -16,6 +26,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Adaptor
 @Transactional(readOnly = true)
@@ -23,12 +37,29 @@ import java.util.Comparator;
 public class StoreAdaptor {
 
     private final StoreRepository storeRepository;
+    private final StoreMenuRepository storeMenuRepository;
+    private final StoreCodeDictionary storeCodeDictionary;
 
     public Store queryById(Long storeId) {
         return storeRepository.findById(storeId)
                 .orElseThrow(() -> new StoreHandler(StoreErrorStatus.STORE_NOT_FOUND));
     }
 
+    /**
+     * 업소명 조회 (업소가 없으면 STORE_NOT_FOUND)
+     */
+    public String queryStoreName(Long storeId) {
+        return storeRepository.findStoreNameById(storeId)
+                .orElseThrow(() -> new StoreHandler(StoreErrorStatus.STORE_NOT_FOUND));
+    }
+
+    /**
+     * 연관관계(FK) 설정용 프록시, 조회 쿼리를 실행하지 않으므로 존재 여부는 호출 측에서 확인해야 한다.
+     */
+    public Store getReference(Long storeId) {
+        return storeRepository.getReferenceById(storeId);
+    }
+
     public Store queryByIdFetchMenu(Long storeId) {
         return storeRepository.findByIdFetchMenu(storeId).orElseThrow(
                 () -> new StoreHandler(StoreErrorStatus.STORE_NOT_FOUND)
@@ -53,12 +84,21 @@ public class StoreAdaptor {
         return storeRepository.findByCategoryAndIsActiveTrue(businessType, pageable);
     }
 
+    /**
+     * 지역별 조회 (명칭을 사전 코드로 바꿔 정수 비교, 정확한 명칭이 없으면 명칭 일부로 찾고 그래도 없으면 빈 페이지)
+     */
     public Page<Store> queryByRegion(String sido, String sigun, Pageable pageable) {
-        return storeRepository.findByRegion(sido, sigun, pageable);
+        StoreCodeDictionary.RegionFilter filter = storeCodeDictionary.regionFilter(sido, sigun);
+        if (filter.matchesNothing()) {
+            return Page.empty(pageable);
+        }
+        return filter.sigunCodes() != null
+            ? storeRepository.findBySigunCodes(filter.sigunCodes(), pageable)
+            : storeRepository.findBySidoCode(filter.sidoCode(), pageable);
     }
 
     public Page<Store> queryBySido(String sido, Pageable pageable) {
-        return storeRepository.findBySido(sido, pageable);
+        return queryByRegion(sido, null, pageable);
     }
 
     public Page<Store> queryStoresWithinRadius(Double latitude, Double longitude,
@@ -108,15 +148,25 @@ public class StoreAdaptor {
     public Page<Store> queryByBusinessTypeAndRegion(Category businessType,
                                                     String sido, String sigun,
                                                     Pageable pageable) {
-        return storeRepository.findByCategoryTypeAndRegion(businessType, sido, sigun, pageable);
+        StoreCodeDictionary.RegionFilter filter = storeCodeDictionary.regionFilter(sido, sigun);
+        if (filter.matchesNothing()) {
+            return Page.empty(pageable);
+        }
+        return filter.sigunCodes() != null
+            ? storeRepository.findByCategoryAndSigunCodes(businessType, filter.sigunCodes(), pageable)
+            : storeRepository.findByCategoryAndSidoCode(businessType, filter.sidoCode(), pageable);
     }
 
     public Page<Store> queryByStoreNameAndBusinessTypeAndSido(String storeName,
                                                               Category businessType,
                                                               String sido,
                                                               Pageable pageable) {
-        return storeRepository.findByStoreNameAndCategoryAndSido(
-                storeName, businessType, sido, pageable);
+        StoreCodeDictionary.RegionFilter filter = storeCodeDictionary.regionFilter(sido, null);
+        if (filter.matchesNothing()) {
+            return Page.empty(pageable);
+        }
+        return storeRepository.findByStoreNameAndCategoryAndSidoCode(
+                storeName, businessType, filter.sidoCode(), pageable);
     }
 
     public Page<Store> queryActiveStores(Pageable pageable) {
@@ -134,38 +184,146 @@ public class StoreAdaptor {
         return storeRepository.findStoresWithCoordinatesFetchMenus();
     }
 
+    /**
+     * 활성 업소 스트리밍 조회
+     * 호출 측 트랜잭션 안에서 소비 후 close 해야 한다.
+     */
+    public Stream<Store> streamActiveStores() {
+        return storeRepository.streamActiveStores();
+    }
+
+    // === 프로젝션 조회 (엔티티 미적재) ===
+
+    public List<StoreMapPoint> queryMapPoints() {
+        return storeRepository.findMapPoints();
+    }
+
+    public List<StoreCoordinate> queryCoordinates() {
+        return storeRepository.findCoordinates();
+    }
+
+    public List<StoreSummary> querySummariesWithCoordinates() {
+        return storeRepository.findSummariesWithCoordinates();
+    }
+
+    public List<StoreSummary> queryAllSummaries() {
+        return storeRepository.findAllSummaries();
+    }
+
+    /**
+     * ID 목록의 업소 요약 조회 (비활성 포함, 순서 보장 없음, 없는 ID 는 제외)
+     */
+    public List<StoreSummary> querySummaries(List<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return List.of();
+        }
+        return storeRepository.findSummariesByIdIn(storeIds);
+    }
+
+    public Page<StoreSummary> queryActiveSummaries(Pageable pageable) {
+        return storeRepository.findActiveSummaries(pageable);
+    }
+
+    /**
+     * ID 목록의 업소 요약을 조회하여 전달받은 ID 순서대로 반환
+     */
+    public List<StoreSummary> querySummariesInOrder(List<Long> orderedIds) {
+        if (orderedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, StoreSummary> byId = storeRepository.findSummariesByIdIn(orderedIds).stream()
+            .collect(Collectors.toMap(StoreSummary::storeId, Function.identity()));
+
+        return orderedIds.stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * 반경 내 업소 ID와 거리를 (거리, 업소 ID) 오름차순으로 limit 만큼 반환
+     * 커서가 있으면 커서 뒤의 업소부터 반환한다.
+     */
+    public List<StoreDistance> queryDistancesWithinRadius(Double latitude,
+                                                          Double longitude,
+                                                          Double radiusKm,
+                                                          int limit,
+                                                          NearbyCursor after) {
+        StoreValidator.validateCoordinates(latitude, longitude);
+        StoreValidator.validateRadius(radiusKm);
+
+        CoordinateRange box = CoordinateRange.around(latitude, longitude, radiusKm);
+        List<StoreRepository.StoreDistanceProjection> projections = after == null
+            ? storeRepository.findStoreDistancesWithinRadius(latitude, longitude, radiusKm,
+                box.getMinLatitude(), box.getMaxLatitude(), box.getMinLongitude(), box.getMaxLongitude(), limit)
+            : storeRepository.findStoreDistancesWithinRadiusAfter(latitude, longitude, radiusKm,
+                box.getMinLatitude(), box.getMaxLatitude(), box.getMinLongitude(), box.getMaxLongitude(),
+                after.distanceKm(), after.storeId(), limit);
+
+        return projections.stream()
+            .map(projection -> new StoreDistance(projection.getStoreId(), projection.getDistance()))
+            .toList();
+    }
+
+    /**
+     * 여러 업소의 메뉴 요약을 업소 ID별로 묶어 반환 (메뉴 순서 유지)
+     */
+    public Map<Long, List<StoreMenuSummary>> queryMenuSummaries(List<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return Map.of();
+        }
+        return storeMenuRepository.findMenuSummariesByStoreIds(storeIds).stream()
+            .collect(Collectors.groupingBy(StoreMenuSummary::storeId));
+    }
+
     public List<Store> queryStoresWithoutCoordinates() {
         return storeRepository.findStoresWithoutCoordinates();
     }
 
-    public List<Object[]> queryStoreCountByBusinessType() {
-        return storeRepository.countByCategory();
+    /**
+     * 업소별 메뉴 수/가격 합계 (메뉴가 없는 업소는 제외)
+     */
+    public List<StoreMenuStats> queryMenuStats() {
+        return storeMenuRepository.findMenuStats();
     }
 
-    public List<Object[]> queryStoreCountByRegion() {
-        return storeRepository.countByRegion();
+    public List<StoreMenuStats> queryMenuStats(List<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return List.of();
+        }
+        return storeMenuRepository.findMenuStatsByStoreIds(storeIds);
     }
 
     public boolean existsById(Long storeId) {
         return storeRepository.existsById(storeId);
     }
 
+    /**
+     * 업소 존재 확인 (엔티티를 적재하지 않는 PK 조회)
+     */
+    public void validateExists(Long storeId) {
+        if (!storeRepository.existsById(storeId)) {
+            throw new StoreHandler(StoreErrorStatus.STORE_NOT_FOUND);
+        }
+    }
+
     public boolean existsByStoreName(String storeName) {
-        return storeRepository.findByStoreName(storeName).isPresent();
+        return storeRepository.existsByStoreName(storeName);
     }
 
     public boolean existsByContactNumber(String contactNumber) {
-        return storeRepository.findByContactNumber(contactNumber).isPresent();
+        return storeRepository.existsByContactNumber(contactNumber);
     }
 
     public void validateStoreNameNotExists(String storeName) {
-        if (storeRepository.findByStoreName(storeName).isPresent()) {
+        if (storeRepository.existsByStoreName(storeName)) {
             throw new StoreHandler(StoreErrorStatus.STORE_ALREADY_EXISTS);
         }
     }
 
     public void validateContactNumberNotExists(String contactNumber) {
-        if (storeRepository.findByContactNumber(contactNumber).isPresent()) {
+        if (storeRepository.existsByContactNumber(contactNumber)) {
             throw new StoreHandler(StoreErrorStatus.STORE_ALREADY_EXISTS);
         }
     }
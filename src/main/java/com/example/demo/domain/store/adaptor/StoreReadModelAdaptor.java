@@ -0,0 +1,69 @@
+package com.example.demo.domain.store.adaptor;
+
+import com.example.demo.domain.store.repository.StoreReadModelRepository;
+import com.example.demo.infrastructure.annotation.adaptor.Adaptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Adaptor
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StoreReadModelAdaptor {
+
+    // 업소가 없어 읽기 모델 행을 만들지 않은 경우의 revision (이 값으로는 저장되지 않는다)
+    public static final long NO_REVISION = -1L;
+
+    private final StoreReadModelRepository storeReadModelRepository;
+
+    public Optional<byte[]> queryFreshDocument(Long storeId) {
+        return storeReadModelRepository.findFreshDocument(storeId);
+    }
+
+    /**
+     * 재구성 시작 시점의 revision (행이 없으면 stale 자리표시 행을 만든 뒤 반환, 업소가 없으면 NO_REVISION)
+     */
+    @Transactional
+    public long prepareRevision(Long storeId) {
+        storeReadModelRepository.insertPlaceholderIfAbsent(storeId, LocalDateTime.now());
+        return storeReadModelRepository.findRevision(storeId).orElse(NO_REVISION);
+    }
+
+    @Transactional
+    public void markStale(Long storeId) {
+        storeReadModelRepository.markStale(storeId, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void markStale(Collection<Long> storeIds) {
+        if (!storeIds.isEmpty()) {
+            storeReadModelRepository.markStaleAll(storeIds);
+        }
+    }
+
+    /**
+     * 다시 구성해야 하는 업소 ID (문서가 없거나 stale)
+     */
+    public List<Long> queryStoreIdsToBuild(int limit) {
+        return storeReadModelRepository.findStoreIdsToBuild(limit);
+    }
+
+    /**
+     * 재구성한 문서 저장
+     * @param expectedRevision 재구성 시작 시점의 revision (prepareRevision)
+     * @return 저장 여부 (그 사이 변경이 있었으면 false)
+     */
+    @Transactional
+    public boolean saveDocument(Long storeId, long expectedRevision, byte[] document) {
+        return storeReadModelRepository.updateDocument(storeId, expectedRevision, document, LocalDateTime.now()) > 0;
+    }
+
+    @Transactional
+    public void delete(Long storeId) {
+        storeReadModelRepository.deleteById(storeId);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.demo.domain.store.counter;
+
+import com.example.demo.domain.store.repository.StoreViewCountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 업소 조회 수 write-combining 카운터
+ * 상세 조회마다 store 행을 갱신하면 인기 업소 행 잠금에서 요청이 줄을 서므로, 업소별 LongAdder 에 모아 두었다가
+ * 전용 스레드가 주기적으로 증가분만 batch UPDATE (view_count = view_count + ?) 로 더한다.
+ *
+ * 반영에 성공한 증가분만 반영 완료로 표시하므로 DB 장애 중의 조회 수는 다음 주기에 함께 반영된다.
+ * 종료 단계는 웹 서버 graceful shutdown 이후라 처리 중이던 요청의 조회 수까지 마지막으로 반영한다.
+ * 추적 항목은 업소당 하나이므로 메모리는 업소 수에 비례한다.
+ */
+@Slf4j
+@Component
+public class StoreViewCounter implements SmartLifecycle {
+
+    // 웹 서버 종료(DEFAULT_PHASE - 1024 ~ - 2048) 이후에 멈추도록 더 낮은 단계 사용
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final StoreViewCountRepository storeViewCountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long flushIntervalMillis;
+    private final int batchSize;
+
+    private final ConcurrentHashMap<Long, ViewCount> counts = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter flushedCounter;
+    private final Counter flushFailureCounter;
+
+    private volatile ScheduledExecutorService flusher;
+
+    public StoreViewCounter(StoreViewCountRepository storeViewCountRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.store.view-count.flush-interval-ms:5000}") long flushIntervalMillis,
+                            @Value("${app.store.view-count.batch-size:500}") int batchSize) {
+        this.storeViewCountRepository = storeViewCountRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.batchSize = batchSize;
+
+        this.flushedCounter = Counter.builder("store.view_count.flushed")
+            .description("DB 에 반영된 업소 조회 수")
+            .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("store.view_count.flush.failures")
+            .description("업소 조회 수 반영 실패 횟수")
+            .register(meterRegistry);
+        Gauge.builder("store.view_count.pending", this, StoreViewCounter::pendingViews)
+            .description("아직 DB 에 반영되지 않은 업소 조회 수")
+            .register(meterRegistry);
+    }
+
+    public void increment(Long storeId) {
+        if (storeId == null) {
+            return;
+        }
+        counts.computeIfAbsent(storeId, id -> new ViewCount()).total.increment();
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "store-view-count");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        flusher = executor;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = flusher;
+        flusher = null;
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        long remaining = pendingViews();
+        if (remaining > 0) {
+            log.warn("종료 시 반영하지 못한 업소 조회 수: {}", remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return flusher != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * 마지막 반영 이후 증가분을 업소 ID 순 batch 로 반영
+     */
+    void flush() {
+        flushLock.lock();
+        try {
+            TreeMap<Long, ViewCount> changed = new TreeMap<>();
+            counts.forEach((storeId, count) -> {
+                if (count.delta() > 0) {
+                    changed.put(storeId, count);
+                }
+            });
+
+            List<Map.Entry<Long, ViewCount>> entries = new ArrayList<>(changed.entrySet());
+            for (int from = 0; from < entries.size(); from += batchSize) {
+                List<Map.Entry<Long, ViewCount>> batch = entries.subList(from, Math.min(from + batchSize, entries.size()));
+
+                // 반영 중 들어온 조회는 다음 주기에 반영되도록 증가분을 먼저 고정
+                Map<Long, Long> deltas = new TreeMap<>();
+                batch.forEach(entry -> deltas.put(entry.getKey(), entry.getValue().delta()));
+
+                // batch 가 일부만 반영된 채 실패하면 다음 주기에 중복으로 더해지므로 한 트랜잭션으로 묶는다
+                transactionTemplate.executeWithoutResult(status -> storeViewCountRepository.incrementAll(deltas));
+                long flushed = 0;
+                for (Map.Entry<Long, ViewCount> entry : batch) {
+                    long delta = deltas.get(entry.getKey());
+                    entry.getValue().flushed += delta;
+                    flushed += delta;
+                }
+                flushedCounter.increment(flushed);
+            }
+        } catch (RuntimeException e) {
+            flushFailureCounter.increment();
+            log.warn("업소 조회 수 반영 실패, 다음 주기에 재시도", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private long pendingViews() {
+        long pending = 0;
+        for (ViewCount count : counts.values()) {
+            pending += count.delta();
+        }
+        return pending;
+    }
+
+    private static final class ViewCount {
+
+        private final LongAdder total = new LongAdder();
+        // 반영 완료된 누적값 (flushLock 을 잡은 스레드만 갱신)
+        private volatile long flushed;
+
+        private long delta() {
+            return total.sum() - flushed;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.demo.domain.store.cursor;
+
+import com.example.demo.domain.store.exception.StoreErrorStatus;
+import com.example.demo.domain.store.exception.StoreHandler;
+import com.example.demo.domain.store.vo.NearbyCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 주변 업소 커서 문자열 변환 (HMAC-SHA256 서명, 설정 값에서 용도 라벨로 유도한 키 사용)
+ * 커서는 버전 1바이트, 거리(double), 업소 ID(long) 뒤에 서명 앞 16바이트를 붙여 URL-safe Base64 로 만든다.
+ * 서명에는 조회 조건(좌표, 반경, 필터)을 함께 넣으므로, 다른 조건의 요청에 커서를 옮겨 쓰거나 값을 고치면 검증에 실패한다.
+ */
+@Component
+public class NearbyCursorCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 1;
+    private static final int PAYLOAD_BYTES = 1 + Double.BYTES + Long.BYTES;
+    private static final int SIGNATURE_BYTES = 16;
+    private static final String KEY_LABEL = "store-nearby-cursor-v1";
+
+    private final SecretKeySpec key;
+
+    public NearbyCursorCodec(@Value("${app.store.nearby.cursor.secret}") String secret) {
+        this.key = deriveKey(secret);
+    }
+
+    public String encode(NearbyCursor cursor, String query) {
+        ByteBuffer buffer = ByteBuffer.allocate(PAYLOAD_BYTES + SIGNATURE_BYTES)
+            .put(VERSION)
+            .putDouble(cursor.distanceKm())
+            .putLong(cursor.storeId());
+        buffer.put(sign(buffer.array(), query));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * 커서 검증 및 복원 (형식이 다르거나 서명이 맞지 않으면 INVALID_NEARBY_CURSOR)
+     */
+    public NearbyCursor decode(String encoded, String query) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(encoded);
+        } catch (IllegalArgumentException e) {
+            throw new StoreHandler(StoreErrorStatus.INVALID_NEARBY_CURSOR);
+        }
+        if (bytes.length != PAYLOAD_BYTES + SIGNATURE_BYTES || bytes[0] != VERSION) {
+            throw new StoreHandler(StoreErrorStatus.INVALID_NEARBY_CURSOR);
+        }
+
+        byte[] signature = Arrays.copyOfRange(bytes, PAYLOAD_BYTES, bytes.length);
+        // 서명 비교 시간이 일치한 바이트 수에 따라 달라지지 않도록 MessageDigest.isEqual 사용
+        if (!MessageDigest.isEqual(signature, sign(bytes, query))) {
+            throw new StoreHandler(StoreErrorStatus.INVALID_NEARBY_CURSOR);
+        }
+
+        ByteBuffer payload = ByteBuffer.wrap(bytes, 1, PAYLOAD_BYTES - 1);
+        double distanceKm = payload.getDouble();
+        long storeId = payload.getLong();
+        if (!Double.isFinite(distanceKm) || distanceKm < 0) {
+            throw new StoreHandler(StoreErrorStatus.INVALID_NEARBY_CURSOR);
+        }
+        return new NearbyCursor(distanceKm, storeId);
+    }
+
+    /**
+     * 설정 값을 그대로 쓰지 않고 용도 라벨로 HMAC 한 하위 키를 서명 키로 사용
+     * 설정 값이 다른 용도(JWT 등)의 키와 같더라도, 커서 서명으로 그 용도의 서명을 만들거나 그 반대가 되지 않는다.
+     */
+    private static SecretKeySpec deriveKey(String secret) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return new SecretKeySpec(mac.doFinal(KEY_LABEL.getBytes(StandardCharsets.UTF_8)), ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("커서 서명 키 생성 실패", e);
+        }
+    }
+
+    private byte[] sign(byte[] bytes, String query) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(bytes, 0, PAYLOAD_BYTES);
+            mac.update(query.getBytes(StandardCharsets.UTF_8));
+            return Arrays.copyOf(mac.doFinal(), SIGNATURE_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("커서 서명 실패", e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.demo.domain.store.dictionary;
+
+import com.example.demo.domain.outbox.entity.ChangeType;
+import com.example.demo.domain.outbox.service.OutboxService;
+import com.example.demo.domain.store.adaptor.StoreReadModelAdaptor;
+import com.example.demo.domain.store.event.StoreCodesDeferredEvent;
+import com.example.demo.domain.store.repository.StoreCodeBulkRepository;
+import com.example.demo.domain.store.repository.StoreCodeBulkRepository.NamePair;
+import com.example.demo.domain.store.vo.CategoryCode;
+import com.example.demo.domain.store.vo.RegionCode;
+import com.example.demo.infrastructure.config.datasource.DataSourceRoutingContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 코드가 없는 업소의 지역/분류 코드 채우기
+ * 시작 시, 그리고 트랜잭션 안에서 코드 부여를 미룬 저장이 커밋된 뒤 코드가 없는 명칭 조합만 찾아 정규화 명칭과 코드로 UPDATE 한다.
+ * 명칭 조합마다 한 트랜잭션에서 대상 업소 ID 를 잠가 읽고, UPDATE 와 함께 아웃박스에 변경을 기록하고 상세 읽기 모델을 stale 로 표시한다.
+ * (커밋 후 캐시 무효화 메시지가 발행되어 지역 집계, 위치 인덱스도 바뀐 명칭으로 다시 읽는다)
+ * 사전에 없는 시도의 업소는 코드 없이 남으며 지역 조회 결과에 포함되지 않는다.
+ */
+@Slf4j
+@Component
+public class StoreCodeBackfill {
+
+    private final StoreCodeDictionary storeCodeDictionary;
+    private final StoreCodeBulkRepository storeCodeBulkRepository;
+    private final StoreReadModelAdaptor storeReadModelAdaptor;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transaction;
+    // 앞선 채우기가 읽은 뒤 커밋된 업소도 빠지지 않도록 동시에 실행하지 않고 차례로 실행한다
+    private final ReentrantLock backfillLock = new ReentrantLock();
+
+    public StoreCodeBackfill(StoreCodeDictionary storeCodeDictionary,
+                             StoreCodeBulkRepository storeCodeBulkRepository,
+                             StoreReadModelAdaptor storeReadModelAdaptor,
+                             OutboxService outboxService,
+                             PlatformTransactionManager transactionManager) {
+        this.storeCodeDictionary = storeCodeDictionary;
+        this.storeCodeBulkRepository = storeCodeBulkRepository;
+        this.storeReadModelAdaptor = storeReadModelAdaptor;
+        this.outboxService = outboxService;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        backfill();
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void backfillAfterCommit(StoreCodesDeferredEvent event) {
+        backfill();
+    }
+
+    public void backfill() {
+        backfillLock.lock();
+        try {
+            DataSourceRoutingContext.runOnPrimary(() -> {
+                int regions = backfillRegions();
+                int categories = backfillCategories();
+                if (regions > 0 || categories > 0) {
+                    log.info("업소 코드 채우기 완료 - 지역: {}건, 분류: {}건", regions, categories);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 다음 시작 또는 다음 미룬 저장 때 남은 업소만 다시 채운다
+            log.warn("업소 코드 채우기 실패", e);
+        } finally {
+            backfillLock.unlock();
+        }
+    }
+
+    private int backfillRegions() {
+        int updated = 0;
+        List<NamePair> regions = storeCodeBulkRepository.findUncodedRegions();
+        for (NamePair region : regions) {
+            RegionCode code = storeCodeDictionary.resolveRegion(region.first(), region.second());
+            if (code.sidoCode() == null) {
+                log.debug("사전에 없는 시도, 코드 없이 유지 - sido: {}", region.first());
+                continue;
+            }
+            updated += transaction.execute(status -> {
+                List<Long> storeIds = storeCodeBulkRepository.findUncodedRegionStoreIds(region);
+                if (storeIds.isEmpty()) {
+                    return 0;
+                }
+                int count = storeCodeBulkRepository.updateRegion(region, new NamePair(code.sido(), code.sigun()),
+                    code.sidoCode(), code.sigunCode());
+                recordChanged(storeIds);
+                return count;
+            });
+        }
+        return updated;
+    }
+
+    private int backfillCategories() {
+        int updated = 0;
+        List<NamePair> categories = storeCodeBulkRepository.findUncodedCategories();
+        for (NamePair category : categories) {
+            CategoryCode code = storeCodeDictionary.resolveCategory(category.first(), category.second());
+            if (code.majorCategoryCode() == null) {
+                continue;
+            }
+            NamePair normalized = new NamePair(code.majorCategory(), code.subCategory() != null ? code.subCategory() : category.second());
+            updated += transaction.execute(status -> {
+                List<Long> storeIds = storeCodeBulkRepository.findUncodedCategoryStoreIds(category);
+                if (storeIds.isEmpty()) {
+                    return 0;
+                }
+                int count = storeCodeBulkRepository.updateCategory(category, normalized,
+                    code.majorCategoryCode(), code.subCategoryCode());
+                recordChanged(storeIds);
+                return count;
+            });
+        }
+        return updated;
+    }
+
+    /**
+     * 명칭이 정규화되고 코드가 바뀐 업소를 아웃박스에 기록 (커밋 후 캐시 무효화) 하고 상세 읽기 모델을 stale 로 표시
+     * 업소 수만큼 비동기 재구성을 띄우지 않도록 상세 문서는 주기 작업이 다시 구성한다.
+     */
+    private void recordChanged(List<Long> storeIds) {
+        outboxService.recordStoresChanged(storeIds, ChangeType.UPDATED);
+        storeReadModelAdaptor.markStale(storeIds);
+    }
+}
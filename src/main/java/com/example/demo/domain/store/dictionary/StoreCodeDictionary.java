@@ -0,0 +1,311 @@
+package com.example.demo.domain.store.dictionary;
+
+import com.example.demo.domain.store.entity.Sido;
+import com.example.demo.domain.store.entity.StoreCode;
+import com.example.demo.domain.store.entity.StoreCodeType;
+import com.example.demo.domain.store.event.StoreCodesDeferredEvent;
+import com.example.demo.domain.store.repository.StoreCodeRepository;
+import com.example.demo.domain.store.util.StringInterner;
+import com.example.demo.domain.store.vo.CategoryCode;
+import com.example.demo.domain.store.vo.RegionCode;
+import com.example.demo.domain.store.vo.RegionName;
+import com.example.demo.infrastructure.config.datasource.DataSourceRoutingContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * 지역(시도/시군구)과 분류(대분류/소분류) 명칭 사전
+ * 입력 명칭의 공백을 정리하고 시도 약칭을 정식 명칭으로 맞춘 뒤 정수 코드를 부여한다.
+ * 시도는 Sido 의 법정동 코드를, 나머지는 store_code 테이블에 저장된 코드를 사용하며 처음 나온 명칭에는 새 코드를 부여한다.
+ * 반환하는 명칭은 StringInterner 로 공유 인스턴스를 사용한다.
+ * 다른 노드가 부여한 코드는 조회 조건에서 찾지 못했을 때 사전을 다시 읽어 반영한다 (miss-reload-interval-ms 에 한 번까지).
+ * 새 코드는 진행 중인 트랜잭션이 없을 때만 자체 트랜잭션으로 저장한다. 호출 측 트랜잭션 안에서는 커넥션을 하나 더 잡지 않도록
+ * 코드 없이 명칭만 돌려주고 StoreCodesDeferredEvent 를 발행하며, 커밋 후 StoreCodeBackfill 이 남은 업소에 코드를 채운다.
+ */
+@Slf4j
+@Component
+public class StoreCodeDictionary {
+
+    private static final int CHILD_RANGE = 1000;
+    private static final int MAX_ASSIGN_ATTEMPTS = 5;
+
+    private final StoreCodeRepository storeCodeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transaction;
+    private final long missReloadIntervalNanos;
+
+    private final Map<NameKey, Integer> codesByName = new ConcurrentHashMap<>();
+    // DB 저장을 감싸므로 synchronized 대신 사용 (가상 스레드가 캐리어 스레드에 고정되지 않도록)
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile boolean loaded;
+    private volatile long loadedAtNanos;
+
+    public StoreCodeDictionary(StoreCodeRepository storeCodeRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.store.code.miss-reload-interval-ms:5000}") long missReloadIntervalMillis) {
+        this.storeCodeRepository = storeCodeRepository;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.missReloadIntervalNanos = TimeUnit.MILLISECONDS.toNanos(missReloadIntervalMillis);
+    }
+
+    /**
+     * 지역 명칭 정규화 및 코드 부여 (저장용)
+     * 사전에 없는 시도는 코드 없이 공백만 정리한 명칭을 돌려준다.
+     * 시군구 코드 부여를 미루면 시도 코드도 비워, 코드 채우기 작업이 두 코드를 함께 채우도록 한다.
+     */
+    public RegionCode resolveRegion(String sido, String sigun) {
+        RegionName region = RegionName.of(sido, sigun);
+        Sido matched = Sido.fromName(region.sido());
+        if (matched == null) {
+            return new RegionCode(null, null, region.sido(), region.sigun());
+        }
+        if (region.sigun() == null) {
+            return new RegionCode(matched.getCode(), null, region.sido(), null);
+        }
+        Integer sigunCode = codeOf(StoreCodeType.SIGUN, matched.getCode(), region.sigun(), true);
+        if (sigunCode == null) {
+            return new RegionCode(null, null, region.sido(), region.sigun());
+        }
+        return new RegionCode(matched.getCode(), sigunCode, region.sido(), region.sigun());
+    }
+
+    /**
+     * 분류 명칭 정규화 및 코드 부여 (저장용)
+     * 소분류 코드 부여를 미루면 대분류 코드도 비운다.
+     */
+    public CategoryCode resolveCategory(String majorCategory, String subCategory) {
+        String majorName = normalizeName(majorCategory);
+        String subName = normalizeName(subCategory);
+        Integer majorCode = majorName == null ? null : codeOf(StoreCodeType.MAJOR_CATEGORY, StoreCode.ROOT, majorName, true);
+        Integer subCode = majorCode == null || subName == null ? null : codeOf(StoreCodeType.SUB_CATEGORY, majorCode, subName, true);
+        if (majorCode != null && subName != null && subCode == null) {
+            majorCode = null;
+        }
+        return new CategoryCode(majorCode, subCode, StringInterner.intern(majorName), StringInterner.intern(subName));
+    }
+
+    /**
+     * 지역 조회 조건을 코드 조건으로 변환 (코드를 부여하지 않는다)
+     * 시군만 주어지면 같은 이름의 모든 시도의 시군구 코드로 찾는다.
+     * 정확히 일치하는 명칭이 없으면 이전 LIKE 검색처럼 명칭 일부로 찾는다:
+     * 시도는 정식 명칭이나 약칭에 입력이 포함된 시도가 하나일 때만, 시군구는 입력을 포함하는 모든 시군구로 찾는다.
+     */
+    public RegionFilter regionFilter(String sido, String sigun) {
+        RegionName region = RegionName.of(sido, sigun);
+        String sidoName = region.sido();
+        String sigunName = region.sigun();
+
+        if (sidoName == null) {
+            if (sigunName == null) {
+                return RegionFilter.NONE;
+            }
+            return new RegionFilter(null, sigunCodesMatching(null, sigunName));
+        }
+
+        Sido matched = Sido.fromName(sidoName);
+        if (matched == null) {
+            matched = Sido.fromPartialName(sidoName);
+        }
+        if (matched == null) {
+            return RegionFilter.NONE;
+        }
+        if (sigunName == null) {
+            return new RegionFilter(matched.getCode(), null);
+        }
+        return new RegionFilter(matched.getCode(), sigunCodesMatching(matched.getCode(), sigunName));
+    }
+
+    /**
+     * 앞뒤 공백 제거, 연속 공백은 하나로 (비어 있으면 null)
+     */
+    public static String normalizeName(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().replaceAll("\\s+", " ");
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    /**
+     * 명칭이 같은 시군구 코드, 없으면 사전을 다시 읽은 뒤에도 없을 때 명칭에 입력이 포함된 시군구 코드
+     * @param sidoCode 시도 코드 (null 이면 모든 시도)
+     */
+    private List<Integer> sigunCodesMatching(Integer sidoCode, String sigunName) {
+        ensureLoaded();
+        List<Integer> codes = sigunCodes(sidoCode, sigunName::equals);
+        if (codes.isEmpty() && reloadAfterMiss()) {
+            codes = sigunCodes(sidoCode, sigunName::equals);
+        }
+        if (codes.isEmpty()) {
+            codes = sigunCodes(sidoCode, name -> name.contains(sigunName));
+        }
+        return codes;
+    }
+
+    private List<Integer> sigunCodes(Integer sidoCode, Predicate<String> nameMatcher) {
+        return codesByName.entrySet().stream()
+            .filter(entry -> entry.getKey().type() == StoreCodeType.SIGUN)
+            .filter(entry -> sidoCode == null || entry.getKey().parentCode() == sidoCode)
+            .filter(entry -> nameMatcher.test(entry.getKey().name()))
+            .map(Map.Entry::getValue)
+            .sorted()
+            .toList();
+    }
+
+    /**
+     * 조회 조건의 명칭을 찾지 못했을 때 다른 노드가 부여한 코드가 있을 수 있으므로 사전을 다시 읽는다
+     * 없는 명칭으로 반복 조회해도 DB 를 매번 읽지 않도록 마지막 적재 후 일정 시간이 지났을 때만 읽는다.
+     * @return 다시 읽었으면 true
+     */
+    private boolean reloadAfterMiss() {
+        if (System.nanoTime() - loadedAtNanos < missReloadIntervalNanos) {
+            return false;
+        }
+        writeLock.lock();
+        try {
+            if (System.nanoTime() - loadedAtNanos < missReloadIntervalNanos) {
+                // 기다리는 동안 다른 스레드가 다시 읽었다
+                return true;
+            }
+            load(false);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Integer codeOf(StoreCodeType type, int parentCode, String name, boolean assign) {
+        ensureLoaded();
+        NameKey key = new NameKey(type, parentCode, name);
+        Integer code = codesByName.get(key);
+        if (code != null || !assign) {
+            return code;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // 별도 트랜잭션으로 저장하면 호출 측 커넥션을 잡은 채 커넥션을 하나 더 쓰게 되므로 커밋 후로 미룬다
+            log.debug("트랜잭션 안에서 새 명칭, 코드 부여를 커밋 후로 미룸 - type: {}, name: {}", key.type(), key.name());
+            eventPublisher.publishEvent(new StoreCodesDeferredEvent());
+            return null;
+        }
+        return assign(key);
+    }
+
+    private Integer assign(NameKey key) {
+        writeLock.lock();
+        try {
+            for (int attempt = 0; attempt < MAX_ASSIGN_ATTEMPTS; attempt++) {
+                Integer existing = codesByName.get(key);
+                if (existing != null) {
+                    return existing;
+                }
+
+                Integer next = nextCode(key);
+                if (next == null) {
+                    log.warn("코드 범위 초과로 코드 없이 저장 - type: {}, parent: {}, name: {}", key.type(), key.parentCode(), key.name());
+                    return null;
+                }
+                StoreCode storeCode = StoreCode.builder()
+                    .codeType(key.type())
+                    .code(next)
+                    .parentCode(key.parentCode())
+                    .name(key.name())
+                    .build();
+                try {
+                    transaction.executeWithoutResult(status -> storeCodeRepository.save(storeCode));
+                    codesByName.put(key, next);
+                    return next;
+                } catch (DataIntegrityViolationException e) {
+                    // 다른 노드가 같은 명칭을 먼저 저장했으면 다시 읽은 사전에서 그 코드를 쓰고,
+                    // 같은 코드를 다른 명칭에 먼저 부여했으면 다시 읽은 사전 기준의 다음 코드로 재시도한다
+                    log.info("코드 부여 충돌, 사전을 다시 읽음 - type: {}, code: {}, name: {}", key.type(), next, key.name());
+                    load(true);
+                }
+            }
+            log.warn("코드 부여 재시도 초과로 코드 없이 저장 - type: {}, parent: {}, name: {}", key.type(), key.parentCode(), key.name());
+            return codesByName.get(key);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 같은 상위 코드 안의 다음 코드 (하위 코드는 상위 코드 x 1000 + 1..999)
+     */
+    private Integer nextCode(NameKey key) {
+        boolean child = key.parentCode() != StoreCode.ROOT;
+        int base = child ? key.parentCode() * CHILD_RANGE : 0;
+        int max = base;
+        for (Map.Entry<NameKey, Integer> entry : codesByName.entrySet()) {
+            if (entry.getKey().type() == key.type() && entry.getKey().parentCode() == key.parentCode()) {
+                max = Math.max(max, entry.getValue());
+            }
+        }
+        int next = max + 1;
+        if (child && next >= base + CHILD_RANGE) {
+            return null;
+        }
+        return next;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (!loaded) {
+                load(false);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 사전 전체 적재
+     * 코드 부여 충돌 직후에는 다른 노드가 방금 저장한 코드를 읽어야 하므로 primary 에서, 그 밖에는 레플리카에서 읽는다.
+     * (레플리카 지연으로 빠진 코드는 부여 시 충돌로 드러나 primary 에서 다시 읽는다)
+     */
+    private void load(boolean primary) {
+        List<StoreCode> codes = primary
+            ? DataSourceRoutingContext.callOnPrimary(storeCodeRepository::findAll)
+            : storeCodeRepository.findAll();
+        for (StoreCode code : codes) {
+            codesByName.put(new NameKey(code.getCodeType(), code.getParentCode(), StringInterner.intern(code.getName())), code.getCode());
+        }
+        loaded = true;
+        loadedAtNanos = System.nanoTime();
+        log.info("업소 코드 사전 적재 완료: {}개", codes.size());
+    }
+
+    /**
+     * 지역 코드 조회 조건
+     * sigunCodes 가 있으면 시군구 코드로(빈 목록이면 결과 없음), 없으면 sidoCode 로 찾는다. 둘 다 없으면 결과 없음.
+     */
+    public record RegionFilter(Integer sidoCode, List<Integer> sigunCodes) {
+
+        public static final RegionFilter NONE = new RegionFilter(null, List.of());
+
+        public boolean matchesNothing() {
+            return sigunCodes != null ? sigunCodes.isEmpty() : sidoCode == null;
+        }
+    }
+
+    private record NameKey(StoreCodeType type, int parentCode, String name) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.demo.domain.store.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시도 (법정동코드 앞 2자리)
+ * 엑셀/요청에서 들어오는 약칭(서울, 경기 등)과 개편 전 명칭(강원도, 전라북도)을 정식 명칭으로 맞춘다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Sido {
+    SEOUL(11, "서울특별시", List.of("서울", "서울시")),
+    BUSAN(26, "부산광역시", List.of("부산", "부산시")),
+    DAEGU(27, "대구광역시", List.of("대구", "대구시")),
+    INCHEON(28, "인천광역시", List.of("인천", "인천시")),
+    GWANGJU(29, "광주광역시", List.of("광주", "광주시")),
+    DAEJEON(30, "대전광역시", List.of("대전", "대전시")),
+    ULSAN(31, "울산광역시", List.of("울산", "울산시")),
+    SEJONG(36, "세종특별자치시", List.of("세종", "세종시")),
+    GYEONGGI(41, "경기도", List.of("경기")),
+    CHUNGBUK(43, "충청북도", List.of("충북")),
+    CHUNGNAM(44, "충청남도", List.of("충남")),
+    JEONNAM(46, "전라남도", List.of("전남")),
+    GYEONGBUK(47, "경상북도", List.of("경북")),
+    GYEONGNAM(48, "경상남도", List.of("경남")),
+    JEJU(50, "제주특별자치도", List.of("제주", "제주도")),
+    GANGWON(51, "강원특별자치도", List.of("강원", "강원도")),
+    JEONBUK(52, "전북특별자치도", List.of("전북", "전라북도"));
+
+    private final int code;
+    private final String officialName;
+    private final List<String> aliases;
+
+    private static final Map<String, Sido> BY_NAME = new HashMap<>();
+    private static final Map<Integer, Sido> BY_CODE = new HashMap<>();
+
+    static {
+        for (Sido sido : values()) {
+            BY_NAME.put(sido.officialName, sido);
+            sido.aliases.forEach(alias -> BY_NAME.put(alias, sido));
+            BY_CODE.put(sido.code, sido);
+        }
+    }
+
+    /**
+     * 명칭(약칭 포함)으로 시도 조회, 공백은 무시한다. (없으면 null)
+     */
+    public static Sido fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        return BY_NAME.get(name.replaceAll("\\s+", ""));
+    }
+
+    /**
+     * 정식 명칭이나 약칭에 입력이 포함된 시도 (공백 무시, 해당하는 시도가 하나가 아니면 null)
+     */
+    public static Sido fromPartialName(String name) {
+        if (name == null) {
+            return null;
+        }
+        String compact = name.replaceAll("\\s+", "");
+        if (compact.isEmpty()) {
+            return null;
+        }
+        Sido found = null;
+        for (Sido sido : values()) {
+            boolean contains = sido.officialName.contains(compact)
+                || sido.aliases.stream().anyMatch(alias -> alias.contains(compact));
+            if (!contains) {
+                continue;
+            }
+            if (found != null) {
+                return null;
+            }
+            found = sido;
+        }
+        return found;
+    }
+
+    /**
+     * 약칭을 정식 명칭으로 바꾼 값 (사전에 없으면 그대로)
+     */
+    public static String canonicalName(String name) {
+        Sido sido = fromName(name);
+        return sido != null ? sido.officialName : name;
+    }
+
+    public static Sido fromCode(Integer code) {
+        return code == null ? null : BY_CODE.get(code);
+    }
+}
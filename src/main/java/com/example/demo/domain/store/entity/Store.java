@@ -3,6 +3,8 @@ package com.example.demo.domain.store.entity;
 import com.example.demo.domain.auditing.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import com.example.demo.domain.store.util.DistanceUtils;
+import com.example.demo.domain.store.vo.CategoryCode;
+import com.example.demo.domain.store.vo.RegionCode;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
@@ -21,7 +23,10 @@ import java.util.List;
         @Index(name = "idx_store_name", columnList = "storeName"),
         @Index(name = "idx_store_category", columnList = "category"),
         @Index(name = "idx_store_sido_sigun", columnList = "sido, sigun"),
-        @Index(name = "idx_store_coordinates", columnList = "latitude, longitude")
+        @Index(name = "idx_store_coordinates", columnList = "latitude, longitude"),
+        @Index(name = "idx_store_region_code", columnList = "sido_code, sigun_code"),
+        @Index(name = "idx_store_sigun_code", columnList = "sigun_code"),
+        @Index(name = "idx_store_category_code", columnList = "major_category_code, sub_category_code")
     }
 )
 public class Store extends BaseTimeEntity {
@@ -51,6 +56,19 @@ public class Store extends BaseTimeEntity {
     @Embedded
     private Address address;
 
+    // StoreCodeDictionary 가 부여한 지역/분류 코드 (조회 조건은 문자열 대신 이 코드로 비교)
+    @Column(name = "sido_code")
+    private Integer sidoCode;
+
+    @Column(name = "sigun_code")
+    private Integer sigunCode;
+
+    @Column(name = "major_category_code")
+    private Integer majorCategoryCode;
+
+    @Column(name = "sub_category_code")
+    private Integer subCategoryCode;
+
     @OneToMany(mappedBy = "store", fetch = FetchType.LAZY)
     @Builder.Default
     private List<StoreMenu> menus = new ArrayList<>();
@@ -59,6 +77,11 @@ public class Store extends BaseTimeEntity {
     @Builder.Default
     private boolean isActive = true;
 
+    // StoreViewCounter 가 모아서 더하므로 JPA 로는 쓰지 않는다 (엔티티 저장 시 누적값 덮어쓰기 방지)
+    @Column(name = "view_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint not null default 0")
+    private long viewCount;
+
     public void addMenu(String menuName, BigDecimal price) {
         addMenu(menuName, price, this.menus.size() + 1);
     }
@@ -90,6 +113,10 @@ public class Store extends BaseTimeEntity {
             .majorCategory(this.majorCategory)
             .subCategory(this.subCategory)
             .address(this.address)
+            .sidoCode(this.sidoCode)
+            .sigunCode(this.sigunCode)
+            .majorCategoryCode(this.majorCategoryCode)
+            .subCategoryCode(this.subCategoryCode)
             .menus(this.menus)
             .isActive(this.isActive)
             .build();
@@ -166,6 +193,32 @@ public class Store extends BaseTimeEntity {
             .build();
     }
 
+    /**
+     * 정규화된 지역 명칭과 코드 반영
+     */
+    public void applyRegionCode(RegionCode regionCode) {
+        if (this.address != null) {
+            this.address = new Address(regionCode.sido(), regionCode.sigun(), this.address.getFullAddress(),
+                this.address.getLatitude(), this.address.getLongitude());
+        }
+        this.sidoCode = regionCode.sidoCode();
+        this.sigunCode = regionCode.sigunCode();
+    }
+
+    /**
+     * 정규화된 분류 명칭과 코드 반영
+     */
+    public void applyCategoryCode(CategoryCode categoryCode) {
+        if (categoryCode.majorCategory() != null) {
+            this.majorCategory = categoryCode.majorCategory();
+        }
+        if (categoryCode.subCategory() != null) {
+            this.subCategory = categoryCode.subCategory();
+        }
+        this.majorCategoryCode = categoryCode.majorCategoryCode();
+        this.subCategoryCode = categoryCode.subCategoryCode();
+    }
+
     public void updateCategories(String majorCategory, String subCategory) {
         this.majorCategory = majorCategory != null ? majorCategory.trim() : this.majorCategory;
         this.subCategory = subCategory != null ? subCategory.trim() : this.subCategory;
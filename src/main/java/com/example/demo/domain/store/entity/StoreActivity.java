@@ -0,0 +1,46 @@
+package com.example.demo.domain.store.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업소별 시간 구간 활동량 (조회 수, 리뷰 작성 수)
+ * TrendingStoreCounter 가 구간별 증가분을 모아 upsert 하므로 애플리케이션에서 직접 저장하지 않는다.
+ * 여러 노드의 증가분이 같은 행에 합산되므로 노드 전체 기준 통계로 사용한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "store_activity",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_store_activity_store_bucket", columnNames = {"store_id", "bucket_start"})
+    },
+    indexes = {
+        @Index(name = "idx_store_activity_bucket_start", columnList = "bucket_start")
+    }
+)
+public class StoreActivity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "store_activity_id")
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    // 구간 시작 시각 (app.store.trending.bucket-seconds 단위)
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+}
@@ -0,0 +1,48 @@
+package com.example.demo.domain.store.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지역/분류 명칭 사전 (명칭 → 정수 코드)
+ * 시군구 코드는 시도 코드 x 1000 + 순번, 소분류 코드는 대분류 코드 x 1000 + 순번으로 상위 코드를 앞자리에 담는다.
+ * 최상위(대분류)의 parentCode 는 0 이다. 코드는 StoreCodeDictionary 가 처음 나온 명칭에 부여하며 바꾸지 않는다.
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "store_code",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_store_code_type_code", columnNames = {"code_type", "code"}),
+        @UniqueConstraint(name = "uk_store_code_type_parent_name", columnNames = {"code_type", "parent_code", "name"})
+    }
+)
+public class StoreCode {
+
+    public static final int ROOT = 0;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "store_code_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "code_type", nullable = false, length = 20)
+    private StoreCodeType codeType;
+
+    @Column(name = "code", nullable = false)
+    private Integer code;
+
+    @Column(name = "parent_code", nullable = false)
+    private Integer parentCode;
+
+    @Column(name = "name", nullable = false, length = 50)
+    private String name;
+}
@@ -0,0 +1,17 @@
+package com.example.demo.domain.store.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업소 코드 사전 구분 (시도는 Sido 고정 코드를 사용하므로 사전에 저장하지 않는다)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StoreCodeType {
+    SIGUN("시군구"),
+    MAJOR_CATEGORY("대분류"),
+    SUB_CATEGORY("소분류");
+
+    private final String description;
+}
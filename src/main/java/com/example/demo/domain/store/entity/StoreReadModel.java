@@ -0,0 +1,42 @@
+package com.example.demo.domain.store.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업소 상세 조회용 읽기 모델
+ * 상세 응답(ApiResponseDto 포함)을 미리 직렬화한 JSON 바이트를 업소 ID 기준으로 보관한다.
+ * 업소/메뉴/리뷰(작성자 닉네임 포함) 변경 시 stale 로 표시되고 revision 이 증가하며, 비동기로 재구성된다.
+ * 문서가 아직 없는 업소는 빈 stale 행으로 먼저 자리를 잡아 두고, 재구성은 항상 revision 조건으로 저장한다.
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "store_read_model")
+public class StoreReadModel {
+
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @Lob
+    @Column(name = "document", nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] document;
+
+    @Column(name = "stale", nullable = false)
+    private boolean stale;
+
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
+    @Column(name = "built_at", nullable = false)
+    private LocalDateTime builtAt;
+}
@@ -0,0 +1,8 @@
+package com.example.demo.domain.store.event;
+
+/**
+ * 트랜잭션 안에서 처음 나온 지역/분류 명칭의 코드 부여를 미뤘음을 알리는 이벤트
+ * 업소는 코드 없이 저장되며, 커밋 후 코드 채우기 작업이 남은 업소에 코드를 부여한다.
+ */
+public record StoreCodesDeferredEvent() {
+}
@@ -0,0 +1,8 @@
+package com.example.demo.domain.store.event;
+
+/**
+ * 업소 상세 화면에 노출되는 데이터(업소, 메뉴, 리뷰)가 변경되었음을 알리는 이벤트
+ * 트랜잭션 안에서 발행하며, 상세 읽기 모델이 커밋 전 stale 표시 / 커밋 후 재구성에 사용한다.
+ */
+public record StoreDetailChangedEvent(Long storeId) {
+}
@@ -26,7 +26,15 @@ public enum StoreErrorStatus implements BaseCode {
     INVALID_LIMIT(BAD_REQUEST, 4310, "유효하지 않은 조회 제한값입니다. (1 ~ 100)"),
     INVALID_FILE_FORMAT(BAD_REQUEST, 4311, "유효하지 않은 파일 형식입니다."),
     FILE_PROCESS_ERROR(INTERNAL_SERVER_ERROR, 4312, "파일 처리 중 오류가 발생했습니다."),
-    DATABASE_ERROR(INTERNAL_SERVER_ERROR, 4313, "데이터베이스 처리 중 오류가 발생했습니다.")
+    DATABASE_ERROR(INTERNAL_SERVER_ERROR, 4313, "데이터베이스 처리 중 오류가 발생했습니다."),
+    INVALID_ZOOM_LEVEL(BAD_REQUEST, 4314, "유효하지 않은 지도 줌 레벨입니다. (0 ~ 21)"),
+    INVALID_TILE_COORDINATES(BAD_REQUEST, 4315, "유효하지 않은 타일 좌표입니다."),
+    STORE_DETAIL_TIMEOUT(SERVICE_UNAVAILABLE, 4316, "업소 정보 조회가 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_RANKING_SCOPE(BAD_REQUEST, 4317, "유효하지 않은 순위 조회 조건입니다. (지역과 업종 중 하나만, 시군은 시도와 함께 지정)"),
+    INVALID_PAGE(BAD_REQUEST, 4318, "유효하지 않은 페이지 번호입니다."),
+    INVALID_REGION_FILTER(BAD_REQUEST, 4319, "시군은 시도와 함께 지정해야 합니다."),
+    INVALID_NEARBY_CURSOR(BAD_REQUEST, 4320, "유효하지 않은 커서입니다. 처음부터 다시 조회해주세요."),
+    UNSUPPORTED_NEARBY_CURSOR(BAD_REQUEST, 4321, "관련도 정렬은 커서 조회를 지원하지 않습니다.")
     ;
 
     private final HttpStatus httpStatus;
@@ -0,0 +1,122 @@
+package com.example.demo.domain.store.index;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * 업소 순번(ordinal) 비트맵 연산 (long[] 워드 배열)
+ * 순번이 0부터 빈틈없이 부여되므로 별도 압축 없이도 업소 1만 개당 약 1.2KB 이다.
+ * 패싯 인덱스의 비트맵은 공유 후 수정하지 않으며, 변경 시에는 복사본을 만든다.
+ */
+final class OrdinalBitmap {
+
+    static final long[] EMPTY = new long[0];
+
+    private OrdinalBitmap() {}
+
+    static long[] create(int capacity) {
+        return new long[wordCount(capacity)];
+    }
+
+    /**
+     * 제자리 설정 (구성 중인 비트맵 전용, 길이가 부족하면 늘린 배열 반환)
+     */
+    static long[] set(long[] words, int ordinal) {
+        int index = ordinal >>> 6;
+        long[] target = index < words.length ? words : Arrays.copyOf(words, Math.max(index + 1, words.length * 2));
+        target[index] |= 1L << ordinal;
+        return target;
+    }
+
+    static long[] withBit(long[] words, int ordinal) {
+        int index = ordinal >>> 6;
+        long[] copy = Arrays.copyOf(words, Math.max(words.length, index + 1));
+        copy[index] |= 1L << ordinal;
+        return copy;
+    }
+
+    static long[] withoutBit(long[] words, int ordinal) {
+        int index = ordinal >>> 6;
+        if (index >= words.length) {
+            return words;
+        }
+        long[] copy = words.clone();
+        copy[index] &= ~(1L << ordinal);
+        return copy;
+    }
+
+    static boolean get(long[] words, int ordinal) {
+        int index = ordinal >>> 6;
+        return index < words.length && (words[index] & (1L << ordinal)) != 0;
+    }
+
+    static long[] and(long[] left, long[] right) {
+        int length = Math.min(left.length, right.length);
+        long[] result = new long[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = left[i] & right[i];
+        }
+        return result;
+    }
+
+    static long[] andNot(long[] left, long[] right) {
+        long[] result = left.clone();
+        int length = Math.min(left.length, right.length);
+        for (int i = 0; i < length; i++) {
+            result[i] &= ~right[i];
+        }
+        return result;
+    }
+
+    /**
+     * 교집합 크기 (중간 배열을 만들지 않는다)
+     */
+    static int andCardinality(long[] left, long[] right) {
+        int length = Math.min(left.length, right.length);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            count += Long.bitCount(left[i] & right[i]);
+        }
+        return count;
+    }
+
+    static int cardinality(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * 설정된 비트를 오름차순으로 skip 개 건너뛴 뒤 visitor 가 false 를 반환할 때까지 전달
+     */
+    static void forEach(long[] words, int skip, IntPredicate visitor) {
+        int remainingSkip = skip;
+        for (int index = 0; index < words.length; index++) {
+            long word = words[index];
+            if (remainingSkip > 0) {
+                int bits = Long.bitCount(word);
+                if (bits <= remainingSkip) {
+                    remainingSkip -= bits;
+                    continue;
+                }
+            }
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                if (remainingSkip > 0) {
+                    remainingSkip--;
+                    continue;
+                }
+                if (!visitor.test((index << 6) + bit)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static int wordCount(int capacity) {
+        return Math.max(1, (capacity + 63) >>> 6);
+    }
+}
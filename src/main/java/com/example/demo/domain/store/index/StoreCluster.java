@@ -0,0 +1,21 @@
+package com.example.demo.domain.store.index;
+
+import com.example.demo.domain.store.entity.Category;
+
+/**
+ * 지도 클러스터 (격자 셀 단위 업소 묶음)
+ * 단일 업소 클러스터인 경우에만 업소 정보가 채워진다.
+ */
+public record StoreCluster(
+    double latitude,
+    double longitude,
+    int count,
+    Long storeId,
+    String storeName,
+    Category category
+) {
+
+    public boolean isSingleStore() {
+        return count == 1;
+    }
+}
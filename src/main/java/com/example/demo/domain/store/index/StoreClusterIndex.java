@@ -0,0 +1,164 @@
+package com.example.demo.domain.store.index;
+
+import com.example.demo.domain.store.util.MercatorUtils;
+import com.example.demo.domain.store.vo.CoordinateRange;
+import com.example.demo.domain.store.vo.StoreSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 줌 레벨별 격자 클러스터 인덱스
+ * 웹 메르카토르 평면을 줌 레벨마다 (2^zoom * CELLS_PER_TILE)^2 격자로 나누어 셀 단위로 업소를 묶고,
+ * 셀별 업소 수와 무게중심을 줌 레벨마다 한 번만 계산해 스냅샷 버전이 바뀔 때까지 재사용한다.
+ * 계산한 클러스터는 같은 줌 레벨의 타일 단위 버킷에 나눠 두고, 뷰포트가 걸친 타일의 버킷만 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreClusterIndex {
+
+    public static final int MIN_ZOOM = 0;
+    public static final int MAX_ZOOM = 21;
+
+    // 이 줌 레벨을 초과하면 클러스터링 없이 개별 업소를 반환
+    private static final int CLUSTER_MAX_ZOOM = 16;
+    // 256px 타일 한 장을 4x4 격자(64px 셀)로 나눔
+    private static final int CELLS_PER_TILE = 4;
+
+    private final StoreLocationIndex storeLocationIndex;
+    private final Map<Integer, ClusterLevel> levels = new ConcurrentHashMap<>();
+
+    /**
+     * 뷰포트 안에 무게중심이 위치한 클러스터 조회
+     */
+    public List<StoreCluster> queryClusters(CoordinateRange viewport, int zoom) {
+        StoreLocationIndex.Snapshot snapshot = storeLocationIndex.snapshot();
+        int levelZoom = Math.min(zoom, CLUSTER_MAX_ZOOM + 1);
+
+        ClusterLevel level = levels.get(levelZoom);
+        if (level == null || level.version() != snapshot.version()) {
+            level = new ClusterLevel(snapshot.version(), levelZoom, buildClusters(snapshot, levelZoom));
+            levels.put(levelZoom, level);
+        }
+
+        return level.query(viewport);
+    }
+
+    private List<StoreCluster> buildClusters(StoreLocationIndex.Snapshot snapshot, int zoom) {
+        if (zoom > CLUSTER_MAX_ZOOM) {
+            return snapshot.stores().stream()
+                .map(store -> new StoreCluster(store.latitude(), store.longitude(), 1,
+                    store.storeId(), store.storeName(), store.category()))
+                .toList();
+        }
+
+        long cellsPerAxis = (1L << zoom) * CELLS_PER_TILE;
+        Map<Long, CellAccumulator> cells = new HashMap<>();
+        for (StoreSummary store : snapshot.stores()) {
+            long cellX = (long) (MercatorUtils.toNormalizedX(store.longitude()) * cellsPerAxis);
+            long cellY = (long) (MercatorUtils.toNormalizedY(store.latitude()) * cellsPerAxis);
+            cells.computeIfAbsent(cellY * cellsPerAxis + cellX, key -> new CellAccumulator()).add(store);
+        }
+
+        List<StoreCluster> clusters = new ArrayList<>(cells.size());
+        for (CellAccumulator cell : cells.values()) {
+            clusters.add(cell.toCluster());
+        }
+        return List.copyOf(clusters);
+    }
+
+    /**
+     * 줌 레벨 하나의 클러스터 (무게중심이 속한 타일 단위로 버킷에 나눠 보관)
+     * 클러스터 레벨에서는 타일 하나에 셀이 CELLS_PER_TILE^2 개뿐이라 버킷마다 클러스터가 많지 않다.
+     */
+    private static final class ClusterLevel {
+        private final long version;
+        private final long tilesPerAxis;
+        private final Map<Long, List<StoreCluster>> buckets;
+
+        ClusterLevel(long version, int zoom, List<StoreCluster> clusters) {
+            this.version = version;
+            this.tilesPerAxis = 1L << zoom;
+            Map<Long, List<StoreCluster>> grouped = new HashMap<>();
+            for (StoreCluster cluster : clusters) {
+                long tileX = tileIndex(MercatorUtils.toNormalizedX(cluster.longitude()));
+                long tileY = tileIndex(MercatorUtils.toNormalizedY(cluster.latitude()));
+                grouped.computeIfAbsent(tileY * tilesPerAxis + tileX, key -> new ArrayList<>()).add(cluster);
+            }
+            this.buckets = grouped;
+        }
+
+        long version() {
+            return version;
+        }
+
+        List<StoreCluster> query(CoordinateRange viewport) {
+            // 북쪽이 y = 0 이므로 최대 위도가 최소 타일 y
+            long minTileX = tileIndex(MercatorUtils.toNormalizedX(viewport.getMinLongitude()));
+            long maxTileX = tileIndex(MercatorUtils.toNormalizedX(viewport.getMaxLongitude()));
+            long minTileY = tileIndex(MercatorUtils.toNormalizedY(viewport.getMaxLatitude()));
+            long maxTileY = tileIndex(MercatorUtils.toNormalizedY(viewport.getMinLatitude()));
+
+            List<StoreCluster> result = new ArrayList<>();
+            long tileCount = (maxTileX - minTileX + 1) * (maxTileY - minTileY + 1);
+            if (tileCount > buckets.size()) {
+                // 뷰포트가 채워진 버킷 수보다 많은 타일에 걸치면 버킷을 직접 훑는 편이 빠르다
+                buckets.values().forEach(bucket -> collect(bucket, viewport, result));
+                return result;
+            }
+            for (long tileY = minTileY; tileY <= maxTileY; tileY++) {
+                for (long tileX = minTileX; tileX <= maxTileX; tileX++) {
+                    List<StoreCluster> bucket = buckets.get(tileY * tilesPerAxis + tileX);
+                    if (bucket != null) {
+                        collect(bucket, viewport, result);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private long tileIndex(double normalized) {
+            return Math.min(tilesPerAxis - 1, (long) (normalized * tilesPerAxis));
+        }
+
+        private static void collect(List<StoreCluster> bucket, CoordinateRange viewport, List<StoreCluster> result) {
+            for (StoreCluster cluster : bucket) {
+                if (viewport.contains(cluster.latitude(), cluster.longitude())) {
+                    result.add(cluster);
+                }
+            }
+        }
+    }
+
+    /**
+     * 셀 단위 누적기 (업소 수, 좌표 합)
+     */
+    private static class CellAccumulator {
+        private int count;
+        private double latitudeSum;
+        private double longitudeSum;
+        private StoreSummary first;
+
+        void add(StoreSummary store) {
+            if (first == null) {
+                first = store;
+            }
+            count++;
+            latitudeSum += store.latitude();
+            longitudeSum += store.longitude();
+        }
+
+        StoreCluster toCluster() {
+            if (count == 1) {
+                return new StoreCluster(first.latitude(), first.longitude(), 1,
+                    first.storeId(), first.storeName(), first.category());
+            }
+            return new StoreCluster(latitudeSum / count, longitudeSum / count, count, null, null, null);
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package com.example.demo.domain.store.index;
+
+import com.example.demo.domain.store.adaptor.StoreAdaptor;
+import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.event.StoreChangedEvent;
+import com.example.demo.domain.store.vo.StoreFacetCondition;
+import com.example.demo.domain.store.vo.StoreSummary;
+import com.example.demo.infrastructure.config.datasource.DataSourceRoutingContext;
+import com.example.demo.infrastructure.config.datasource.RecentChangeTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * 업소 패싯 인덱스 (업종, 대/소분류, 시도, 시군, 활성 여부)
+ * 업소마다 순번(ordinal)을 부여하고 값마다 순번 비트맵을 두어, 필터 조합은 비트맵 AND 로,
+ * 화면용 항목별 업소 수는 교집합 크기로 계산한다. (GROUP BY / LIKE 조회 없이 메모리에서 처리)
+ *
+ * 시작 시 전체 업소로 구성하고, 아웃박스 업소 변경 이벤트마다 해당 업소만 다시 읽어 바뀐 비트맵만 복사해 교체한다.
+ * 조회는 불변 스냅샷을 읽으므로 잠금이 없다. 삭제된 업소의 순번은 재사용하지 않으며 최대 보관 시간이 지나면 재구성한다.
+ */
+@Slf4j
+@Component
+public class StoreFacetIndex {
+
+    private final StoreAdaptor storeAdaptor;
+    private final Duration maxAge;
+
+    // DB 조회를 감싸므로 synchronized 대신 사용 (가상 스레드가 캐리어 스레드에 고정되지 않도록)
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final RecentChangeTracker<Long> recentChanges = new RecentChangeTracker<>();
+    private volatile Facets facets;
+
+    public StoreFacetIndex(StoreAdaptor storeAdaptor,
+                           @Value("${app.store.facet.max-age-seconds:3600}") long maxAgeSeconds) {
+        this.storeAdaptor = storeAdaptor;
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+    }
+
+    /**
+     * 조건에 맞는 업소 수, 항목별 업소 수, 업소 목록(순번 순 offset 부터 limit 개)
+     * 항목별 업소 수는 해당 항목 자신의 조건을 뺀 나머지 조건 기준이다. (선택을 바꿨을 때의 결과 수)
+     * 시군별 업소 수는 시도 조건이 있을 때만 계산한다.
+     */
+    public FacetResult query(StoreFacetCondition condition, int offset, int limit) {
+        Facets current = current();
+
+        long[] base = current.base(condition.active());
+        long[] category = condition.category() == null ? null : current.categories.getOrDefault(condition.category(), OrdinalBitmap.EMPTY);
+        long[] major = condition.majorCategory() == null ? null : current.majorCategories.getOrDefault(condition.majorCategory(), OrdinalBitmap.EMPTY);
+        long[] sub = condition.subCategory() == null ? null : current.subCategories.getOrDefault(condition.subCategory(), OrdinalBitmap.EMPTY);
+        long[] sido = condition.sido() == null ? null : current.sidos.getOrDefault(condition.sido(), OrdinalBitmap.EMPTY);
+        long[] sigun = condition.sigun() == null ? null : current.siguns.getOrDefault(sigunKey(condition.sido(), condition.sigun()), OrdinalBitmap.EMPTY);
+
+        long[] matched = intersect(base, category, major, sub, sido, sigun);
+
+        List<StoreSummary> stores = new ArrayList<>(limit);
+        OrdinalBitmap.forEach(matched, offset, ordinal -> {
+            stores.add(current.stores[ordinal]);
+            return stores.size() < limit;
+        });
+
+        Map<String, Integer> sigunCounts = Map.of();
+        if (condition.sido() != null) {
+            String prefix = condition.sido() + "/";
+            sigunCounts = counts(intersect(base, category, major, sub, sido, null), current.siguns).entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .collect(toOrderedMap(entry -> entry.getKey().substring(prefix.length())));
+        }
+
+        return new FacetResult(
+            OrdinalBitmap.cardinality(matched),
+            counts(intersect(base, null, major, sub, sido, sigun), current.categories),
+            counts(intersect(base, category, null, sub, sido, sigun), current.majorCategories),
+            counts(intersect(base, category, major, null, sido, sigun), current.subCategories),
+            counts(intersect(base, category, major, sub, null, null), current.sidos),
+            sigunCounts,
+            stores
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            current();
+        } catch (RuntimeException e) {
+            // 첫 조회 시 다시 구성한다
+            log.warn("업소 패싯 인덱스 초기 구성 실패", e);
+        }
+    }
+
+    /**
+     * 아웃박스로 전달된 업소 변경 반영 (구성 전이면 다음 구성에서 반영되므로 무시)
+     * 같은 변경이 다시 전달되어도 현재 DB 상태로 덮어쓰므로 결과는 같다.
+     */
+    @EventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        recentChanges.markChanged();
+        if (facets == null) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            Facets current = facets;
+            if (current == null) {
+                return;
+            }
+            List<Long> storeIds = List.copyOf(event.storeIds());
+            // 커밋 직후 이벤트이므로 레플리카 지연으로 이전 상태를 반영하지 않도록 primary 에서 읽는다
+            List<StoreSummary> changed = DataSourceRoutingContext.callOnPrimary(() -> storeAdaptor.querySummaries(storeIds));
+            facets = current.apply(storeIds, changed);
+        } catch (RuntimeException e) {
+            log.warn("업소 패싯 인덱스 갱신 실패, 재구성 예정 - storeIds: {}", event.storeIds(), e);
+            facets = null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Facets current() {
+        Facets current = facets;
+        if (current != null && !current.builtAt.plus(maxAge).isBefore(Instant.now())) {
+            return current;
+        }
+
+        if (current != null && !writeLock.tryLock()) {
+            // 다른 스레드가 재구성 중이면 기존 스냅샷으로 응답
+            return current;
+        }
+        if (current == null) {
+            writeLock.lock();
+        }
+        try {
+            Facets latest = facets;
+            if (latest != null && !latest.builtAt.plus(maxAge).isBefore(Instant.now())) {
+                return latest;
+            }
+            // 변경 직후 구성(갱신 실패 후 재구성 등)만 primary 에서 읽고, 시작 시/최대 보관 시간 만료 구성은 레플리카에서 읽는다
+            List<StoreSummary> stores = recentChanges.callOnPrimaryIfRecent(storeAdaptor::queryAllSummaries);
+            Facets built = Facets.build(stores);
+            facets = built;
+            log.info("업소 패싯 인덱스 구성 완료: {}개 업소", stores.size());
+            return built;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static long[] intersect(long[] base, long[]... filters) {
+        long[] result = base;
+        for (long[] filter : filters) {
+            if (filter != null) {
+                result = OrdinalBitmap.and(result, filter);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 값별 교집합 크기 (0 인 값 제외, 업소 수 내림차순)
+     */
+    private static <K> Map<K, Integer> counts(long[] scope, Map<K, long[]> bitmaps) {
+        List<Map.Entry<K, Integer>> counted = new ArrayList<>(bitmaps.size());
+        bitmaps.forEach((value, bitmap) -> {
+            int count = OrdinalBitmap.andCardinality(scope, bitmap);
+            if (count > 0) {
+                counted.add(Map.entry(value, count));
+            }
+        });
+        counted.sort(Map.Entry.<K, Integer>comparingByValue(Comparator.reverseOrder()));
+        return counted.stream().collect(toOrderedMap(Map.Entry::getKey));
+    }
+
+    /**
+     * 순서를 유지하는 (키 변환, 업소 수) 맵 수집
+     */
+    private static <K, T> Collector<Map.Entry<K, Integer>, ?, Map<T, Integer>> toOrderedMap(
+            Function<Map.Entry<K, Integer>, T> key) {
+        return Collectors.toMap(key, Map.Entry::getValue, Integer::sum, LinkedHashMap::new);
+    }
+
+    private static String sigunKey(String sido, String sigun) {
+        return sido + "/" + sigun;
+    }
+
+    /**
+     * 조회 결과 (항목별 업소 수는 업소 수 내림차순)
+     */
+    public record FacetResult(int totalCount,
+                              Map<Category, Integer> categoryCounts,
+                              Map<String, Integer> majorCategoryCounts,
+                              Map<String, Integer> subCategoryCounts,
+                              Map<String, Integer> sidoCounts,
+                              Map<String, Integer> sigunCounts,
+                              List<StoreSummary> stores) {
+    }
+
+    /**
+     * 불변 패싯 스냅샷 (순번별 업소와 값별 비트맵)
+     */
+    private static final class Facets {
+
+        private final Instant builtAt;
+        private final StoreSummary[] stores;
+        private final Map<Long, Integer> ordinals;
+        private final long[] present;
+        private final long[] active;
+        private final Map<Category, long[]> categories;
+        private final Map<String, long[]> majorCategories;
+        private final Map<String, long[]> subCategories;
+        private final Map<String, long[]> sidos;
+        private final Map<String, long[]> siguns;
+
+        private Facets(Instant builtAt, StoreSummary[] stores, Map<Long, Integer> ordinals, long[] present, long[] active,
+                       Map<Category, long[]> categories, Map<String, long[]> majorCategories,
+                       Map<String, long[]> subCategories, Map<String, long[]> sidos, Map<String, long[]> siguns) {
+            this.builtAt = builtAt;
+            this.stores = stores;
+            this.ordinals = ordinals;
+            this.present = present;
+            this.active = active;
+            this.categories = categories;
+            this.majorCategories = majorCategories;
+            this.subCategories = subCategories;
+            this.sidos = sidos;
+            this.siguns = siguns;
+        }
+
+        private static Facets build(List<StoreSummary> stores) {
+            int size = stores.size();
+            StoreSummary[] byOrdinal = stores.toArray(new StoreSummary[0]);
+            Map<Long, Integer> ordinals = new HashMap<>(size * 2);
+            long[] present = OrdinalBitmap.create(size);
+            long[] active = OrdinalBitmap.create(size);
+            Map<Category, long[]> categories = new EnumMap<>(Category.class);
+            Map<String, long[]> majorCategories = new HashMap<>();
+            Map<String, long[]> subCategories = new HashMap<>();
+            Map<String, long[]> sidos = new HashMap<>();
+            Map<String, long[]> siguns = new HashMap<>();
+
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                StoreSummary store = byOrdinal[ordinal];
+                ordinals.put(store.storeId(), ordinal);
+                present = OrdinalBitmap.set(present, ordinal);
+                if (store.active()) {
+                    active = OrdinalBitmap.set(active, ordinal);
+                }
+                setIn(categories, store.category(), ordinal, size);
+                setIn(majorCategories, store.majorCategory(), ordinal, size);
+                setIn(subCategories, store.subCategory(), ordinal, size);
+                setIn(sidos, store.sido(), ordinal, size);
+                setIn(siguns, sigunOf(store), ordinal, size);
+            }
+            return new Facets(Instant.now(), byOrdinal, ordinals, present, active,
+                categories, majorCategories, subCategories, sidos, siguns);
+        }
+
+        private long[] base(Boolean activeOnly) {
+            if (activeOnly == null) {
+                return present;
+            }
+            return activeOnly ? active : OrdinalBitmap.andNot(present, active);
+        }
+
+        /**
+         * 변경된 업소만 반영한 새 스냅샷 (바뀐 비트맵만 복사)
+         * changed 에 없는 ID 는 삭제된 업소로 보고 모든 비트맵에서 뺀다.
+         */
+        private Facets apply(List<Long> storeIds, List<StoreSummary> changed) {
+            Map<Long, StoreSummary> changedById = new HashMap<>();
+            for (StoreSummary store : changed) {
+                changedById.put(store.storeId(), store);
+            }
+
+            StoreSummary[] nextStores = stores;
+            Map<Long, Integer> nextOrdinals = ordinals;
+            long[] nextPresent = present;
+            long[] nextActive = active;
+            Map<Category, long[]> nextCategories = new EnumMap<>(categories);
+            Map<String, long[]> nextMajors = new HashMap<>(majorCategories);
+            Map<String, long[]> nextSubs = new HashMap<>(subCategories);
+            Map<String, long[]> nextSidos = new HashMap<>(sidos);
+            Map<String, long[]> nextSiguns = new HashMap<>(siguns);
+
+            for (Long storeId : storeIds) {
+                StoreSummary updated = changedById.get(storeId);
+                Integer existing = nextOrdinals.get(storeId);
+                if (existing == null && updated == null) {
+                    continue;
+                }
+
+                int ordinal;
+                StoreSummary previous = null;
+                if (existing == null) {
+                    if (nextOrdinals == ordinals) {
+                        nextOrdinals = new HashMap<>(ordinals);
+                    }
+                    ordinal = nextStores.length;
+                    nextStores = Arrays.copyOf(nextStores, ordinal + 1);
+                    nextOrdinals.put(storeId, ordinal);
+                } else {
+                    ordinal = existing;
+                    previous = nextStores[ordinal];
+                    if (nextStores == stores) {
+                        nextStores = stores.clone();
+                    }
+                }
+                nextStores[ordinal] = updated;
+
+                nextPresent = updated != null ? OrdinalBitmap.withBit(nextPresent, ordinal) : OrdinalBitmap.withoutBit(nextPresent, ordinal);
+                nextActive = updated != null && updated.active()
+                    ? OrdinalBitmap.withBit(nextActive, ordinal)
+                    : OrdinalBitmap.withoutBit(nextActive, ordinal);
+                move(nextCategories, previous, updated, StoreSummary::category, ordinal);
+                move(nextMajors, previous, updated, StoreSummary::majorCategory, ordinal);
+                move(nextSubs, previous, updated, StoreSummary::subCategory, ordinal);
+                move(nextSidos, previous, updated, StoreSummary::sido, ordinal);
+                move(nextSiguns, previous, updated, Facets::sigunOf, ordinal);
+            }
+
+            return new Facets(builtAt, nextStores, nextOrdinals, nextPresent, nextActive,
+                nextCategories, nextMajors, nextSubs, nextSidos, nextSiguns);
+        }
+
+        private static <K> void move(Map<K, long[]> bitmaps, StoreSummary previous, StoreSummary updated,
+                                     Function<StoreSummary, K> valueOf, int ordinal) {
+            K oldValue = previous != null ? valueOf.apply(previous) : null;
+            K newValue = updated != null ? valueOf.apply(updated) : null;
+            if (Objects.equals(oldValue, newValue)) {
+                return;
+            }
+            if (oldValue != null) {
+                long[] removed = OrdinalBitmap.withoutBit(bitmaps.getOrDefault(oldValue, OrdinalBitmap.EMPTY), ordinal);
+                if (OrdinalBitmap.cardinality(removed) == 0) {
+                    bitmaps.remove(oldValue);
+                } else {
+                    bitmaps.put(oldValue, removed);
+                }
+            }
+            if (newValue != null) {
+                bitmaps.put(newValue, OrdinalBitmap.withBit(bitmaps.getOrDefault(newValue, OrdinalBitmap.EMPTY), ordinal));
+            }
+        }
+
+        private static <K> void setIn(Map<K, long[]> bitmaps, K value, int ordinal, int capacity) {
+            if (value != null) {
+                bitmaps.put(value, OrdinalBitmap.set(bitmaps.computeIfAbsent(value, key -> OrdinalBitmap.create(capacity)), ordinal));
+            }
+        }
+
+        private static String sigunOf(StoreSummary store) {
+            return store.sido() != null && store.sigun() != null ? sigunKey(store.sido(), store.sigun()) : null;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.demo.domain.store.index;
+
+import com.example.demo.domain.store.adaptor.StoreAdaptor;
+import com.example.demo.domain.store.event.StoreChangedEvent;
+import com.example.demo.domain.store.vo.StoreSummary;
+import com.example.demo.infrastructure.cache.CacheEntityType;
+import com.example.demo.infrastructure.cache.LocalCacheRegion;
+import com.example.demo.infrastructure.config.datasource.RecentChangeTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 좌표가 있는 활성 업소의 메모리 스냅샷
+ * 지도/클러스터 조회가 매 요청마다 전체 업소를 DB에서 읽지 않도록 불변 스냅샷을 공유한다.
+ * 아웃박스 업소 변경 이벤트로 invalidate 되며, 다른 경로의 변경을 고려해 최대 보관 시간이 지나면 재구성한다.
+ */
+@Slf4j
+@Component
+public class StoreLocationIndex implements LocalCacheRegion {
+
+    private final StoreAdaptor storeAdaptor;
+    private final Duration maxAge;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong buildSequence = new AtomicLong();
+    // DB 조회를 감싸므로 synchronized 대신 사용 (가상 스레드가 캐리어 스레드에 고정되지 않도록)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final RecentChangeTracker<Long> recentChanges = new RecentChangeTracker<>();
+    private volatile Snapshot snapshot;
+
+    public StoreLocationIndex(StoreAdaptor storeAdaptor,
+                              @Value("${app.store.index.max-age-seconds:600}") long maxAgeSeconds) {
+        this.storeAdaptor = storeAdaptor;
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+    }
+
+    /**
+     * 현재 스냅샷 반환 (없거나 만료되었으면 재구성)
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (isStale(current)) {
+            return rebuild();
+        }
+        return current;
+    }
+
+    /**
+     * 스냅샷 무효화 (다음 조회 시 재구성)
+     */
+    public void invalidate() {
+        recentChanges.markChanged();
+        generation.incrementAndGet();
+    }
+
+    /**
+     * 최근 무효화가 있었으면 primary 로 고정하여 실행 (스냅샷과 함께 재구성하는 파생 인덱스의 추가 조회용)
+     */
+    public <T> T callOnPrimaryIfChanged(Supplier<T> task) {
+        return recentChanges.callOnPrimaryIfRecent(task);
+    }
+
+    /**
+     * 아웃박스로 전달된 업소 변경 반영
+     * 이벤트는 커밋된 변경만 담고 있으므로 바로 무효화해도 커밋 전 데이터로 재구성되지 않는다.
+     */
+    @EventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        invalidate();
+    }
+
+    @Override
+    public CacheEntityType entityType() {
+        return CacheEntityType.STORE;
+    }
+
+    /**
+     * 스냅샷은 전체 단위로만 재구성하므로 ID와 관계없이 전체 무효화
+     */
+    @Override
+    public void evict(Collection<Long> ids) {
+        invalidate();
+    }
+
+    @Override
+    public void evictAll() {
+        invalidate();
+    }
+
+    private Snapshot rebuild() {
+        rebuildLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (!isStale(current)) {
+                return current;
+            }
+
+            long buildGeneration = generation.get();
+            // 무효화 직후 재구성이면 레플리카 지연으로 이전 상태를 다시 캐시하지 않도록 primary 에서 읽는다 (최대 보관 시간 만료는 레플리카)
+            List<StoreSummary> stores = recentChanges.callOnPrimaryIfRecent(storeAdaptor::querySummariesWithCoordinates);
+            Snapshot built = new Snapshot(buildSequence.incrementAndGet(), buildGeneration, Instant.now(), stores);
+            snapshot = built;
+
+            log.info("업소 위치 스냅샷 재구성 완료: {}개 업소 (version={})", stores.size(), built.version());
+            return built;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private boolean isStale(Snapshot current) {
+        return current == null
+               || current.generation() != generation.get()
+               || current.builtAt().plus(maxAge).isBefore(Instant.now());
+    }
+
+    /**
+     * 불변 업소 위치 스냅샷
+     * version 은 재구성마다 증가하며, 파생 캐시는 version 비교로 재계산 여부를 판단한다.
+     */
+    public record Snapshot(long version, long generation, Instant builtAt, List<StoreSummary> stores,
+                           Map<Long, StoreSummary> storesById) {
+
+        public Snapshot(long version, long generation, Instant builtAt, List<StoreSummary> stores) {
+            this(version, generation, builtAt, stores, stores.stream()
+                .collect(Collectors.toUnmodifiableMap(StoreSummary::storeId, Function.identity(), (first, second) -> first)));
+        }
+
+        public Snapshot {
+            stores = List.copyOf(stores);
+        }
+
+        public int size() {
+            return stores.size();
+        }
+
+        /**
+         * ID 로 업소 요약 조회 (스냅샷에 없으면 null)
+         */
+        public StoreSummary find(Long storeId) {
+            return storesById.get(storeId);
+        }
+    }
+}
@@ -0,0 +1,523 @@
+package com.example.demo.domain.store.index;
+
+import com.example.demo.domain.store.adaptor.StoreAdaptor;
+import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.util.DistanceUtils;
+import com.example.demo.domain.store.vo.NearbyCursor;
+import com.example.demo.domain.store.vo.StoreMenuStats;
+import com.example.demo.domain.store.vo.StoreNearbyFilter;
+import com.example.demo.domain.store.vo.StoreSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 주변 업소 검색용 위/경도 격자 인덱스
+ * 업소 위치 스냅샷을 cell-degrees 크기 격자로 나누고, 셀 안의 업소는 최저 메뉴 가격 오름차순으로 둔다.
+ * 가격 상한은 셀마다 앞에서부터 읽다 상한을 넘으면 멈추는 것으로 적용되므로, 메뉴를 읽은 뒤 거르지 않고 후보 생성 단계에서 걸러진다.
+ *
+ * 격자는 전체 하나와 업종별, 대분류별로 따로 둔다. 업종/대분류 조건이 있으면 해당 격자만 읽으므로
+ * 세탁소처럼 드문 업종을 찾을 때 음식점으로 가득 찬 셀을 지나치지 않는다.
+ *
+ * 검색은 사용자 셀부터 바깥 고리 순으로 셀을 읽으며, 다음 고리의 최소 거리가 현재 limit 번째 거리보다 멀면 멈춘다.
+ * 남은 고리의 셀 수가 격자의 비어 있지 않은 셀 수보다 많아지면 남은 셀을 직접 읽는다 (드문 업종 격자).
+ * 커서가 있으면 커서보다 확실히 가까운 고리는 건너뛰고, 나머지 셀에서도 커서 이전 업소는 후보에 넣지 않는다.
+ * 고리 하나를 읽을 때마다 다음 고리의 최소 거리보다 가까운 후보는 순서가 확정되므로, iterate 는 그 업소부터 바로 내보낸다.
+ * 위치 스냅샷 버전이 바뀌면(업소/메뉴 변경 이벤트, 최대 보관 시간) 업소별 최저 가격과 함께 다시 구성한다.
+ */
+@Slf4j
+@Component
+public class StoreNearbyGridIndex {
+
+    // 위도 1도 거리 (지구 반지름 6371km 기준)
+    private static final double KM_PER_DEGREE = 6371 * Math.PI / 180;
+    // 경선 방향 거리 계산과 대원 거리의 차이를 덮는 하한 여유
+    private static final double LOWER_BOUND_MARGIN = 0.99;
+    // 상한 계산의 부동소수 오차 여유
+    private static final double UPPER_BOUND_MARGIN = 1.01;
+
+    static final int NO_PRICE = Integer.MAX_VALUE;
+
+    private final StoreLocationIndex storeLocationIndex;
+    private final StoreAdaptor storeAdaptor;
+    private final double cellDegrees;
+
+    // DB 조회를 감싸므로 synchronized 대신 사용 (가상 스레드가 캐리어 스레드에 고정되지 않도록)
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private volatile Partitions partitions;
+
+    public StoreNearbyGridIndex(StoreLocationIndex storeLocationIndex,
+                                StoreAdaptor storeAdaptor,
+                                @Value("${app.store.nearby.cell-degrees:0.05}") double cellDegrees) {
+        this.storeLocationIndex = storeLocationIndex;
+        this.storeAdaptor = storeAdaptor;
+        this.cellDegrees = cellDegrees;
+    }
+
+    /**
+     * 필터를 만족하는 업소를 거리 오름차순(같으면 업소 ID 순)으로 limit 개 반환
+     */
+    public List<NearbyStore> nearest(double latitude, double longitude, Double radiusKm, int limit, StoreNearbyFilter filter) {
+        return nearest(latitude, longitude, radiusKm, limit, filter, null);
+    }
+
+    /**
+     * 커서 뒤(거리, 업소 ID 순)에서부터 이어서 limit 개 반환 (커서가 null 이면 처음부터)
+     */
+    public List<NearbyStore> nearest(double latitude, double longitude, Double radiusKm, int limit,
+                                     StoreNearbyFilter filter, NearbyCursor after) {
+        return current().nearest(latitude, longitude, radiusKm, limit, filter, after);
+    }
+
+    /**
+     * nearest 와 같은 순서로, 고리를 읽어 순서가 확정된 업소부터 내보내는 Iterator
+     * 다음 업소를 요청할 때 필요한 만큼만 고리를 더 읽는다. (인덱스 구성은 첫 호출 시점에 한다)
+     */
+    public Iterator<NearbyStore> iterate(double latitude, double longitude, Double radiusKm, int limit,
+                                         StoreNearbyFilter filter, NearbyCursor after) {
+        return current().iterate(latitude, longitude, radiusKm, limit, filter, after);
+    }
+
+    private Partitions current() {
+        StoreLocationIndex.Snapshot snapshot = storeLocationIndex.snapshot();
+        Partitions current = partitions;
+        if (current != null && current.version == snapshot.version()) {
+            return current;
+        }
+
+        buildLock.lock();
+        try {
+            Partitions latest = partitions;
+            if (latest != null && latest.version == snapshot.version()) {
+                return latest;
+            }
+            Map<Long, Integer> minPrices = new HashMap<>();
+            for (StoreMenuStats stats : storeLocationIndex.callOnPrimaryIfChanged(storeAdaptor::queryMenuStats)) {
+                minPrices.put(stats.storeId(), toWon(stats.minPrice()));
+            }
+            Partitions built = Partitions.build(snapshot.version(), snapshot.stores(), minPrices, cellDegrees);
+            partitions = built;
+            log.info("주변 업소 격자 인덱스 구성 완료: {}개 업소, {}개 셀, 업종 {}개, 대분류 {}개 (version={})",
+                snapshot.size(), built.all.cells.size(), built.byCategory.size(), built.byMajorCategory.size(),
+                snapshot.version());
+            return built;
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    /**
+     * 원 단위 올림 (가격이 없으면 NO_PRICE)
+     */
+    static int toWon(BigDecimal price) {
+        if (price == null) {
+            return NO_PRICE;
+        }
+        BigDecimal won = price.setScale(0, RoundingMode.CEILING);
+        return won.compareTo(BigDecimal.valueOf(NO_PRICE - 1L)) >= 0 ? NO_PRICE - 1 : won.intValueExact();
+    }
+
+    /**
+     * 검색 결과 (minPrice 는 메뉴가 없으면 null)
+     */
+    public record NearbyStore(StoreSummary store, double distanceKm, Integer minPrice) {
+    }
+
+    /**
+     * 전체/업종별/대분류별 격자 묶음
+     */
+    static final class Partitions {
+
+        private final long version;
+        private final Grid all;
+        private final Map<Category, Grid> byCategory;
+        private final Map<String, Grid> byMajorCategory;
+
+        private Partitions(long version, Grid all, Map<Category, Grid> byCategory, Map<String, Grid> byMajorCategory) {
+            this.version = version;
+            this.all = all;
+            this.byCategory = byCategory;
+            this.byMajorCategory = byMajorCategory;
+        }
+
+        static Partitions build(long version, List<StoreSummary> stores, Map<Long, Integer> minPrices, double cellDegrees) {
+            Map<Category, List<StoreSummary>> categoryStores = new EnumMap<>(Category.class);
+            Map<String, List<StoreSummary>> majorCategoryStores = new HashMap<>();
+            for (StoreSummary store : stores) {
+                if (store.category() != null) {
+                    categoryStores.computeIfAbsent(store.category(), key -> new ArrayList<>()).add(store);
+                }
+                if (store.majorCategory() != null) {
+                    majorCategoryStores.computeIfAbsent(store.majorCategory(), key -> new ArrayList<>()).add(store);
+                }
+            }
+
+            Map<Category, Grid> byCategory = new EnumMap<>(Category.class);
+            categoryStores.forEach((category, partition) ->
+                byCategory.put(category, Grid.build(partition, minPrices, cellDegrees)));
+            Map<String, Grid> byMajorCategory = new HashMap<>();
+            majorCategoryStores.forEach((majorCategory, partition) ->
+                byMajorCategory.put(majorCategory, Grid.build(partition, minPrices, cellDegrees)));
+            return new Partitions(version, Grid.build(stores, minPrices, cellDegrees), byCategory, byMajorCategory);
+        }
+
+        List<NearbyStore> nearest(double latitude, double longitude, Double radiusKm, int limit,
+                                  StoreNearbyFilter filter, NearbyCursor after) {
+            List<NearbyStore> result = new ArrayList<>(limit);
+            iterate(latitude, longitude, radiusKm, limit, filter, after).forEachRemaining(result::add);
+            return result;
+        }
+
+        Iterator<NearbyStore> iterate(double latitude, double longitude, Double radiusKm, int limit,
+                                      StoreNearbyFilter filter, NearbyCursor after) {
+            Grid grid = select(filter);
+            return grid == null
+                ? Collections.emptyIterator()
+                : grid.iterate(latitude, longitude, radiusKm, limit, filter, after);
+        }
+
+        /**
+         * 조건에 맞는 가장 작은 격자 (조건에 해당하는 업소가 없으면 null)
+         * 나머지 조건은 셀 안에서 다시 확인하므로 어느 격자를 골라도 결과는 같다.
+         */
+        private Grid select(StoreNearbyFilter filter) {
+            Grid selected = all;
+            if (filter.category() != null) {
+                selected = smaller(selected, byCategory.get(filter.category()));
+            }
+            if (selected != null && filter.majorCategory() != null) {
+                selected = smaller(selected, byMajorCategory.get(filter.majorCategory()));
+            }
+            return selected;
+        }
+
+        private static Grid smaller(Grid current, Grid candidate) {
+            if (candidate == null) {
+                return null;
+            }
+            return candidate.size <= current.size ? candidate : current;
+        }
+    }
+
+    /**
+     * 불변 격자 (셀 키 → 최저 가격 오름차순 업소 배열)
+     */
+    static final class Grid {
+
+        private static final Comparator<NearbyStore> NEAREST_FIRST = Comparator
+            .comparingDouble(NearbyStore::distanceKm)
+            .thenComparing(nearby -> nearby.store().storeId());
+        private static final Comparator<NearbyStore> FARTHEST_FIRST = NEAREST_FIRST.reversed();
+
+        private final double cellDegrees;
+        private final Map<Long, Cell> cells;
+        private final int size;
+        private final int minCellX;
+        private final int maxCellX;
+        private final int minCellY;
+        private final int maxCellY;
+
+        private Grid(double cellDegrees, Map<Long, Cell> cells, int size,
+                     int minCellX, int maxCellX, int minCellY, int maxCellY) {
+            this.cellDegrees = cellDegrees;
+            this.cells = cells;
+            this.size = size;
+            this.minCellX = minCellX;
+            this.maxCellX = maxCellX;
+            this.minCellY = minCellY;
+            this.maxCellY = maxCellY;
+        }
+
+        static Grid build(List<StoreSummary> stores, Map<Long, Integer> minPrices, double cellDegrees) {
+            Map<Long, List<Entry>> grouped = new HashMap<>();
+            int minX = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE;
+            int minY = Integer.MAX_VALUE;
+            int maxY = Integer.MIN_VALUE;
+            int size = 0;
+            for (StoreSummary store : stores) {
+                if (!store.hasValidCoordinates()) {
+                    continue;
+                }
+                size++;
+                int x = cellOf(store.longitude(), cellDegrees);
+                int y = cellOf(store.latitude(), cellDegrees);
+                minX = Math.min(minX, x);
+                maxX = Math.max(maxX, x);
+                minY = Math.min(minY, y);
+                maxY = Math.max(maxY, y);
+                grouped.computeIfAbsent(cellKey(x, y), key -> new ArrayList<>())
+                    .add(new Entry(store, minPrices.getOrDefault(store.storeId(), NO_PRICE)));
+            }
+
+            Map<Long, Cell> cells = new HashMap<>(grouped.size() * 2);
+            grouped.forEach((key, entries) -> cells.put(key, Cell.of(entries)));
+            return new Grid(cellDegrees, cells, size, minX, maxX, minY, maxY);
+        }
+
+        Iterator<NearbyStore> iterate(double latitude, double longitude, Double radiusKm, int limit,
+                                      StoreNearbyFilter filter, NearbyCursor after) {
+            if (cells.isEmpty()) {
+                return Collections.emptyIterator();
+            }
+            return new RingIterator(latitude, longitude, radiusKm, limit, filter, after);
+        }
+
+        /**
+         * 사용자 셀부터 고리 순으로 읽으며, 읽은 고리까지의 후보 중 다음 고리의 최소 거리보다 가까운 업소를 거리순으로 내보낸다
+         * 아직 확정되지 않은 후보는 남은 개수(limit - 내보낸 수) 크기의 힙에 둔다.
+         */
+        private final class RingIterator implements Iterator<NearbyStore> {
+
+            private final double latitude;
+            private final double longitude;
+            private final Double radiusKm;
+            private final int limit;
+            private final StoreNearbyFilter filter;
+            private final NearbyCursor after;
+            private final int maxPrice;
+            private final int centerX;
+            private final int centerY;
+            private final int lastRing;
+
+            private final PriorityQueue<NearbyStore> pending;
+            private final ArrayDeque<NearbyStore> ready = new ArrayDeque<>();
+            private int ring;
+            private int emitted;
+            private boolean finished;
+
+            private RingIterator(double latitude, double longitude, Double radiusKm, int limit,
+                                 StoreNearbyFilter filter, NearbyCursor after) {
+                this.latitude = latitude;
+                this.longitude = longitude;
+                this.radiusKm = radiusKm;
+                this.limit = limit;
+                this.filter = filter;
+                this.after = after;
+                this.maxPrice = filter.maxPrice() == null ? NO_PRICE : filter.maxPrice();
+                this.centerX = cellOf(longitude, cellDegrees);
+                this.centerY = cellOf(latitude, cellDegrees);
+                this.lastRing = Math.max(
+                    Math.max(Math.abs(centerX - minCellX), Math.abs(centerX - maxCellX)),
+                    Math.max(Math.abs(centerY - minCellY), Math.abs(centerY - maxCellY)));
+                this.pending = new PriorityQueue<>(limit + 1, FARTHEST_FIRST);
+            }
+
+            @Override
+            public boolean hasNext() {
+                while (ready.isEmpty() && !finished) {
+                    advance();
+                }
+                return !ready.isEmpty();
+            }
+
+            @Override
+            public NearbyStore next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                emitted++;
+                return ready.poll();
+            }
+
+            /**
+             * 다음 고리 하나를 읽고 순서가 확정된 후보를 ready 로 옮긴다 (더 읽을 고리가 없으면 남은 후보를 모두 옮김)
+             */
+            private void advance() {
+                int capacity = limit - emitted - ready.size();
+                if (ring > lastRing || capacity <= 0) {
+                    finish();
+                    return;
+                }
+                double lowerBound = ringLowerBoundKm(latitude, ring);
+                if (radiusKm != null && lowerBound > radiusKm) {
+                    finish();
+                    return;
+                }
+                if (pending.size() == capacity && lowerBound > pending.peek().distanceKm()) {
+                    finish();
+                    return;
+                }
+                if (8L * ring > cells.size()) {
+                    // 고리를 도는 것보다 남은 셀을 직접 읽는 편이 적다
+                    collectFromRing(ring, centerX, centerY, latitude, longitude, radiusKm, maxPrice, filter, after,
+                        capacity, pending);
+                    finish();
+                    return;
+                }
+                if (after != null && ringUpperBoundKm(ring) < after.distanceKm()) {
+                    // 고리 안 업소는 모두 커서보다 가깝다 (이전 페이지에서 반환됨)
+                    ring++;
+                    return;
+                }
+
+                for (int dy = -ring; dy <= ring; dy++) {
+                    // 고리의 위/아래 변은 전부, 나머지 행은 양 끝 셀만
+                    int step = (dy == -ring || dy == ring) ? 1 : Math.max(1, 2 * ring);
+                    for (int dx = -ring; dx <= ring; dx += step) {
+                        Cell cell = cells.get(cellKey(centerX + dx, centerY + dy));
+                        if (cell != null) {
+                            cell.collect(latitude, longitude, radiusKm, maxPrice, filter, after, capacity, pending);
+                        }
+                    }
+                }
+                ring++;
+                release(ringLowerBoundKm(latitude, ring));
+            }
+
+            /**
+             * threshold 보다 가까운 후보를 거리순으로 ready 에 옮긴다 (이후 고리의 업소는 threshold 이상 떨어져 있다)
+             */
+            private void release(double threshold) {
+                List<NearbyStore> confirmed = new ArrayList<>();
+                for (NearbyStore candidate : pending) {
+                    if (candidate.distanceKm() < threshold) {
+                        confirmed.add(candidate);
+                    }
+                }
+                if (confirmed.isEmpty()) {
+                    return;
+                }
+                pending.removeAll(confirmed);
+                confirmed.sort(NEAREST_FIRST);
+                ready.addAll(confirmed);
+            }
+
+            private void finish() {
+                release(Double.POSITIVE_INFINITY);
+                finished = true;
+            }
+        }
+
+        /**
+         * 사용자 셀에서 fromRing 번째 고리 이상 떨어진 셀을 모두 읽는다
+         */
+        private void collectFromRing(int fromRing, int centerX, int centerY, double latitude, double longitude,
+                                     Double radiusKm, int maxPrice, StoreNearbyFilter filter, NearbyCursor after,
+                                     int limit, PriorityQueue<NearbyStore> farthestFirst) {
+            for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                long key = entry.getKey();
+                int ring = Math.max(Math.abs((int) key - centerX), Math.abs((int) (key >> 32) - centerY));
+                if (ring >= fromRing) {
+                    entry.getValue().collect(latitude, longitude, radiusKm, maxPrice, filter, after, limit, farthestFirst);
+                }
+            }
+        }
+
+        /**
+         * 고리 ring 에 속한 셀의 점까지 최소 거리 (사용자 셀 안 위치와 무관한 하한)
+         * 경도 방향 셀 폭은 고위도로 갈수록 좁아지므로 고리 바깥쪽 위도 기준으로 계산한다.
+         */
+        private double ringLowerBoundKm(double latitude, int ring) {
+            if (ring <= 1) {
+                return 0;
+            }
+            double outerLatitude = Math.min(89.9, Math.abs(latitude) + (ring + 1) * cellDegrees);
+            double cellHeightKm = cellDegrees * KM_PER_DEGREE;
+            double cellWidthKm = cellHeightKm * Math.cos(Math.toRadians(outerLatitude));
+            return (ring - 1) * Math.min(cellHeightKm, cellWidthKm) * LOWER_BOUND_MARGIN;
+        }
+
+        /**
+         * 고리 ring 에 속한 셀의 점까지 최대 거리 (사용자 셀 안 위치와 무관한 상한)
+         * 두 점의 위/경도 차이는 각각 (ring + 1) 셀 미만이므로, 경선을 따라간 뒤 위선을 따라가는 경로 길이가 상한이 된다.
+         * (위선 방향 셀 폭은 셀 높이를 넘지 않는다)
+         */
+        private double ringUpperBoundKm(int ring) {
+            return 2 * (ring + 1) * cellDegrees * KM_PER_DEGREE * UPPER_BOUND_MARGIN;
+        }
+
+        private static int cellOf(double degrees, double cellDegrees) {
+            return (int) Math.floor(degrees / cellDegrees);
+        }
+
+        private static long cellKey(int x, int y) {
+            return ((long) y << 32) | (x & 0xffffffffL);
+        }
+    }
+
+    /**
+     * 셀 안 업소 (최저 가격 오름차순 병렬 배열)
+     */
+    private static final class Cell {
+
+        private final StoreSummary[] stores;
+        private final double[] latitudes;
+        private final double[] longitudes;
+        private final int[] minPrices;
+
+        private Cell(StoreSummary[] stores, double[] latitudes, double[] longitudes, int[] minPrices) {
+            this.stores = stores;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+            this.minPrices = minPrices;
+        }
+
+        private static Cell of(List<Entry> entries) {
+            Entry[] sorted = entries.toArray(new Entry[0]);
+            Arrays.sort(sorted, Comparator.comparingInt(Entry::minPrice)
+                .thenComparing(entry -> entry.store().storeId()));
+
+            int size = sorted.length;
+            StoreSummary[] stores = new StoreSummary[size];
+            double[] latitudes = new double[size];
+            double[] longitudes = new double[size];
+            int[] minPrices = new int[size];
+            for (int i = 0; i < size; i++) {
+                stores[i] = sorted[i].store();
+                latitudes[i] = sorted[i].store().latitude();
+                longitudes[i] = sorted[i].store().longitude();
+                minPrices[i] = sorted[i].minPrice();
+            }
+            return new Cell(stores, latitudes, longitudes, minPrices);
+        }
+
+        private void collect(double latitude, double longitude, Double radiusKm, int maxPrice, StoreNearbyFilter filter,
+                             NearbyCursor after, int limit, PriorityQueue<NearbyStore> farthestFirst) {
+            for (int i = 0; i < stores.length; i++) {
+                int price = minPrices[i];
+                if (maxPrice != NO_PRICE && price > maxPrice) {
+                    // 가격 오름차순이므로 이후 업소는 모두 상한 초과
+                    break;
+                }
+                StoreSummary store = stores[i];
+                if (!filter.matchesCategory(store)) {
+                    continue;
+                }
+                double distanceKm = DistanceUtils.calculateDistanceKm(latitude, longitude, latitudes[i], longitudes[i]);
+                if (radiusKm != null && distanceKm > radiusKm) {
+                    continue;
+                }
+                if (after != null && !after.isBefore(distanceKm, store.storeId())) {
+                    continue;
+                }
+                NearbyStore candidate = new NearbyStore(store, distanceKm, price == NO_PRICE ? null : price);
+                if (farthestFirst.size() < limit) {
+                    farthestFirst.add(candidate);
+                } else if (Grid.FARTHEST_FIRST.compare(candidate, farthestFirst.peek()) > 0) {
+                    farthestFirst.poll();
+                    farthestFirst.add(candidate);
+                }
+            }
+        }
+    }
+
+    private record Entry(StoreSummary store, int minPrice) {
+    }
+}
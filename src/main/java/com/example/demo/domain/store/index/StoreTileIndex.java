@@ -0,0 +1,103 @@
+package com.example.demo.domain.store.index;
+
+import com.example.demo.domain.store.util.MercatorUtils;
+import com.example.demo.domain.store.util.VectorTileEncoder;
+import com.example.demo.domain.store.vo.CoordinateRange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업소 벡터 타일(MVT) 캐시
+ * 줌 레벨별 클러스터 결과를 (z, x, y) 타일 단위로 인코딩해 보관하고,
+ * 위치 스냅샷 버전이 바뀌면 캐시 전체를 비워 다음 요청에서 다시 인코딩한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreTileIndex {
+
+    public static final String LAYER_NAME = "stores";
+
+    // 캐시 타일 수 상한 (초과 시 전체 비움)
+    private static final int MAX_CACHED_TILES = 20_000;
+
+    private final StoreLocationIndex storeLocationIndex;
+    private final StoreClusterIndex storeClusterIndex;
+
+    private final Map<Long, StoreTile> tiles = new ConcurrentHashMap<>();
+    private volatile long cachedVersion = -1;
+
+    /**
+     * 타일 조회 (캐시에 없으면 인코딩 후 저장)
+     */
+    public StoreTile getTile(int z, int x, int y) {
+        long version = storeLocationIndex.snapshot().version();
+        if (version != cachedVersion) {
+            tiles.clear();
+            cachedVersion = version;
+        }
+        if (tiles.size() >= MAX_CACHED_TILES) {
+            tiles.clear();
+        }
+
+        long key = tileKey(z, x, y);
+        StoreTile cached = tiles.get(key);
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+
+        StoreTile tile = new StoreTile(version, encodeTile(z, x, y));
+        tiles.put(key, tile);
+        return tile;
+    }
+
+    private byte[] encodeTile(int z, int x, int y) {
+        double tilesPerAxis = 1L << z;
+        CoordinateRange bounds = CoordinateRange.builder()
+            .minLatitude(MercatorUtils.toLatitude((y + 1) / tilesPerAxis))
+            .maxLatitude(MercatorUtils.toLatitude(y / tilesPerAxis))
+            .minLongitude(MercatorUtils.toLongitude(x / tilesPerAxis))
+            .maxLongitude(MercatorUtils.toLongitude((x + 1) / tilesPerAxis))
+            .build();
+
+        List<VectorTileEncoder.Point> points = new ArrayList<>();
+        for (StoreCluster cluster : storeClusterIndex.queryClusters(bounds, z)) {
+            int px = (int) Math.floor((MercatorUtils.toNormalizedX(cluster.longitude()) * tilesPerAxis - x)
+                * VectorTileEncoder.EXTENT);
+            int py = (int) Math.floor((MercatorUtils.toNormalizedY(cluster.latitude()) * tilesPerAxis - y)
+                * VectorTileEncoder.EXTENT);
+            // 경계에 걸친 포인트가 이웃 타일에 중복 포함되지 않도록 타일 내부만 사용
+            if (px < 0 || py < 0 || px >= VectorTileEncoder.EXTENT || py >= VectorTileEncoder.EXTENT) {
+                continue;
+            }
+            points.add(new VectorTileEncoder.Point(cluster.storeId(), px, py, toProperties(cluster)));
+        }
+
+        return VectorTileEncoder.encodePointLayer(LAYER_NAME, points);
+    }
+
+    private Map<String, Object> toProperties(StoreCluster cluster) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        if (cluster.isSingleStore()) {
+            properties.put("category", cluster.category() != null ? cluster.category().name() : null);
+        } else {
+            properties.put("cluster", true);
+            properties.put("point_count", cluster.count());
+        }
+        return properties;
+    }
+
+    private long tileKey(int z, int x, int y) {
+        return ((long) z << 58) | ((long) x << 29) | y;
+    }
+
+    /**
+     * 인코딩된 타일과 생성 기준 스냅샷 버전
+     */
+    public record StoreTile(long version, byte[] content) {}
+}
@@ -0,0 +1,329 @@
+package com.example.demo.domain.store.ranking;
+
+import com.example.demo.domain.review.adaptor.ReviewAdaptor;
+import com.example.demo.domain.review.event.ReviewChangedEvent;
+import com.example.demo.domain.review.vo.StoreRatingAggregate;
+import com.example.demo.domain.store.index.StoreLocationIndex;
+import com.example.demo.domain.store.index.StoreNearbyGridIndex;
+import com.example.demo.domain.store.index.StoreNearbyGridIndex.NearbyStore;
+import com.example.demo.domain.store.trending.TrendingStoreCounter;
+import com.example.demo.domain.store.vo.StoreNearbyFilter;
+import com.example.demo.domain.store.vo.StoreSummary;
+import com.example.demo.infrastructure.config.datasource.DataSourceRoutingContext;
+import com.example.demo.infrastructure.config.datasource.RecentChangeTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 주변 업소 관련도 정렬
+ * 점수 = 거리 가중치 x exp(-거리 / 감쇠 거리) + 평점 가중치 x 베이지안 평점(0~1)
+ *      + 리뷰 수 가중치 x log(1 + 리뷰 수) / log(1 + 최대 리뷰 수) + 인기도 가중치 x 최근 활동 점수 / 최대 활동 점수
+ *
+ * 격자 인덱스에서 거리순 candidate-size 개 후보(필터 적용)를 받아 점수를 매긴다.
+ * 거리 외의 항은 위치 스냅샷 업소 순서(업소 ID 오름차순)에 맞춘 배열에 미리 계산해 두고,
+ * 후보마다 업소 ID 이진 탐색 한 번과 지수 계산 한 번으로 점수를 구해 limit 크기 힙으로 상위만 고른다.
+ * 평점은 리뷰 변경 이벤트마다 해당 업소만 다시 집계하고, 인기도는 trending-refresh-seconds 마다 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class StoreRelevanceRanker {
+
+    private final StoreLocationIndex storeLocationIndex;
+    private final StoreNearbyGridIndex storeNearbyGridIndex;
+    private final ReviewAdaptor reviewAdaptor;
+    private final TrendingStoreCounter trendingStoreCounter;
+    private final Weights weights;
+    private final int candidateSize;
+    private final double priorWeight;
+    private final Duration maxAge;
+    private final Duration trendingRefresh;
+    private final int trendingTop;
+
+    // DB 조회를 감싸므로 synchronized 대신 사용 (가상 스레드가 캐리어 스레드에 고정되지 않도록)
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final RecentChangeTracker<Long> recentChanges = new RecentChangeTracker<>();
+    private volatile Features features;
+
+    public StoreRelevanceRanker(StoreLocationIndex storeLocationIndex,
+                                StoreNearbyGridIndex storeNearbyGridIndex,
+                                ReviewAdaptor reviewAdaptor,
+                                TrendingStoreCounter trendingStoreCounter,
+                                @Value("${app.store.nearby.ranking.distance-weight:0.5}") double distanceWeight,
+                                @Value("${app.store.nearby.ranking.rating-weight:0.3}") double ratingWeight,
+                                @Value("${app.store.nearby.ranking.review-count-weight:0.1}") double reviewCountWeight,
+                                @Value("${app.store.nearby.ranking.trending-weight:0.1}") double trendingWeight,
+                                @Value("${app.store.nearby.ranking.distance-decay-km:1.0}") double distanceDecayKm,
+                                @Value("${app.store.nearby.ranking.candidate-size:200}") int candidateSize,
+                                @Value("${app.review.ranking.prior-weight:10}") double priorWeight,
+                                @Value("${app.store.nearby.ranking.max-age-seconds:3600}") long maxAgeSeconds,
+                                @Value("${app.store.nearby.ranking.trending-refresh-seconds:60}") long trendingRefreshSeconds,
+                                @Value("${app.store.nearby.ranking.trending-top:1000}") int trendingTop) {
+        this.storeLocationIndex = storeLocationIndex;
+        this.storeNearbyGridIndex = storeNearbyGridIndex;
+        this.reviewAdaptor = reviewAdaptor;
+        this.trendingStoreCounter = trendingStoreCounter;
+        this.weights = new Weights(distanceWeight, ratingWeight, reviewCountWeight, trendingWeight, distanceDecayKm);
+        this.candidateSize = candidateSize;
+        this.priorWeight = priorWeight;
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+        this.trendingRefresh = Duration.ofSeconds(trendingRefreshSeconds);
+        this.trendingTop = trendingTop;
+    }
+
+    /**
+     * 필터를 만족하는 주변 업소를 관련도 점수 내림차순(같으면 거리, 업소 ID 순)으로 limit 개 반환
+     */
+    public List<NearbyStore> nearest(double latitude, double longitude, Double radiusKm, int limit, StoreNearbyFilter filter) {
+        List<NearbyStore> candidates = storeNearbyGridIndex.nearest(
+            latitude, longitude, radiusKm, Math.max(limit, candidateSize), filter);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        Features current = current();
+        refreshTrendingIfStale(current);
+        return current.rank(candidates, limit);
+    }
+
+    /**
+     * 평점이 바뀐 업소만 다시 집계 (구성 전이거나 스냅샷에 없는 업소는 다음 구성에서 반영)
+     */
+    @EventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.storeIds().isEmpty()) {
+            return;
+        }
+        recentChanges.markChanged();
+        if (features == null) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            // 잠금을 기다리는 동안 재구성이 끝났을 수 있으므로 (이 커밋 전의 집계로 구성됐을 수 있음) 잠금 안에서 다시 읽는다
+            Features current = features;
+            if (current == null) {
+                return;
+            }
+            // 커밋 직후 이벤트이므로 레플리카 지연으로 이전 집계를 반영하지 않도록 primary 에서 읽는다
+            List<StoreRatingAggregate> aggregates = DataSourceRoutingContext.callOnPrimary(
+                () -> reviewAdaptor.queryRatingAggregates(List.copyOf(event.storeIds())));
+            Set<Long> rated = new HashSet<>();
+            for (StoreRatingAggregate aggregate : aggregates) {
+                current.applyRating(aggregate);
+                rated.add(aggregate.storeId());
+            }
+            // 남은 리뷰가 모두 삭제된 업소
+            for (Long storeId : event.storeIds()) {
+                if (!rated.contains(storeId)) {
+                    current.clearRating(storeId);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("관련도 평점 갱신 실패, 재구성 예정 - storeIds: {}", event.storeIds(), e);
+            features = null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Features current() {
+        StoreLocationIndex.Snapshot snapshot = storeLocationIndex.snapshot();
+        Features current = features;
+        if (isFresh(current, snapshot)) {
+            return current;
+        }
+
+        writeLock.lock();
+        try {
+            Features latest = features;
+            if (isFresh(latest, snapshot)) {
+                return latest;
+            }
+            // 평점 변경 직후 구성(갱신 실패 후 재구성 등)만 primary 에서 읽고, 그 밖의 구성은 레플리카에서 읽는다
+            List<StoreRatingAggregate> aggregates = recentChanges.callOnPrimaryIfRecent(reviewAdaptor::queryRatingAggregates);
+            Features built = Features.build(snapshot.version(), snapshot.stores(), aggregates, weights, priorWeight);
+            built.applyTrending(trendingStoreCounter.top(trendingTop, storeId -> true));
+            features = built;
+            log.info("주변 업소 관련도 특성 구성 완료: {}개 업소, 평점 {}개 (전체 평균 {}, version={})",
+                built.storeIds.length, aggregates.size(), String.format("%.2f", built.priorMean), snapshot.version());
+            return built;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private boolean isFresh(Features current, StoreLocationIndex.Snapshot snapshot) {
+        return current != null
+               && current.version == snapshot.version()
+               && !current.builtAt.plus(maxAge).isBefore(Instant.now());
+    }
+
+    /**
+     * 인기도는 노드 메모리 카운터에서 읽으므로 DB 조회 없이 다시 계산하며, 다른 스레드가 계산 중이면 기존 값을 쓴다
+     */
+    private void refreshTrendingIfStale(Features current) {
+        if (!current.trendingAt.plus(trendingRefresh).isBefore(Instant.now()) || !writeLock.tryLock()) {
+            return;
+        }
+        try {
+            if (current.trendingAt.plus(trendingRefresh).isBefore(Instant.now())) {
+                current.applyTrending(trendingStoreCounter.top(trendingTop, storeId -> true));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 점수 가중치 (합이 1일 필요는 없다)
+     */
+    record Weights(double distance, double rating, double reviewCount, double trending, double distanceDecayKm) {
+    }
+
+    /**
+     * 업소 ID 오름차순 특성 배열
+     * quality 는 평점/리뷰 수 항의 가중 합이며 리뷰 변경 시 writeLock 안에서 해당 칸만 덮어쓴다. (조회는 잠금 없이 읽는다)
+     */
+    static final class Features {
+
+        private static final Comparator<Scored> WORST_FIRST = Comparator.comparingDouble(Scored::score)
+            .thenComparing(scored -> scored.store().distanceKm(), Comparator.reverseOrder())
+            .thenComparing(scored -> scored.store().store().storeId(), Comparator.reverseOrder());
+
+        private final long version;
+        private final Instant builtAt;
+        private final Weights weights;
+        private final double priorWeight;
+        private final double priorMean;
+        private final double reviewCountScale;
+        private final long[] storeIds;
+        private final float[] quality;
+        private volatile float[] trending;
+        private volatile Instant trendingAt = Instant.EPOCH;
+
+        private Features(long version, Weights weights, double priorWeight, double priorMean,
+                         double reviewCountScale, long[] storeIds) {
+            this.version = version;
+            this.builtAt = Instant.now();
+            this.weights = weights;
+            this.priorWeight = priorWeight;
+            this.priorMean = priorMean;
+            this.reviewCountScale = reviewCountScale;
+            this.storeIds = storeIds;
+            this.quality = new float[storeIds.length];
+            this.trending = new float[storeIds.length];
+        }
+
+        static Features build(long version, List<StoreSummary> stores, List<StoreRatingAggregate> aggregates,
+                              Weights weights, double priorWeight) {
+            long[] storeIds = stores.stream()
+                .mapToLong(StoreSummary::storeId)
+                .sorted()
+                .distinct()
+                .toArray();
+
+            double ratingSum = 0;
+            long reviewCount = 0;
+            long maxReviewCount = 0;
+            for (StoreRatingAggregate aggregate : aggregates) {
+                if (aggregate.averageRating() != null) {
+                    ratingSum += aggregate.averageRating() * aggregate.reviewCount();
+                    reviewCount += aggregate.reviewCount();
+                }
+                maxReviewCount = Math.max(maxReviewCount, aggregate.reviewCount());
+            }
+            double mean = reviewCount == 0 ? 0.0 : ratingSum / reviewCount;
+
+            Features built = new Features(version, weights, priorWeight, mean, Math.log1p(Math.max(1, maxReviewCount)), storeIds);
+            for (long storeId : storeIds) {
+                built.clearRating(storeId);
+            }
+            for (StoreRatingAggregate aggregate : aggregates) {
+                built.applyRating(aggregate);
+            }
+            return built;
+        }
+
+        void applyRating(StoreRatingAggregate aggregate) {
+            double average = aggregate.averageRating() != null ? aggregate.averageRating() : 0.0;
+            setQuality(aggregate.storeId(), average, aggregate.reviewCount());
+        }
+
+        void clearRating(Long storeId) {
+            setQuality(storeId, 0.0, 0);
+        }
+
+        /**
+         * 베이지안 평점 (C * m + 평균 * n) / (C + n) 을 1~5 에서 0~1 로, 리뷰 수는 로그 척도로 맞춘다
+         */
+        private void setQuality(Long storeId, double averageRating, long reviewCount) {
+            int ordinal = Arrays.binarySearch(storeIds, storeId);
+            if (ordinal < 0) {
+                return;
+            }
+            double bayesian = (priorWeight * priorMean + averageRating * reviewCount) / (priorWeight + reviewCount);
+            double rating = Math.max(0.0, Math.min(1.0, (bayesian - 1) / 4));
+            double reviews = Math.min(1.0, Math.log1p(reviewCount) / reviewCountScale);
+            quality[ordinal] = (float) (weights.rating() * rating + weights.reviewCount() * reviews);
+        }
+
+        void applyTrending(List<TrendingStoreCounter.TrendingCount> counts) {
+            float[] updated = new float[storeIds.length];
+            double maxScore = counts.stream().mapToDouble(TrendingStoreCounter.TrendingCount::score).max().orElse(0);
+            if (maxScore > 0) {
+                for (TrendingStoreCounter.TrendingCount count : counts) {
+                    int ordinal = Arrays.binarySearch(storeIds, count.storeId());
+                    if (ordinal >= 0) {
+                        updated[ordinal] = (float) (weights.trending() * count.score() / maxScore);
+                    }
+                }
+            }
+            trending = updated;
+            trendingAt = Instant.now();
+        }
+
+        List<NearbyStore> rank(List<NearbyStore> candidates, int limit) {
+            float[] currentTrending = trending;
+            double decayKm = weights.distanceDecayKm();
+
+            PriorityQueue<Scored> worstFirst = new PriorityQueue<>(limit + 1, WORST_FIRST);
+            for (NearbyStore candidate : candidates) {
+                double score = weights.distance() * Math.exp(-candidate.distanceKm() / decayKm);
+                int ordinal = Arrays.binarySearch(storeIds, candidate.store().storeId());
+                if (ordinal >= 0) {
+                    score += quality[ordinal] + currentTrending[ordinal];
+                }
+
+                Scored scored = new Scored(candidate, score);
+                if (worstFirst.size() < limit) {
+                    worstFirst.add(scored);
+                } else if (WORST_FIRST.compare(scored, worstFirst.peek()) > 0) {
+                    worstFirst.poll();
+                    worstFirst.add(scored);
+                }
+            }
+
+            List<Scored> ranked = new ArrayList<>(worstFirst);
+            ranked.sort(WORST_FIRST.reversed());
+            return ranked.stream()
+                .map(Scored::store)
+                .toList();
+        }
+    }
+
+    private record Scored(NearbyStore store, double score) {
+    }
+}
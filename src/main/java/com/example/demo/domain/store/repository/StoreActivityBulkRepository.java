@@ -0,0 +1,70 @@
+package com.example.demo.domain.store.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 업소 활동량 다건 누적 (JPA 를 거치지 않는 multi-row upsert)
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreActivityBulkRepository {
+
+    private static final String UPSERT_PREFIX =
+        "INSERT INTO store_activity (store_id, bucket_start, view_count, review_count) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?)";
+    private static final String UPSERT_SUFFIX =
+        " ON DUPLICATE KEY UPDATE view_count = view_count + VALUES(view_count), " +
+        "review_count = review_count + VALUES(review_count)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 구간별 증가분을 한 문장으로 더한다 (행이 없으면 생성)
+     */
+    public int addAll(List<ActivityDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> args = new ArrayList<>(deltas.size() * 4);
+        for (ActivityDelta delta : deltas) {
+            args.add(delta.storeId());
+            args.add(Timestamp.valueOf(delta.bucketStart()));
+            args.add(delta.views());
+            args.add(delta.reviews());
+        }
+        String sql = UPSERT_PREFIX
+                     + String.join(", ", Collections.nCopies(deltas.size(), ROW_PLACEHOLDER))
+                     + UPSERT_SUFFIX;
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    /**
+     * from 이후 구간의 업소별 활동량 합계 (모든 노드가 반영한 값)
+     */
+    public List<ActivityTotal> queryTotalsSince(LocalDateTime from) {
+        return jdbcTemplate.query(
+            "SELECT store_id, SUM(view_count) AS views, SUM(review_count) AS reviews FROM store_activity " +
+            "WHERE bucket_start >= ? GROUP BY store_id",
+            (rs, rowNum) -> new ActivityTotal(rs.getLong("store_id"), rs.getLong("views"), rs.getLong("reviews")),
+            Timestamp.valueOf(from));
+    }
+
+    public int deleteBucketsBefore(LocalDateTime threshold) {
+        return jdbcTemplate.update("DELETE FROM store_activity WHERE bucket_start < ?", Timestamp.valueOf(threshold));
+    }
+
+    public record ActivityDelta(Long storeId, LocalDateTime bucketStart, long views, long reviews) {
+    }
+
+    public record ActivityTotal(Long storeId, long views, long reviews) {
+    }
+}
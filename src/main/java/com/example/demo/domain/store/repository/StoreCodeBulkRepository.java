@@ -0,0 +1,77 @@
+package com.example.demo.domain.store.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 코드가 없는 기존 업소의 지역/분류 코드 일괄 채우기 (JDBC)
+ * 업소 단위가 아니라 서로 다른 명칭 조합 단위로 UPDATE 하므로 조합 수만큼만 실행된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreCodeBulkRepository {
+
+    private static final String UNCODED_REGIONS_SQL =
+        "SELECT DISTINCT sido, sigun FROM store WHERE sido_code IS NULL AND sido IS NOT NULL";
+
+    // 조회와 UPDATE 사이에 같은 명칭으로 저장되는 업소가 무효화 대상에서 빠지지 않도록 잠근다
+    private static final String UNCODED_REGION_STORE_IDS_SQL =
+        "SELECT store_id FROM store WHERE sido = ? AND sigun <=> ? AND sido_code IS NULL FOR UPDATE";
+
+    private static final String UPDATE_REGION_SQL =
+        "UPDATE store SET sido = ?, sigun = ?, sido_code = ?, sigun_code = ? " +
+        "WHERE sido = ? AND sigun <=> ? AND sido_code IS NULL";
+
+    private static final String UNCODED_CATEGORIES_SQL =
+        "SELECT DISTINCT major_category, sub_category FROM store WHERE major_category_code IS NULL";
+
+    private static final String UNCODED_CATEGORY_STORE_IDS_SQL =
+        "SELECT store_id FROM store WHERE major_category = ? AND sub_category <=> ? AND major_category_code IS NULL FOR UPDATE";
+
+    private static final String UPDATE_CATEGORY_SQL =
+        "UPDATE store SET major_category = ?, sub_category = ?, major_category_code = ?, sub_category_code = ? " +
+        "WHERE major_category = ? AND sub_category <=> ? AND major_category_code IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<NamePair> findUncodedRegions() {
+        return jdbcTemplate.query(UNCODED_REGIONS_SQL, (rs, rowNum) -> new NamePair(rs.getString(1), rs.getString(2)));
+    }
+
+    /**
+     * 해당 명칭 조합의 코드 없는 업소 ID (트랜잭션 안에서 호출, 행을 잠근다)
+     */
+    public List<Long> findUncodedRegionStoreIds(NamePair region) {
+        return jdbcTemplate.queryForList(UNCODED_REGION_STORE_IDS_SQL, Long.class, region.first(), region.second());
+    }
+
+    public int updateRegion(NamePair original, NamePair normalized, Integer sidoCode, Integer sigunCode) {
+        return jdbcTemplate.update(UPDATE_REGION_SQL,
+            normalized.first(), normalized.second(), sidoCode, sigunCode, original.first(), original.second());
+    }
+
+    public List<NamePair> findUncodedCategories() {
+        return jdbcTemplate.query(UNCODED_CATEGORIES_SQL, (rs, rowNum) -> new NamePair(rs.getString(1), rs.getString(2)));
+    }
+
+    /**
+     * 해당 명칭 조합의 코드 없는 업소 ID (트랜잭션 안에서 호출, 행을 잠근다)
+     */
+    public List<Long> findUncodedCategoryStoreIds(NamePair category) {
+        return jdbcTemplate.queryForList(UNCODED_CATEGORY_STORE_IDS_SQL, Long.class, category.first(), category.second());
+    }
+
+    public int updateCategory(NamePair original, NamePair normalized, Integer majorCode, Integer subCode) {
+        return jdbcTemplate.update(UPDATE_CATEGORY_SQL,
+            normalized.first(), normalized.second(), majorCode, subCode, original.first(), original.second());
+    }
+
+    /**
+     * (시도, 시군) 또는 (대분류, 소분류) 명칭 쌍
+     */
+    public record NamePair(String first, String second) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.demo.domain.store.repository;
+
+import com.example.demo.domain.store.entity.StoreCode;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 지역/분류 코드 사전 리포지토리 (StoreCodeDictionary 가 시작 시 전체를 읽어 메모리에 둔다)
+ */
+public interface StoreCodeRepository extends JpaRepository<StoreCode, Long> {
+}
@@ -1,7 +1,32 @@
 package com.example.demo.domain.store.repository;
 
 import com.example.demo.domain.store.entity.StoreMenu;
+import com.example.demo.domain.store.vo.StoreMenuStats;
+import com.example.demo.domain.store.vo.StoreMenuSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface StoreMenuRepository extends JpaRepository<StoreMenu, Long> {
+
+    /**
+     * 여러 업소의 메뉴 요약 프로젝션 조회 (업소/메뉴 순서 정렬)
+     */
+    @Query("SELECT new com.example.demo.domain.store.vo.StoreMenuSummary(" +
+           "m.store.id, m.id, m.menuName, m.price, m.menuOrder) " +
+           "FROM StoreMenu m WHERE m.store.id IN :storeIds ORDER BY m.store.id, m.menuOrder")
+    List<StoreMenuSummary> findMenuSummariesByStoreIds(@Param("storeIds") List<Long> storeIds);
+
+    /**
+     * 업소별 메뉴 수/가격 합계/최저 가격 전체 조회 (통계, 가격 인덱스 재구성용)
+     */
+    @Query("SELECT new com.example.demo.domain.store.vo.StoreMenuStats(m.store.id, COUNT(m), SUM(m.price), MIN(m.price)) " +
+           "FROM StoreMenu m GROUP BY m.store.id")
+    List<StoreMenuStats> findMenuStats();
+
+    @Query("SELECT new com.example.demo.domain.store.vo.StoreMenuStats(m.store.id, COUNT(m), SUM(m.price), MIN(m.price)) " +
+           "FROM StoreMenu m WHERE m.store.id IN :storeIds GROUP BY m.store.id")
+    List<StoreMenuStats> findMenuStatsByStoreIds(@Param("storeIds") List<Long> storeIds);
 }
@@ -0,0 +1,76 @@
+package com.example.demo.domain.store.repository;
+
+import com.example.demo.domain.store.entity.StoreReadModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StoreReadModelRepository extends JpaRepository<StoreReadModel, Long> {
+
+    /**
+     * 최신 상태의 직렬화 문서만 조회 (stale 이면 빈 값)
+     */
+    @Query("SELECT m.document FROM StoreReadModel m WHERE m.storeId = :storeId AND m.stale = false")
+    Optional<byte[]> findFreshDocument(@Param("storeId") Long storeId);
+
+    @Query("SELECT m.revision FROM StoreReadModel m WHERE m.storeId = :storeId")
+    Optional<Long> findRevision(@Param("storeId") Long storeId);
+
+    /**
+     * 문서를 stale 로 표시하고 revision 증가
+     * 행이 없으면 빈 stale 자리표시 행을 만들어, 진행 중인 최초 구성이 이 변경 이전 문서를 저장하지 못하게 한다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO store_read_model (store_id, document, stale, revision, built_at) " +
+                   "VALUES (:storeId, '', true, 0, :now) " +
+                   "ON DUPLICATE KEY UPDATE stale = true, revision = revision + 1",
+           nativeQuery = true)
+    int markStale(@Param("storeId") Long storeId, @Param("now") LocalDateTime now);
+
+    /**
+     * 여러 업소의 기존 문서를 stale 로 표시하고 revision 증가
+     * 행이 없는 업소는 주기 작업이 새로 구성하므로 자리표시 행을 만들지 않는다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StoreReadModel m SET m.stale = true, m.revision = m.revision + 1 WHERE m.storeId IN :storeIds")
+    int markStaleAll(@Param("storeIds") Collection<Long> storeIds);
+
+    /**
+     * 문서가 없거나 stale 인 업소 ID (업소 ID 순, 최대 limit 건)
+     */
+    @Query(value = "SELECT s.store_id FROM store s " +
+                   "LEFT JOIN store_read_model m ON m.store_id = s.store_id " +
+                   "WHERE m.store_id IS NULL OR m.stale = true " +
+                   "ORDER BY s.store_id LIMIT :limit",
+           nativeQuery = true)
+    List<Long> findStoreIdsToBuild(@Param("limit") int limit);
+
+    /**
+     * 업소가 있고 행이 없을 때만 빈 stale 자리표시 행 추가 (이미 있으면 그대로 둔다)
+     * 재구성은 항상 행의 revision 을 기준으로 저장하므로, 최초 구성도 동시 변경을 덮어쓰지 않는다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO store_read_model (store_id, document, stale, revision, built_at) " +
+                   "SELECT s.store_id, '', true, 0, :now FROM store s WHERE s.store_id = :storeId " +
+                   "ON DUPLICATE KEY UPDATE store_id = store_read_model.store_id",
+           nativeQuery = true)
+    int insertPlaceholderIfAbsent(@Param("storeId") Long storeId, @Param("now") LocalDateTime now);
+
+    /**
+     * 재구성을 시작한 시점의 revision 이 그대로일 때만 문서 교체
+     * 재구성 도중 발생한 변경을 이전 문서로 덮어쓰지 않기 위함
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StoreReadModel m SET m.document = :document, m.stale = false, m.builtAt = :builtAt " +
+           "WHERE m.storeId = :storeId AND m.revision = :revision")
+    int updateDocument(@Param("storeId") Long storeId,
+                       @Param("revision") long revision,
+                       @Param("document") byte[] document,
+                       @Param("builtAt") LocalDateTime builtAt);
+}
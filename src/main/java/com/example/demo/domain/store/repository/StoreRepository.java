@@ -2,14 +2,24 @@ package com.example.demo.domain.store.repository;
 
 import com.example.demo.domain.store.entity.Category;
 import com.example.demo.domain.store.entity.Store;
+import com.example.demo.domain.store.vo.StoreCoordinate;
+import com.example.demo.domain.store.vo.StoreMapPoint;
+import com.example.demo.domain.store.vo.StoreSummary;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Store 엔티티에 대한 리포지토리 인터페이스
@@ -24,6 +34,16 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
      */
     Optional<Store> findByStoreName(String storeName);
 
+    boolean existsByStoreName(String storeName);
+
+    boolean existsByContactNumber(String contactNumber);
+
+    /**
+     * 업소명만 조회 (존재 확인 겸용, 엔티티 미적재)
+     */
+    @Query("SELECT s.storeName FROM Store s WHERE s.id = :id")
+    Optional<String> findStoreNameById(@Param("id") Long id);
+
     /**
      * 업소명 포함 검색 (활성화된 업소만)
      */
@@ -35,16 +55,16 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     Page<Store> findByCategoryAndIsActiveTrue(Category category, Pageable pageable);
 
     /**
-     * 지역별 검색 (시도, 시군)
+     * 시도 코드 검색 (활성화된 업소만)
      */
-    @Query("SELECT s FROM Store s WHERE s.address.sido LIKE %:sido% AND s.address.sigun LIKE %:sigun% AND s.isActive = true")
-    Page<Store> findByRegion(@Param("sido") String sido, @Param("sigun") String sigun, Pageable pageable);
+    @Query("SELECT s FROM Store s WHERE s.sidoCode = :sidoCode AND s.isActive = true")
+    Page<Store> findBySidoCode(@Param("sidoCode") Integer sidoCode, Pageable pageable);
 
     /**
-     * 시도별 검색 (활성화된 업소만)
+     * 시군구 코드 검색 (시군구 코드에 시도 코드가 포함되므로 시도 조건은 따로 두지 않는다)
      */
-    @Query("SELECT s FROM Store s WHERE s.address.sido LIKE %:sido% AND s.isActive = true")
-    Page<Store> findBySido(@Param("sido") String sido, Pageable pageable);
+    @Query("SELECT s FROM Store s WHERE s.sigunCode IN :sigunCodes AND s.isActive = true")
+    Page<Store> findBySigunCodes(@Param("sigunCodes") List<Integer> sigunCodes, Pageable pageable);
 
     /**
      * 좌표 기반 반경 검색 (Haversine 공식 사용)
@@ -80,29 +100,38 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     );
 
     /**
-     * 복합 검색: 업종 + 지역
+     * 복합 검색: 업종 + 시도 코드
      */
     @Query("SELECT s FROM Store s WHERE s.category = :category " +
-           "AND s.address.sido LIKE %:sido% AND s.address.sigun LIKE %:sigun% " +
-           "AND s.isActive = true")
-    Page<Store> findByCategoryTypeAndRegion(
+           "AND s.sidoCode = :sidoCode AND s.isActive = true")
+    Page<Store> findByCategoryAndSidoCode(
         @Param("category") Category category,
-        @Param("sido") String sido,
-        @Param("sigun") String sigun,
+        @Param("sidoCode") Integer sidoCode,
         Pageable pageable
     );
 
     /**
-     * 복합 검색: 업소명 + 업종 + 지역
+     * 복합 검색: 업종 + 시군구 코드
+     */
+    @Query("SELECT s FROM Store s WHERE s.category = :category " +
+           "AND s.sigunCode IN :sigunCodes AND s.isActive = true")
+    Page<Store> findByCategoryAndSigunCodes(
+        @Param("category") Category category,
+        @Param("sigunCodes") List<Integer> sigunCodes,
+        Pageable pageable
+    );
+
+    /**
+     * 복합 검색: 업소명 + 업종 + 시도 코드
      */
     @Query("SELECT s FROM Store s WHERE s.storeName LIKE %:storeName% " +
            "AND s.category = :category " +
-           "AND s.address.sido LIKE %:sido% " +
+           "AND s.sidoCode = :sidoCode " +
            "AND s.isActive = true")
-    Page<Store> findByStoreNameAndCategoryAndSido(
+    Page<Store> findByStoreNameAndCategoryAndSidoCode(
         @Param("storeName") String storeName,
         @Param("category") Category category,
-        @Param("sido") String sido,
+        @Param("sidoCode") Integer sidoCode,
         Pageable pageable
     );
 
@@ -130,19 +159,6 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
            "OR s.address.longitude IS NULL) AND s.isActive = true")
     List<Store> findStoresWithoutCoordinates();
 
-    /**
-     * 업종별 업소 수 조회
-     */
-    @Query("SELECT s.category, COUNT(s) FROM Store s WHERE s.isActive = true GROUP BY s.category")
-    List<Object[]> countByCategory();
-
-    /**
-     * 지역별 업소 수 조회
-     */
-    @Query("SELECT s.address.sido, s.address.sigun, COUNT(s) FROM Store s " +
-           "WHERE s.isActive = true GROUP BY s.address.sido, s.address.sigun")
-    List<Object[]> countByRegion();
-
 
     /**
      * 주어진 ID 목록의 Store와 메뉴를 fetch join으로 함께 조회
@@ -156,4 +172,149 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     @Query("SELECT DISTINCT s FROM Store s LEFT JOIN FETCH s.menus WHERE s.address.latitude IS NOT NULL " +
            "AND s.address.longitude IS NOT NULL AND s.isActive = true")
     List<Store> findStoresWithCoordinatesFetchMenus();
+
+    /**
+     * 활성화된 업소 전체를 스트리밍 조회 (내보내기용)
+     * MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때 결과를 한 행씩 스트리밍한다.
+     * 트랜잭션 안에서 소비하고 반드시 close 해야 한다.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+        @QueryHint(name = HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT s FROM Store s WHERE s.isActive = true ORDER BY s.id")
+    Stream<Store> streamActiveStores();
+
+    // === 프로젝션 조회 (엔티티 미적재) ===
+
+    /**
+     * 지도 표시용 좌표 프로젝션 조회
+     */
+    @Query("SELECT new com.example.demo.domain.store.vo.StoreMapPoint(" +
+           "s.id, s.storeName, s.category, s.address.latitude, s.address.longitude, s.address.fullAddress) " +
+           "FROM Store s WHERE s.address.latitude IS NOT NULL " +
+           "AND s.address.longitude IS NOT NULL AND s.isActive = true")
+    List<StoreMapPoint> findMapPoints();
+
+    /**
+     * 거리 정렬용 최소 좌표 프로젝션 조회
+     */
+    @Query("SELECT new com.example.demo.domain.store.vo.StoreCoordinate(" +
+           "s.id, s.address.latitude, s.address.longitude) " +
+           "FROM Store s WHERE s.address.latitude IS NOT NULL " +
+           "AND s.address.longitude IS NOT NULL AND s.isActive = true")
+    List<StoreCoordinate> findCoordinates();
+
+    /**
+     * 활성화된 업소 요약 프로젝션 조회 (페이징)
+     */
+    @Query(value = "SELECT new com.example.demo.domain.store.vo.StoreSummary(" +
+                   "s.id, s.storeName, s.category, s.majorCategory, s.subCategory, s.contactNumber, " +
+                   "s.address.sido, s.address.sigun, s.address.fullAddress, " +
+                   "s.address.latitude, s.address.longitude, s.isActive, s.createdDate, s.lastModifiedDate) " +
+                   "FROM Store s WHERE s.isActive = true",
+           countQuery = "SELECT COUNT(s) FROM Store s WHERE s.isActive = true")
+    Page<StoreSummary> findActiveSummaries(Pageable pageable);
+
+    /**
+     * 좌표가 있는 활성화된 업소 요약 프로젝션 조회 (메모리 인덱스 구성용)
+     */
+    @Query("SELECT new com.example.demo.domain.store.vo.StoreSummary(" +
+           "s.id, s.storeName, s.category, s.majorCategory, s.subCategory, s.contactNumber, " +
+           "s.address.sido, s.address.sigun, s.address.fullAddress, " +
+           "s.address.latitude, s.address.longitude, s.isActive, s.createdDate, s.lastModifiedDate) " +
+           "FROM Store s WHERE s.address.latitude IS NOT NULL " +
+           "AND s.address.longitude IS NOT NULL AND s.isActive = true")
+    List<StoreSummary> findSummariesWithCoordinates();
+
+    /**
+     * 비활성 업소를 포함한 전체 업소 요약 프로젝션 조회 (패싯 인덱스 구성용)
+     */
+    @Query("SELECT new com.example.demo.domain.store.vo.StoreSummary(" +
+           "s.id, s.storeName, s.category, s.majorCategory, s.subCategory, s.contactNumber, " +
+           "s.address.sido, s.address.sigun, s.address.fullAddress, " +
+           "s.address.latitude, s.address.longitude, s.isActive, s.createdDate, s.lastModifiedDate) " +
+           "FROM Store s ORDER BY s.id")
+    List<StoreSummary> findAllSummaries();
+
+    /**
+     * 주어진 ID 목록의 업소 요약 프로젝션 조회 (순서 보장 없음)
+     */
+    @Query("SELECT new com.example.demo.domain.store.vo.StoreSummary(" +
+           "s.id, s.storeName, s.category, s.majorCategory, s.subCategory, s.contactNumber, " +
+           "s.address.sido, s.address.sigun, s.address.fullAddress, " +
+           "s.address.latitude, s.address.longitude, s.isActive, s.createdDate, s.lastModifiedDate) " +
+           "FROM Store s WHERE s.id IN :ids")
+    List<StoreSummary> findSummariesByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 반경 내 업소 ID와 거리만 (거리, 업소 ID) 순으로 조회 (Haversine 공식 사용)
+     * 반경을 감싸는 위경도 범위(CoordinateRange.around)로 먼저 좁혀 idx_store_coordinates 를 타게 하고,
+     * 범위 안의 업소만 거리를 계산한다.
+     */
+    @Query(value = """
+        SELECT s.store_id AS storeId,
+               (6371 * acos(cos(radians(:latitude)) * cos(radians(s.latitude)) *
+               cos(radians(s.longitude) - radians(:longitude)) +
+               sin(radians(:latitude)) * sin(radians(s.latitude)))) AS distance
+        FROM store s
+        WHERE s.latitude BETWEEN :minLatitude AND :maxLatitude
+          AND s.longitude BETWEEN :minLongitude AND :maxLongitude
+          AND s.is_active = true
+        HAVING distance <= :radiusKm
+        ORDER BY distance, storeId
+        LIMIT :limit
+        """,
+        nativeQuery = true)
+    List<StoreDistanceProjection> findStoreDistancesWithinRadius(
+        @Param("latitude") Double latitude,
+        @Param("longitude") Double longitude,
+        @Param("radiusKm") Double radiusKm,
+        @Param("minLatitude") double minLatitude,
+        @Param("maxLatitude") double maxLatitude,
+        @Param("minLongitude") double minLongitude,
+        @Param("maxLongitude") double maxLongitude,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 반경 내 업소 중 (afterDistance, afterStoreId) 뒤의 업소만 (거리, 업소 ID) 순으로 조회 (커서 조회)
+     * 같은 좌표/업소에 대해 거리 계산식이 같으므로 이전 페이지가 받은 거리 값과 정확히 비교할 수 있다.
+     */
+    @Query(value = """
+        SELECT s.store_id AS storeId,
+               (6371 * acos(cos(radians(:latitude)) * cos(radians(s.latitude)) *
+               cos(radians(s.longitude) - radians(:longitude)) +
+               sin(radians(:latitude)) * sin(radians(s.latitude)))) AS distance
+        FROM store s
+        WHERE s.latitude BETWEEN :minLatitude AND :maxLatitude
+          AND s.longitude BETWEEN :minLongitude AND :maxLongitude
+          AND s.is_active = true
+        HAVING distance <= :radiusKm
+           AND (distance > :afterDistance OR (distance = :afterDistance AND storeId > :afterStoreId))
+        ORDER BY distance, storeId
+        LIMIT :limit
+        """,
+        nativeQuery = true)
+    List<StoreDistanceProjection> findStoreDistancesWithinRadiusAfter(
+        @Param("latitude") Double latitude,
+        @Param("longitude") Double longitude,
+        @Param("radiusKm") Double radiusKm,
+        @Param("minLatitude") double minLatitude,
+        @Param("maxLatitude") double maxLatitude,
+        @Param("minLongitude") double minLongitude,
+        @Param("maxLongitude") double maxLongitude,
+        @Param("afterDistance") double afterDistance,
+        @Param("afterStoreId") long afterStoreId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 업소 ID/거리 Projection 인터페이스
+     */
+    interface StoreDistanceProjection {
+        Long getStoreId();
+        Double getDistance();
+    }
 }
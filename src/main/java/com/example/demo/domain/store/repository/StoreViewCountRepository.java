@@ -0,0 +1,35 @@
+package com.example.demo.domain.store.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업소 조회 수 누적 (JDBC batch UPDATE)
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreViewCountRepository {
+
+    private static final String INCREMENT_SQL = "UPDATE store SET view_count = view_count + ? WHERE store_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 업소별 증가분을 한 번의 batch 로 더한다
+     * 노드 간 행 잠금 순서를 맞추기 위해 호출 측은 업소 ID 순으로 정렬된 맵을 넘긴다.
+     */
+    public void incrementAll(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((storeId, delta) -> args.add(new Object[]{delta, storeId}));
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, args);
+    }
+}
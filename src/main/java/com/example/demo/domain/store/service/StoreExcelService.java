@@ -1,10 +1,13 @@
 package com.example.demo.domain.store.service;
 
 
+import com.example.demo.domain.store.dictionary.StoreCodeDictionary;
 import com.example.demo.domain.store.entity.Address;
 import com.example.demo.domain.store.entity.Category;
 import com.example.demo.domain.store.entity.Store;
 import com.example.demo.domain.store.entity.StoreMenu;
+import com.example.demo.domain.outbox.entity.ChangeType;
+import com.example.demo.domain.outbox.service.OutboxService;
 import com.example.demo.domain.store.repository.StoreRepository;
 import com.example.demo.domain.store.repository.StoreMenuRepository;
 import com.example.demo.domain.store.exception.StoreHandler;
@@ -13,7 +16,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.BufferedReader;
@@ -32,6 +35,9 @@ public class StoreExcelService {
 
     private final StoreRepository storeRepository;
     private final StoreMenuRepository storeMenuRepository;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final StoreCodeDictionary storeCodeDictionary;
     private final int BATCH_SIZE = 1000;
 
     public void importStoresFromFile(MultipartFile file) {
@@ -160,67 +166,87 @@ public class StoreExcelService {
     }
 
 
-    @Transactional
     private void saveBatch(List<Store> stores, List<StoreMenu> menus) {
         if (stores.isEmpty()) return;
-        
-        try {
-            // 1단계: 모든 Store의 ID를 null로 설정 (새 엔티티 보장)
-            List<Store> newStores = stores.stream()
-                .map(store -> Store.builder()
-                    .storeName(store.getStoreName())
-                    .category(store.getCategory())
-                    .majorCategory(store.getMajorCategory())
-                    .subCategory(store.getSubCategory())
-                    .contactNumber(store.getContactNumber())
-                    .address(store.getAddress())
-                    .isActive(store.isActive())
-                    .build())
-                .collect(Collectors.toList());
+
+        // private 메서드에는 @Transactional 프록시가 적용되지 않으므로 배치 단위 트랜잭션을 명시적으로 연다
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                // 1단계: 모든 Store의 ID를 null로 설정 (새 엔티티 보장)
+                List<Store> newStores = stores.stream()
+                    .map(store -> Store.builder()
+                        .storeName(store.getStoreName())
+                        .category(store.getCategory())
+                        .majorCategory(store.getMajorCategory())
+                        .subCategory(store.getSubCategory())
+                        .contactNumber(store.getContactNumber())
+                        .address(store.getAddress())
+                        .sidoCode(store.getSidoCode())
+                        .sigunCode(store.getSigunCode())
+                        .majorCategoryCode(store.getMajorCategoryCode())
+                        .subCategoryCode(store.getSubCategoryCode())
+                        .isActive(store.isActive())
+                        .build())
+                    .collect(Collectors.toList());
             
-            // 2단계: Store 저장 (INSERT로 처리됨)
-            List<Store> savedStores = storeRepository.saveAll(newStores);
-            log.debug("{}개 Store 저장 완료", savedStores.size());
+                // 2단계: Store 저장 (INSERT로 처리됨)
+                List<Store> savedStores = storeRepository.saveAll(newStores);
+                log.debug("{}개 Store 저장 완료", savedStores.size());
             
-            // 3단계: 원본 Store와 저장된 Store 매핑
-            Map<String, Store> originalToSavedMap = new HashMap<>();
-            for (int i = 0; i < stores.size() && i < savedStores.size(); i++) {
-                String originalKey = generateStoreKey(stores.get(i));
-                originalToSavedMap.put(originalKey, savedStores.get(i));
-            }
+                // 3단계: 원본 Store와 저장된 Store 매핑
+                Map<String, Store> originalToSavedMap = new HashMap<>();
+                for (int i = 0; i < stores.size() && i < savedStores.size(); i++) {
+                    String originalKey = generateStoreKey(stores.get(i));
+                    originalToSavedMap.put(originalKey, savedStores.get(i));
+                }
             
-            // 4단계: StoreMenu에 저장된 Store 연결
-            List<StoreMenu> menusWithSavedStore = menus.stream()
-                .map(menu -> {
-                    String originalStoreKey = generateStoreKey(menu.getStore());
-                    Store savedStore = originalToSavedMap.get(originalStoreKey);
-                    if (savedStore != null) {
-                        return StoreMenu.builder()
-                            .store(savedStore)
-                            .menuName(menu.getMenuName())
-                            .price(menu.getPrice())
-                            .minPrice(menu.getMinPrice())
-                            .maxPrice(menu.getMaxPrice())
-                            .menuOrder(menu.getMenuOrder())
-                            .build();
-                    }
-                    return null;
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+                // 4단계: StoreMenu에 저장된 Store 연결
+                List<StoreMenu> menusWithSavedStore = menus.stream()
+                    .map(menu -> {
+                        String originalStoreKey = generateStoreKey(menu.getStore());
+                        Store savedStore = originalToSavedMap.get(originalStoreKey);
+                        if (savedStore != null) {
+                            return StoreMenu.builder()
+                                .store(savedStore)
+                                .menuName(menu.getMenuName())
+                                .price(menu.getPrice())
+                                .minPrice(menu.getMinPrice())
+                                .maxPrice(menu.getMaxPrice())
+                                .menuOrder(menu.getMenuOrder())
+                                .build();
+                        }
+                        return null;
+                    })
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
             
-            // 5단계: StoreMenu 저장
-            if (!menusWithSavedStore.isEmpty()) {
-                storeMenuRepository.saveAll(menusWithSavedStore);
-                log.debug("{}개 StoreMenu 저장 완료", menusWithSavedStore.size());
-            }
+                // 5단계: StoreMenu 저장
+                if (!menusWithSavedStore.isEmpty()) {
+                    storeMenuRepository.saveAll(menusWithSavedStore);
+                    log.debug("{}개 StoreMenu 저장 완료", menusWithSavedStore.size());
+                }
+
+                // 6단계: 같은 트랜잭션에서 아웃박스에 생성 이벤트 기록
+                outboxService.recordStoresChanged(
+                    savedStores.stream().map(Store::getId).toList(), ChangeType.CREATED);
             
-        } catch (Exception e) {
-            log.error("배치 저장 중 오류 발생: {}", e.getMessage(), e);
-            throw new StoreHandler(StoreErrorStatus.DATABASE_ERROR);
-        }
+            } catch (Exception e) {
+                log.error("배치 저장 중 오류 발생: {}", e.getMessage(), e);
+                throw new StoreHandler(StoreErrorStatus.DATABASE_ERROR);
+            }
+        });
     }
-    
+
+    /**
+     * 시도 약칭/공백 차이를 정식 명칭으로 맞추고 지역/분류 코드 부여
+     * 같은 파일 안에서는 명칭 종류만큼만 사전에 새 코드가 저장되고, 나머지는 메모리 조회로 끝난다.
+     */
+    private void applyCodes(Store store) {
+        Address address = store.getAddress();
+        store.applyRegionCode(storeCodeDictionary.resolveRegion(address.getSido(), address.getSigun()));
+        store.applyCategoryCode(storeCodeDictionary.resolveCategory(store.getMajorCategory(), store.getSubCategory()));
+    }
+
     private String generateStoreKey(Store store) {
         return store.getStoreName() + "_" + 
                (store.getAddress() != null ? store.getAddress().getFullAddress() : "") + "_" +
@@ -245,7 +271,7 @@ public class StoreExcelService {
             Category.Classification classification = Category.classify(businessTypeStr);
             Address address = new Address(sido, sigun, fullAddress, latitude, longitude);
             
-            return Store.builder()
+            Store store = Store.builder()
                 .storeName(storeName)
                 .category(classification.type())
                 .majorCategory(classification.majorCategory())
@@ -253,6 +279,8 @@ public class StoreExcelService {
                 .contactNumber(contactNumber)
                 .address(address)
                 .build();
+            applyCodes(store);
+            return store;
             
         } catch (Exception e) {
             log.warn("Store 변환 중 오류: {}", e.getMessage());
@@ -323,7 +351,7 @@ public class StoreExcelService {
             Category.Classification classification = Category.classify(businessTypeStr);
             Address address = new Address(sido, sigun, fullAddress, latitude, longitude);
             
-            return Store.builder()
+            Store store = Store.builder()
                 .storeName(storeName)
                 .category(classification.type())
                 .majorCategory(classification.majorCategory())
@@ -331,6 +359,8 @@ public class StoreExcelService {
                 .contactNumber(contactNumber)
                 .address(address)
                 .build();
+            applyCodes(store);
+            return store;
             
         } catch (Exception e) {
             log.warn("CSV Store 변환 중 오류: {}", e.getMessage());
@@ -1,15 +1,20 @@
 package com.example.demo.domain.store.service;
 
+import com.example.demo.domain.outbox.entity.ChangeType;
+import com.example.demo.domain.outbox.service.OutboxService;
 import com.example.demo.domain.store.entity.Address;
 import com.example.demo.domain.store.entity.Category;
 import com.example.demo.domain.store.entity.Store;
 import com.example.demo.domain.store.exception.StoreErrorStatus;
 import com.example.demo.domain.store.exception.StoreHandler;
 import com.example.demo.domain.store.adaptor.StoreAdaptor;
+import com.example.demo.domain.store.dictionary.StoreCodeDictionary;
+import com.example.demo.domain.store.event.StoreDetailChangedEvent;
 import com.example.demo.domain.store.repository.StoreRepository;
 import com.example.demo.domain.store.validator.StoreValidator;
 import com.example.demo.infrastructure.exception.payload.code.ErrorStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +28,9 @@ public class StoreService {
 
     private final StoreRepository storeRepository;
     private final StoreAdaptor storeAdaptor;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StoreCodeDictionary storeCodeDictionary;
 
     public Store createStore(String storeName, Category businessType, String contactNumber,
                            String sido, String sigun, String fullAddress, 
@@ -37,7 +45,10 @@ public class StoreService {
         Store store = (majorCategory != null || subCategory != null)
             ? Store.create(storeName, businessType, contactNumber, address, majorCategory, subCategory)
             : Store.create(storeName, businessType, contactNumber, address);
-        return storeRepository.save(store);
+        applyCodes(store);
+        Store savedStore = storeRepository.save(store);
+        outboxService.recordStoreChanged(savedStore.getId(), ChangeType.CREATED);
+        return savedStore;
     }
 
     public Store updateStore(Long storeId, String storeName, Category businessType, 
@@ -62,7 +73,11 @@ public class StoreService {
                 if (sub == null) sub = cls.subCategory();
             }
             updatedStore.updateCategories(major, sub);
+            updatedStore.applyCategoryCode(
+                storeCodeDictionary.resolveCategory(updatedStore.getMajorCategory(), updatedStore.getSubCategory()));
         }
+        outboxService.recordStoreChanged(storeId, ChangeType.UPDATED);
+        eventPublisher.publishEvent(new StoreDetailChangedEvent(storeId));
         return storeRepository.save(updatedStore);
     }
 
@@ -70,6 +85,8 @@ public class StoreService {
         Store store = findStoreById(storeId);
         StoreValidator.validateCoordinates(latitude, longitude);
         store.updateCoordinates(latitude, longitude);
+        outboxService.recordStoreChanged(storeId, ChangeType.UPDATED);
+        eventPublisher.publishEvent(new StoreDetailChangedEvent(storeId));
         return storeRepository.save(store);
     }
 
@@ -77,12 +94,16 @@ public class StoreService {
         Store store = findStoreById(storeId);
         StoreValidator.validateMenuInfo(menuName, price);
         store.addMenu(menuName, price);
+        outboxService.recordStoreChanged(storeId, ChangeType.UPDATED);
+        eventPublisher.publishEvent(new StoreDetailChangedEvent(storeId));
         return storeRepository.save(store);
     }
 
     public Store toggleStoreStatus(Long storeId) {
         Store store = findStoreById(storeId);
         store.toggleActiveStatus();
+        outboxService.recordStoreChanged(storeId, ChangeType.UPDATED);
+        eventPublisher.publishEvent(new StoreDetailChangedEvent(storeId));
         return storeRepository.save(store);
     }
 
@@ -91,12 +112,16 @@ public class StoreService {
         if (store.isActive()) {
             store.toggleActiveStatus();
             storeRepository.save(store);
+            outboxService.recordStoreChanged(storeId, ChangeType.DELETED);
+            eventPublisher.publishEvent(new StoreDetailChangedEvent(storeId));
         }
     }
 
     public void permanentDeleteStore(Long storeId) {
         Store store = findStoreById(storeId);
         storeRepository.delete(store);
+        outboxService.recordStoreChanged(storeId, ChangeType.DELETED);
+        eventPublisher.publishEvent(new StoreDetailChangedEvent(storeId));
     }
 
     public List<Store> bulkCreateStores(List<StoreExcelData> excelDataList) {
@@ -110,6 +135,17 @@ public class StoreService {
             .orElseThrow(() -> new StoreHandler(StoreErrorStatus.STORE_NOT_FOUND));
     }
 
+    /**
+     * 지역/분류 명칭 정규화 및 코드 부여
+     */
+    private void applyCodes(Store store) {
+        Address address = store.getAddress();
+        if (address != null) {
+            store.applyRegionCode(storeCodeDictionary.resolveRegion(address.getSido(), address.getSigun()));
+        }
+        store.applyCategoryCode(storeCodeDictionary.resolveCategory(store.getMajorCategory(), store.getSubCategory()));
+    }
+
     private void validateAddress(Address address) {
         if (!address.isValidAddress()) {
             throw new StoreHandler(StoreErrorStatus.INVALID_COORDINATES);
@@ -138,8 +174,11 @@ public class StoreService {
             );
 
             addMenusFromExcelData(store, data);
+            applyCodes(store);
 
-            return storeRepository.save(store);
+            Store savedStore = storeRepository.save(store);
+            outboxService.recordStoreChanged(savedStore.getId(), ChangeType.CREATED);
+            return savedStore;
             
         } catch (Exception e) {
             throw new StoreHandler(ErrorStatus._BAD_REQUEST);
@@ -0,0 +1,11 @@
+package com.example.demo.domain.store.stats;
+
+/**
+ * 통계 묶음 기준
+ */
+public enum StatsDimension {
+    SIDO,
+    SIGUN,
+    CATEGORY,
+    MAJOR_CATEGORY
+}
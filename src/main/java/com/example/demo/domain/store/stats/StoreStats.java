@@ -0,0 +1,56 @@
+package com.example.demo.domain.store.stats;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 통계 셀 값 (활성 업소 기준)
+ * 평균 메뉴 가격은 메뉴 단위, 평균 평점은 리뷰 단위 가중 평균이다.
+ */
+public record StoreStats(StoreStatsKey key,
+                         long storeCount,
+                         long menuCount,
+                         BigDecimal menuPriceSum,
+                         long reviewCount,
+                         long ratingSum) {
+
+    static StoreStats empty(StoreStatsKey key) {
+        return new StoreStats(key, 0, 0, BigDecimal.ZERO, 0, 0);
+    }
+
+    StoreStats plus(StoreStats other) {
+        return new StoreStats(key,
+            storeCount + other.storeCount,
+            menuCount + other.menuCount,
+            menuPriceSum.add(other.menuPriceSum),
+            reviewCount + other.reviewCount,
+            ratingSum + other.ratingSum);
+    }
+
+    StoreStats minus(StoreStats other) {
+        return new StoreStats(key,
+            storeCount - other.storeCount,
+            menuCount - other.menuCount,
+            menuPriceSum.subtract(other.menuPriceSum),
+            reviewCount - other.reviewCount,
+            ratingSum - other.ratingSum);
+    }
+
+    StoreStats withKey(StoreStatsKey newKey) {
+        return new StoreStats(newKey, storeCount, menuCount, menuPriceSum, reviewCount, ratingSum);
+    }
+
+    public BigDecimal averageMenuPrice() {
+        if (menuCount == 0) {
+            return BigDecimal.ZERO;
+        }
+        return menuPriceSum.divide(BigDecimal.valueOf(menuCount), 0, RoundingMode.HALF_UP);
+    }
+
+    public double averageRating() {
+        if (reviewCount == 0) {
+            return 0.0;
+        }
+        return Math.round((double) ratingSum / reviewCount * 10.0) / 10.0;
+    }
+}
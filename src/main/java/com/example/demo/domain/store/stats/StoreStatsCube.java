@@ -0,0 +1,258 @@
+package com.example.demo.domain.store.stats;
+
+import com.example.demo.domain.review.adaptor.ReviewAdaptor;
+import com.example.demo.domain.review.event.ReviewChangedEvent;
+import com.example.demo.domain.review.vo.StoreRatingAggregate;
+import com.example.demo.domain.store.adaptor.StoreAdaptor;
+import com.example.demo.domain.store.event.StoreChangedEvent;
+import com.example.demo.domain.store.vo.StoreMenuStats;
+import com.example.demo.domain.store.vo.StoreSummary;
+import com.example.demo.infrastructure.config.datasource.DataSourceRoutingContext;
+import com.example.demo.infrastructure.config.datasource.RecentChangeTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 업소 통계 큐브 (시도, 시군, 업종, 대분류) → 업소 수, 메뉴 수/가격 합계, 리뷰 수/평점 합계
+ * 활성 업소만 집계한다. 가장 세밀한 셀만 보관하고, 상위 묶음(지역별, 업종별 등)은 조회 시 셀을 합산한다.
+ *
+ * 업소별 기여분을 함께 보관하여 업소/리뷰 변경 이벤트가 오면 해당 업소의 이전 기여분을 빼고 새 기여분을 더한다.
+ * 합계만 보관하므로 평균은 조회 시 계산하며, 최대 보관 시간이 지나면 DB 기준으로 전체 재구성한다.
+ */
+@Slf4j
+@Component
+public class StoreStatsCube {
+
+    private static final Comparator<StoreStats> BY_STORE_COUNT_DESC =
+        Comparator.comparingLong(StoreStats::storeCount).reversed();
+
+    private final StoreAdaptor storeAdaptor;
+    private final ReviewAdaptor reviewAdaptor;
+    private final Duration maxAge;
+
+    // DB 조회를 감싸므로 synchronized 대신 사용 (가상 스레드가 캐리어 스레드에 고정되지 않도록)
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final RecentChangeTracker<Long> recentChanges = new RecentChangeTracker<>();
+    private volatile Cube cube;
+
+    public StoreStatsCube(StoreAdaptor storeAdaptor,
+                          ReviewAdaptor reviewAdaptor,
+                          @Value("${app.store.stats.max-age-seconds:3600}") long maxAgeSeconds) {
+        this.storeAdaptor = storeAdaptor;
+        this.reviewAdaptor = reviewAdaptor;
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+    }
+
+    /**
+     * 필터에 맞는 셀을 groupBy 기준으로 합산 (업소 수 내림차순)
+     * groupBy 가 비어 있으면 전체 합계 한 행을 반환한다.
+     */
+    public List<StoreStats> rollUp(Set<StatsDimension> groupBy, StoreStatsKey filter) {
+        Map<StoreStatsKey, StoreStats> grouped = new HashMap<>();
+        for (StoreStats cell : current().cells.values()) {
+            if (!filter.matches(cell.key())) {
+                continue;
+            }
+            StoreStatsKey key = cell.key().rollUp(groupBy);
+            grouped.merge(key, cell.withKey(key), StoreStats::plus);
+        }
+
+        if (groupBy.isEmpty() && grouped.isEmpty()) {
+            return List.of(StoreStats.empty(StoreStatsKey.ALL));
+        }
+        List<StoreStats> rows = new ArrayList<>(grouped.values());
+        rows.sort(BY_STORE_COUNT_DESC);
+        return rows;
+    }
+
+    /**
+     * 필터에 맞는 전체 합계
+     */
+    public StoreStats total(StoreStatsKey filter) {
+        return rollUp(Set.of(), filter).get(0);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            current();
+        } catch (RuntimeException e) {
+            // 첫 조회 시 다시 구성한다
+            log.warn("업소 통계 큐브 초기 구성 실패", e);
+        }
+    }
+
+    @EventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        refresh(event.storeIds());
+    }
+
+    @EventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        refresh(event.storeIds());
+    }
+
+    /**
+     * 변경된 업소의 기여분을 현재 DB 상태로 교체 (구성 전이면 다음 구성에서 반영되므로 무시)
+     * 같은 변경이 다시 전달되어도 이전 기여분을 빼고 다시 더하므로 결과는 같다.
+     */
+    void refresh(Collection<Long> changedStoreIds) {
+        if (changedStoreIds.isEmpty()) {
+            return;
+        }
+        recentChanges.markChanged();
+        if (cube == null) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            Cube current = cube;
+            if (current == null) {
+                return;
+            }
+            List<Long> storeIds = List.copyOf(changedStoreIds);
+            // 커밋 직후 이벤트이므로 레플리카 지연으로 이전 상태를 반영하지 않도록 primary 에서 읽는다
+            Map<Long, StoreSummary> stores = DataSourceRoutingContext.callOnPrimary(() -> storeAdaptor.querySummaries(storeIds))
+                .stream()
+                .collect(Collectors.toMap(StoreSummary::storeId, Function.identity()));
+            Map<Long, StoreMenuStats> menus = DataSourceRoutingContext.callOnPrimary(() -> storeAdaptor.queryMenuStats(storeIds))
+                .stream()
+                .collect(Collectors.toMap(StoreMenuStats::storeId, Function.identity()));
+            Map<Long, ReviewAdaptor.StoreRatingInfo> ratings =
+                DataSourceRoutingContext.callOnPrimary(() -> reviewAdaptor.queryStoreRatings(storeIds));
+
+            Map<Long, StoreStats> changed = new HashMap<>();
+            for (Long storeId : storeIds) {
+                ReviewAdaptor.StoreRatingInfo rating = ratings.get(storeId);
+                changed.put(storeId, contribution(stores.get(storeId), menus.get(storeId),
+                    rating == null ? 0L : rating.getReviewCount(),
+                    rating == null ? 0.0 : rating.getAverageRating()));
+            }
+            current.replaceAll(changed);
+        } catch (RuntimeException e) {
+            log.warn("업소 통계 큐브 갱신 실패, 재구성 예정 - storeIds: {}", changedStoreIds, e);
+            cube = null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Cube current() {
+        Cube current = cube;
+        if (current != null && !current.builtAt.plus(maxAge).isBefore(Instant.now())) {
+            return current;
+        }
+
+        if (current != null && !writeLock.tryLock()) {
+            // 다른 스레드가 재구성 중이면 기존 큐브로 응답
+            return current;
+        }
+        if (current == null) {
+            writeLock.lock();
+        }
+        try {
+            Cube latest = cube;
+            if (latest != null && !latest.builtAt.plus(maxAge).isBefore(Instant.now())) {
+                return latest;
+            }
+            // 변경 직후 구성(갱신 실패 후 재구성 등)만 primary 에서 읽고, 시작 시/최대 보관 시간 만료 구성은 레플리카에서 읽는다
+            Cube built = recentChanges.callOnPrimaryIfRecent(this::build);
+            cube = built;
+            log.info("업소 통계 큐브 구성 완료: {}개 업소, {}개 셀", built.contributions.size(), built.cells.size());
+            return built;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Cube build() {
+        Map<Long, StoreMenuStats> menus = storeAdaptor.queryMenuStats().stream()
+            .collect(Collectors.toMap(StoreMenuStats::storeId, Function.identity()));
+        Map<Long, StoreRatingAggregate> ratings = reviewAdaptor.queryRatingAggregates().stream()
+            .collect(Collectors.toMap(StoreRatingAggregate::storeId, Function.identity()));
+
+        Map<Long, StoreStats> contributions = new HashMap<>();
+        for (StoreSummary store : storeAdaptor.queryAllSummaries()) {
+            StoreRatingAggregate rating = ratings.get(store.storeId());
+            contributions.put(store.storeId(), contribution(store, menus.get(store.storeId()),
+                rating == null ? 0L : rating.reviewCount(),
+                rating == null ? 0.0 : rating.averageRating()));
+        }
+        Cube built = new Cube(Instant.now());
+        built.replaceAll(contributions);
+        return built;
+    }
+
+    /**
+     * 업소 하나의 기여분 (삭제/비활성 업소는 null)
+     * 평점은 1~5 정수이므로 평균 x 리뷰 수를 반올림하면 평점 합계가 된다.
+     */
+    private static StoreStats contribution(StoreSummary store, StoreMenuStats menu, long reviewCount, double averageRating) {
+        if (store == null || !store.active()) {
+            return null;
+        }
+        StoreStatsKey key = new StoreStatsKey(store.sido(), store.sigun(), store.category(), store.majorCategory());
+        return new StoreStats(key, 1,
+            menu == null ? 0 : menu.menuCount(),
+            menu == null || menu.priceSum() == null ? BigDecimal.ZERO : menu.priceSum(),
+            reviewCount,
+            Math.round(averageRating * reviewCount));
+    }
+
+    /**
+     * 셀과 업소별 기여분 (변경은 writeLock 안에서만)
+     * 변경된 업소의 기여분을 셀 사본에 모두 반영한 뒤 셀 맵을 한 번에 교체하므로,
+     * 조회는 잠금 없이 읽어도 기여분을 뺀 뒤 더하기 전의 중간 상태나 일부 업소만 반영된 상태를 보지 않는다.
+     */
+    private static final class Cube {
+
+        private final Instant builtAt;
+        private final Map<Long, StoreStats> contributions = new HashMap<>();
+        private volatile Map<StoreStatsKey, StoreStats> cells = Map.of();
+
+        private Cube(Instant builtAt) {
+            this.builtAt = builtAt;
+        }
+
+        /**
+         * @param changed 업소 ID → 새 기여분 (삭제/비활성 업소는 null)
+         */
+        private void replaceAll(Map<Long, StoreStats> changed) {
+            Map<StoreStatsKey, StoreStats> next = new HashMap<>(cells);
+            changed.forEach((storeId, contribution) -> {
+                StoreStats previous = contribution == null
+                    ? contributions.remove(storeId)
+                    : contributions.put(storeId, contribution);
+                if (previous != null) {
+                    next.computeIfPresent(previous.key(), (key, cell) -> {
+                        StoreStats remaining = cell.minus(previous);
+                        return remaining.storeCount() <= 0 ? null : remaining;
+                    });
+                }
+                if (contribution != null) {
+                    next.merge(contribution.key(), contribution, StoreStats::plus);
+                }
+            });
+            cells = Collections.unmodifiableMap(next);
+        }
+    }
+}
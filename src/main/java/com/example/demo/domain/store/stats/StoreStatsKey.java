@@ -0,0 +1,56 @@
+package com.example.demo.domain.store.stats;
+
+import com.example.demo.domain.store.entity.Category;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 통계 셀 좌표 (시도, 시군, 업종, 대분류)
+ * 필터로 쓸 때는 null 인 항목이 조건 없음을, 집계 결과에서는 묶지 않은(roll-up 된) 항목을 뜻한다.
+ */
+public record StoreStatsKey(String sido, String sigun, Category category, String majorCategory) {
+
+    public static final StoreStatsKey ALL = new StoreStatsKey(null, null, null, null);
+
+    /**
+     * 필터 조건 일치 여부 (this 가 필터)
+     */
+    public boolean matches(StoreStatsKey cell) {
+        return (sido == null || sido.equals(cell.sido))
+               && (sigun == null || sigun.equals(cell.sigun))
+               && (category == null || category == cell.category)
+               && (majorCategory == null || majorCategory.equals(cell.majorCategory));
+    }
+
+    /**
+     * 묶음 기준에 없는 항목을 비운 상위 셀 좌표
+     * 시군은 이름이 겹칠 수 있으므로(예: 중구) 시군으로 묶을 때는 시도도 함께 남긴다.
+     */
+    public StoreStatsKey rollUp(Set<StatsDimension> groupBy) {
+        boolean bySigun = groupBy.contains(StatsDimension.SIGUN);
+        return new StoreStatsKey(
+            groupBy.contains(StatsDimension.SIDO) || bySigun ? sido : null,
+            bySigun ? sigun : null,
+            groupBy.contains(StatsDimension.CATEGORY) ? category : null,
+            groupBy.contains(StatsDimension.MAJOR_CATEGORY) ? majorCategory : null
+        );
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof StoreStatsKey other)) {
+            return false;
+        }
+        return Objects.equals(sido, other.sido) && Objects.equals(sigun, other.sigun)
+               && category == other.category && Objects.equals(majorCategory, other.majorCategory);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sido, sigun, category, majorCategory);
+    }
+}
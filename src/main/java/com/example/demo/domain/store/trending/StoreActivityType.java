@@ -0,0 +1,9 @@
+package com.example.demo.domain.store.trending;
+
+/**
+ * 인기 업소 집계 대상 활동
+ */
+public enum StoreActivityType {
+    VIEW,
+    REVIEW
+}
@@ -0,0 +1,408 @@
+package com.example.demo.domain.store.trending;
+
+import com.example.demo.domain.store.repository.StoreActivityBulkRepository;
+import com.example.demo.domain.store.repository.StoreActivityBulkRepository.ActivityDelta;
+import com.example.demo.domain.store.repository.StoreActivityBulkRepository.ActivityTotal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongPredicate;
+
+/**
+ * 업소별 최근 활동량(조회, 리뷰 작성) 슬라이딩 윈도우 카운터
+ * 요청마다 DB 를 갱신하지 않도록 시간 구간(bucket)별 LongAdder 로 메모리에서 누적하고,
+ * 주기적으로 구간별 증가분을 store_activity 에 한 문장으로 더한다.
+ *
+ * 윈도우는 bucket-seconds 크기 구간 window-buckets 개의 원형 배열이며, 오래된 구간은 새 구간으로 교체된다.
+ * 구간마다 추적 업소 수를 max-stores-per-bucket 으로 제한하므로 메모리 사용량은 구간 수 x 제한 값을 넘지 않는다.
+ * 반영에 실패한 채 밀려난 구간은 남은 증가분만 이월 구간 하나로 합쳐 두므로, 장애가 길어져도 이월분은 같은 제한을 넘지 않는다.
+ * 인기 순위는 주기적으로 읽어 둔 store_activity 윈도우 합계(모든 노드)에, 그 이후 이 노드에 쌓인 증가분을 더해 매긴다.
+ * 다른 노드의 증가분은 그 노드의 반영 주기 + 합계 갱신 주기만큼 늦게 보인다.
+ */
+@Slf4j
+@Component
+public class TrendingStoreCounter {
+
+    private final StoreActivityBulkRepository storeActivityBulkRepository;
+    private final long bucketMillis;
+    private final int windowBuckets;
+    private final int maxStoresPerBucket;
+    private final double reviewWeight;
+    private final int flushBatchSize;
+    private final Duration retention;
+
+    private final AtomicReferenceArray<Bucket> ring;
+    // 원형 배열에서 밀려났지만 아직 DB 에 반영되지 않은 증가분이 남아 있을 수 있는 구간
+    private final ConcurrentLinkedQueue<Bucket> retired = new ConcurrentLinkedQueue<>();
+    // 반영에 실패한 밀려난 구간들의 남은 증가분을 합친 구간 (flushLock 을 잡은 스레드만 접근)
+    private Bucket carryOver;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 마지막으로 읽은 store_activity 윈도우 합계 (storeId -> [views, reviews])
+    private volatile Map<Long, long[]> clusterTotals = Map.of();
+
+    private final Counter droppedCounter;
+    private final Counter flushedCounter;
+    private final Counter flushFailureCounter;
+
+    public TrendingStoreCounter(StoreActivityBulkRepository storeActivityBulkRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.store.trending.bucket-seconds:300}") long bucketSeconds,
+                                @Value("${app.store.trending.window-buckets:12}") int windowBuckets,
+                                @Value("${app.store.trending.max-stores-per-bucket:50000}") int maxStoresPerBucket,
+                                @Value("${app.store.trending.review-weight:5}") double reviewWeight,
+                                @Value("${app.store.trending.flush-batch-size:500}") int flushBatchSize,
+                                @Value("${app.store.trending.retention-hours:168}") long retentionHours) {
+        this.storeActivityBulkRepository = storeActivityBulkRepository;
+        this.bucketMillis = Duration.ofSeconds(bucketSeconds).toMillis();
+        this.windowBuckets = windowBuckets;
+        this.maxStoresPerBucket = maxStoresPerBucket;
+        this.reviewWeight = reviewWeight;
+        this.flushBatchSize = flushBatchSize;
+        this.retention = Duration.ofHours(retentionHours);
+        this.ring = new AtomicReferenceArray<>(windowBuckets);
+
+        this.droppedCounter = Counter.builder("store.trending.dropped")
+            .description("구간별 추적 업소 수 제한으로 버려진 활동 수")
+            .register(meterRegistry);
+        this.flushedCounter = Counter.builder("store.trending.flushed")
+            .description("store_activity 에 반영된 구간별 증가분 행 수")
+            .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("store.trending.flush.failures")
+            .description("store_activity 반영 실패 횟수")
+            .register(meterRegistry);
+        Gauge.builder("store.trending.tracked", this, TrendingStoreCounter::trackedEntries)
+            .description("윈도우 안에서 추적 중인 (구간, 업소) 수")
+            .register(meterRegistry);
+    }
+
+    public void record(Long storeId, StoreActivityType type) {
+        record(storeId, type, System.currentTimeMillis());
+    }
+
+    void record(Long storeId, StoreActivityType type, long nowMillis) {
+        if (storeId == null) {
+            return;
+        }
+
+        Bucket bucket = currentBucket(nowMillis);
+        Counts counts = bucket.counts.get(storeId);
+        if (counts == null) {
+            counts = bucket.track(storeId, maxStoresPerBucket);
+            if (counts == null) {
+                droppedCounter.increment();
+                return;
+            }
+        }
+
+        if (type == StoreActivityType.VIEW) {
+            counts.views.increment();
+        } else {
+            counts.reviews.increment();
+        }
+    }
+
+    /**
+     * 윈도우 안 활동 점수(조회 수 + 리뷰 가중치 x 리뷰 수) 상위 limit 개 업소
+     * @param filter 포함할 업소 ID 조건 (지역 필터 등)
+     */
+    public List<TrendingCount> top(int limit, LongPredicate filter) {
+        long oldestIndex = System.currentTimeMillis() / bucketMillis - windowBuckets;
+
+        Map<Long, long[]> totals = new HashMap<>();
+        clusterTotals.forEach((storeId, total) -> {
+            if (filter.test(storeId)) {
+                totals.put(storeId, new long[]{total[0], total[1]});
+            }
+        });
+        // 합계를 읽은 뒤 이 노드에 쌓인 증가분만 더한다
+        for (int slot = 0; slot < windowBuckets; slot++) {
+            Bucket bucket = ring.get(slot);
+            if (bucket == null || bucket.index <= oldestIndex) {
+                continue;
+            }
+            bucket.counts.forEach((storeId, counts) -> {
+                long views = counts.views.sum() - counts.loadedViews;
+                long reviews = counts.reviews.sum() - counts.loadedReviews;
+                if ((views > 0 || reviews > 0) && filter.test(storeId)) {
+                    long[] total = totals.computeIfAbsent(storeId, id -> new long[2]);
+                    total[0] += views;
+                    total[1] += reviews;
+                }
+            });
+        }
+
+        // limit 크기 최소 힙으로 상위 업소 선택
+        Comparator<TrendingCount> byScore = Comparator.comparingDouble(TrendingCount::score)
+            .thenComparing(TrendingCount::storeId, Comparator.reverseOrder());
+        PriorityQueue<TrendingCount> lowestFirst = new PriorityQueue<>(byScore);
+        totals.forEach((storeId, total) -> {
+            TrendingCount count = new TrendingCount(storeId, total[0], total[1], total[0] + reviewWeight * total[1]);
+            if (count.score() <= 0) {
+                return;
+            }
+            if (lowestFirst.size() < limit) {
+                lowestFirst.add(count);
+            } else if (byScore.compare(count, lowestFirst.peek()) > 0) {
+                lowestFirst.poll();
+                lowestFirst.add(count);
+            }
+        });
+
+        List<TrendingCount> ranked = new ArrayList<>(lowestFirst);
+        ranked.sort(byScore.reversed());
+        return ranked;
+    }
+
+    /**
+     * 마지막 반영 이후 증가분을 store_activity 에 누적
+     * 배치 단위로 반영에 성공한 증가분만 반영 완료로 표시하므로, 실패한 증가분은 다음 주기에 다시 반영된다.
+     */
+    @Scheduled(fixedDelayString = "${app.store.trending.flush-interval-ms:10000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Bucket> drained = new ArrayList<>();
+            Bucket retiredBucket;
+            while ((retiredBucket = retired.poll()) != null) {
+                drained.add(retiredBucket);
+            }
+
+            List<Pending> pending = new ArrayList<>();
+            if (carryOver != null) {
+                collect(carryOver, pending);
+            }
+            for (Bucket bucket : drained) {
+                collect(bucket, pending);
+            }
+            for (int slot = 0; slot < windowBuckets; slot++) {
+                Bucket bucket = ring.get(slot);
+                if (bucket != null) {
+                    collect(bucket, pending);
+                }
+            }
+
+            try {
+                for (int from = 0; from < pending.size(); from += flushBatchSize) {
+                    List<Pending> batch = pending.subList(from, Math.min(from + flushBatchSize, pending.size()));
+                    storeActivityBulkRepository.addAll(batch.stream().map(Pending::delta).toList());
+                    batch.forEach(Pending::markFlushed);
+                    flushedCounter.increment(batch.size());
+                }
+                carryOver = null;
+            } catch (RuntimeException e) {
+                // 밀려난 구간은 구간째 다시 쌓지 않고 남은 증가분만 이월 구간에 합쳐 다음 주기에 반영한다
+                carryOver = mergeUnflushed(drained);
+                flushFailureCounter.increment();
+                log.warn("업소 활동량 반영 실패, 다음 주기에 재시도 - pending: {}", pending.size(), e);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * store_activity 에서 윈도우 합계를 다시 읽는다
+     * 반영과 겹치지 않도록 flushLock 안에서 읽고, 읽은 시점까지 이 노드가 반영한 양을 구간별로 기록해 두어
+     * top 에서 같은 증가분을 두 번 더하지 않게 한다. 실패하면 이전 합계와 기록을 그대로 둔다.
+     */
+    @Scheduled(fixedDelayString = "${app.store.trending.cluster-refresh-ms:10000}")
+    public void refreshClusterTotals() {
+        long oldestIndex = System.currentTimeMillis() / bucketMillis - windowBuckets;
+        LocalDateTime from = toLocalDateTime((oldestIndex + 1) * bucketMillis);
+
+        flushLock.lock();
+        try {
+            List<ActivityTotal> loaded = storeActivityBulkRepository.queryTotalsSince(from);
+
+            Map<Long, long[]> totals = new HashMap<>(loaded.size() * 2);
+            for (ActivityTotal total : loaded) {
+                totals.put(total.storeId(), new long[]{total.views(), total.reviews()});
+            }
+            for (int slot = 0; slot < windowBuckets; slot++) {
+                Bucket bucket = ring.get(slot);
+                if (bucket != null) {
+                    bucket.counts.values().forEach(Counts::markLoaded);
+                }
+            }
+            clusterTotals = totals;
+        } catch (RuntimeException e) {
+            log.warn("업소 활동량 합계 조회 실패, 이전 합계 사용", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 증가분 반영 (DataSource 는 이 빈보다 나중에 종료된다)
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @Scheduled(cron = "${app.store.trending.cleanup-cron:0 40 4 * * *}")
+    public void cleanup() {
+        int deleted = storeActivityBulkRepository.deleteBucketsBefore(LocalDateTime.now().minus(retention));
+        log.info("보관 기간이 지난 업소 활동량 삭제 - count: {}", deleted);
+    }
+
+    private Bucket currentBucket(long nowMillis) {
+        long index = nowMillis / bucketMillis;
+        int slot = (int) (index % windowBuckets);
+        while (true) {
+            Bucket bucket = ring.get(slot);
+            if (bucket != null && bucket.index >= index) {
+                return bucket;
+            }
+            Bucket created = new Bucket(index, toLocalDateTime(index * bucketMillis));
+            if (ring.compareAndSet(slot, bucket, created)) {
+                if (bucket != null) {
+                    retired.add(bucket);
+                }
+                return created;
+            }
+        }
+    }
+
+    /**
+     * 이월 구간과 밀려난 구간들의 남은 증가분을 새 이월 구간 하나로 합친다
+     * 밀려난 구간은 모두 윈도우 밖이므로 가장 최근 구간의 시작 시각으로 반영해도 인기 순위에는 영향이 없다.
+     * 합친 업소 수가 max-stores-per-bucket 을 넘으면 넘는 업소의 증가분은 버린다.
+     */
+    private Bucket mergeUnflushed(List<Bucket> drained) {
+        List<Bucket> sources = new ArrayList<>(drained.size() + 1);
+        if (carryOver != null) {
+            sources.add(carryOver);
+        }
+        sources.addAll(drained);
+        Bucket latest = sources.stream().max(Comparator.comparingLong(bucket -> bucket.index)).orElse(null);
+        if (latest == null) {
+            return null;
+        }
+
+        Bucket merged = new Bucket(latest.index, latest.start);
+        for (Bucket source : sources) {
+            source.counts.forEach((storeId, counts) -> {
+                long views = counts.views.sum() - counts.flushedViews;
+                long reviews = counts.reviews.sum() - counts.flushedReviews;
+                if (views <= 0 && reviews <= 0) {
+                    return;
+                }
+                Counts target = merged.track(storeId, maxStoresPerBucket);
+                if (target == null) {
+                    droppedCounter.increment(views + reviews);
+                    return;
+                }
+                target.views.add(views);
+                target.reviews.add(reviews);
+            });
+        }
+        return merged.counts.isEmpty() ? null : merged;
+    }
+
+    private static void collect(Bucket bucket, List<Pending> pending) {
+        bucket.counts.forEach((storeId, counts) -> {
+            long views = counts.views.sum() - counts.flushedViews;
+            long reviews = counts.reviews.sum() - counts.flushedReviews;
+            if (views > 0 || reviews > 0) {
+                pending.add(new Pending(counts, new ActivityDelta(storeId, bucket.start, views, reviews)));
+            }
+        });
+    }
+
+    private int trackedEntries() {
+        int tracked = 0;
+        for (int slot = 0; slot < windowBuckets; slot++) {
+            Bucket bucket = ring.get(slot);
+            if (bucket != null) {
+                tracked += bucket.counts.size();
+            }
+        }
+        return tracked;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    public record TrendingCount(Long storeId, long views, long reviews, double score) {
+    }
+
+    private static final class Bucket {
+
+        private final long index;
+        private final LocalDateTime start;
+        private final ConcurrentHashMap<Long, Counts> counts = new ConcurrentHashMap<>();
+        // 추적 중이거나 추가를 예약한 업소 수 (크기 확인과 추가 사이 경합으로 제한을 넘지 않도록 먼저 예약한다)
+        private final AtomicInteger tracked = new AtomicInteger();
+
+        private Bucket(long index, LocalDateTime start) {
+            this.index = index;
+            this.start = start;
+        }
+
+        /**
+         * 업소 카운터 추가 (제한을 넘으면 그 사이 다른 스레드가 추가한 카운터가 있을 때만 반환)
+         */
+        private Counts track(Long storeId, int maxStores) {
+            if (tracked.incrementAndGet() > maxStores) {
+                tracked.decrementAndGet();
+                return counts.get(storeId);
+            }
+            Counts created = new Counts();
+            Counts existing = counts.putIfAbsent(storeId, created);
+            if (existing != null) {
+                tracked.decrementAndGet();
+                return existing;
+            }
+            return created;
+        }
+    }
+
+    private static final class Counts {
+
+        private final LongAdder views = new LongAdder();
+        private final LongAdder reviews = new LongAdder();
+        // 반영 완료된 누적값 (flushLock 을 잡은 스레드만 접근)
+        private long flushedViews;
+        private long flushedReviews;
+        // 마지막으로 읽은 store_activity 합계에 이미 포함된 누적값 (flushLock 안에서만 기록)
+        private volatile long loadedViews;
+        private volatile long loadedReviews;
+
+        private void markLoaded() {
+            loadedViews = flushedViews;
+            loadedReviews = flushedReviews;
+        }
+    }
+
+    private record Pending(Counts counts, ActivityDelta delta) {
+
+        void markFlushed() {
+            counts.flushedViews += delta.views();
+            counts.flushedReviews += delta.reviews();
+        }
+    }
+}
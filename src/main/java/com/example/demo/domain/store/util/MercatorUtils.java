@@ -0,0 +1,36 @@
+package com.example.demo.domain.store.util;
+
+/**
+ * 웹 메르카토르(EPSG:3857) 정규 좌표 변환 유틸
+ * 정규 좌표는 x(경도), y(위도) 모두 [0, 1) 범위이며 y는 북쪽이 0이다.
+ */
+public final class MercatorUtils {
+
+    public static final double MAX_LATITUDE = 85.05112878;
+
+    private MercatorUtils() {}
+
+    public static double toNormalizedX(double longitude) {
+        return clamp((longitude + 180.0) / 360.0);
+    }
+
+    public static double toNormalizedY(double latitude) {
+        double clampedLatitude = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude));
+        double sinLatitude = Math.sin(Math.toRadians(clampedLatitude));
+        double y = 0.5 - Math.log((1 + sinLatitude) / (1 - sinLatitude)) / (4 * Math.PI);
+        return clamp(y);
+    }
+
+    public static double toLongitude(double normalizedX) {
+        return normalizedX * 360.0 - 180.0;
+    }
+
+    public static double toLatitude(double normalizedY) {
+        double n = Math.PI - 2.0 * Math.PI * normalizedY;
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+
+    private static double clamp(double value) {
+        return Math.max(0.0, Math.min(Math.nextDown(1.0), value));
+    }
+}
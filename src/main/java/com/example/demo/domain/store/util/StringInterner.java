@@ -0,0 +1,32 @@
+package com.example.demo.domain.store.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 반복되는 짧은 값(시도, 시군, 분류명)을 값마다 하나의 인스턴스로 공유
+ * 메모리 인덱스/캐시가 업소마다 같은 문자열 사본을 들고 있지 않도록 프로젝션 생성 시 사용한다.
+ * 값 종류가 적은 필드에만 사용하며, 상한을 넘으면 더 이상 보관하지 않고 원본을 그대로 돌려준다.
+ */
+public final class StringInterner {
+
+    private static final int MAX_SIZE = 100_000;
+    private static final ConcurrentHashMap<String, String> POOL = new ConcurrentHashMap<>();
+
+    private StringInterner() {
+    }
+
+    public static String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = POOL.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        if (POOL.size() >= MAX_SIZE) {
+            return value;
+        }
+        existing = POOL.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+}
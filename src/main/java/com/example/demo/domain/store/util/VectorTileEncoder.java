@@ -0,0 +1,163 @@
+package com.example.demo.domain.store.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mapbox Vector Tile(v2) 포인트 레이어 인코더
+ * 별도 protobuf 의존성 없이 타일 명세에 필요한 최소 필드만 직접 인코딩한다.
+ * (https://github.com/mapbox/vector-tile-spec/tree/master/2.1)
+ */
+public final class VectorTileEncoder {
+
+    public static final int EXTENT = 4096;
+
+    private static final int VERSION = 2;
+    private static final int GEOM_TYPE_POINT = 1;
+    private static final int COMMAND_MOVE_TO_ONCE = (1 & 0x7) | (1 << 3);
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_FIXED64 = 1;
+    private static final int WIRE_LENGTH_DELIMITED = 2;
+
+    private VectorTileEncoder() {}
+
+    /**
+     * 단일 포인트 레이어로 구성된 타일 인코딩
+     * @param points 타일 좌표계(0 ~ EXTENT) 기준 포인트 목록
+     */
+    public static byte[] encodePointLayer(String layerName, List<Point> points) {
+        Map<String, Integer> keys = new LinkedHashMap<>();
+        Map<Object, Integer> values = new LinkedHashMap<>();
+
+        ProtoWriter layer = new ProtoWriter();
+        layer.writeUInt32(15, VERSION);
+        layer.writeString(1, layerName);
+        for (Point point : points) {
+            layer.writeMessage(2, encodeFeature(point, keys, values));
+        }
+        for (String key : keys.keySet()) {
+            layer.writeString(3, key);
+        }
+        for (Object value : values.keySet()) {
+            layer.writeMessage(4, encodeValue(value));
+        }
+        layer.writeUInt32(5, EXTENT);
+
+        ProtoWriter tile = new ProtoWriter();
+        tile.writeMessage(3, layer);
+        return tile.toByteArray();
+    }
+
+    private static ProtoWriter encodeFeature(Point point, Map<String, Integer> keys, Map<Object, Integer> values) {
+        ProtoWriter feature = new ProtoWriter();
+        if (point.id() != null) {
+            feature.writeUInt64(1, point.id());
+        }
+
+        ProtoWriter tags = new ProtoWriter();
+        for (Map.Entry<String, Object> property : point.properties().entrySet()) {
+            if (property.getValue() == null) {
+                continue;
+            }
+            tags.writeRawVarint(keys.computeIfAbsent(property.getKey(), k -> keys.size()));
+            tags.writeRawVarint(values.computeIfAbsent(property.getValue(), v -> values.size()));
+        }
+        feature.writeMessage(2, tags);
+        feature.writeUInt32(3, GEOM_TYPE_POINT);
+
+        ProtoWriter geometry = new ProtoWriter();
+        geometry.writeRawVarint(COMMAND_MOVE_TO_ONCE);
+        geometry.writeRawVarint(zigZag(point.x()));
+        geometry.writeRawVarint(zigZag(point.y()));
+        feature.writeMessage(4, geometry);
+        return feature;
+    }
+
+    private static ProtoWriter encodeValue(Object value) {
+        ProtoWriter writer = new ProtoWriter();
+        if (value instanceof String stringValue) {
+            writer.writeString(1, stringValue);
+        } else if (value instanceof Boolean booleanValue) {
+            writer.writeUInt32(7, booleanValue ? 1 : 0);
+        } else if (value instanceof Integer || value instanceof Long) {
+            long longValue = ((Number) value).longValue();
+            if (longValue >= 0) {
+                writer.writeUInt64(5, longValue);
+            } else {
+                writer.writeUInt64(6, zigZag(longValue));
+            }
+        } else if (value instanceof Number number) {
+            writer.writeDouble(3, number.doubleValue());
+        } else {
+            writer.writeString(1, String.valueOf(value));
+        }
+        return writer;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * 타일 좌표계 기준 포인트 피처
+     */
+    public record Point(Long id, int x, int y, Map<String, Object> properties) {}
+
+    /**
+     * protobuf 와이어 포맷 최소 구현
+     */
+    private static final class ProtoWriter {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        void writeUInt32(int field, int value) {
+            writeUInt64(field, Integer.toUnsignedLong(value));
+        }
+
+        void writeUInt64(int field, long value) {
+            writeTag(field, WIRE_VARINT);
+            writeRawVarint(value);
+        }
+
+        void writeDouble(int field, double value) {
+            writeTag(field, WIRE_FIXED64);
+            long bits = Double.doubleToLongBits(value);
+            for (int i = 0; i < 8; i++) {
+                out.write((int) (bits >>> (8 * i)) & 0xFF);
+            }
+        }
+
+        void writeString(int field, String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeTag(field, WIRE_LENGTH_DELIMITED);
+            writeRawVarint(bytes.length);
+            out.writeBytes(bytes);
+        }
+
+        void writeMessage(int field, ProtoWriter message) {
+            byte[] bytes = message.toByteArray();
+            writeTag(field, WIRE_LENGTH_DELIMITED);
+            writeRawVarint(bytes.length);
+            out.writeBytes(bytes);
+        }
+
+        void writeRawVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+
+        private void writeTag(int field, int wireType) {
+            writeRawVarint(((long) field << 3) | wireType);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.demo.domain.store.validator;
 
 import com.example.demo.domain.store.exception.StoreErrorStatus;
 import com.example.demo.domain.store.exception.StoreHandler;
+import com.example.demo.domain.store.vo.CoordinateRange;
 
 import java.math.BigDecimal;
 
@@ -30,6 +31,37 @@ public final class StoreValidator {
         }
     }
 
+    public static void validateLimit(Integer limit) {
+        if (limit == null || limit <= 0 || limit > 100) {
+            throw new StoreHandler(StoreErrorStatus.INVALID_LIMIT);
+        }
+    }
+
+    public static void validatePage(Integer page) {
+        if (page == null || page < 0) {
+            throw new StoreHandler(StoreErrorStatus.INVALID_PAGE);
+        }
+    }
+
+    public static void validateViewport(CoordinateRange viewport) {
+        if (viewport == null || !viewport.isValid()) {
+            throw new StoreHandler(StoreErrorStatus.INVALID_COORDINATES);
+        }
+    }
+
+    public static void validateZoomLevel(Integer zoom, int minZoom, int maxZoom) {
+        if (zoom == null || zoom < minZoom || zoom > maxZoom) {
+            throw new StoreHandler(StoreErrorStatus.INVALID_ZOOM_LEVEL);
+        }
+    }
+
+    public static void validateTileCoordinates(int z, int x, int y) {
+        long tilesPerAxis = 1L << z;
+        if (x < 0 || y < 0 || x >= tilesPerAxis || y >= tilesPerAxis) {
+            throw new StoreHandler(StoreErrorStatus.INVALID_TILE_COORDINATES);
+        }
+    }
+
     public static void validateMenuInfo(String menuName, BigDecimal price) {
         if (menuName == null || menuName.trim().isEmpty()) {
             throw new StoreHandler(StoreErrorStatus.INVALID_MENU_PRICE);
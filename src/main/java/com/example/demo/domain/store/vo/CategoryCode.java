@@ -0,0 +1,12 @@
+package com.example.demo.domain.store.vo;
+
+/**
+ * 정규화된 대분류/소분류 명칭과 코드
+ */
+public record CategoryCode(
+    Integer majorCategoryCode,
+    Integer subCategoryCode,
+    String majorCategory,
+    String subCategory
+) {
+}
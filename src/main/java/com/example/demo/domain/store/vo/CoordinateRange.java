@@ -16,6 +16,36 @@ public class CoordinateRange {
     private Double minLongitude;
     private Double maxLongitude;
 
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    /**
+     * 중심에서 radiusKm 안의 모든 좌표를 포함하는 최소 위경도 범위 (반경 조회의 인덱스 선필터용)
+     * 경도 폭은 위도에 따라 넓어지므로 asin(sin(r) / cos(위도)) 로 구한다.
+     * 범위가 극점을 포함하거나 180도 경선을 넘으면 경도는 전체 범위로 둔다.
+     */
+    public static CoordinateRange around(double latitude, double longitude, double radiusKm) {
+        double angularRadius = radiusKm / EARTH_RADIUS_KM;
+        double latRad = Math.toRadians(latitude);
+        double minLatRad = latRad - angularRadius;
+        double maxLatRad = latRad + angularRadius;
+
+        double minLongitude = -180.0;
+        double maxLongitude = 180.0;
+        if (minLatRad > -Math.PI / 2 && maxLatRad < Math.PI / 2) {
+            double deltaLongitude = Math.toDegrees(Math.asin(Math.min(1.0, Math.sin(angularRadius) / Math.cos(latRad))));
+            if (longitude - deltaLongitude >= -180.0 && longitude + deltaLongitude <= 180.0) {
+                minLongitude = longitude - deltaLongitude;
+                maxLongitude = longitude + deltaLongitude;
+            }
+        }
+        return new CoordinateRange(
+            Math.max(-90.0, Math.toDegrees(minLatRad)),
+            Math.min(90.0, Math.toDegrees(maxLatRad)),
+            minLongitude,
+            maxLongitude
+        );
+    }
+
     public boolean contains(Double latitude, Double longitude) {
         if (latitude == null || longitude == null) {
             return false;
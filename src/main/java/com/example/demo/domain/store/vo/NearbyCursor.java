@@ -0,0 +1,20 @@
+package com.example.demo.domain.store.vo;
+
+/**
+ * 주변 업소 거리순 커서 (이전 페이지 마지막 업소의 거리와 업소 ID)
+ * 결과는 (거리, 업소 ID) 오름차순이므로 이 위치 뒤의 업소부터 이어서 조회한다.
+ */
+public record NearbyCursor(double distanceKm, long storeId) {
+
+    /**
+     * 주어진 위치가 커서 뒤에 있는지 여부
+     * 커서의 업소 자체는 경로마다 거리 계산식이 조금 달라도(DB/메모리) 다시 나오지 않도록 항상 제외한다.
+     */
+    public boolean isBefore(double distanceKm, long storeId) {
+        if (storeId == this.storeId) {
+            return false;
+        }
+        int compared = Double.compare(distanceKm, this.distanceKm);
+        return compared > 0 || (compared == 0 && storeId > this.storeId);
+    }
+}
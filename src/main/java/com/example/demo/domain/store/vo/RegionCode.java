@@ -0,0 +1,12 @@
+package com.example.demo.domain.store.vo;
+
+/**
+ * 정규화된 지역 명칭과 코드 (사전에 없는 시도면 코드는 null, 명칭은 공백만 정리한 원문)
+ */
+public record RegionCode(
+    Integer sidoCode,
+    Integer sigunCode,
+    String sido,
+    String sigun
+) {
+}
@@ -0,0 +1,20 @@
+package com.example.demo.domain.store.vo;
+
+import com.example.demo.domain.store.dictionary.StoreCodeDictionary;
+import com.example.demo.domain.store.entity.Sido;
+import com.example.demo.domain.store.util.StringInterner;
+
+/**
+ * 정규화된 지역 명칭 (시도, 시군)
+ * 저장, 조회 조건, 메모리 인덱스(패싯, 통계, 리더보드)가 모두 이 방식으로 명칭을 맞춰 같은 지역을 같은 키로 비교한다.
+ * 공백은 저장 시와 같이 정리하고(비어 있으면 null), 시도 약칭/개편 전 명칭은 정식 명칭으로 바꾼다. (사전에 없는 시도는 그대로)
+ */
+public record RegionName(String sido, String sigun) {
+
+    public static RegionName of(String sido, String sigun) {
+        return new RegionName(
+            StringInterner.intern(Sido.canonicalName(StoreCodeDictionary.normalizeName(sido))),
+            StringInterner.intern(StoreCodeDictionary.normalizeName(sigun))
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.demo.domain.store.vo;
+
+/**
+ * 거리 정렬용 최소 좌표 정보 (JPQL 생성자 프로젝션)
+ */
+public record StoreCoordinate(Long storeId, Double latitude, Double longitude) {
+}
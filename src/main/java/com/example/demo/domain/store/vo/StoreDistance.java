@@ -0,0 +1,7 @@
+package com.example.demo.domain.store.vo;
+
+/**
+ * 업소 ID와 조회 기준 위치로부터의 거리(km)
+ */
+public record StoreDistance(Long storeId, double distanceKm) {
+}
@@ -0,0 +1,29 @@
+package com.example.demo.domain.store.vo;
+
+import com.example.demo.domain.store.entity.Category;
+
+/**
+ * 패싯 필터 조건 (null 인 항목은 조건 없음, 문자열은 정확히 일치, 지역 명칭은 RegionName 으로 맞춘다)
+ * active 가 null 이면 활성/비활성 업소를 모두 포함한다.
+ */
+public record StoreFacetCondition(
+    Category category,
+    String majorCategory,
+    String subCategory,
+    String sido,
+    String sigun,
+    Boolean active
+) {
+
+    public StoreFacetCondition {
+        majorCategory = normalize(majorCategory);
+        subCategory = normalize(subCategory);
+        RegionName region = RegionName.of(sido, sigun);
+        sido = region.sido();
+        sigun = region.sigun();
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.domain.store.vo;
+
+import com.example.demo.domain.store.entity.Category;
+
+/**
+ * 지도 표시용 업소 좌표 (JPQL 생성자 프로젝션)
+ */
+public record StoreMapPoint(
+    Long storeId,
+    String storeName,
+    Category category,
+    Double latitude,
+    Double longitude,
+    String fullAddress
+) {
+}
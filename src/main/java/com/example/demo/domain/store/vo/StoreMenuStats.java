@@ -0,0 +1,15 @@
+package com.example.demo.domain.store.vo;
+
+import java.math.BigDecimal;
+
+/**
+ * 업소별 메뉴 수, 가격 합계, 최저 가격 (JPQL 생성자 프로젝션)
+ * 가격 범위 메뉴는 price 에 최저가가 들어 있으므로 minPrice 는 업소에서 가장 싼 메뉴 가격이다.
+ */
+public record StoreMenuStats(
+    Long storeId,
+    Long menuCount,
+    BigDecimal priceSum,
+    BigDecimal minPrice
+) {
+}
@@ -0,0 +1,15 @@
+package com.example.demo.domain.store.vo;
+
+import java.math.BigDecimal;
+
+/**
+ * 업소 메뉴 요약 (JPQL 생성자 프로젝션)
+ */
+public record StoreMenuSummary(
+    Long storeId,
+    Long menuId,
+    String menuName,
+    BigDecimal price,
+    Integer menuOrder
+) {
+}
@@ -0,0 +1,32 @@
+package com.example.demo.domain.store.vo;
+
+import com.example.demo.domain.store.dictionary.StoreCodeDictionary;
+import com.example.demo.domain.store.entity.Category;
+
+/**
+ * 주변 업소 검색 필터 (null 인 항목은 조건 없음)
+ * maxPrice 는 업소의 최저 메뉴 가격 기준이며, 지정하면 메뉴가 없는 업소는 제외된다.
+ * 대분류/소분류는 저장 시와 같은 방식으로 공백을 정리해 명칭으로 비교한다.
+ */
+public record StoreNearbyFilter(Integer maxPrice, Category category, String majorCategory, String subCategory) {
+
+    public static final StoreNearbyFilter NONE = new StoreNearbyFilter(null, null, null, null);
+
+    public StoreNearbyFilter {
+        majorCategory = StoreCodeDictionary.normalizeName(majorCategory);
+        subCategory = StoreCodeDictionary.normalizeName(subCategory);
+    }
+
+    public boolean isEmpty() {
+        return maxPrice == null && category == null && majorCategory == null && subCategory == null;
+    }
+
+    /**
+     * 업종/분류 조건 일치 여부 (가격 조건은 인덱스에서 따로 적용)
+     */
+    public boolean matchesCategory(StoreSummary store) {
+        return (category == null || store.category() == category)
+            && (majorCategory == null || majorCategory.equals(store.majorCategory()))
+            && (subCategory == null || subCategory.equals(store.subCategory()));
+    }
+}
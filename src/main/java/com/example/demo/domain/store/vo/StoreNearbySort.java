@@ -0,0 +1,11 @@
+package com.example.demo.domain.store.vo;
+
+/**
+ * 주변 업소 정렬 기준
+ */
+public enum StoreNearbySort {
+    // 거리 오름차순
+    DISTANCE,
+    // 거리 감쇠, 베이지안 평점, 리뷰 수, 최근 인기도를 합산한 점수 내림차순
+    RELEVANCE
+}
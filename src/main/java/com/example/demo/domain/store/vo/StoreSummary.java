@@ -0,0 +1,46 @@
+package com.example.demo.domain.store.vo;
+
+import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.util.StringInterner;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록/주변 조회용 업소 요약 (JPQL 생성자 프로젝션)
+ * 영속성 컨텍스트를 거치지 않으며 메뉴 컬렉션을 포함하지 않는다.
+ */
+public record StoreSummary(
+    Long storeId,
+    String storeName,
+    Category category,
+    String majorCategory,
+    String subCategory,
+    String contactNumber,
+    String sido,
+    String sigun,
+    String fullAddress,
+    Double latitude,
+    Double longitude,
+    boolean active,
+    LocalDateTime createdDate,
+    LocalDateTime lastModifiedDate
+) {
+
+    /**
+     * 지역/분류 명칭은 업소 간에 반복되므로 메모리 인덱스가 같은 인스턴스를 공유하도록 intern 한다
+     * 지역 명칭은 코드 채우기 전의 약칭으로 저장된 업소도 조회 조건과 같은 키가 되도록 RegionName 으로 맞춘다.
+     */
+    public StoreSummary {
+        majorCategory = StringInterner.intern(majorCategory);
+        subCategory = StringInterner.intern(subCategory);
+        RegionName region = RegionName.of(sido, sigun);
+        sido = region.sido();
+        sigun = region.sigun();
+    }
+
+    public boolean hasValidCoordinates() {
+        return latitude != null && longitude != null
+               && latitude >= -90.0 && latitude <= 90.0
+               && longitude >= -180.0 && longitude <= 180.0;
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.demo.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 노드 간 로컬 캐시 일관성 관리자
+ * 쓰기가 일어난 노드는 자기 로컬 캐시를 즉시 비우고, 무효화할 ID를 종류별로 모아 짧은 주기로 묶어서 다른 노드에 브로드캐스트한다.
+ * 다른 노드는 메시지를 받아 등록된 LocalCacheRegion 에서 해당 ID를 제거한다.
+ */
+@Slf4j
+@Component
+public class CacheCoherenceManager {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<LocalCacheRegion> regions;
+    private final CacheInvalidationTransport transport;
+    private final int maxBatchSize;
+
+    private final Map<CacheEntityType, Set<Long>> pendingIds = new EnumMap<>(CacheEntityType.class);
+    private final Set<CacheEntityType> pendingEvictAll = new LinkedHashSet<>();
+
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+
+    public CacheCoherenceManager(List<LocalCacheRegion> regions,
+                                 CacheInvalidationTransport transport,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.cache.invalidation.max-batch-size:500}") int maxBatchSize) {
+        this.regions = List.copyOf(regions);
+        this.transport = transport;
+        this.maxBatchSize = maxBatchSize;
+        this.publishedCounter = Counter.builder("cache.invalidation.published")
+            .description("다른 노드로 발행한 캐시 무효화 메시지 수")
+            .register(meterRegistry);
+        this.receivedCounter = Counter.builder("cache.invalidation.received")
+            .description("다른 노드에서 받은 캐시 무효화 메시지 수")
+            .register(meterRegistry);
+
+        transport.subscribe(this::onMessage);
+    }
+
+    /**
+     * 로컬 캐시를 즉시 무효화하고, 다음 flush 때 다른 노드로 브로드캐스트
+     */
+    public void invalidate(CacheEntityType entityType, Collection<Long> ids) {
+        evictLocal(entityType, ids);
+        synchronized (this) {
+            pendingIds.computeIfAbsent(entityType, type -> new LinkedHashSet<>()).addAll(ids);
+        }
+    }
+
+    public void invalidateAll(CacheEntityType entityType) {
+        evictLocalAll(entityType);
+        synchronized (this) {
+            pendingEvictAll.add(entityType);
+        }
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 커밋 이후에, 없으면 즉시 무효화
+     * 커밋 전에 무효화하면 다른 요청이 커밋 전 데이터로 캐시를 다시 채울 수 있기 때문이다.
+     */
+    public void invalidateAfterCommit(CacheEntityType entityType, Collection<Long> ids) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(entityType, ids);
+            return;
+        }
+        List<Long> idsCopy = List.copyOf(ids);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(entityType, idsCopy);
+            }
+        });
+    }
+
+    /**
+     * 모아둔 무효화 대상을 종류별 메시지로 묶어 발행
+     */
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.flush-interval-ms:100}")
+    public void flush() {
+        Map<CacheEntityType, Set<Long>> idsToPublish;
+        Set<CacheEntityType> evictAllToPublish;
+        synchronized (this) {
+            if (pendingIds.isEmpty() && pendingEvictAll.isEmpty()) {
+                return;
+            }
+            idsToPublish = new EnumMap<>(pendingIds);
+            evictAllToPublish = new LinkedHashSet<>(pendingEvictAll);
+            pendingIds.clear();
+            pendingEvictAll.clear();
+        }
+
+        for (CacheEntityType entityType : evictAllToPublish) {
+            // 전체 무효화가 있으면 같은 종류의 개별 ID 메시지는 필요 없음
+            idsToPublish.remove(entityType);
+            publish(new CacheInvalidationMessage(nodeId, entityType, List.of()));
+        }
+        idsToPublish.forEach((entityType, ids) -> {
+            List<Long> idList = new ArrayList<>(ids);
+            for (int from = 0; from < idList.size(); from += maxBatchSize) {
+                List<Long> chunk = idList.subList(from, Math.min(from + maxBatchSize, idList.size()));
+                publish(new CacheInvalidationMessage(nodeId, entityType, List.copyOf(chunk)));
+            }
+        });
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    private void publish(CacheInvalidationMessage message) {
+        transport.publish(message);
+        publishedCounter.increment();
+    }
+
+    private void onMessage(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.originNodeId())) {
+            return;
+        }
+        receivedCounter.increment();
+        if (message.isEvictAll()) {
+            evictLocalAll(message.entityType());
+        } else {
+            evictLocal(message.entityType(), message.ids());
+        }
+    }
+
+    private void evictLocal(CacheEntityType entityType, Collection<Long> ids) {
+        for (LocalCacheRegion region : regions) {
+            if (region.entityType() == entityType) {
+                region.evict(ids);
+            }
+        }
+    }
+
+    private void evictLocalAll(CacheEntityType entityType) {
+        for (LocalCacheRegion region : regions) {
+            if (region.entityType() == entityType) {
+                region.evictAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.infrastructure.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로컬 캐시 무효화 대상 엔티티 종류
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CacheEntityType {
+    STORE("업소"),
+    STORE_RATING("업소 평점"),
+    MEMBER("회원");
+
+    private final String description;
+}
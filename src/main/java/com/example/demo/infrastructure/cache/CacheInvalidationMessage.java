@@ -0,0 +1,15 @@
+package com.example.demo.infrastructure.cache;
+
+import java.util.List;
+
+/**
+ * 노드 간 캐시 무효화 메시지
+ * @param originNodeId 메시지를 보낸 노드 (자기 메시지는 무시)
+ * @param ids 무효화할 엔티티 ID 목록 (비어 있으면 해당 종류 전체 무효화)
+ */
+public record CacheInvalidationMessage(String originNodeId, CacheEntityType entityType, List<Long> ids) {
+
+    public boolean isEvictAll() {
+        return ids == null || ids.isEmpty();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.infrastructure.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 메시지 전송 계층
+ */
+public interface CacheInvalidationTransport {
+
+    void publish(CacheInvalidationMessage message);
+
+    void subscribe(Consumer<CacheInvalidationMessage> listener);
+}
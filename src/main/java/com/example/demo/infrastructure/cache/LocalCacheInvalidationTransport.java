@@ -0,0 +1,26 @@
+package com.example.demo.infrastructure.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안에서만 메시지를 전달하는 전송 계층
+ * 단일 노드 운영 시 기본값이며, 여러 CacheCoherenceManager 가 공유하면 테스트용 메시지 버스로 동작한다.
+ */
+public class LocalCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        for (Consumer<CacheInvalidationMessage> listener : listeners) {
+            listener.accept(message);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.infrastructure.cache;
+
+import java.util.Collection;
+
+/**
+ * CacheCoherenceManager 에 등록되는 노드 로컬 캐시
+ * 빈으로 등록하면 같은 종류의 무효화 메시지를 받을 때마다 호출된다.
+ */
+public interface LocalCacheRegion {
+
+    CacheEntityType entityType();
+
+    void evict(Collection<Long> ids);
+
+    void evictAll();
+}
@@ -0,0 +1,135 @@
+package com.example.demo.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * TTL 기반 노드 로컬 캐시
+ * 무효화 메시지가 유실되더라도 TTL 이 지나면 원본에서 다시 읽으므로 노드 간 차이는 TTL 안으로 수렴한다.
+ * 조회 도중 같은 키가 무효화되면 조회 결과를 저장하지 않아, 무효화 이전 값이 다시 들어가지 않도록 한다.
+ * (무효화는 키마다 순번이 붙은 표식을 남기고, 저장은 그 순번과 비교해 원자적으로 수행한다)
+ */
+public class LocalTtlCache<K, V> {
+
+    // 가득 찼을 때 한 번에 이 비율까지 줄여, 저장할 때마다 정리하지 않도록 한다
+    private static final double TRIM_RATIO = 0.9;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ReentrantLock trimLock = new ReentrantLock();
+    private final long ttlNanos;
+    private final int maxSize;
+    private final LongSupplier nanoClock;
+    // evictAll 시점의 순번 (그 전에 시작한 조회 결과는 저장하지 않음)
+    private volatile long clearedAt;
+
+    public LocalTtlCache(Duration ttl, int maxSize) {
+        this(ttl, maxSize, System::nanoTime);
+    }
+
+    LocalTtlCache(Duration ttl, int maxSize, LongSupplier nanoClock) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 여러 키를 한 번에 조회하고, 없거나 만료된 키만 loader 로 읽어 채운다
+     */
+    public Map<K, V> getAll(Collection<K> keys, Function<List<K>, Map<K, V>> loader) {
+        long loadSequence = sequence.get();
+        long now = nanoClock.getAsLong();
+        Map<K, V> result = new HashMap<>();
+        List<K> missingKeys = new ArrayList<>();
+        for (K key : keys) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && !entry.evicted() && entry.expiresAt() - now > 0) {
+                result.put(key, entry.value());
+            } else {
+                missingKeys.add(key);
+            }
+        }
+        if (missingKeys.isEmpty()) {
+            return result;
+        }
+
+        Map<K, V> loaded = loader.apply(missingKeys);
+        result.putAll(loaded);
+
+        long loadedAt = nanoClock.getAsLong();
+        // 무효화 표식은 TTL 뒤에 정리되므로, TTL 보다 오래 걸린 조회는 표식을 확인할 수 없어 저장하지 않는다
+        if (loadedAt - now >= ttlNanos) {
+            return result;
+        }
+        trimToFit(loaded.size(), loadedAt);
+        long expiresAt = loadedAt + ttlNanos;
+        loaded.forEach((key, value) -> entries.compute(key, (k, existing) -> {
+            if (loadSequence < clearedAt || (existing != null && existing.sequence() > loadSequence)) {
+                // 조회를 시작한 뒤 무효화됐거나 더 나중에 시작한 조회가 이미 저장함
+                return existing;
+            }
+            return new Entry<>(value, expiresAt, loadSequence, false);
+        }));
+        return result;
+    }
+
+    public void evict(Collection<K> keys) {
+        long evictSequence = sequence.incrementAndGet();
+        long expiresAt = nanoClock.getAsLong() + ttlNanos;
+        Entry<V> marker = new Entry<>(null, expiresAt, evictSequence, true);
+        keys.forEach(key -> entries.put(key, marker));
+    }
+
+    public void evictAll() {
+        clearedAt = sequence.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * 저장된 값 개수 (무효화 표식 제외)
+     */
+    public int size() {
+        return (int) entries.values().stream()
+            .filter(entry -> !entry.evicted())
+            .count();
+    }
+
+    /**
+     * incoming 건을 더 넣으면 maxSize 를 넘는 경우 만료된 항목부터, 그래도 넘치면 오래된 값부터 제거
+     * 무효화 표식은 만료 전에 지우면 그 전에 시작한 조회가 이전 값을 저장할 수 있으므로 만료될 때만 제거한다.
+     */
+    private void trimToFit(int incoming, long now) {
+        if (entries.size() + incoming <= maxSize || !trimLock.tryLock()) {
+            return;
+        }
+        try {
+            entries.entrySet().removeIf(entry -> entry.getValue().expiresAt() - now <= 0);
+
+            int target = Math.max(0, (int) (maxSize * TRIM_RATIO) - incoming);
+            int excess = entries.size() - target;
+            if (excess <= 0) {
+                return;
+            }
+            entries.entrySet().stream()
+                .filter(entry -> !entry.getValue().evicted())
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAt()))
+                .limit(excess)
+                .toList()
+                .forEach(entry -> entries.remove(entry.getKey(), entry.getValue()));
+        } finally {
+            trimLock.unlock();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt, long sequence, boolean evicted) {}
+}
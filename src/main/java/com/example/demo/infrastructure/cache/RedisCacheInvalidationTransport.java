@@ -0,0 +1,59 @@
+package com.example.demo.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 기반 전송 계층
+ * 메시지는 JSON 으로 직렬화하여 하나의 채널로 브로드캐스트한다.
+ * 전달이 보장되지 않으므로(연결 끊김 중 유실) 로컬 캐시의 TTL 과 아웃박스 이벤트가 최종 안전장치 역할을 한다.
+ */
+@Slf4j
+public class RedisCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final ChannelTopic topic;
+
+    public RedisCacheInvalidationTransport(StringRedisTemplate redisTemplate,
+                                           RedisMessageListenerContainer listenerContainer,
+                                           ObjectMapper objectMapper,
+                                           String channel) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.topic = new ChannelTopic(channel);
+    }
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            log.warn("캐시 무효화 메시지 직렬화 실패 - type: {}", message.entityType(), e);
+        } catch (RuntimeException e) {
+            // Redis 장애가 쓰기 요청 실패로 번지지 않도록 로그만 남김 (TTL 로 수렴)
+            log.warn("캐시 무효화 메시지 발행 실패 - type: {}, message: {}", message.entityType(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listenerContainer.addMessageListener((Message message, byte[] pattern) -> {
+            try {
+                listener.accept(objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class));
+            } catch (IOException e) {
+                log.warn("캐시 무효화 메시지 역직렬화 실패", e);
+            }
+        }, topic);
+    }
+}
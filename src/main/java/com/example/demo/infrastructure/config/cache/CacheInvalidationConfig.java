@@ -0,0 +1,45 @@
+package com.example.demo.infrastructure.config.cache;
+
+import com.example.demo.infrastructure.cache.CacheInvalidationTransport;
+import com.example.demo.infrastructure.cache.LocalCacheInvalidationTransport;
+import com.example.demo.infrastructure.cache.RedisCacheInvalidationTransport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 캐시 무효화 전송 계층 설정
+ * app.cache.invalidation.transport=redis 이면 Redis pub/sub, 그 외(기본값 local)에는 단일 노드용 로컬 전송을 사용한다.
+ */
+@Configuration
+public class CacheInvalidationConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.invalidation", name = "transport", havingValue = "redis")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.invalidation", name = "transport", havingValue = "redis")
+    public CacheInvalidationTransport redisCacheInvalidationTransport(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer cacheInvalidationListenerContainer,
+            ObjectMapper objectMapper,
+            @Value("${app.cache.invalidation.channel:cache-invalidation}") String channel) {
+        return new RedisCacheInvalidationTransport(redisTemplate, cacheInvalidationListenerContainer, objectMapper, channel);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.invalidation", name = "transport", havingValue = "local", matchIfMissing = true)
+    public CacheInvalidationTransport localCacheInvalidationTransport() {
+        return new LocalCacheInvalidationTransport();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.infrastructure.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 읽기 레플리카 라우팅 설정
+ * app.datasource.replica.enabled=true 일 때만 활성화되며, 꺼져 있으면 Spring Boot 기본 단일 데이터소스를 그대로 사용한다.
+ * 두 Hikari 풀(primary, replica)은 Actuator 가 풀 이름 태그로 각각 메트릭(hikaricp.connections.*)을 노출한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username}") String username,
+                                              @Value("${app.datasource.replica.password}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(properties.determineDriverClassName())
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(meterRegistry);
+        routingDataSource.setTargetDataSources(Map.of(
+            DataSourceType.PRIMARY, primaryDataSource,
+            DataSourceType.REPLICA, replicaDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        return routingDataSource;
+    }
+
+    /**
+     * JPA/JDBC 가 사용하는 데이터소스
+     * 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로, 첫 쿼리 시점까지 커넥션 획득을 미룬다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesInterceptor readYourWritesInterceptor(
+            @Value("${app.datasource.replica.read-your-writes-window-ms:2000}") long windowMillis) {
+        // 캐시/인덱스가 변경 직후 다시 읽을 때 primary 에서 읽는 기간도 같은 값을 쓴다 (RecentChangeTracker)
+        DataSourceRoutingContext.setReplicaLagWindow(Duration.ofMillis(windowMillis));
+        return new ReadYourWritesInterceptor(Duration.ofMillis(windowMillis));
+    }
+}
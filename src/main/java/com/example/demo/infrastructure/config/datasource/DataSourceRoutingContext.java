@@ -0,0 +1,62 @@
+package com.example.demo.infrastructure.config.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 데이터소스 라우팅 힌트
+ * 읽기 전용 트랜잭션이라도 primary 로 고정해야 하는 경우(방금 쓴 데이터를 다시 읽는 경우,
+ * 변경 이벤트 직후 파생 데이터를 재구성하는 경우)에 사용한다. 레플리카 라우팅이 꺼져 있으면 영향이 없다.
+ * 캐시/인덱스 적재는 RecentChangeTracker 로 변경 직후인 경우에만 primary 로 고정한다.
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+    // 변경 후 레플리카에 반영될 때까지 primary 에서 읽는 기간 (DataSourceRoutingConfig 가 read-your-writes-window-ms 로 설정)
+    private static volatile long replicaLagWindowNanos = TimeUnit.SECONDS.toNanos(2);
+
+    private DataSourceRoutingContext() {}
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    public static void pinToPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PRIMARY_PINNED.remove();
+    }
+
+    public static long replicaLagWindowNanos() {
+        return replicaLagWindowNanos;
+    }
+
+    static void setReplicaLagWindow(Duration window) {
+        replicaLagWindowNanos = window.toNanos();
+    }
+
+    /**
+     * 작업을 primary 로 고정하여 실행 (중첩 호출 시 바깥 상태 유지)
+     */
+    public static <T> T callOnPrimary(Supplier<T> task) {
+        if (isPinnedToPrimary()) {
+            return task.get();
+        }
+        pinToPrimary();
+        try {
+            return task.get();
+        } finally {
+            clear();
+        }
+    }
+
+    public static void runOnPrimary(Runnable task) {
+        callOnPrimary(() -> {
+            task.run();
+            return null;
+        });
+    }
+}
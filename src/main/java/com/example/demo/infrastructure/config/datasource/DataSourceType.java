@@ -0,0 +1,5 @@
+package com.example.demo.infrastructure.config.datasource;
+
+public enum DataSourceType {
+    PRIMARY, REPLICA
+}
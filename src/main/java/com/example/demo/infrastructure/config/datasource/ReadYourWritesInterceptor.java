@@ -0,0 +1,70 @@
+package com.example.demo.infrastructure.config.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 레플리카 지연 동안의 read-your-writes 보장
+ * 쓰기 요청(POST/PUT/PATCH/DELETE)에 성공한 사용자는 지연 허용 시간 동안 모든 조회를 primary 에서 읽는다.
+ * 기록은 노드 메모리에만 있으므로, 같은 사용자의 다음 요청이 다른 노드로 가면 보장되지 않는다.
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final int MAX_TRACKED_PRINCIPALS = 100_000;
+
+    private final long lagWindowNanos;
+    private final Map<String, Long> primaryUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesInterceptor(Duration lagWindow) {
+        this.lagWindowNanos = lagWindow.toNanos();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String principal = currentPrincipal();
+        if (principal == null) {
+            return true;
+        }
+        Long until = primaryUntil.get(principal);
+        if (until != null) {
+            if (until - System.nanoTime() > 0) {
+                DataSourceRoutingContext.pinToPrimary();
+            } else {
+                primaryUntil.remove(principal, until);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        DataSourceRoutingContext.clear();
+
+        String principal = currentPrincipal();
+        if (principal != null && ex == null && response.getStatus() < 400
+                && WRITE_METHODS.contains(request.getMethod())) {
+            if (primaryUntil.size() >= MAX_TRACKED_PRINCIPALS) {
+                primaryUntil.clear();
+            }
+            primaryUntil.put(principal, System.nanoTime() + lagWindowNanos);
+        }
+    }
+
+    private String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || "anonymousUser".equals(authentication.getPrincipal())) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.infrastructure.config.datasource;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 캐시/인덱스가 변경 직후 다시 읽는 경우에만 primary 로 보내기 위한 변경 시각 기록
+ * 무효화될 때 markChanged 를 호출하고, 다시 적재할 때 마지막 변경 후 레플리카 지연 허용 시간
+ * (DataSourceRoutingContext.replicaLagWindowNanos) 안이면 primary 에서 읽는다.
+ * 그 밖의 적재(최초 적재, TTL 만료, 주기 재구성)는 읽기 전용 트랜잭션 그대로 레플리카에서 읽는다.
+ */
+public class RecentChangeTracker<K> {
+
+    // 키별 기록이 이 개수를 넘으면 지연 허용 시간이 지난 기록을 정리한다
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final Map<K, Long> changedAtByKey = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+    private volatile long changedAt;
+    private volatile boolean changed;
+
+    public RecentChangeTracker() {
+        this(System::nanoTime);
+    }
+
+    RecentChangeTracker(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 전체 변경 기록 (키와 관계없이 다음 적재를 primary 에서 읽음)
+     */
+    public void markChanged() {
+        changedAt = nanoClock.getAsLong();
+        changed = true;
+    }
+
+    public void markChanged(Collection<K> keys) {
+        long now = nanoClock.getAsLong();
+        if (changedAtByKey.size() > PRUNE_THRESHOLD) {
+            changedAtByKey.values().removeIf(at -> !isRecent(at, now));
+        }
+        keys.forEach(key -> changedAtByKey.put(key, now));
+    }
+
+    /**
+     * 지연 허용 시간 안에 전체 변경이 있었거나, 키가 하나라도 변경되었는지 여부
+     */
+    public boolean isRecent() {
+        long now = nanoClock.getAsLong();
+        if (changed && isRecent(changedAt, now)) {
+            return true;
+        }
+        return changedAtByKey.values().stream().anyMatch(at -> isRecent(at, now));
+    }
+
+    /**
+     * keys 중 지연 허용 시간 안에 변경된 키 (전체 변경이 있었으면 모든 키)
+     */
+    public List<K> recentOf(Collection<K> keys) {
+        long now = nanoClock.getAsLong();
+        if (changed && isRecent(changedAt, now)) {
+            return List.copyOf(keys);
+        }
+        return keys.stream()
+            .filter(key -> {
+                Long at = changedAtByKey.get(key);
+                return at != null && isRecent(at, now);
+            })
+            .toList();
+    }
+
+    /**
+     * 최근 변경이 있으면 primary 로 고정하여, 없으면 그대로 실행
+     */
+    public <T> T callOnPrimaryIfRecent(Supplier<T> task) {
+        return isRecent() ? DataSourceRoutingContext.callOnPrimary(task) : task.get();
+    }
+
+    private static boolean isRecent(long at, long now) {
+        return now - at < DataSourceRoutingContext.replicaLagWindowNanos();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.infrastructure.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카로, 그 외(쓰기 트랜잭션, 트랜잭션 밖, primary 고정)는 primary 로 보내는 라우팅 데이터소스
+ * 트랜잭션의 readOnly 여부는 커넥션 획득 이후에 설정되므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final Map<DataSourceType, Counter> routedCounters = new EnumMap<>(DataSourceType.class);
+
+    public ReplicaRoutingDataSource(MeterRegistry meterRegistry) {
+        for (DataSourceType type : DataSourceType.values()) {
+            routedCounters.put(type, Counter.builder("datasource.routing.connections")
+                .description("라우팅된 커넥션 획득 수")
+                .tag("pool", type.name().toLowerCase())
+                .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        DataSourceType type = resolveType();
+        routedCounters.get(type).increment();
+        return type;
+    }
+
+    DataSourceType resolveType() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !DataSourceRoutingContext.isPinnedToPrimary()) {
+            return DataSourceType.REPLICA;
+        }
+        return DataSourceType.PRIMARY;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.infrastructure.config.ranking;
+
+import com.example.demo.domain.review.ranking.InMemoryLeaderboardStore;
+import com.example.demo.domain.review.ranking.LeaderboardStore;
+import com.example.demo.domain.review.ranking.RedisLeaderboardStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 리더보드 정렬 저장소 설정
+ * app.review.ranking.store=redis 이면 Redis sorted set, 그 외(기본값 local)에는 노드 로컬 저장소를 사용한다.
+ */
+@Configuration
+public class LeaderboardStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.review.ranking", name = "store", havingValue = "redis")
+    public LeaderboardStore redisLeaderboardStore(
+            StringRedisTemplate redisTemplate,
+            @Value("${app.review.ranking.redis-key-prefix:ranking:store-rating:}") String keyPrefix) {
+        return new RedisLeaderboardStore(redisTemplate, keyPrefix);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.review.ranking", name = "store", havingValue = "local", matchIfMissing = true)
+    public LeaderboardStore localLeaderboardStore() {
+        return new InMemoryLeaderboardStore();
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.demo.infrastructure.config.spring;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+}
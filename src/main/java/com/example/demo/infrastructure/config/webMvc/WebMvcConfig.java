@@ -1,12 +1,15 @@
 package com.example.demo.infrastructure.config.webMvc;
 
 
+import com.example.demo.infrastructure.config.datasource.ReadYourWritesInterceptor;
 import com.example.demo.infrastructure.security.resolver.CustomAuthenticationPrincipalArgumentResolver;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
@@ -16,10 +19,20 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     private final String CORS_FRONT_PATH;
     private final CustomAuthenticationPrincipalArgumentResolver customAuthenticationPrincipalArgumentResolver;
+    private final ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor;
 
-    public WebMvcConfig(@Value("${app.cors.front-path}") String CORS_FRONT_PATH, CustomAuthenticationPrincipalArgumentResolver customAuthenticationPrincipalArgumentResolver) {
+    public WebMvcConfig(@Value("${app.cors.front-path}") String CORS_FRONT_PATH,
+                        CustomAuthenticationPrincipalArgumentResolver customAuthenticationPrincipalArgumentResolver,
+                        ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor) {
         this.CORS_FRONT_PATH = CORS_FRONT_PATH;
         this.customAuthenticationPrincipalArgumentResolver = customAuthenticationPrincipalArgumentResolver;
+        this.readYourWritesInterceptor = readYourWritesInterceptor;
+    }
+
+    //interceptor (레플리카 라우팅이 켜져 있을 때만 등록)
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        readYourWritesInterceptor.ifAvailable(registry::addInterceptor);
     }
 
     //resolver
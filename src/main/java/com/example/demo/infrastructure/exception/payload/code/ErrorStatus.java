@@ -16,6 +16,7 @@ public enum ErrorStatus implements BaseCode {
     _BAD_REQUEST(BAD_REQUEST, 4000, "잘못된 요청입니다."),
     _UNAUTHORIZED(UNAUTHORIZED, 4001, "로그인이 필요합니다."),
     _FORBIDDEN(FORBIDDEN, 4002, "금지된 요청입니다."),
+    _CONFLICT(CONFLICT, 4004, "다른 요청에 의해 이미 변경되었습니다. 다시 시도해주세요."),
 
     //auth error(4050 ~ 4099)
     AUTH_INVALID_REFRESH_TOKEN(UNAUTHORIZED, 4050, "유효하지 않은 리프레시 토큰입니다."),
@@ -0,0 +1,96 @@
+package com.example.demo.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 고정(pinning) 감시
+ * synchronized 블록이나 네이티브 호출 안에서 블로킹되어 가상 스레드가 캐리어 스레드를 붙잡은 경우를
+ * JFR jdk.VirtualThreadPinned 이벤트로 받아 메트릭(jvm.threads.virtual.pinned)으로 노출한다.
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서만 동작하며, Java 21 미만에서는 이벤트가 발생하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "spring.threads.virtual", name = "enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.example.demo";
+
+    private final Duration threshold;
+    private final Counter pinnedCounter;
+    private final Timer pinnedTimer;
+
+    private volatile RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${app.monitoring.virtual-thread-pinned-threshold-ms:20}") long thresholdMillis) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+            .description("캐리어 스레드에 고정된 가상 스레드 발생 수")
+            .register(meterRegistry);
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned.duration")
+            .description("가상 스레드가 캐리어 스레드에 고정된 시간")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+        recordingStream = stream;
+        log.info("가상 스레드 고정 감시 시작 - threshold: {}ms", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recordingStream;
+        recordingStream = null;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void record(RecordedEvent event) {
+        pinnedCounter.increment();
+        pinnedTimer.record(event.getDuration());
+        log.warn("가상 스레드 고정 감지 - {}ms, 위치: {}", event.getDuration().toMillis(), applicationFrame(event));
+    }
+
+    /**
+     * 고정을 일으킨 애플리케이션 코드 위치 (없으면 최상단 프레임)
+     */
+    private String applicationFrame(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        RecordedFrame top = stackTrace.getFrames().get(0);
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                top = frame;
+                break;
+            }
+        }
+        return top.getMethod().getType().getName() + "." + top.getMethod().getName() + ":" + top.getLineNumber();
+    }
+}
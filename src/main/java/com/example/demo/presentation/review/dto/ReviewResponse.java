@@ -1,5 +1,6 @@
 package com.example.demo.presentation.review.dto;
 
+import com.example.demo.domain.member.entity.Member;
 import com.example.demo.domain.review.entity.Review;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -44,10 +45,17 @@ public class ReviewResponse {
         private LocalDateTime lastModifiedDate;
 
         public static ReviewInfo from(Review review) {
+            return from(review, review.getStore().getStoreName());
+        }
+
+        /**
+         * 업소명을 따로 알고 있을 때 사용 (업소 프록시를 초기화하지 않음)
+         */
+        public static ReviewInfo from(Review review, String storeName) {
             return ReviewInfo.builder()
                     .reviewId(review.getId())
                     .storeId(review.getStore().getId())
-                    .storeName(review.getStore().getStoreName())
+                    .storeName(storeName)
                     .memberId(review.getMember().getId())
                     .memberNickname(review.getMember().getNickname())
                     .rating(review.getRating())
@@ -139,10 +147,30 @@ public class ReviewResponse {
         @Schema(description = "리뷰 정보")
         private ReviewInfo reviewInfo;
 
+        @Schema(description = "저장 대기 여부 (true 이면 곧 반영되며 reviewId 는 없음, 중복 리뷰는 반영되지 않음)", example = "false")
+        private boolean pending;
+
         public static CreateReviewResponse from(Review review) {
+            return from(review, review.getStore().getStoreName());
+        }
+
+        public static CreateReviewResponse from(Review review, String storeName) {
             return CreateReviewResponse.builder()
                     .reviewId(review.getId())
-                    .reviewInfo(ReviewInfo.from(review))
+                    .reviewInfo(ReviewInfo.from(review, storeName))
+                    .build();
+        }
+
+        public static CreateReviewResponse pending(Long storeId, Member member, Integer rating, String content) {
+            return CreateReviewResponse.builder()
+                    .reviewInfo(ReviewInfo.builder()
+                            .storeId(storeId)
+                            .memberId(member.getId())
+                            .memberNickname(member.getNickname())
+                            .rating(rating)
+                            .content(content)
+                            .build())
+                    .pending(true)
                     .build();
         }
     }
@@ -1,7 +1,19 @@
 package com.example.demo.presentation.store.controller;
 
 import com.example.demo.application.store.GetNearbyStoresUseCase;
-import com.example.demo.application.store.GetStoreDetailUseCase;
+import com.example.demo.application.store.GetStoreDetailDocumentUseCase;
+import com.example.demo.application.store.GetStoreFacetsUseCase;
+import com.example.demo.application.store.GetStoreMapUseCase;
+import com.example.demo.application.store.GetStoreRankingUseCase;
+import com.example.demo.application.store.GetStoreStatsUseCase;
+import com.example.demo.application.store.GetStoreTileUseCase;
+import com.example.demo.application.store.GetTrendingStoresUseCase;
+import com.example.demo.application.store.StreamNearbyStoresUseCase;
+import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.index.StoreTileIndex;
+import com.example.demo.domain.store.stats.StatsDimension;
+import com.example.demo.domain.store.vo.CoordinateRange;
+import com.example.demo.domain.store.vo.StoreFacetCondition;
 import com.example.demo.infrastructure.exception.payload.dto.ApiResponseDto;
 import com.example.demo.presentation.store.dto.StoreRequest;
 import com.example.demo.presentation.store.dto.StoreResponse;
@@ -14,8 +26,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
 
 @Tag(name = "Store", description = "착한가격업소 관리 API")
 @RestController
@@ -23,8 +41,17 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class StoreController {
 
-    private final GetStoreDetailUseCase getStoreDetailUseCase;
+    private static final MediaType VECTOR_TILE = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+
+    private final GetStoreDetailDocumentUseCase getStoreDetailDocumentUseCase;
     private final GetNearbyStoresUseCase getNearbyStoresUseCase;
+    private final GetStoreMapUseCase getStoreMapUseCase;
+    private final GetStoreTileUseCase getStoreTileUseCase;
+    private final StreamNearbyStoresUseCase streamNearbyStoresUseCase;
+    private final GetStoreRankingUseCase getStoreRankingUseCase;
+    private final GetTrendingStoresUseCase getTrendingStoresUseCase;
+    private final GetStoreFacetsUseCase getStoreFacetsUseCase;
+    private final GetStoreStatsUseCase getStoreStatsUseCase;
 
     @Operation(summary = "반경 내 업소 검색", description = "지정된 좌표를 중심으로 반경 내 업소를 검색합니다.")
     @ApiResponses({
@@ -39,16 +66,151 @@ public class StoreController {
         return ApiResponseDto.onSuccess(response);
     }
 
+    @Operation(summary = "반경 내 업소 스트리밍 검색",
+            description = "반경 검색 결과를 정렬 기준(기본 거리순) 순서대로 한 줄에 한 업소씩(application/x-ndjson) 내려줍니다. 상위 리뷰는 포함하지 않습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 좌표 또는 반경", content = @Content(schema = @Schema(implementation = ApiResponseDto.class)))
+    })
+    @PostMapping(value = "/search/nearby/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<StoreResponse.NearbyStore> streamStoresWithinRadius(
+            @Parameter(description = "반경 검색 조건") @RequestBody @Valid StoreRequest.GetNearbyStores request) {
+
+        return streamNearbyStoresUseCase.execute(request);
+    }
+
+    @Operation(summary = "지도 뷰포트 업소 클러스터 조회", description = "지도 뷰포트 범위 내 업소를 줌 레벨에 맞는 클러스터(업소 수, 중심 좌표)로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 뷰포트 또는 줌 레벨", content = @Content(schema = @Schema(implementation = ApiResponseDto.class)))
+    })
+    @GetMapping("/map")
+    public ApiResponseDto<StoreResponse.MapClusterList> getStoreMap(
+            @Parameter(description = "최소 위도", example = "37.4") @RequestParam Double minLat,
+            @Parameter(description = "최대 위도", example = "37.7") @RequestParam Double maxLat,
+            @Parameter(description = "최소 경도", example = "126.8") @RequestParam Double minLon,
+            @Parameter(description = "최대 경도", example = "127.2") @RequestParam Double maxLon,
+            @Parameter(description = "지도 줌 레벨 (0 ~ 21)", example = "12") @RequestParam Integer zoom) {
+
+        CoordinateRange viewport = CoordinateRange.builder()
+                .minLatitude(minLat)
+                .maxLatitude(maxLat)
+                .minLongitude(minLon)
+                .maxLongitude(maxLon)
+                .build();
+
+        StoreResponse.MapClusterList response = getStoreMapUseCase.execute(viewport, zoom);
+        return ApiResponseDto.onSuccess(response);
+    }
+
+    @Operation(summary = "지도 업소 벡터 타일 조회", description = "(z, x, y) 타일 범위의 업소를 Mapbox Vector Tile(stores 레이어)로 조회합니다. 줌 16 이하에서는 클러스터 포인트(point_count)로 반환됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (ETag 일치)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 타일 좌표 또는 줌 레벨", content = @Content(schema = @Schema(implementation = ApiResponseDto.class)))
+    })
+    // 오류 응답(ApiResponseDto)을 JSON 으로 쓸 수 있도록 application/json 도 함께 선언 (성공 응답은 contentType 으로 타일 지정)
+    @GetMapping(value = "/tiles/{z}/{x}/{y}", produces = {"application/vnd.mapbox-vector-tile", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<byte[]> getStoreTile(
+            @Parameter(description = "줌 레벨 (0 ~ 21)", example = "12") @PathVariable Integer z,
+            @Parameter(description = "타일 X 좌표", example = "3492") @PathVariable Integer x,
+            @Parameter(description = "타일 Y 좌표", example = "1587") @PathVariable Integer y) {
+
+        StoreTileIndex.StoreTile tile = getStoreTileUseCase.execute(z, x, y);
+        return ResponseEntity.ok()
+                .contentType(VECTOR_TILE)
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic())
+                .eTag("\"" + tile.version() + "-" + z + "-" + x + "-" + y + "\"")
+                .body(tile.content());
+    }
+
+    @Operation(summary = "업소 평점 순위 조회",
+            description = "리뷰 수를 반영한 보정 평점 순으로 업소 순위를 조회합니다. 조건이 없으면 전체, 시도(+시군) 또는 업종 중 하나로 구분합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 순위 조건 또는 페이지", content = @Content(schema = @Schema(implementation = ApiResponseDto.class)))
+    })
+    @GetMapping("/rankings")
+    public ApiResponseDto<StoreResponse.StoreRankingList> getStoreRankings(
+            @Parameter(description = "시도", example = "서울특별시") @RequestParam(required = false) String sido,
+            @Parameter(description = "시군 (시도와 함께 지정)", example = "중구") @RequestParam(required = false) String sigun,
+            @Parameter(description = "업종", example = "RESTAURANT") @RequestParam(required = false) Category category,
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") Integer page,
+            @Parameter(description = "페이지 크기 (1 ~ 100)", example = "20") @RequestParam(defaultValue = "20") Integer size) {
+
+        StoreResponse.StoreRankingList response = getStoreRankingUseCase.execute(sido, sigun, category, page, size);
+        return ApiResponseDto.onSuccess(response);
+    }
+
+    @Operation(summary = "인기 업소 조회",
+            description = "최근 1시간(기본값) 동안 조회와 리뷰 작성이 많은 업소를 조회합니다. 시도(+시군)로 지역을 좁힐 수 있습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 지역 조건 또는 조회 개수", content = @Content(schema = @Schema(implementation = ApiResponseDto.class)))
+    })
+    @GetMapping("/trending")
+    public ApiResponseDto<StoreResponse.TrendingStoreList> getTrendingStores(
+            @Parameter(description = "시도", example = "서울특별시") @RequestParam(required = false) String sido,
+            @Parameter(description = "시군 (시도와 함께 지정)", example = "중구") @RequestParam(required = false) String sigun,
+            @Parameter(description = "조회 개수 (1 ~ 100)", example = "10") @RequestParam(defaultValue = "10") Integer limit) {
+
+        StoreResponse.TrendingStoreList response = getTrendingStoresUseCase.execute(sido, sigun, limit);
+        return ApiResponseDto.onSuccess(response);
+    }
+
+    @Operation(summary = "업소 패싯 검색",
+            description = "업종, 대/소분류, 시도/시군 조건을 조합해 활성 업소를 조회하고, 필터 화면용 항목별 업소 수를 함께 반환합니다. 값은 정확히 일치해야 합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 조건 또는 페이지", content = @Content(schema = @Schema(implementation = ApiResponseDto.class)))
+    })
+    @GetMapping("/facets")
+    public ApiResponseDto<StoreResponse.StoreFacets> getStoreFacets(
+            @Parameter(description = "업종", example = "RESTAURANT") @RequestParam(required = false) Category category,
+            @Parameter(description = "대분류", example = "한식") @RequestParam(required = false) String majorCategory,
+            @Parameter(description = "소분류", example = "육류") @RequestParam(required = false) String subCategory,
+            @Parameter(description = "시도", example = "서울특별시") @RequestParam(required = false) String sido,
+            @Parameter(description = "시군 (시도와 함께 지정)", example = "중구") @RequestParam(required = false) String sigun,
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") Integer page,
+            @Parameter(description = "페이지 크기 (1 ~ 100)", example = "20") @RequestParam(defaultValue = "20") Integer size) {
+
+        // 공개 API 이므로 비활성/삭제 업소(연락처 포함)는 노출하지 않는다
+        StoreFacetCondition condition = new StoreFacetCondition(category, majorCategory, subCategory, sido, sigun, true);
+        StoreResponse.StoreFacets response = getStoreFacetsUseCase.execute(condition, page, size);
+        return ApiResponseDto.onSuccess(response);
+    }
+
+    @Operation(summary = "업소 통계 조회",
+            description = "활성 업소의 업소 수, 평균 메뉴 가격, 평균 평점을 시도/시군/업종/대분류 기준으로 묶어 조회합니다. 묶음 기준이 없으면 전체 합계만 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 묶음 기준 또는 지역 조건", content = @Content(schema = @Schema(implementation = ApiResponseDto.class)))
+    })
+    @GetMapping("/stats")
+    public ApiResponseDto<StoreResponse.StoreStatsList> getStoreStats(
+            @Parameter(description = "묶음 기준 (SIDO, SIGUN, CATEGORY, MAJOR_CATEGORY 중 여러 개)", example = "SIDO") @RequestParam(required = false) List<StatsDimension> groupBy,
+            @Parameter(description = "시도", example = "서울특별시") @RequestParam(required = false) String sido,
+            @Parameter(description = "시군 (시도와 함께 지정)", example = "중구") @RequestParam(required = false) String sigun,
+            @Parameter(description = "업종", example = "RESTAURANT") @RequestParam(required = false) Category category,
+            @Parameter(description = "대분류", example = "한식") @RequestParam(required = false) String majorCategory) {
+
+        StoreResponse.StoreStatsList response = getStoreStatsUseCase.execute(groupBy, sido, sigun, category, majorCategory);
+        return ApiResponseDto.onSuccess(response);
+    }
+
     @Operation(summary = "업소 상세 조회", description = "업소 ID로 상세 정보를 조회합니다.")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "200", description = "조회 성공 (result: StoreDetailWithReviews)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = StoreResponse.StoreDetailWithReviews.class))),
         @ApiResponse(responseCode = "404", description = "업소를 찾을 수 없음", content = @Content(schema = @Schema(implementation = ApiResponseDto.class)))
     })
     @GetMapping("/{storeId}")
-    public ResponseEntity<ApiResponseDto<StoreResponse.StoreDetailWithReviews>> getStore(
+    public ResponseEntity<byte[]> getStore(
             @Parameter(description = "업소 ID", required = true) @PathVariable Long storeId) {
-        StoreResponse.StoreDetailWithReviews response = getStoreDetailUseCase.execute(storeId);
-        return ResponseEntity.ok(ApiResponseDto.onSuccess(response));
+        // 읽기 모델에 미리 직렬화된 ApiResponseDto<StoreDetailWithReviews> 바이트를 그대로 반환
+        byte[] document = getStoreDetailDocumentUseCase.execute(storeId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(document);
     }
 
 
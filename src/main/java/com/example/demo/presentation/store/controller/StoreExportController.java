@@ -0,0 +1,55 @@
+package com.example.demo.presentation.store.controller;
+
+import com.example.demo.application.store.ExportStoresUseCase;
+import com.example.demo.domain.member.entity.Member;
+import com.example.demo.infrastructure.exception.payload.dto.ApiResponseDto;
+import com.example.demo.infrastructure.security.aop.CurrentMember;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "StoreExport", description = "관리자용 업소 내보내기 API")
+@RestController
+@RequestMapping("/admin/stores")
+@RequiredArgsConstructor
+public class StoreExportController {
+
+    private final ExportStoresUseCase exportStoresUseCase;
+
+    @Operation(summary = "업소 전체 내보내기", description = "활성화된 모든 업소를 JSON Lines 또는 CSV로 스트리밍 다운로드합니다. 관리자만 사용할 수 있습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+        @ApiResponse(responseCode = "403", description = "관리자 권한 없음", content = @Content(schema = @Schema(implementation = ApiResponseDto.class)))
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportStores(
+        @Parameter(hidden = true) @CurrentMember Member currentMember,
+        @Parameter(description = "내보내기 형식 (JSONL, CSV)", example = "JSONL")
+        @RequestParam(defaultValue = "JSONL") ExportStoresUseCase.ExportFormat format
+    ) {
+        StreamingResponseBody body = exportStoresUseCase.execute(currentMember, format);
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+            .filename("stores." + format.getExtension())
+            .build();
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+            .body(body);
+    }
+}
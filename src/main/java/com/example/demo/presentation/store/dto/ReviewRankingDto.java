@@ -1,5 +1,6 @@
 package com.example.demo.presentation.store.dto;
 
+import com.example.demo.domain.review.ranking.StoreRatingLeaderboard;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
@@ -12,11 +13,29 @@ public class ReviewRankingDto {
     @Schema(description = "순위", example = "1")
     private int rank;
 
+    @Schema(description = "업소 ID", example = "1")
+    private Long storeId;
+
     @Schema(description = "업소명", example = "착한식당")
     private String storeName;
 
     @Schema(description = "평균 별점", example = "4.5")
     private double averageRating;
 
-}
+    @Schema(description = "리뷰 수", example = "32")
+    private long reviewCount;
 
+    @Schema(description = "순위 점수 (리뷰 수를 반영한 보정 평점)", example = "4.32")
+    private double score;
+
+    public static ReviewRankingDto from(StoreRatingLeaderboard.RankedStore ranked) {
+        return ReviewRankingDto.builder()
+                .rank(ranked.rank())
+                .storeId(ranked.storeId())
+                .storeName(ranked.storeName())
+                .averageRating(Math.round(ranked.averageRating() * 10.0) / 10.0)
+                .reviewCount(ranked.reviewCount())
+                .score(Math.round(ranked.score() * 100.0) / 100.0)
+                .build();
+    }
+}
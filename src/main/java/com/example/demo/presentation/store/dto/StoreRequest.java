@@ -1,6 +1,8 @@
 package com.example.demo.presentation.store.dto;
 
 import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.vo.StoreNearbyFilter;
+import com.example.demo.domain.store.vo.StoreNearbySort;
 import com.example.demo.domain.store.vo.StoreSearchCondition;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
@@ -266,5 +268,40 @@ public class StoreRequest {
         @DecimalMax(value = "100.0", message = "반경은 100km 이하여야 합니다.")
         @Schema(description = "검색 반경(km) [옵션]", example = "5.0")
         private Double radiusKm;
+
+        @Min(value = 0, message = "최대 가격은 0원 이상이어야 합니다.")
+        @Schema(description = "최대 메뉴 가격(원) [옵션], 이 가격 이하 메뉴가 하나라도 있는 업소만 조회", example = "8000")
+        private Integer maxPrice;
+
+        @Schema(description = "업종 [옵션]", example = "RESTAURANT")
+        private Category category;
+
+        @Schema(description = "대분류 [옵션]", example = "한식")
+        private String majorCategory;
+
+        @Schema(description = "소분류 [옵션]", example = "면류")
+        private String subCategory;
+
+        @Schema(description = "정렬 기준 [옵션, 기본 DISTANCE] (RELEVANCE: 거리, 평점, 리뷰 수, 인기도 종합)", example = "RELEVANCE")
+        private StoreNearbySort sort;
+
+        @Size(max = 64, message = "커서 형식이 올바르지 않습니다.")
+        @Schema(description = "다음 페이지 커서 [옵션], 이전 응답의 nextCursor (거리순 정렬에서만 사용, 다른 조건은 이전 요청과 같아야 함)")
+        private String cursor;
+
+        public StoreNearbySort sortOrDefault() {
+            return sort != null ? sort : StoreNearbySort.DISTANCE;
+        }
+
+        public StoreNearbyFilter toFilter() {
+            return new StoreNearbyFilter(maxPrice, category, majorCategory, subCategory);
+        }
+
+        /**
+         * 커서 서명에 포함할 조회 조건 (페이지 크기는 바꿔도 되므로 제외)
+         */
+        public String cursorScope() {
+            return latitude + "|" + longitude + "|" + radiusKm + "|" + toFilter();
+        }
     }
 }
@@ -1,8 +1,16 @@
 package com.example.demo.presentation.store.dto;
 
+import com.example.demo.domain.review.ranking.StoreRatingLeaderboard;
 import com.example.demo.domain.store.entity.Category;
 import com.example.demo.domain.store.entity.Store;
 import com.example.demo.domain.store.entity.StoreMenu;
+import com.example.demo.domain.store.index.StoreCluster;
+import com.example.demo.domain.store.index.StoreFacetIndex;
+import com.example.demo.domain.store.stats.StatsDimension;
+import com.example.demo.domain.store.trending.TrendingStoreCounter;
+import com.example.demo.domain.store.vo.StoreMapPoint;
+import com.example.demo.domain.store.vo.StoreMenuSummary;
+import com.example.demo.domain.store.vo.StoreSummary;
 import com.example.demo.presentation.review.dto.ReviewResponse;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -13,6 +21,7 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 업소 응답 DTO
@@ -77,6 +86,22 @@ public class StoreResponse {
                     .lastModifiedDate(store.getLastModifiedDate())
                     .build();
         }
+
+        public static StoreInfo from(StoreSummary summary) {
+            return StoreInfo.builder()
+                    .storeId(summary.storeId())
+                    .storeName(summary.storeName())
+                    .businessType(summary.category())
+                    .businessTypeDescription(summary.category().getDescription())
+                    .contactNumber(summary.contactNumber())
+                    .majorCategory(summary.majorCategory())
+                    .subCategory(summary.subCategory())
+                    .address(AddressInfo.from(summary))
+                    .isActive(summary.active())
+                    .createdDate(summary.createdDate())
+                    .lastModifiedDate(summary.lastModifiedDate())
+                    .build();
+        }
     }
 
     /**
@@ -184,6 +209,369 @@ public class StoreResponse {
                     .address(store.getAddress().getFullAddress())
                     .build();
         }
+
+        public static MapStoreInfo from(StoreMapPoint point) {
+            return MapStoreInfo.builder()
+                    .storeId(point.storeId())
+                    .storeName(point.storeName())
+                    .category(point.category())
+                    .latitude(point.latitude())
+                    .longitude(point.longitude())
+                    .address(point.fullAddress())
+                    .build();
+        }
+    }
+
+    /**
+     * 지도 클러스터 DTO
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "지도 클러스터 정보")
+    public static class MapCluster {
+
+        @Schema(description = "클러스터 중심 위도", example = "37.5665")
+        private Double latitude;
+
+        @Schema(description = "클러스터 중심 경도", example = "126.9780")
+        private Double longitude;
+
+        @Schema(description = "클러스터에 포함된 업소 수", example = "12")
+        private Integer count;
+
+        @Schema(description = "업소 ID (단일 업소 클러스터인 경우)", example = "1")
+        private Long storeId;
+
+        @Schema(description = "업소명 (단일 업소 클러스터인 경우)", example = "착한식당")
+        private String storeName;
+
+        @Schema(description = "업종 (단일 업소 클러스터인 경우)", example = "RESTAURANT")
+        private Category category;
+
+        public static MapCluster from(StoreCluster cluster) {
+            return MapCluster.builder()
+                    .latitude(cluster.latitude())
+                    .longitude(cluster.longitude())
+                    .count(cluster.count())
+                    .storeId(cluster.storeId())
+                    .storeName(cluster.storeName())
+                    .category(cluster.category())
+                    .build();
+        }
+    }
+
+    /**
+     * 지도 클러스터 목록 응답 DTO
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "지도 클러스터 목록 응답")
+    public static class MapClusterList {
+
+        @Schema(description = "줌 레벨", example = "12")
+        private Integer zoom;
+
+        @Schema(description = "뷰포트 내 업소 수", example = "320")
+        private Integer totalCount;
+
+        @Schema(description = "클러스터 목록")
+        private List<MapCluster> clusters;
+
+        public static MapClusterList from(Integer zoom, List<StoreCluster> clusters) {
+            return MapClusterList.builder()
+                    .zoom(zoom)
+                    .totalCount(clusters.stream().mapToInt(StoreCluster::count).sum())
+                    .clusters(clusters.stream()
+                            .map(MapCluster::from)
+                            .toList())
+                    .build();
+        }
+    }
+
+    /**
+     * 업소 평점 순위 목록 응답 DTO
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "업소 평점 순위 목록 응답")
+    public static class StoreRankingList {
+
+        @Schema(description = "페이지 번호 (0부터 시작)", example = "0")
+        private Integer page;
+
+        @Schema(description = "페이지 크기", example = "20")
+        private Integer size;
+
+        @Schema(description = "순위에 포함된 전체 업소 수", example = "1520")
+        private Long totalCount;
+
+        @Schema(description = "순위 목록")
+        private List<ReviewRankingDto> rankings;
+
+        public static StoreRankingList from(Integer page, Integer size, StoreRatingLeaderboard.Page rankingPage) {
+            return StoreRankingList.builder()
+                    .page(page)
+                    .size(size)
+                    .totalCount(rankingPage.totalCount())
+                    .rankings(rankingPage.rankings().stream()
+                            .map(ReviewRankingDto::from)
+                            .toList())
+                    .build();
+        }
+    }
+
+    /**
+     * 인기 업소 응답 DTO
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "인기 업소 정보")
+    public static class TrendingStore {
+
+        @Schema(description = "업소 ID", example = "1")
+        private Long storeId;
+
+        @Schema(description = "업소명", example = "착한식당")
+        private String storeName;
+
+        @Schema(description = "업종", example = "RESTAURANT")
+        private Category category;
+
+        @Schema(description = "시도", example = "서울특별시")
+        private String sido;
+
+        @Schema(description = "시군", example = "중구")
+        private String sigun;
+
+        @Schema(description = "최근 조회 수", example = "120")
+        private Long viewCount;
+
+        @Schema(description = "최근 리뷰 작성 수", example = "3")
+        private Long reviewCount;
+
+        @Schema(description = "활동 점수 (조회 수 + 리뷰 가중치 x 리뷰 수)", example = "135.0")
+        private Double score;
+
+        public static TrendingStore from(StoreSummary store, TrendingStoreCounter.TrendingCount count) {
+            return TrendingStore.builder()
+                    .storeId(store.storeId())
+                    .storeName(store.storeName())
+                    .category(store.category())
+                    .sido(store.sido())
+                    .sigun(store.sigun())
+                    .viewCount(count.views())
+                    .reviewCount(count.reviews())
+                    .score(count.score())
+                    .build();
+        }
+    }
+
+    /**
+     * 인기 업소 목록 응답 DTO
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "인기 업소 목록 응답")
+    public static class TrendingStoreList {
+
+        @Schema(description = "업소 수", example = "10")
+        private Integer totalCount;
+
+        @Schema(description = "활동 점수 내림차순 업소 목록")
+        private List<TrendingStore> stores;
+    }
+
+    /**
+     * 패싯 항목별 업소 수 DTO
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "패싯 항목별 업소 수")
+    public static class FacetCount {
+
+        @Schema(description = "필터 값", example = "RESTAURANT")
+        private String value;
+
+        @Schema(description = "표시명", example = "음식점")
+        private String label;
+
+        @Schema(description = "업소 수", example = "320")
+        private Integer count;
+
+        public static List<FacetCount> fromCategories(Map<Category, Integer> counts) {
+            return counts.entrySet().stream()
+                    .map(entry -> FacetCount.builder()
+                            .value(entry.getKey().name())
+                            .label(entry.getKey().getDescription())
+                            .count(entry.getValue())
+                            .build())
+                    .toList();
+        }
+
+        public static List<FacetCount> from(Map<String, Integer> counts) {
+            return counts.entrySet().stream()
+                    .map(entry -> FacetCount.builder()
+                            .value(entry.getKey())
+                            .label(entry.getKey())
+                            .count(entry.getValue())
+                            .build())
+                    .toList();
+        }
+    }
+
+    /**
+     * 패싯 검색 응답 DTO
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "패싯 검색 응답 (항목별 업소 수는 해당 항목 조건을 뺀 나머지 조건 기준)")
+    public static class StoreFacets {
+
+        @Schema(description = "조건에 맞는 전체 업소 수", example = "1520")
+        private Integer totalCount;
+
+        @Schema(description = "페이지 번호 (0부터 시작)", example = "0")
+        private Integer page;
+
+        @Schema(description = "페이지 크기", example = "20")
+        private Integer size;
+
+        @Schema(description = "업종별 업소 수")
+        private List<FacetCount> categories;
+
+        @Schema(description = "대분류별 업소 수")
+        private List<FacetCount> majorCategories;
+
+        @Schema(description = "소분류별 업소 수")
+        private List<FacetCount> subCategories;
+
+        @Schema(description = "시도별 업소 수")
+        private List<FacetCount> sidos;
+
+        @Schema(description = "시군별 업소 수 (시도 조건이 있을 때만)")
+        private List<FacetCount> siguns;
+
+        @Schema(description = "업소 목록")
+        private List<StoreInfo> stores;
+
+        public static StoreFacets from(Integer page, Integer size, StoreFacetIndex.FacetResult result) {
+            return StoreFacets.builder()
+                    .totalCount(result.totalCount())
+                    .page(page)
+                    .size(size)
+                    .categories(FacetCount.fromCategories(result.categoryCounts()))
+                    .majorCategories(FacetCount.from(result.majorCategoryCounts()))
+                    .subCategories(FacetCount.from(result.subCategoryCounts()))
+                    .sidos(FacetCount.from(result.sidoCounts()))
+                    .siguns(FacetCount.from(result.sigunCounts()))
+                    .stores(result.stores().stream()
+                            .map(StoreInfo::from)
+                            .toList())
+                    .build();
+        }
+    }
+
+    /**
+     * 업소 통계 행 DTO (묶지 않은 항목은 null)
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "업소 통계 행 (활성 업소 기준, 묶음 기준에 없는 항목은 null)")
+    public static class StoreStats {
+
+        @Schema(description = "시도", example = "서울특별시")
+        private String sido;
+
+        @Schema(description = "시군", example = "중구")
+        private String sigun;
+
+        @Schema(description = "업종", example = "RESTAURANT")
+        private Category category;
+
+        @Schema(description = "업종 표시명", example = "음식점")
+        private String categoryDescription;
+
+        @Schema(description = "대분류", example = "한식")
+        private String majorCategory;
+
+        @Schema(description = "업소 수", example = "320")
+        private Long storeCount;
+
+        @Schema(description = "메뉴 수", example = "1280")
+        private Long menuCount;
+
+        @Schema(description = "평균 메뉴 가격 (메뉴 단위)", example = "7500")
+        private BigDecimal averageMenuPrice;
+
+        @Schema(description = "리뷰 수", example = "940")
+        private Long reviewCount;
+
+        @Schema(description = "평균 평점 (리뷰 단위)", example = "4.3")
+        private Double averageRating;
+
+        public static StoreStats from(com.example.demo.domain.store.stats.StoreStats stats) {
+            Category category = stats.key().category();
+            return StoreStats.builder()
+                    .sido(stats.key().sido())
+                    .sigun(stats.key().sigun())
+                    .category(category)
+                    .categoryDescription(category != null ? category.getDescription() : null)
+                    .majorCategory(stats.key().majorCategory())
+                    .storeCount(stats.storeCount())
+                    .menuCount(stats.menuCount())
+                    .averageMenuPrice(stats.averageMenuPrice())
+                    .reviewCount(stats.reviewCount())
+                    .averageRating(stats.averageRating())
+                    .build();
+        }
+    }
+
+    /**
+     * 업소 통계 목록 응답 DTO
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "업소 통계 목록 (업소 수 내림차순)")
+    public static class StoreStatsList {
+
+        @Schema(description = "묶음 기준", example = "[\"SIDO\", \"CATEGORY\"]")
+        private List<StatsDimension> groupBy;
+
+        @Schema(description = "조건에 맞는 전체 합계")
+        private StoreStats total;
+
+        @Schema(description = "묶음별 통계")
+        private List<StoreStats> rows;
+
+        public static StoreStatsList from(List<StatsDimension> groupBy,
+                                          com.example.demo.domain.store.stats.StoreStats total,
+                                          List<com.example.demo.domain.store.stats.StoreStats> rows) {
+            return StoreStatsList.builder()
+                    .groupBy(groupBy)
+                    .total(StoreStats.from(total))
+                    .rows(rows.stream()
+                            .map(StoreStats::from)
+                            .toList())
+                    .build();
+        }
     }
 
     /**
@@ -224,6 +612,16 @@ public class StoreResponse {
                     .longitude(address.getLongitude())
                     .build();
         }
+
+        public static AddressInfo from(StoreSummary summary) {
+            return AddressInfo.builder()
+                    .sido(summary.sido())
+                    .sigun(summary.sigun())
+                    .fullAddress(summary.fullAddress())
+                    .latitude(summary.latitude())
+                    .longitude(summary.longitude())
+                    .build();
+        }
     }
 
     /**
@@ -256,6 +654,15 @@ public class StoreResponse {
                     .menuOrder(menu.getMenuOrder())
                     .build();
         }
+
+        public static MenuInfo from(StoreMenuSummary menu) {
+            return MenuInfo.builder()
+                    .menuId(menu.menuId())
+                    .menuName(menu.menuName())
+                    .price(menu.price())
+                    .menuOrder(menu.menuOrder())
+                    .build();
+        }
     }
 
     /**
@@ -340,6 +747,26 @@ public class StoreResponse {
                     .lastModifiedDate(store.getLastModifiedDate())
                     .build();
         }
+
+        public static NearbyStore from(StoreSummary summary, List<StoreMenuSummary> menus,
+                                       Double distanceKm, ReviewSummary reviewSummary) {
+            return NearbyStore.builder()
+                    .storeId(summary.storeId())
+                    .storeName(summary.storeName())
+                    .category(summary.category())
+                    .categoryDescription(summary.category().getDescription())
+                    .contactNumber(summary.contactNumber())
+                    .address(AddressInfo.from(summary))
+                    .menus(menus.stream()
+                            .map(MenuInfo::from)
+                            .toList())
+                    .distanceKm(Math.round(distanceKm * 100.0) / 100.0) // 소수점 2자리까지 반올림
+                    .reviewSummary(reviewSummary)
+                    .isActive(summary.active())
+                    .createdDate(summary.createdDate())
+                    .lastModifiedDate(summary.lastModifiedDate())
+                    .build();
+        }
     }
 
     /**
@@ -367,8 +794,16 @@ public class StoreResponse {
         @Schema(description = "최대 거리(km)", example = "5.67")
         private Double maxDistanceKm;
 
+        @Schema(description = "다음 페이지 커서 (더 조회할 업소가 없거나 관련도 정렬이면 null)")
+        private String nextCursor;
+
         public static NearbyStoreList from(Double userLatitude, Double userLongitude,
                                            List<NearbyStore> nearbyStores) {
+            return from(userLatitude, userLongitude, nearbyStores, null);
+        }
+
+        public static NearbyStoreList from(Double userLatitude, Double userLongitude,
+                                           List<NearbyStore> nearbyStores, String nextCursor) {
             Double maxDistance = nearbyStores.stream()
                     .mapToDouble(NearbyStore::getDistanceKm)
                     .max()
@@ -378,7 +813,9 @@ public class StoreResponse {
                     .userLatitude(userLatitude)
                     .userLongitude(userLongitude)
                     .stores(nearbyStores)
+                    .totalCount(nearbyStores.size())
                     .maxDistanceKm(Math.round(maxDistance * 100.0) / 100.0)
+                    .nextCursor(nextCursor)
                     .build();
         }
     }
@@ -472,11 +909,20 @@ public class StoreResponse {
         @Schema(description = "상위 리뷰 목록")
         private List<ReviewResponse.ReviewInfo> topReviews;
 
+        @Schema(description = "리뷰 정보 일부 누락 여부 (리뷰 조회 지연/실패 시 true)", example = "false")
+        private boolean partial;
+
         public static ReviewSummary from(Double averageRating, Long reviewCount, List<ReviewResponse.ReviewInfo> topReviews) {
+            return from(averageRating, reviewCount, topReviews, false);
+        }
+
+        public static ReviewSummary from(Double averageRating, Long reviewCount,
+                                         List<ReviewResponse.ReviewInfo> topReviews, boolean partial) {
             return ReviewSummary.builder()
                     .averageRating(averageRating != null ? Math.round(averageRating * 10.0) / 10.0 : 0.0)
                     .reviewCount(reviewCount != null ? reviewCount : 0L)
                     .topReviews(topReviews != null ? topReviews : List.of())
+                    .partial(partial)
                     .build();
         }
     }
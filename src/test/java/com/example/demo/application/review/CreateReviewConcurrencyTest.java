@@ -0,0 +1,114 @@
+package com.example.demo.application.review;
+
+import com.example.demo.domain.member.entity.Member;
+import com.example.demo.domain.member.entity.Role;
+import com.example.demo.domain.member.repository.MemberRepository;
+import com.example.demo.domain.review.repository.ReviewRepository;
+import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.entity.Store;
+import com.example.demo.domain.store.repository.StoreRepository;
+import com.example.demo.infrastructure.exception.object.general.GeneralException;
+import com.example.demo.infrastructure.exception.payload.code.ErrorStatus;
+import com.example.demo.presentation.review.dto.ReviewRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 업소/회원당 활성 리뷰 하나 제약의 동시성 검증 (실제 MySQL 필요)
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "DATABASE_URL", matches = ".+")
+class CreateReviewConcurrencyTest {
+
+    private static final int WRITERS = 100;
+
+    @Autowired
+    private CreateReviewUseCase createReviewUseCase;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private Store store;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        store = storeRepository.save(Store.create("동시성 테스트 업소 " + suffix, Category.RESTAURANT, null, null));
+        member = memberRepository.save(Member.builder()
+                .role(Role.USER)
+                .username("review-race-" + suffix)
+                .nickname("review-race-" + suffix)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewRepository.deleteAll(reviewRepository.findByStoreIdAndIsActiveTrueOrderByCreatedDateDesc(store.getId()));
+        storeRepository.delete(store);
+        memberRepository.delete(member);
+    }
+
+    @Test
+    void execute_keepsSingleActiveReview_whenWritersRaceForSameStoreAndMember() throws Exception {
+        // given
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejectedAsDuplicate = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        try {
+            for (int i = 0; i < WRITERS; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        createReviewUseCase.execute(member, new ReviewRequest.CreateReview(store.getId(), 5, "동시 작성"));
+                        succeeded.incrementAndGet();
+                    } catch (GeneralException e) {
+                        if (e.getCode() == ErrorStatus._BAD_REQUEST) {
+                            rejectedAsDuplicate.incrementAndGet();
+                        }
+                    } catch (RuntimeException e) {
+                        // 락 대기 중 교착 등 다른 실패도 중복 저장만 아니면 허용
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // then
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(rejectedAsDuplicate.get()).isPositive();
+        assertThat(reviewRepository.countByStoreIdAndIsActiveTrue(store.getId())).isEqualTo(1);
+    }
+}
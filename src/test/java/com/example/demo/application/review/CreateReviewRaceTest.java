@@ -0,0 +1,142 @@
+package com.example.demo.application.review;
+
+import com.example.demo.domain.member.entity.Member;
+import com.example.demo.domain.outbox.entity.ChangeType;
+import com.example.demo.domain.outbox.service.OutboxService;
+import com.example.demo.domain.review.adaptor.ReviewAdaptor;
+import com.example.demo.domain.review.entity.Review;
+import com.example.demo.domain.review.repository.ReviewRepository;
+import com.example.demo.domain.review.writebehind.ReviewWriteBehindQueue;
+import com.example.demo.domain.store.adaptor.StoreAdaptor;
+import com.example.demo.domain.store.entity.Store;
+import com.example.demo.domain.store.trending.TrendingStoreCounter;
+import com.example.demo.infrastructure.exception.object.general.GeneralException;
+import com.example.demo.infrastructure.exception.payload.code.ErrorStatus;
+import com.example.demo.presentation.review.dto.ReviewRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 업소/회원당 활성 리뷰 하나 제약의 동시성 검증 (DB 없이)
+ * 유니크 제약(uk_review_store_member_active)은 저장소 대역이 키 단위로 원자적으로 흉내 내고,
+ * 사용 측에 조회 후 저장 사이의 틈이 없어 제약 위반이 모두 _BAD_REQUEST 로 변환되는지 확인한다.
+ * 실제 MySQL 에서의 검증은 CreateReviewConcurrencyTest 가 맡는다.
+ */
+@ExtendWith(MockitoExtension.class)
+class CreateReviewRaceTest {
+
+    private static final int WRITERS = 100;
+    private static final Long STORE_ID = 10L;
+    private static final Long MEMBER_ID = 1L;
+
+    // (store_id, member_id, active_marker = 1) 유니크 인덱스 대역
+    private final Map<List<Long>, Review> activeReviews = new ConcurrentHashMap<>();
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private StoreAdaptor storeAdaptor;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<ReviewWriteBehindQueue> reviewWriteBehindQueue;
+
+    @Mock
+    private TrendingStoreCounter trendingStoreCounter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CreateReviewUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new CreateReviewUseCase(new ReviewAdaptor(reviewRepository), storeAdaptor, outboxService,
+            eventPublisher, reviewWriteBehindQueue, trendingStoreCounter, transactionManager);
+    }
+
+    @Test
+    void execute_keepsSingleActiveReview_whenWritersRaceForSameStoreAndMember() throws Exception {
+        // given
+        Store store = mock(Store.class);
+        given(store.getId()).willReturn(STORE_ID);
+        Member member = mock(Member.class);
+        given(member.getId()).willReturn(MEMBER_ID);
+        given(storeAdaptor.queryStoreName(STORE_ID)).willReturn("착한식당");
+        given(storeAdaptor.getReference(STORE_ID)).willReturn(store);
+        given(reviewRepository.saveAndFlush(any(Review.class))).willAnswer(invocation -> {
+            Review review = invocation.getArgument(0);
+            List<Long> key = List.of(review.getStore().getId(), review.getMember().getId());
+            if (activeReviews.putIfAbsent(key, review) != null) {
+                throw new DataIntegrityViolationException("Duplicate entry for key 'uk_review_store_member_active'");
+            }
+            return review;
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejectedAsDuplicate = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        try {
+            for (int i = 0; i < WRITERS; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        useCase.execute(member, new ReviewRequest.CreateReview(STORE_ID, 5, "동시 작성"));
+                        succeeded.incrementAndGet();
+                    } catch (GeneralException e) {
+                        if (e.getCode() == ErrorStatus._BAD_REQUEST) {
+                            rejectedAsDuplicate.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // then: 한 건만 저장되고 나머지는 모두 중복 오류, 아웃박스/이벤트도 한 번만 기록된다
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(rejectedAsDuplicate.get()).isEqualTo(WRITERS - 1);
+        assertThat(activeReviews).hasSize(1);
+        verify(outboxService).recordReviewChanged(null, STORE_ID, ChangeType.CREATED);
+    }
+}
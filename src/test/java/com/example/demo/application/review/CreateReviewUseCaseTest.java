@@ -0,0 +1,165 @@
+package com.example.demo.application.review;
+
+import com.example.demo.domain.member.entity.Member;
+import com.example.demo.domain.outbox.entity.ChangeType;
+import com.example.demo.domain.outbox.service.OutboxService;
+import com.example.demo.domain.review.adaptor.ReviewAdaptor;
+import com.example.demo.domain.review.entity.Review;
+import com.example.demo.domain.review.writebehind.ReviewWriteBehindQueue;
+import com.example.demo.domain.store.adaptor.StoreAdaptor;
+import com.example.demo.domain.store.entity.Store;
+import com.example.demo.domain.store.exception.StoreErrorStatus;
+import com.example.demo.domain.store.exception.StoreHandler;
+import com.example.demo.domain.store.trending.TrendingStoreCounter;
+import com.example.demo.infrastructure.exception.object.general.GeneralException;
+import com.example.demo.infrastructure.exception.payload.code.ErrorStatus;
+import com.example.demo.presentation.review.dto.ReviewRequest;
+import com.example.demo.presentation.review.dto.ReviewResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CreateReviewUseCaseTest {
+
+    @Mock
+    private ReviewAdaptor reviewAdaptor;
+
+    @Mock
+    private StoreAdaptor storeAdaptor;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<ReviewWriteBehindQueue> reviewWriteBehindQueue;
+
+    @Mock
+    private TrendingStoreCounter trendingStoreCounter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private CreateReviewUseCase useCase;
+
+    @Test
+    void execute_queriesStoreNameOnly_andWiresStoreByReference() {
+        // given
+        Long storeId = 10L;
+        Member member = mock(Member.class);
+        given(member.getId()).willReturn(1L);
+        given(member.getNickname()).willReturn("리뷰어");
+
+        Store storeReference = mock(Store.class);
+        given(storeReference.getId()).willReturn(storeId);
+
+        given(storeAdaptor.queryStoreName(storeId)).willReturn("착한식당");
+        given(storeAdaptor.getReference(storeId)).willReturn(storeReference);
+        given(reviewAdaptor.save(any(Review.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        ReviewResponse.CreateReviewResponse response = useCase.execute(
+                member, new ReviewRequest.CreateReview(storeId, 5, "맛있어요"));
+
+        // then: 업소는 이름 조회 1회 + 프록시, 중복 확인 조회 없이 저장 1회
+        verify(storeAdaptor).queryStoreName(storeId);
+        verify(storeAdaptor).getReference(storeId);
+        verifyNoMoreInteractions(storeAdaptor);
+        verify(reviewAdaptor).save(any(Review.class));
+        verifyNoMoreInteractions(reviewAdaptor);
+        verify(outboxService).recordReviewChanged(null, storeId, ChangeType.CREATED);
+
+        assertThat(response.getReviewInfo().getStoreName()).isEqualTo("착한식당");
+        assertThat(response.getReviewInfo().getStoreId()).isEqualTo(storeId);
+        assertThat(response.isPending()).isFalse();
+    }
+
+    @Test
+    void execute_throwsStoreNotFound_beforeSaving_whenStoreMissing() {
+        // given
+        Long storeId = 404L;
+        willThrow(new StoreHandler(StoreErrorStatus.STORE_NOT_FOUND)).given(storeAdaptor).queryStoreName(storeId);
+
+        // when & then
+        assertThatThrownBy(() -> useCase.execute(mock(Member.class), new ReviewRequest.CreateReview(storeId, 5, null)))
+                .isInstanceOf(StoreHandler.class);
+        verify(storeAdaptor, never()).getReference(any());
+        verify(reviewAdaptor, never()).save(any());
+    }
+
+    @Test
+    void execute_rejectsWithoutQueueing_whenActiveReviewAlreadySaved() {
+        // given
+        ReviewWriteBehindQueue queue = mock(ReviewWriteBehindQueue.class);
+        given(reviewWriteBehindQueue.getIfAvailable()).willReturn(queue);
+        Member member = mock(Member.class);
+        given(member.getId()).willReturn(1L);
+        given(reviewAdaptor.queryReviewByStoreAndMember(10L, 1L)).willReturn(Optional.of(mock(Review.class)));
+
+        // when & then: 동기 저장의 유니크 제약 위반과 같은 오류로 응답한다
+        assertThatThrownBy(() -> useCase.execute(member, new ReviewRequest.CreateReview(10L, 5, "또 작성")))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorStatus._BAD_REQUEST);
+        verifyNoInteractions(queue, trendingStoreCounter);
+    }
+
+    @Test
+    void execute_rejects_whenSameReviewAlreadyPendingInQueue() {
+        // given
+        ReviewWriteBehindQueue queue = mock(ReviewWriteBehindQueue.class);
+        given(reviewWriteBehindQueue.getIfAvailable()).willReturn(queue);
+        Member member = mock(Member.class);
+        given(member.getId()).willReturn(1L);
+        given(reviewAdaptor.queryReviewByStoreAndMember(10L, 1L)).willReturn(Optional.empty());
+        given(queue.offer(10L, 1L, 5, "연속 요청")).willReturn(ReviewWriteBehindQueue.OfferResult.DUPLICATE);
+
+        // when & then: 대기 중이라 pending 응답 뒤 조용히 버려지지 않고 바로 거절된다
+        assertThatThrownBy(() -> useCase.execute(member, new ReviewRequest.CreateReview(10L, 5, "연속 요청")))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorStatus._BAD_REQUEST);
+        verify(reviewAdaptor, never()).save(any());
+        verifyNoInteractions(trendingStoreCounter);
+    }
+
+    @Test
+    void execute_returnsPending_whenQueueAccepts() {
+        // given
+        ReviewWriteBehindQueue queue = mock(ReviewWriteBehindQueue.class);
+        given(reviewWriteBehindQueue.getIfAvailable()).willReturn(queue);
+        Member member = mock(Member.class);
+        given(member.getId()).willReturn(1L);
+        given(reviewAdaptor.queryReviewByStoreAndMember(10L, 1L)).willReturn(Optional.empty());
+        given(queue.offer(10L, 1L, 5, "맛있어요")).willReturn(ReviewWriteBehindQueue.OfferResult.ACCEPTED);
+
+        // when
+        ReviewResponse.CreateReviewResponse response = useCase.execute(
+                member, new ReviewRequest.CreateReview(10L, 5, "맛있어요"));
+
+        // then
+        assertThat(response.isPending()).isTrue();
+        verify(storeAdaptor).validateExists(10L);
+        verify(reviewAdaptor, never()).save(any());
+    }
+}
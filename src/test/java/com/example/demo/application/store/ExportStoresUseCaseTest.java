@@ -0,0 +1,122 @@
+package com.example.demo.application.store;
+
+import com.example.demo.application.store.ExportStoresUseCase.ExportFormat;
+import com.example.demo.domain.member.entity.Member;
+import com.example.demo.domain.member.entity.Role;
+import com.example.demo.domain.store.adaptor.StoreAdaptor;
+import com.example.demo.domain.store.entity.Address;
+import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.entity.Store;
+import com.example.demo.infrastructure.exception.object.general.GeneralException;
+import com.example.demo.infrastructure.exception.payload.code.ErrorStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ExportStoresUseCaseTest {
+
+    @Mock
+    private StoreAdaptor storeAdaptor;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExportStoresUseCase exportStoresUseCase;
+
+    @BeforeEach
+    void setUp() {
+        exportStoresUseCase = new ExportStoresUseCase(storeAdaptor, entityManager, new ObjectMapper(), transactionManager);
+    }
+
+    @Test
+    void execute_throwsForbidden_whenMemberIsNotAdmin() {
+        // given
+        Member member = member(Role.USER);
+
+        // when & then
+        assertThatThrownBy(() -> exportStoresUseCase.execute(member, ExportFormat.CSV))
+            .isInstanceOf(GeneralException.class)
+            .extracting("code").isEqualTo(ErrorStatus.AUTH_ADMIN_PRIVILEGES_REQUIRED);
+        verifyNoInteractions(storeAdaptor, transactionManager);
+    }
+
+    @Test
+    void execute_writesCsvRows_withHeaderAndQuotedValues() throws IOException {
+        // given
+        Store store = store(1L, "김밥, 분식", "02-123-4567");
+        given(storeAdaptor.streamActiveStores()).willReturn(Stream.of(store));
+
+        // when
+        String csv = export();
+
+        // then
+        assertThat(csv).startsWith("\uFEFFstoreId,storeName,category,");
+        assertThat(csv.split("\r\n")).hasSize(2);
+        assertThat(csv.split("\r\n")[1])
+            .startsWith("1,\"김밥, 분식\",RESTAURANT,한식,김밥,02-123-4567,서울특별시,중구,서울특별시 중구 세종대로 110,37.5665,126.978,");
+        verify(entityManager).detach(store);
+    }
+
+    @Test
+    void execute_neutralizesFormulaCells() throws IOException {
+        // given
+        given(storeAdaptor.streamActiveStores()).willReturn(Stream.of(
+            store(1L, "=HYPERLINK(\"http://example.com\")", "+82-2-123-4567"),
+            store(2L, "@SUM(A1)", "-1")));
+
+        // when
+        String[] rows = export().split("\r\n");
+
+        // then: 수식 시작 문자로 시작하는 문자열만 작은따옴표를 붙이고, 좌표 등 숫자는 그대로 기록한다
+        assertThat(rows[1]).startsWith("1,\"'=HYPERLINK(\"\"http://example.com\"\")\",RESTAURANT,한식,김밥,'+82-2-123-4567,");
+        assertThat(rows[2]).startsWith("2,'@SUM(A1),RESTAURANT,한식,김밥,'-1,");
+        assertThat(rows[2]).contains(",37.5665,126.978,");
+    }
+
+    private String export() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportStoresUseCase.execute(member(Role.ADMIN), ExportFormat.CSV).writeTo(outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Member member(Role role) {
+        return Member.builder()
+            .id(1L)
+            .role(role)
+            .username("member")
+            .nickname("member")
+            .build();
+    }
+
+    private static Store store(Long storeId, String storeName, String contactNumber) {
+        return Store.builder()
+            .id(storeId)
+            .storeName(storeName)
+            .category(Category.RESTAURANT)
+            .majorCategory("한식")
+            .subCategory("김밥")
+            .contactNumber(contactNumber)
+            .address(new Address("서울특별시", "중구", "서울특별시 중구 세종대로 110", 37.5665, 126.978))
+            .build();
+    }
+}
@@ -1,11 +1,20 @@
 package com.example.demo.application.store;
 
+import com.example.demo.domain.review.adaptor.ReviewAdaptor;
+import com.example.demo.domain.review.cache.StoreRatingCache;
 import com.example.demo.domain.store.adaptor.StoreAdaptor;
-import com.example.demo.domain.store.entity.Address;
-import com.example.demo.domain.store.entity.BusinessType;
-import com.example.demo.domain.store.entity.Store;
+import com.example.demo.domain.store.cursor.NearbyCursorCodec;
+import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.exception.StoreErrorStatus;
 import com.example.demo.domain.store.exception.StoreHandler;
+import com.example.demo.domain.store.index.StoreNearbyGridIndex;
+import com.example.demo.domain.store.ranking.StoreRelevanceRanker;
 import com.example.demo.domain.store.util.DistanceUtils;
+import com.example.demo.domain.store.vo.NearbyCursor;
+import com.example.demo.domain.store.vo.StoreCoordinate;
+import com.example.demo.domain.store.vo.StoreDistance;
+import com.example.demo.domain.store.vo.StoreNearbySort;
+import com.example.demo.domain.store.vo.StoreSummary;
 import com.example.demo.presentation.store.dto.StoreRequest;
 import com.example.demo.presentation.store.dto.StoreResponse;
 import org.junit.jupiter.api.DisplayName;
@@ -15,17 +24,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -35,27 +42,27 @@ class GetNearbyStoresUseCaseTest {
     @Mock
     private StoreAdaptor storeAdaptor;
 
+    @Mock
+    private ReviewAdaptor reviewAdaptor;
+
+    @Mock
+    private StoreRatingCache storeRatingCache;
+
+    @Mock
+    private StoreNearbyGridIndex storeNearbyGridIndex;
+
+    @Mock
+    private StoreRelevanceRanker storeRelevanceRanker;
+
+    @Mock
+    private NearbyCursorCodec nearbyCursorCodec;
+
     @InjectMocks
     private GetNearbyStoresUseCase useCase;
 
-    private Store createStore(String name, Double lat, Double lon) {
-        Address address = new Address("서울특별시", "중구", "서울특별시 중구 세종대로 110", lat, lon);
-        return Store.builder()
-            .storeName(name)
-            .businessType(BusinessType.RESTAURANT)
-            .contactNumber("02-0000-0000")
-            .address(address)
-            .build();
-    }
-
-    private Store createStoreWithoutCoordinates(String name) {
-        Address address = new Address("서울특별시", "중구", "서울특별시 중구 세종대로 110", null, null);
-        return Store.builder()
-            .storeName(name)
-            .businessType(BusinessType.RESTAURANT)
-            .contactNumber("02-0000-0000")
-            .address(address)
-            .build();
+    private StoreSummary createSummary(Long storeId, String name, Double lat, Double lon) {
+        return new StoreSummary(storeId, name, Category.RESTAURANT, null, null, "02-0000-0000",
+            "서울특별시", "중구", "서울특별시 중구 세종대로 110", lat, lon, true, null, null);
     }
 
     @Nested
@@ -63,20 +70,21 @@ class GetNearbyStoresUseCaseTest {
     class WithRadius {
 
         @Test
-        @DisplayName("반경이 지정되면 어댑터 위임 및 매핑이 수행된다")
+        @DisplayName("반경이 지정되면 DB 거리 조회 순서대로 요약을 붙여 매핑한다")
         void execute_delegatesToAdaptorAndMaps_whenRadiusProvided() {
             double userLat = 37.5665;
             double userLon = 126.9780;
             int limit = 3;
             double radiusKm = 2.0;
 
-            Store storeNear = createStore("A", 37.5665, 126.9780);
-            Store storeFar = createStore("B", 37.5651, 126.98955);
-            List<Store> content = List.of(storeNear, storeFar);
+            StoreSummary storeNear = createSummary(1L, "A", 37.5665, 126.9780);
+            StoreSummary storeFar = createSummary(2L, "B", 37.5651, 126.98955);
+            double nearKm = DistanceUtils.calculateDistanceKm(userLat, userLon, storeNear.latitude(), storeNear.longitude());
+            double farKm = DistanceUtils.calculateDistanceKm(userLat, userLon, storeFar.latitude(), storeFar.longitude());
 
-            Page<Store> page = new PageImpl<>(content, PageRequest.of(0, limit), content.size());
-            when(storeAdaptor.queryStoresWithinRadius(eq(userLat), eq(userLon), eq(radiusKm), any(PageRequest.class)))
-                .thenReturn(page);
+            when(storeAdaptor.queryDistancesWithinRadius(userLat, userLon, radiusKm, limit, null))
+                .thenReturn(List.of(new StoreDistance(1L, nearKm), new StoreDistance(2L, farKm)));
+            when(storeAdaptor.querySummariesInOrder(List.of(1L, 2L))).thenReturn(List.of(storeNear, storeFar));
 
             StoreRequest.GetNearbyStores request = StoreRequest.GetNearbyStores.builder()
                 .latitude(userLat)
@@ -87,32 +95,30 @@ class GetNearbyStoresUseCaseTest {
 
             StoreResponse.NearbyStoreList response = useCase.execute(request);
 
-            verify(storeAdaptor).queryStoresWithinRadius(eq(userLat), eq(userLon), eq(radiusKm), eq(PageRequest.of(0, limit)));
             assertThat(response.getTotalCount()).isEqualTo(2);
             assertThat(response.getStores()).hasSize(2);
-
-            double expected0 = round2(DistanceUtils.calculateDistanceKm(userLat, userLon,
-                storeNear.getAddress().getLatitude(), storeNear.getAddress().getLongitude()));
-            double expected1 = round2(DistanceUtils.calculateDistanceKm(userLat, userLon,
-                storeFar.getAddress().getLatitude(), storeFar.getAddress().getLongitude()));
-
-            assertThat(response.getStores().get(0).getDistanceKm()).isEqualTo(expected0);
-            assertThat(response.getStores().get(1).getDistanceKm()).isEqualTo(expected1);
-            assertThat(response.getMaxDistanceKm()).isEqualTo(Math.max(expected0, expected1));
-            assertThat(response.getUserLocation().getLatitude()).isEqualTo(userLat);
-            assertThat(response.getUserLocation().getLongitude()).isEqualTo(userLon);
+            assertThat(response.getStores().get(0).getStoreName()).isEqualTo("A");
+            assertThat(response.getStores().get(0).getDistanceKm()).isEqualTo(round2(nearKm));
+            assertThat(response.getStores().get(1).getStoreName()).isEqualTo("B");
+            assertThat(response.getStores().get(1).getDistanceKm()).isEqualTo(round2(farKm));
+            assertThat(response.getMaxDistanceKm()).isEqualTo(Math.max(round2(nearKm), round2(farKm)));
+            assertThat(response.getUserLatitude()).isEqualTo(userLat);
+            assertThat(response.getUserLongitude()).isEqualTo(userLon);
+            // 반경 조회는 좌표 전체를 읽지 않는다
+            verify(storeAdaptor, never()).queryCoordinates();
         }
 
         @Test
         @DisplayName("반경 조회 결과가 비어도 응답은 정상 매핑된다")
-        void execute_handlesEmptyPage_whenRadiusProvided() {
+        void execute_handlesEmptyResult_whenRadiusProvided() {
             double userLat = 37.5665;
             double userLon = 126.9780;
             int limit = 5;
             double radiusKm = 1.0;
 
-            when(storeAdaptor.queryStoresWithinRadius(eq(userLat), eq(userLon), eq(radiusKm), any(PageRequest.class)))
-                .thenReturn(Page.empty());
+            when(storeAdaptor.queryDistancesWithinRadius(userLat, userLon, radiusKm, limit, null))
+                .thenReturn(List.of());
+            when(storeAdaptor.querySummariesInOrder(List.of())).thenReturn(List.of());
 
             StoreRequest.GetNearbyStores request = StoreRequest.GetNearbyStores.builder()
                 .latitude(userLat)
@@ -134,24 +140,21 @@ class GetNearbyStoresUseCaseTest {
     class WithoutRadius {
 
         @Test
-        @DisplayName("반경이 없으면 거리 오름차순 정렬 후 limit 만큼 반환된다")
+        @DisplayName("반경이 없으면 좌표만 읽어 거리 오름차순 정렬 후 limit 건의 요약만 조회한다")
         void execute_sortsByDistanceAndLimits_whenNoRadius() {
             double userLat = 37.5665;
             double userLon = 126.9780;
             int limit = 2;
 
-            Store store0 = createStore("A", 37.5665, 126.9780);
-            Store store1 = createStore("B", 37.5651, 126.98955);
-            Store store2 = createStore("C", 37.5700, 126.9900);
-            Store storeInvalid = createStoreWithoutCoordinates("D");
+            StoreSummary store0 = createSummary(10L, "A", 37.5665, 126.9780);
+            StoreSummary store1 = createSummary(11L, "B", 37.5651, 126.98955);
 
-            List<Store> all = new ArrayList<>();
-            all.add(store2);
-            all.add(storeInvalid);
-            all.add(store1);
-            all.add(store0);
-
-            when(storeAdaptor.queryStoresWithCoordinates()).thenReturn(all);
+            when(storeAdaptor.queryCoordinates()).thenReturn(List.of(
+                new StoreCoordinate(12L, 37.5700, 126.9900),
+                new StoreCoordinate(11L, store1.latitude(), store1.longitude()),
+                new StoreCoordinate(10L, store0.latitude(), store0.longitude())
+            ));
+            when(storeAdaptor.querySummariesInOrder(List.of(10L, 11L))).thenReturn(List.of(store0, store1));
 
             StoreRequest.GetNearbyStores request = StoreRequest.GetNearbyStores.builder()
                 .latitude(userLat)
@@ -164,16 +167,16 @@ class GetNearbyStoresUseCaseTest {
 
             assertThat(response.getStores()).hasSize(2);
 
-            double d0 = round2(DistanceUtils.calculateDistanceKm(userLat, userLon,
-                store0.getAddress().getLatitude(), store0.getAddress().getLongitude()));
-            double d1 = round2(DistanceUtils.calculateDistanceKm(userLat, userLon,
-                store1.getAddress().getLatitude(), store1.getAddress().getLongitude()));
+            double d0 = round2(DistanceUtils.calculateDistanceKm(userLat, userLon, store0.latitude(), store0.longitude()));
+            double d1 = round2(DistanceUtils.calculateDistanceKm(userLat, userLon, store1.latitude(), store1.longitude()));
 
             assertThat(response.getStores().get(0).getStoreName()).isEqualTo("A");
             assertThat(response.getStores().get(0).getDistanceKm()).isEqualTo(d0);
             assertThat(response.getStores().get(1).getStoreName()).isEqualTo("B");
             assertThat(response.getStores().get(1).getDistanceKm()).isEqualTo(d1);
             assertThat(response.getMaxDistanceKm()).isEqualTo(Math.max(d0, d1));
+            // 상위 limit 건 밖의 업소(12)는 요약을 조회하지 않는다
+            verify(storeAdaptor).querySummariesInOrder(List.of(10L, 11L));
         }
 
         @Test
@@ -183,7 +186,8 @@ class GetNearbyStoresUseCaseTest {
             double userLon = 126.9780;
             int limit = 10;
 
-            when(storeAdaptor.queryStoresWithCoordinates()).thenReturn(List.of());
+            when(storeAdaptor.queryCoordinates()).thenReturn(List.of());
+            when(storeAdaptor.querySummariesInOrder(List.of())).thenReturn(List.of());
 
             StoreRequest.GetNearbyStores request = StoreRequest.GetNearbyStores.builder()
                 .latitude(userLat)
@@ -197,6 +201,31 @@ class GetNearbyStoresUseCaseTest {
             assertThat(response.getTotalCount()).isEqualTo(0);
             assertThat(response.getMaxDistanceKm()).isEqualTo(0.0);
         }
+
+        @Test
+        @DisplayName("거리 조회 뒤 삭제된 업소는 결과에서 빠진다")
+        void execute_skipsStoreDeletedBetweenQueries_whenNoRadius() {
+            double userLat = 37.5665;
+            double userLon = 126.9780;
+
+            StoreSummary remaining = createSummary(21L, "남은 업소", 37.5651, 126.98955);
+            when(storeAdaptor.queryCoordinates()).thenReturn(List.of(
+                new StoreCoordinate(20L, userLat, userLon),
+                new StoreCoordinate(21L, remaining.latitude(), remaining.longitude())
+            ));
+            when(storeAdaptor.querySummariesInOrder(List.of(20L, 21L))).thenReturn(List.of(remaining));
+
+            StoreRequest.GetNearbyStores request = StoreRequest.GetNearbyStores.builder()
+                .latitude(userLat)
+                .longitude(userLon)
+                .limit(5)
+                .build();
+
+            StoreResponse.NearbyStoreList response = useCase.execute(request);
+
+            assertThat(response.getStores()).extracting(StoreResponse.NearbyStore::getStoreName)
+                .containsExactly("남은 업소");
+        }
     }
 
     @Nested
@@ -228,7 +257,7 @@ class GetNearbyStoresUseCaseTest {
         }
 
         @Test
-        @DisplayName("limit null 또는 0 이하면 IllegalArgumentException 발생")
+        @DisplayName("limit null 또는 0 이하면 StoreHandler 발생")
         void execute_throws_whenInvalidLimit() {
             StoreRequest.GetNearbyStores request1 = StoreRequest.GetNearbyStores.builder()
                 .latitude(37.5665)
@@ -242,8 +271,8 @@ class GetNearbyStoresUseCaseTest {
                 .limit(0)
                 .build();
 
-            assertThatThrownBy(() -> useCase.execute(request1)).isInstanceOf(IllegalArgumentException.class);
-            assertThatThrownBy(() -> useCase.execute(request2)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> useCase.execute(request1)).isInstanceOf(StoreHandler.class);
+            assertThatThrownBy(() -> useCase.execute(request2)).isInstanceOf(StoreHandler.class);
         }
 
         @Test
@@ -268,14 +297,125 @@ class GetNearbyStoresUseCaseTest {
         }
     }
 
+    @Nested
+    @DisplayName("커서 케이스")
+    class CursorCases {
+
+        private final NearbyCursorCodec codec = new NearbyCursorCodec("test-secret");
+
+        private GetNearbyStoresUseCase cursorUseCase() {
+            return new GetNearbyStoresUseCase(storeAdaptor, reviewAdaptor, storeRatingCache,
+                storeNearbyGridIndex, storeRelevanceRanker, codec);
+        }
+
+        private StoreRequest.GetNearbyStores.GetNearbyStoresBuilder request(Double radiusKm) {
+            return StoreRequest.GetNearbyStores.builder()
+                .latitude(37.5665)
+                .longitude(126.9780)
+                .limit(2)
+                .radiusKm(radiusKm);
+        }
+
+        @Test
+        @DisplayName("반경 조회는 커서 위치 뒤부터 DB 에서 이어서 조회한다")
+        void execute_queriesAfterCursor_whenRadiusProvided() {
+            // given
+            NearbyCursor after = new NearbyCursor(0.5, 7L);
+            String cursor = codec.encode(after, request(2.0).build().cursorScope());
+            when(storeAdaptor.queryDistancesWithinRadius(37.5665, 126.9780, 2.0, 2, after))
+                .thenReturn(List.of(new StoreDistance(8L, 0.7)));
+            when(storeAdaptor.querySummariesInOrder(List.of(8L)))
+                .thenReturn(List.of(createSummary(8L, "다음", 37.5700, 126.9800)));
+
+            // when
+            StoreResponse.NearbyStoreList response = cursorUseCase().execute(request(2.0).cursor(cursor).build());
+
+            // then: 한 페이지를 다 채우지 못했으므로 다음 커서가 없다
+            assertThat(response.getStores()).extracting(StoreResponse.NearbyStore::getStoreName).containsExactly("다음");
+            assertThat(response.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("반경이 없으면 메모리 거리 정렬에서 커서 위치 뒤의 업소만 고른다")
+        void execute_skipsStoresBeforeCursor_whenNoRadius() {
+            // given: 업소 1은 커서 위치 그 자체, 업소 2만 커서 뒤에 있다
+            StoreSummary farther = createSummary(2L, "B", 37.5651, 126.98955);
+            double firstKm = DistanceUtils.calculateDistanceKm(37.5665, 126.9780, 37.5665, 126.9790);
+            String cursor = codec.encode(new NearbyCursor(firstKm, 1L), request(null).build().cursorScope());
+            when(storeAdaptor.queryCoordinates()).thenReturn(List.of(
+                new StoreCoordinate(1L, 37.5665, 126.9790),
+                new StoreCoordinate(2L, farther.latitude(), farther.longitude())
+            ));
+            when(storeAdaptor.querySummariesInOrder(List.of(2L))).thenReturn(List.of(farther));
+
+            // when
+            StoreResponse.NearbyStoreList response = cursorUseCase().execute(request(null).cursor(cursor).build());
+
+            // then
+            assertThat(response.getStores()).extracting(StoreResponse.NearbyStore::getStoreName).containsExactly("B");
+            assertThat(response.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("요약 조인에서 삭제된 업소가 빠져도 한 페이지를 다 읽었으면 마지막 거리 위치로 커서를 만든다")
+        void execute_emitsCursorFromDistances_whenSummaryDropsDeletedStore() {
+            // given: 거리 조회는 limit(2) 건을 채웠지만 업소 2는 그 사이 삭제됐다
+            when(storeAdaptor.queryDistancesWithinRadius(37.5665, 126.9780, 2.0, 2, null))
+                .thenReturn(List.of(new StoreDistance(1L, 0.3), new StoreDistance(2L, 0.9)));
+            when(storeAdaptor.querySummariesInOrder(List.of(1L, 2L)))
+                .thenReturn(List.of(createSummary(1L, "A", 37.5665, 126.9790)));
+            StoreRequest.GetNearbyStores request = request(2.0).build();
+
+            // when
+            StoreResponse.NearbyStoreList response = cursorUseCase().execute(request);
+
+            // then
+            assertThat(response.getStores()).hasSize(1);
+            assertThat(response.getNextCursor()).isNotNull();
+            assertThat(codec.decode(response.getNextCursor(), request.cursorScope()))
+                .isEqualTo(new NearbyCursor(0.9, 2L));
+        }
+
+        @Test
+        @DisplayName("변조되었거나 다른 조건에서 발급된 커서는 INVALID_NEARBY_CURSOR(4320)")
+        void execute_throwsInvalidCursor_whenCursorTamperedOrFromOtherQuery() {
+            // given
+            String otherRadius = codec.encode(new NearbyCursor(0.5, 7L), request(5.0).build().cursorScope());
+
+            // when & then
+            assertThatThrownBy(() -> cursorUseCase().execute(request(2.0).cursor(otherRadius).build()))
+                .isInstanceOf(StoreHandler.class)
+                .extracting("code").isEqualTo(StoreErrorStatus.INVALID_NEARBY_CURSOR);
+            assertThatThrownBy(() -> cursorUseCase().execute(request(2.0).cursor("not-a-cursor").build()))
+                .isInstanceOf(StoreHandler.class)
+                .extracting("code").isEqualTo(StoreErrorStatus.INVALID_NEARBY_CURSOR);
+            verify(storeAdaptor, never()).queryDistancesWithinRadius(any(), any(), any(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("관련도 정렬에 커서를 주면 UNSUPPORTED_NEARBY_CURSOR(4321)")
+        void execute_throwsUnsupportedCursor_whenRelevanceSort() {
+            // given
+            String cursor = codec.encode(new NearbyCursor(0.5, 7L), request(2.0).build().cursorScope());
+
+            // when & then
+            assertThatThrownBy(() -> cursorUseCase().execute(
+                    request(2.0).sort(StoreNearbySort.RELEVANCE).cursor(cursor).build()))
+                .isInstanceOf(StoreHandler.class)
+                .extracting("code").isEqualTo(StoreErrorStatus.UNSUPPORTED_NEARBY_CURSOR);
+            verify(storeRelevanceRanker, never()).nearest(anyDouble(), anyDouble(), any(), anyInt(), any());
+        }
+    }
+
     @Test
     @DisplayName("사용자와 동일 좌표면 거리 0이 반환된다")
     void execute_distanceZero_whenSameLocation() {
         double userLat = 37.5665;
         double userLon = 126.9780;
 
-        Store storeSame = createStore("Same", userLat, userLon);
-        when(storeAdaptor.queryStoresWithCoordinates()).thenReturn(List.of(storeSame));
+        StoreSummary storeSame = createSummary(1L, "Same", userLat, userLon);
+        when(storeAdaptor.queryCoordinates()).thenReturn(List.of(new StoreCoordinate(1L, userLat, userLon)));
+        when(storeAdaptor.querySummariesInOrder(List.of(1L))).thenReturn(List.of(storeSame));
 
         StoreRequest.GetNearbyStores request = StoreRequest.GetNearbyStores.builder()
             .latitude(userLat)
@@ -293,5 +433,3 @@ class GetNearbyStoresUseCaseTest {
         return Math.round(v * 100.0) / 100.0;
     }
 }
-
-
@@ -0,0 +1,95 @@
+package com.example.demo.application.store;
+
+import com.example.demo.application.support.RequestCoalescer;
+import com.example.demo.domain.store.adaptor.StoreReadModelAdaptor;
+import com.example.demo.domain.store.counter.StoreViewCounter;
+import com.example.demo.domain.store.exception.StoreErrorStatus;
+import com.example.demo.domain.store.exception.StoreHandler;
+import com.example.demo.domain.store.trending.StoreActivityType;
+import com.example.demo.domain.store.trending.TrendingStoreCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class GetStoreDetailDocumentUseCaseTest {
+
+    @Mock
+    private StoreReadModelAdaptor storeReadModelAdaptor;
+
+    @Mock
+    private StoreDetailDocumentBuilder storeDetailDocumentBuilder;
+
+    @Mock
+    private TrendingStoreCounter trendingStoreCounter;
+
+    @Mock
+    private StoreViewCounter storeViewCounter;
+
+    private GetStoreDetailDocumentUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetStoreDetailDocumentUseCase(storeReadModelAdaptor, storeDetailDocumentBuilder,
+            new RequestCoalescer(new SimpleMeterRegistry(), 5_000L), trendingStoreCounter, storeViewCounter);
+    }
+
+    @Test
+    void execute_returnsFreshDocument() {
+        // given
+        byte[] document = "{\"isSuccess\":true}".getBytes();
+        given(storeReadModelAdaptor.queryFreshDocument(1L)).willReturn(Optional.of(document));
+
+        // when
+        byte[] result = useCase.execute(1L);
+
+        // then
+        assertThat(result).isSameAs(document);
+        verifyNoInteractions(storeDetailDocumentBuilder);
+        verify(storeViewCounter).increment(1L);
+        verify(trendingStoreCounter).record(1L, StoreActivityType.VIEW);
+    }
+
+    @Test
+    void execute_buildsWithoutSaving_whenDocumentMissingOrStale() {
+        // given
+        byte[] built = "{\"isSuccess\":true}".getBytes();
+        given(storeReadModelAdaptor.queryFreshDocument(1L)).willReturn(Optional.empty());
+        given(storeDetailDocumentBuilder.build(1L)).willReturn(built);
+
+        // when
+        byte[] result = useCase.execute(1L);
+
+        // then: 조회 경로에서는 읽기 모델에 쓰지 않는다
+        assertThat(result).isSameAs(built);
+        verify(storeReadModelAdaptor).queryFreshDocument(1L);
+        verifyNoMoreInteractions(storeReadModelAdaptor, storeDetailDocumentBuilder);
+    }
+
+    @Test
+    void execute_propagatesNotFound_withoutWriting() {
+        // given
+        given(storeReadModelAdaptor.queryFreshDocument(9L)).willReturn(Optional.empty());
+        given(storeDetailDocumentBuilder.build(9L)).willThrow(new StoreHandler(StoreErrorStatus.STORE_NOT_FOUND));
+
+        // when & then
+        assertThatThrownBy(() -> useCase.execute(9L))
+            .isInstanceOf(StoreHandler.class)
+            .extracting("code").isEqualTo(StoreErrorStatus.STORE_NOT_FOUND);
+        verify(storeReadModelAdaptor).queryFreshDocument(9L);
+        verifyNoMoreInteractions(storeReadModelAdaptor, storeDetailDocumentBuilder);
+        verifyNoInteractions(storeViewCounter, trendingStoreCounter);
+    }
+}
@@ -1,35 +1,63 @@
 package com.example.demo.application.store;
 
+import com.example.demo.domain.review.adaptor.ReviewAdaptor;
 import com.example.demo.domain.store.adaptor.StoreAdaptor;
 import com.example.demo.domain.store.entity.Category;
 import com.example.demo.domain.store.entity.Store;
 import com.example.demo.domain.store.entity.StoreMenu;
 import com.example.demo.presentation.store.dto.StoreResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class GetStoreDetailUseCaseTest {
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Mock
     private StoreAdaptor storeAdaptor;
 
-    @InjectMocks
+    @Mock
+    private ReviewAdaptor reviewAdaptor;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private GetStoreDetailUseCase useCase;
 
+    @AfterEach
+    void tearDown() {
+        if (useCase != null) {
+            useCase.shutdown();
+        }
+    }
+
+    private GetStoreDetailUseCase createUseCase(boolean parallel, int poolSize, int connectionPoolSize,
+                                                long reviewTimeoutMillis) {
+        return new GetStoreDetailUseCase(storeAdaptor, reviewAdaptor, transactionManager, meterRegistry,
+                parallel, poolSize, 200, connectionPoolSize, 2000, reviewTimeoutMillis);
+    }
+
     @Test
     void execute_returnsStoreDetailDto_fromStoreFetchedByAdaptor() {
         // given
@@ -73,9 +101,13 @@ class GetStoreDetailUseCaseTest {
         given(store.getLastModifiedDate()).willReturn(modified);
 
         given(storeAdaptor.queryByIdFetchMenu(eq(storeId))).willReturn(store);
+        given(reviewAdaptor.queryAverageRatingByStoreId(storeId)).willReturn(Optional.of(4.5));
+        given(reviewAdaptor.countReviewsByStoreId(storeId)).willReturn(12L);
+        given(reviewAdaptor.queryTopReviewsByStoreId(storeId, 5)).willReturn(List.of());
+        useCase = createUseCase(false, 8, 10, 500);
 
         // when
-        StoreResponse.StoreDetail result = useCase.execute(storeId);
+        StoreResponse.StoreDetailWithReviews result = useCase.execute(storeId);
 
         // then
         verify(storeAdaptor).queryByIdFetchMenu(eq(storeId));
@@ -97,6 +129,83 @@ class GetStoreDetailUseCaseTest {
         assertThat(result.isActive()).isTrue();
         assertThat(result.getCreatedDate()).isEqualTo(created);
         assertThat(result.getLastModifiedDate()).isEqualTo(modified);
+        assertThat(result.getReviewSummary().getAverageRating()).isEqualTo(4.5);
+        assertThat(result.getReviewSummary().getReviewCount()).isEqualTo(12L);
+        assertThat(result.getReviewSummary().isPartial()).isFalse();
+    }
+
+    @Test
+    void execute_holdsAtMostHalfOfConnectionPool_whenQueriesRunInParallel() {
+        // given: 설정은 8 스레드지만 커넥션 풀이 4 이므로 동시에 2개 조회만 실행된다
+        Long storeId = 10L;
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Store store = storeWithoutMenus(storeId);
+        given(storeAdaptor.queryByIdFetchMenu(storeId)).willAnswer(invocation -> track(inFlight, maxInFlight, store));
+        given(reviewAdaptor.queryAverageRatingByStoreId(storeId))
+                .willAnswer(invocation -> track(inFlight, maxInFlight, Optional.of(4.0)));
+        given(reviewAdaptor.countReviewsByStoreId(storeId)).willAnswer(invocation -> track(inFlight, maxInFlight, 3L));
+        given(reviewAdaptor.queryTopReviewsByStoreId(storeId, 5))
+                .willAnswer(invocation -> track(inFlight, maxInFlight, List.of()));
+        useCase = createUseCase(true, 8, 4, 1000);
+
+        // when
+        StoreResponse.StoreDetailWithReviews result = useCase.execute(storeId);
+
+        // then
+        assertThat(GetStoreDetailUseCase.fanOutLimit(8, 4)).isEqualTo(2);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        assertThat(result.getReviewSummary().isPartial()).isFalse();
+        assertThat(result.getReviewSummary().getReviewCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void execute_returnsPartialSummary_whenReviewQueryExceedsTimeout() {
+        // given
+        Long storeId = 10L;
+        Store store = storeWithoutMenus(storeId);
+        given(storeAdaptor.queryByIdFetchMenu(storeId)).willReturn(store);
+        given(reviewAdaptor.queryAverageRatingByStoreId(storeId)).willReturn(Optional.of(4.0));
+        willAnswer(invocation -> {
+            Thread.sleep(1_000);
+            return 3L;
+        }).given(reviewAdaptor).countReviewsByStoreId(storeId);
+        lenient().when(reviewAdaptor.queryTopReviewsByStoreId(eq(storeId), anyInt())).thenReturn(List.of());
+        useCase = createUseCase(true, 4, 10, 100);
+
+        // when
+        StoreResponse.StoreDetailWithReviews result = useCase.execute(storeId);
+
+        // then
+        assertThat(result.getReviewSummary().isPartial()).isTrue();
+        assertThat(result.getReviewSummary().getReviewCount()).isNull();
+        assertThat(meterRegistry.counter("store.detail.degraded", "part", "review_count").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void fanOutLimit_keepsConfiguredSize_whenPoolIsLargeEnough() {
+        assertThat(GetStoreDetailUseCase.fanOutLimit(4, 20)).isEqualTo(4);
+        assertThat(GetStoreDetailUseCase.fanOutLimit(8, 1)).isEqualTo(1);
+    }
+
+    private static <T> T track(AtomicInteger inFlight, AtomicInteger maxInFlight, T value) throws InterruptedException {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(50);
+            return value;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static Store storeWithoutMenus(Long storeId) {
+        Store store = mock(Store.class);
+        lenient().when(store.getId()).thenReturn(storeId);
+        lenient().when(store.getStoreName()).thenReturn("착한식당");
+        lenient().when(store.getCategory()).thenReturn(Category.RESTAURANT);
+        lenient().when(store.getAddress()).thenReturn(mock(com.example.demo.domain.store.entity.Address.class));
+        lenient().when(store.getMenus()).thenReturn(List.of());
+        return store;
     }
 }
 
@@ -0,0 +1,178 @@
+package com.example.demo.application.store;
+
+import com.example.demo.domain.store.adaptor.StoreReadModelAdaptor;
+import com.example.demo.domain.store.event.StoreDetailChangedEvent;
+import com.example.demo.domain.store.exception.StoreErrorStatus;
+import com.example.demo.domain.store.exception.StoreHandler;
+import com.example.demo.presentation.store.dto.StoreResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class StoreDetailDocumentBuilderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private GetStoreDetailUseCase getStoreDetailUseCase;
+
+    @Mock
+    private StoreReadModelAdaptor storeReadModelAdaptor;
+
+    private StoreDetailDocumentBuilder builder;
+
+    @BeforeEach
+    void setUp() {
+        builder = new StoreDetailDocumentBuilder(getStoreDetailUseCase, storeReadModelAdaptor, objectMapper, 200);
+    }
+
+    @Test
+    void build_encodesDetail_withoutTouchingReadModel() {
+        // given
+        given(getStoreDetailUseCase.execute(1L)).willReturn(detail(1L, "착한식당", false));
+
+        // when
+        byte[] document = builder.build(1L);
+
+        // then: 조회 요청 경로는 읽기 모델에 쓰지 않는다
+        assertThat(new String(document, StandardCharsets.UTF_8)).contains("\"storeName\":\"착한식당\"");
+        verifyNoInteractions(storeReadModelAdaptor);
+    }
+
+    @Test
+    void build_propagatesNotFound_withoutWriting() {
+        // given
+        given(getStoreDetailUseCase.execute(9L)).willThrow(new StoreHandler(StoreErrorStatus.STORE_NOT_FOUND));
+
+        // when & then
+        assertThatThrownBy(() -> builder.build(9L))
+            .isInstanceOf(StoreHandler.class)
+            .extracting("code").isEqualTo(StoreErrorStatus.STORE_NOT_FOUND);
+        verifyNoInteractions(storeReadModelAdaptor);
+    }
+
+    @Test
+    void rebuild_savesWithRevisionReadBeforeBuilding() {
+        // given
+        given(storeReadModelAdaptor.prepareRevision(1L)).willReturn(3L);
+        given(getStoreDetailUseCase.execute(1L)).willReturn(detail(1L, "착한식당", false));
+        given(storeReadModelAdaptor.saveDocument(eq(1L), eq(3L), any())).willReturn(true);
+
+        // when
+        byte[] document = builder.rebuild(1L);
+
+        // then
+        verify(storeReadModelAdaptor).saveDocument(1L, 3L, document);
+    }
+
+    @Test
+    void rebuild_returnsDocument_whenChangedWhileBuilding() {
+        // given: 구성 도중 다른 변경이 revision 을 올려 저장 조건이 맞지 않는다
+        given(storeReadModelAdaptor.prepareRevision(1L)).willReturn(3L);
+        given(getStoreDetailUseCase.execute(1L)).willReturn(detail(1L, "착한식당", false));
+        given(storeReadModelAdaptor.saveDocument(eq(1L), eq(3L), any())).willReturn(false);
+
+        // when
+        byte[] document = builder.rebuild(1L);
+
+        // then: 문서는 stale 로 남고 응답은 그대로 돌려준다
+        assertThat(document).isNotEmpty();
+    }
+
+    @Test
+    void rebuild_skipsSave_whenReviewSummaryPartial() {
+        // given
+        given(storeReadModelAdaptor.prepareRevision(1L)).willReturn(3L);
+        given(getStoreDetailUseCase.execute(1L)).willReturn(detail(1L, "착한식당", true));
+
+        // when
+        builder.rebuild(1L);
+
+        // then: 다음 주기 작업에서 다시 구성하도록 stale 로 남긴다
+        verify(storeReadModelAdaptor, never()).saveDocument(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void rebuild_returnsDocument_whenSaveFails() {
+        // given
+        given(storeReadModelAdaptor.prepareRevision(1L)).willReturn(3L);
+        given(getStoreDetailUseCase.execute(1L)).willReturn(detail(1L, "착한식당", false));
+        given(storeReadModelAdaptor.saveDocument(eq(1L), eq(3L), any()))
+            .willThrow(new QueryTimeoutException("lock wait timeout"));
+
+        // when
+        byte[] document = builder.rebuild(1L);
+
+        // then
+        assertThat(document).isNotEmpty();
+    }
+
+    @Test
+    void markStale_marksChangedStore() {
+        // when
+        builder.markStale(new StoreDetailChangedEvent(1L));
+
+        // then
+        verify(storeReadModelAdaptor).markStale(1L);
+    }
+
+    @Test
+    void rebuildAfterCommit_deletesDocument_whenStoreRemoved() {
+        // given
+        given(storeReadModelAdaptor.prepareRevision(9L)).willReturn(StoreReadModelAdaptor.NO_REVISION);
+        given(getStoreDetailUseCase.execute(9L)).willThrow(new StoreHandler(StoreErrorStatus.STORE_NOT_FOUND));
+
+        // when
+        builder.rebuildAfterCommit(new StoreDetailChangedEvent(9L));
+
+        // then
+        verify(storeReadModelAdaptor).delete(9L);
+    }
+
+    @Test
+    void sweep_rebuildsMissingOrStaleDocuments_andContinuesAfterFailure() {
+        // given: 2 는 구성 중 실패, 3 은 그 사이 삭제된 업소
+        given(storeReadModelAdaptor.queryStoreIdsToBuild(200)).willReturn(List.of(1L, 2L, 3L));
+        given(storeReadModelAdaptor.prepareRevision(anyLong())).willReturn(0L);
+        given(getStoreDetailUseCase.execute(1L)).willReturn(detail(1L, "첫 번째", false));
+        given(getStoreDetailUseCase.execute(2L)).willThrow(new IllegalStateException("connection reset"));
+        given(getStoreDetailUseCase.execute(3L)).willThrow(new StoreHandler(StoreErrorStatus.STORE_NOT_FOUND));
+        given(storeReadModelAdaptor.saveDocument(eq(1L), eq(0L), any())).willReturn(true);
+
+        // when
+        builder.sweep();
+
+        // then
+        verify(storeReadModelAdaptor).saveDocument(eq(1L), eq(0L), any());
+        verify(storeReadModelAdaptor, never()).delete(2L);
+        verify(storeReadModelAdaptor).delete(3L);
+    }
+
+    private StoreResponse.StoreDetailWithReviews detail(Long storeId, String name, boolean partial) {
+        return StoreResponse.StoreDetailWithReviews.builder()
+            .storeId(storeId)
+            .storeName(name)
+            .menus(List.of())
+            .reviewSummary(StoreResponse.ReviewSummary.from(4.0, 2L, List.of(), partial))
+            .isActive(true)
+            .build();
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.demo.application.store;
+
+import com.example.demo.domain.review.adaptor.ReviewAdaptor;
+import com.example.demo.domain.review.cache.StoreRatingCache;
+import com.example.demo.domain.store.adaptor.StoreAdaptor;
+import com.example.demo.domain.store.cursor.NearbyCursorCodec;
+import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.exception.StoreErrorStatus;
+import com.example.demo.domain.store.exception.StoreHandler;
+import com.example.demo.domain.store.index.StoreNearbyGridIndex;
+import com.example.demo.domain.store.ranking.StoreRelevanceRanker;
+import com.example.demo.domain.store.vo.NearbyCursor;
+import com.example.demo.domain.store.vo.StoreDistance;
+import com.example.demo.domain.store.vo.StoreNearbySort;
+import com.example.demo.domain.store.vo.StoreSummary;
+import com.example.demo.presentation.store.dto.StoreRequest;
+import com.example.demo.presentation.store.dto.StoreResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class StreamNearbyStoresUseCaseTest {
+
+    private static final double USER_LATITUDE = 37.5665;
+    private static final double USER_LONGITUDE = 126.9780;
+
+    private final NearbyCursorCodec codec = new NearbyCursorCodec("test-secret");
+
+    @Mock
+    private StoreNearbyGridIndex storeNearbyGridIndex;
+
+    @Mock
+    private StoreRelevanceRanker storeRelevanceRanker;
+
+    @Mock
+    private StoreRatingCache storeRatingCache;
+
+    @Mock
+    private StoreAdaptor storeAdaptor;
+
+    private StreamNearbyStoresUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new StreamNearbyStoresUseCase(storeNearbyGridIndex, storeRelevanceRanker, storeRatingCache,
+            storeAdaptor, codec);
+    }
+
+    @Test
+    void execute_streamsGridResultsInRankedOrder_withPriceFilter() {
+        // given: 격자 인덱스가 가격 조건을 적용해 거리순으로 고른 결과
+        StoreRequest.GetNearbyStores request = request(2, 1.0).maxPrice(8000).build();
+        given(storeNearbyGridIndex.iterate(USER_LATITUDE, USER_LONGITUDE, 1.0, 2, request.toFilter(), null))
+            .willReturn(List.of(nearby(1L, "첫 번째", 0.11), nearby(2L, "두 번째", 0.22)).iterator());
+        given(storeRatingCache.getRatings(List.of(1L, 2L))).willReturn(Map.of(
+            1L, ReviewAdaptor.StoreRatingInfo.builder().averageRating(4.5).reviewCount(3L).build()));
+        given(storeAdaptor.queryMenuSummaries(List.of(1L, 2L))).willReturn(Map.of());
+
+        // when
+        List<StoreResponse.NearbyStore> streamed = useCase.execute(request)
+            .collectList()
+            .block();
+
+        // then: 인덱스 순서 그대로 내보내고, 평점은 캐시에서 채운다
+        assertThat(streamed).extracting(StoreResponse.NearbyStore::getStoreName).containsExactly("첫 번째", "두 번째");
+        assertThat(streamed).extracting(StoreResponse.NearbyStore::getDistanceKm).containsExactly(0.11, 0.22);
+        assertThat(streamed.get(0).getReviewSummary().getAverageRating()).isEqualTo(4.5);
+        assertThat(streamed.get(0).getReviewSummary().getTopReviews()).isEmpty();
+        assertThat(streamed.get(1).getReviewSummary().getReviewCount()).isZero();
+    }
+
+    @Test
+    void execute_looksUpRatingsAndMenusTenStoresAtATime() {
+        // given
+        StoreRequest.GetNearbyStores request = request(12, null).build();
+        given(storeNearbyGridIndex.iterate(USER_LATITUDE, USER_LONGITUDE, null, 12, request.toFilter(), null))
+            .willReturn(IntStream.rangeClosed(1, 12)
+                .mapToObj(i -> nearby((long) i, "업소" + i, i * 0.11))
+                .iterator());
+        given(storeRatingCache.getRatings(anyList())).willReturn(Map.of());
+        given(storeAdaptor.queryMenuSummaries(anyList())).willReturn(Map.of());
+
+        // when
+        List<StoreResponse.NearbyStore> streamed = useCase.execute(request)
+            .collectList()
+            .block();
+
+        // then: 12 곳을 10 + 2 묶음으로 조회한다
+        assertThat(streamed).hasSize(12);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Long>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(storeRatingCache, times(2)).getRatings(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(10, 2);
+        verify(storeAdaptor, times(2)).queryMenuSummaries(anyList());
+    }
+
+    @Test
+    void execute_enrichesFirstChunk_beforeRankingEveryStore() {
+        // given: 순위가 매겨지는 대로 하나씩 꺼내 주는 격자 인덱스
+        StoreRequest.GetNearbyStores request = request(50, null).build();
+        AtomicInteger ranked = new AtomicInteger();
+        Iterator<StoreNearbyGridIndex.NearbyStore> ranking = IntStream.rangeClosed(1, 50)
+            .mapToObj(i -> nearby((long) i, "업소" + i, i * 0.11))
+            .peek(store -> ranked.incrementAndGet())
+            .iterator();
+        given(storeNearbyGridIndex.iterate(USER_LATITUDE, USER_LONGITUDE, null, 50, request.toFilter(), null))
+            .willReturn(ranking);
+        List<Integer> rankedAtFirstLookup = new ArrayList<>();
+        given(storeRatingCache.getRatings(anyList())).willAnswer(invocation -> {
+            rankedAtFirstLookup.add(ranked.get());
+            return Map.of();
+        });
+        given(storeAdaptor.queryMenuSummaries(anyList())).willReturn(Map.of());
+
+        // when
+        List<StoreResponse.NearbyStore> streamed = useCase.execute(request)
+            .collectList()
+            .block();
+
+        // then: 전체 순위를 매기기 전에 첫 묶음을 조회한다 (미리 받아 두는 것은 다음 묶음 정도)
+        assertThat(streamed).hasSize(50);
+        assertThat(rankedAtFirstLookup.get(0)).isLessThan(50);
+    }
+
+    @Test
+    void execute_usesRanker_whenRelevanceSort() {
+        // given
+        StoreRequest.GetNearbyStores request = request(1, 1.0).sort(StoreNearbySort.RELEVANCE).build();
+        given(storeRelevanceRanker.nearest(USER_LATITUDE, USER_LONGITUDE, 1.0, 1, request.toFilter()))
+            .willReturn(List.of(nearby(5L, "평점 높은 곳", 0.5)));
+        given(storeRatingCache.getRatings(List.of(5L))).willReturn(Map.of());
+        given(storeAdaptor.queryMenuSummaries(List.of(5L))).willReturn(Map.of());
+
+        // when
+        List<StoreResponse.NearbyStore> streamed = useCase.execute(request)
+            .collectList()
+            .block();
+
+        // then
+        assertThat(streamed).extracting(StoreResponse.NearbyStore::getStoreName).containsExactly("평점 높은 곳");
+        verify(storeNearbyGridIndex, never()).iterate(anyDouble(), anyDouble(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void execute_resumesOnDatabasePath_whenCursorIssuedByRadiusOnlyQuery() {
+        // given: 조건 없이 반경만 준 일반 조회는 DB 거리로 커서를 발급한다
+        StoreRequest.GetNearbyStores first = request(2, 2.0).build();
+        NearbyCursor after = new NearbyCursor(0.5, 7L);
+        String cursor = codec.encode(after, first.cursorScope());
+        given(storeAdaptor.queryDistancesWithinRadius(USER_LATITUDE, USER_LONGITUDE, 2.0, 2, after))
+            .willReturn(List.of(new StoreDistance(8L, 0.6), new StoreDistance(9L, 0.8)));
+        given(storeAdaptor.querySummariesInOrder(List.of(8L, 9L)))
+            .willReturn(List.of(summary(8L, "다음"), summary(9L, "그다음")));
+        given(storeRatingCache.getRatings(List.of(8L, 9L))).willReturn(Map.of());
+        given(storeAdaptor.queryMenuSummaries(List.of(8L, 9L))).willReturn(Map.of());
+
+        // when
+        List<StoreResponse.NearbyStore> streamed = useCase.execute(request(2, 2.0).cursor(cursor).build())
+            .collectList()
+            .block();
+
+        // then: 같은 DB 경로에서 이어서 조회하고 격자 인덱스(메모리 거리 계산)는 쓰지 않는다
+        assertThat(streamed).extracting(StoreResponse.NearbyStore::getStoreName).containsExactly("다음", "그다음");
+        verify(storeNearbyGridIndex, never()).iterate(anyDouble(), anyDouble(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void execute_resumesOnGrid_afterCursor() {
+        // given: 가격 조건이 있는 일반 조회는 격자 인덱스에서 커서를 발급한다
+        StoreRequest.GetNearbyStores first = request(2, 2.0).maxPrice(8000).build();
+        NearbyCursor after = new NearbyCursor(0.5, 7L);
+        String cursor = codec.encode(after, first.cursorScope());
+        given(storeNearbyGridIndex.iterate(USER_LATITUDE, USER_LONGITUDE, 2.0, 2, first.toFilter(), after))
+            .willReturn(List.of(nearby(8L, "다음", 0.6)).iterator());
+        given(storeRatingCache.getRatings(List.of(8L))).willReturn(Map.of());
+        given(storeAdaptor.queryMenuSummaries(List.of(8L))).willReturn(Map.of());
+
+        // when
+        List<StoreResponse.NearbyStore> streamed = useCase.execute(request(2, 2.0).maxPrice(8000).cursor(cursor).build())
+            .collectList()
+            .block();
+
+        // then
+        assertThat(streamed).extracting(StoreResponse.NearbyStore::getStoreName).containsExactly("다음");
+        verify(storeAdaptor, never()).queryDistancesWithinRadius(any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void execute_rejectsCursor_whenRelevanceSort() {
+        // given
+        StoreRequest.GetNearbyStores first = request(2, 2.0).build();
+        String cursor = codec.encode(new NearbyCursor(0.5, 7L), first.cursorScope());
+        StoreRequest.GetNearbyStores request = request(2, 2.0).sort(StoreNearbySort.RELEVANCE).cursor(cursor).build();
+
+        // when & then
+        assertThatThrownBy(() -> useCase.execute(request))
+            .isInstanceOf(StoreHandler.class)
+            .extracting("code").isEqualTo(StoreErrorStatus.UNSUPPORTED_NEARBY_CURSOR);
+        verifyNoInteractions(storeRelevanceRanker, storeNearbyGridIndex);
+    }
+
+    @Test
+    void execute_throwsBeforeStreaming_whenLimitInvalid() {
+        // when & then: 스트림 시작 전에 검증해 일반 오류 응답으로 처리된다
+        assertThatThrownBy(() -> useCase.execute(request(0, null).build())).isInstanceOf(StoreHandler.class);
+        verifyNoInteractions(storeNearbyGridIndex, storeRatingCache, storeAdaptor);
+    }
+
+    private StoreRequest.GetNearbyStores.GetNearbyStoresBuilder request(int limit, Double radiusKm) {
+        return StoreRequest.GetNearbyStores.builder()
+            .latitude(USER_LATITUDE)
+            .longitude(USER_LONGITUDE)
+            .limit(limit)
+            .radiusKm(radiusKm);
+    }
+
+    private StoreNearbyGridIndex.NearbyStore nearby(Long storeId, String name, double distanceKm) {
+        return new StoreNearbyGridIndex.NearbyStore(summary(storeId, name), distanceKm, 7000);
+    }
+
+    private StoreSummary summary(Long storeId, String name) {
+        return new StoreSummary(storeId, name, Category.RESTAURANT, null, null, "02-0000-0000",
+            "서울특별시", "중구", "서울특별시 중구 세종대로 110", USER_LATITUDE, USER_LONGITUDE, true, null, null);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.demo.application.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescer coalescer = new RequestCoalescer(meterRegistry, 5_000L);
+
+    @Test
+    void execute_runsLoaderOnce_whenSameKeyRequestedConcurrently() throws Exception {
+        // given
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+
+        try {
+            // when
+            List<Future<String>> results = new ArrayList<>();
+            results.add(pool.submit(() -> coalescer.execute("test", 1L, () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(releaseLoader);
+                return "value";
+            })));
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 1; i < callers; i++) {
+                results.add(pool.submit(() -> coalescer.execute("test", 1L, () -> {
+                    loads.incrementAndGet();
+                    return "other";
+                })));
+            }
+            waitForCoalesced(callers - 1);
+            releaseLoader.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_loadsAgain_afterPreviousFlightCompleted() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        coalescer.execute("test", 1L, loads::incrementAndGet);
+        coalescer.execute("test", 1L, loads::incrementAndGet);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void execute_doesNotShare_betweenDifferentNames() {
+        // when
+        String first = coalescer.execute("a", 1L, () -> "a");
+        String second = coalescer.execute("b", 1L, () -> "b");
+
+        // then
+        assertThat(first).isEqualTo("a");
+        assertThat(second).isEqualTo("b");
+    }
+
+    @Test
+    void execute_propagatesLoaderException_andReleasesKey() {
+        // when & then
+        assertThatThrownBy(() -> coalescer.execute("test", 1L, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(coalescer.execute("test", 1L, () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    void execute_loadsDirectly_whenLeaderDoesNotFinishInTime() throws Exception {
+        // given: 먼저 시작한 조회가 멈춰 있다
+        RequestCoalescer shortWait = new RequestCoalescer(meterRegistry, 50L);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<String> leader = pool.submit(() -> shortWait.execute("test", 1L, () -> {
+                loaderStarted.countDown();
+                await(releaseLoader);
+                return "stalled";
+            }));
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            String result = shortWait.execute("test", 1L, () -> "direct");
+
+            // then: 기다리지 않고 직접 조회한 값을 받는다
+            assertThat(result).isEqualTo("direct");
+            assertThat(meterRegistry.counter("request.coalescing.requests", "name", "test", "role", "timeout").count())
+                .isEqualTo(1.0);
+
+            releaseLoader.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("stalled");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void waitForCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("request.coalescing.requests", "name", "test", "role", "coalesced").count() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("coalesced requests did not arrive");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.demo.domain.outbox.service;
+
+import com.example.demo.domain.outbox.adaptor.OutboxEventAdaptor;
+import com.example.demo.domain.outbox.entity.ChangeType;
+import com.example.demo.domain.outbox.entity.OutboxEvent;
+import com.example.demo.domain.outbox.entity.OutboxEventType;
+import com.example.demo.domain.store.event.StoreChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final long FAILING_STORE_ID = 99L;
+
+    @Mock
+    private OutboxEventAdaptor outboxEventAdaptor;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxEventAdaptor, eventPublisher, meterRegistry, 500, 1000, 1, 300_000, 10_000, 24);
+        given(outboxEventAdaptor.queryMaxId()).willReturn(10L);
+    }
+
+    @Test
+    void poll_deliversLateCommittedEvent_afterCursorPassedIt() {
+        // given: 12 번이 늦게 커밋되어 첫 조회에는 11, 13 만 보인다
+        given(outboxEventAdaptor.queryPending(eq(10L), any(), anyInt())).willReturn(List.of(event(11L, 1L), event(13L, 3L)));
+        given(outboxEventAdaptor.queryPending(eq(13L), any(), anyInt())).willReturn(List.of());
+        relay.poll();
+
+        // when
+        given(outboxEventAdaptor.queryByIds(List.of(12L))).willReturn(List.of(event(12L, 2L)));
+        relay.poll();
+
+        // then
+        ArgumentCaptor<StoreChangedEvent> published = ArgumentCaptor.forClass(StoreChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(published.capture());
+        assertThat(published.getAllValues().get(1).storeIds()).containsExactly(2L);
+        assertThat(meterRegistry.get("outbox.relay.gaps").gauge().value()).isZero();
+    }
+
+    @Test
+    void poll_parksOnlyFailingEvent_afterMaxAttempts() {
+        // given: 업소 99 의 변경은 구독자가 계속 실패한다
+        willAnswer(invocation -> {
+            StoreChangedEvent event = invocation.getArgument(0);
+            if (event.storeIds().contains(FAILING_STORE_ID)) {
+                throw new IllegalStateException("subscriber failure");
+            }
+            return null;
+        }).given(eventPublisher).publishEvent(any(Object.class));
+        OutboxEvent failing = event(12L, FAILING_STORE_ID);
+        given(outboxEventAdaptor.queryPending(eq(10L), any(), anyInt())).willReturn(List.of(event(11L, 1L), failing));
+        given(outboxEventAdaptor.queryPending(eq(12L), any(), anyInt())).willReturn(List.of());
+
+        // when
+        relay.poll();
+        relay.poll();
+
+        // then: 정상 이벤트는 개별 전달되고, 실패한 이벤트만 보류한 뒤 커서는 다음으로 넘어간다
+        verify(outboxEventAdaptor).park(eq(failing), anyString());
+        verify(outboxEventAdaptor, times(1)).park(any(), anyString());
+        verify(outboxEventAdaptor).queryPending(eq(12L), any(), anyInt());
+        assertThat(meterRegistry.counter("outbox.relay.parked").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("outbox.relay.delivered").count()).isEqualTo(1.0);
+    }
+
+    private static OutboxEvent event(long id, long storeId) {
+        return OutboxEvent.builder()
+            .id(id)
+            .eventType(OutboxEventType.STORE_CHANGED)
+            .changeType(ChangeType.UPDATED)
+            .aggregateId(storeId)
+            .storeId(storeId)
+            .occurredAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+            .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.demo.domain.review.cache;
+
+import com.example.demo.domain.outbox.entity.ChangeType;
+import com.example.demo.domain.review.adaptor.ReviewAdaptor;
+import com.example.demo.domain.review.event.ReviewChangedEvent;
+import com.example.demo.infrastructure.config.datasource.DataSourceRoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class StoreRatingCacheTest {
+
+    @Mock
+    private ReviewAdaptor reviewAdaptor;
+
+    private StoreRatingCache storeRatingCache;
+    private final List<List<Long>> primaryLoads = new ArrayList<>();
+    private final List<List<Long>> replicaLoads = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        storeRatingCache = new StoreRatingCache(reviewAdaptor, 60, 1000);
+        given(reviewAdaptor.queryStoreRatings(anyList())).willAnswer(invocation -> {
+            List<Long> storeIds = invocation.getArgument(0);
+            (DataSourceRoutingContext.isPinnedToPrimary() ? primaryLoads : replicaLoads).add(List.copyOf(storeIds));
+            Map<Long, ReviewAdaptor.StoreRatingInfo> ratings = new HashMap<>();
+            storeIds.forEach(storeId -> ratings.put(storeId, rating(4.5, 2L)));
+            return ratings;
+        });
+    }
+
+    @Test
+    void getRatings_readsFromReplica_whenNotRecentlyChanged() {
+        // when
+        Map<Long, ReviewAdaptor.StoreRatingInfo> ratings = storeRatingCache.getRatings(List.of(1L, 2L));
+
+        // then
+        assertThat(ratings).containsOnlyKeys(1L, 2L);
+        assertThat(replicaLoads).containsExactly(List.of(1L, 2L));
+        assertThat(primaryLoads).isEmpty();
+    }
+
+    @Test
+    void getRatings_readsOnlyChangedStoresFromPrimary_afterReviewChanged() {
+        // given
+        storeRatingCache.getRatings(List.of(1L, 2L));
+        replicaLoads.clear();
+
+        // when
+        storeRatingCache.onReviewChanged(new ReviewChangedEvent(List.of(
+            new ReviewChangedEvent.Change(1L, 10L, 1L, ChangeType.UPDATED, LocalDateTime.now()))));
+        storeRatingCache.getRatings(List.of(1L, 2L, 3L));
+
+        // then: 방금 무효화된 업소만 primary, 처음 적재하는 업소는 레플리카
+        assertThat(primaryLoads).containsExactly(List.of(1L));
+        assertThat(replicaLoads).containsExactly(List.of(3L));
+    }
+
+    private static ReviewAdaptor.StoreRatingInfo rating(double averageRating, long reviewCount) {
+        return ReviewAdaptor.StoreRatingInfo.builder()
+            .averageRating(averageRating)
+            .reviewCount(reviewCount)
+            .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.demo.domain.review.ranking;
+
+import com.example.demo.domain.outbox.entity.ChangeType;
+import com.example.demo.domain.review.adaptor.ReviewAdaptor;
+import com.example.demo.domain.review.event.ReviewChangedEvent;
+import com.example.demo.domain.review.vo.StoreRatingAggregate;
+import com.example.demo.domain.store.entity.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class StoreRatingLeaderboardTest {
+
+    @Mock
+    private ReviewAdaptor reviewAdaptor;
+
+    private final InMemoryLeaderboardStore leaderboardStore = new InMemoryLeaderboardStore();
+
+    private StoreRatingLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new StoreRatingLeaderboard(reviewAdaptor, leaderboardStore, 10, 3600);
+    }
+
+    @Test
+    void page_ranksByAdjustedScore_notRawAverage() {
+        // given: 리뷰 1건 5점 업소보다 리뷰 50건 4.6점 업소가 앞선다
+        given(reviewAdaptor.queryRatingAggregates()).willReturn(List.of(
+            aggregate(1L, "한 건 식당", Category.RESTAURANT, "서울특별시", "중구", 5.0, 1L),
+            aggregate(2L, "단골 식당", Category.RESTAURANT, "서울특별시", "종로구", 4.6, 50L),
+            aggregate(3L, "보통 카페", Category.CAFE, "부산광역시", "해운대구", 3.0, 20L)
+        ));
+
+        // when
+        StoreRatingLeaderboard.Page page = leaderboard.page(RankingScope.global(), 0, 10);
+
+        // then
+        assertThat(page.totalCount()).isEqualTo(3);
+        assertThat(page.rankings()).extracting(StoreRatingLeaderboard.RankedStore::storeId)
+            .containsExactly(2L, 1L, 3L);
+        assertThat(page.rankings()).extracting(StoreRatingLeaderboard.RankedStore::rank)
+            .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void page_filtersByScope_andAppliesOffset() {
+        // given
+        given(reviewAdaptor.queryRatingAggregates()).willReturn(List.of(
+            aggregate(1L, "A", Category.RESTAURANT, "서울특별시", "중구", 4.0, 30L),
+            aggregate(2L, "B", Category.RESTAURANT, "서울특별시", "중구", 4.5, 30L),
+            aggregate(3L, "C", Category.CAFE, "서울특별시", "강남구", 5.0, 30L)
+        ));
+
+        // when
+        StoreRatingLeaderboard.Page sigun = leaderboard.page(RankingScope.sigun("서울특별시", "중구"), 1, 10);
+        StoreRatingLeaderboard.Page category = leaderboard.page(RankingScope.category(Category.CAFE), 0, 10);
+
+        // then
+        assertThat(sigun.totalCount()).isEqualTo(2);
+        assertThat(sigun.rankings()).extracting(StoreRatingLeaderboard.RankedStore::storeId).containsExactly(1L);
+        assertThat(sigun.rankings().get(0).rank()).isEqualTo(2);
+        assertThat(category.rankings()).extracting(StoreRatingLeaderboard.RankedStore::storeId).containsExactly(3L);
+    }
+
+    @Test
+    void onReviewChanged_updatesOnlyChangedStore_andRemovesStoreWithoutReviews() {
+        // given
+        given(reviewAdaptor.queryRatingAggregates()).willReturn(List.of(
+            aggregate(1L, "A", Category.RESTAURANT, "서울특별시", "중구", 4.0, 30L),
+            aggregate(2L, "B", Category.RESTAURANT, "서울특별시", "중구", 4.5, 30L)
+        ));
+        leaderboard.page(RankingScope.global(), 0, 10);
+
+        // 업소 1은 평점 상승, 업소 2는 리뷰가 모두 삭제됨
+        given(reviewAdaptor.queryRatingAggregates(List.of(1L, 2L))).willReturn(List.of(
+            aggregate(1L, "A", Category.RESTAURANT, "서울특별시", "중구", 4.9, 31L)
+        ));
+
+        // when
+        leaderboard.onReviewChanged(new ReviewChangedEvent(List.of(
+            change(1L, 1L), change(2L, 2L)
+        )));
+        StoreRatingLeaderboard.Page page = leaderboard.page(RankingScope.sido("서울특별시"), 0, 10);
+
+        // then
+        assertThat(page.totalCount()).isEqualTo(1);
+        assertThat(page.rankings()).extracting(StoreRatingLeaderboard.RankedStore::storeId).containsExactly(1L);
+        assertThat(page.rankings().get(0).reviewCount()).isEqualTo(31L);
+    }
+
+    @Test
+    void page_loadsStoresAddedByOtherNode_andKeepsRanksContiguous() {
+        // given: 공유 저장소에 다른 노드가 업소 9(신규)와 8(이미 삭제됨)을 반영해 두었다
+        given(reviewAdaptor.queryRatingAggregates()).willReturn(List.of(
+            aggregate(1L, "A", Category.RESTAURANT, "서울특별시", "중구", 4.0, 30L),
+            aggregate(2L, "B", Category.RESTAURANT, "서울특별시", "중구", 4.5, 30L)
+        ));
+        leaderboard.page(RankingScope.global(), 0, 10);
+        leaderboardStore.update(RankingScope.global().key(), 9L, 4.9);
+        leaderboardStore.update(RankingScope.global().key(), 8L, 4.7);
+        given(reviewAdaptor.queryRatingAggregates(List.of(9L, 8L))).willReturn(List.of(
+            aggregate(9L, "신규 식당", Category.RESTAURANT, "서울특별시", "중구", 4.9, 100L)
+        ));
+
+        // when
+        StoreRatingLeaderboard.Page page = leaderboard.page(RankingScope.global(), 0, 10);
+
+        // then
+        assertThat(page.rankings()).extracting(StoreRatingLeaderboard.RankedStore::storeId)
+            .containsExactly(9L, 2L, 1L);
+        assertThat(page.rankings()).extracting(StoreRatingLeaderboard.RankedStore::rank)
+            .containsExactly(1, 2, 3);
+        assertThat(page.rankings().get(0).storeName()).isEqualTo("신규 식당");
+    }
+
+    private static StoreRatingAggregate aggregate(Long storeId, String name, Category category,
+                                                  String sido, String sigun, double average, long count) {
+        return new StoreRatingAggregate(storeId, name, category, sido, sigun, average, count);
+    }
+
+    private static ReviewChangedEvent.Change change(long sequence, Long storeId) {
+        return new ReviewChangedEvent.Change(sequence, sequence, storeId, ChangeType.UPDATED, LocalDateTime.now());
+    }
+}
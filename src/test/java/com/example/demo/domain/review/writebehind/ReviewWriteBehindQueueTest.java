@@ -0,0 +1,236 @@
+package com.example.demo.domain.review.writebehind;
+
+import com.example.demo.domain.outbox.entity.ChangeType;
+import com.example.demo.domain.outbox.service.OutboxService;
+import com.example.demo.domain.review.repository.ReviewBulkRepository;
+import com.example.demo.domain.review.repository.ReviewBulkRepository.InsertedReview;
+import com.example.demo.domain.review.repository.ReviewBulkRepository.ReviewKey;
+import com.example.demo.domain.review.writebehind.ReviewWriteBehindQueue.OfferResult;
+import com.example.demo.domain.store.event.StoreDetailChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewWriteBehindQueueTest {
+
+    // 테스트에서는 flush 를 직접 호출하도록 주기 실행이 돌지 않게 두고, 체크포인트는 종료 시에만 남긴다
+    private static final long NEVER_MILLIS = 3_600_000L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private ReviewBulkRepository reviewBulkRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path directory;
+
+    private ReviewWriteBehindQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    void flush_recordsOnlyInsertedReviews_whenBatchHasDuplicates() {
+        // given: 세 건 중 (업소 1, 회원 11) 은 이미 활성 리뷰가 있어 제외된다
+        queue = startQueue();
+        queue.offer(1L, 10L, 5, "맛있어요");
+        queue.offer(1L, 11L, 4, "중복");
+        queue.offer(2L, 10L, 3, "보통");
+        given(reviewBulkRepository.insertSkippingDuplicates(anyList(), any()))
+            .willReturn(List.of(new InsertedReview(100L, 1L, 10L), new InsertedReview(101L, 2L, 10L)));
+
+        // when
+        queue.flush();
+
+        // then
+        verify(outboxService).recordReviewsChanged(Map.of(100L, 1L, 101L, 2L), ChangeType.CREATED);
+        verify(eventPublisher).publishEvent(new StoreDetailChangedEvent(1L));
+        verify(eventPublisher).publishEvent(new StoreDetailChangedEvent(2L));
+        assertThat(meterRegistry.counter("review.write_behind.inserted").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("review.write_behind.duplicates").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("review.write_behind.pending").gauge().value()).isZero();
+        // 새 배치에는 이미 반영됐는지 확인하는 조회가 필요 없다
+        verify(reviewBulkRepository, never()).queryLatestCreatedDates(anySet());
+    }
+
+    @Test
+    void flush_dropsOnlyInvalidRow_whenBatchViolatesOtherConstraint() {
+        // given: 업소 404 는 FK 위반으로 배치 전체가 실패하고, 행 단위 저장에서 그 행만 버린다
+        queue = startQueue();
+        queue.offer(1L, 10L, 5, "정상");
+        queue.offer(404L, 10L, 5, "없는 업소");
+        given(reviewBulkRepository.insertSkippingDuplicates(anyList(), any())).willAnswer(invocation -> {
+            List<PendingReview> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(entry -> entry.storeId() == 404L)) {
+                throw new DataIntegrityViolationException("fk_review_store");
+            }
+            return List.of(new InsertedReview(100L, 1L, 10L));
+        });
+
+        // when
+        queue.flush();
+
+        // then
+        verify(outboxService).recordReviewsChanged(Map.of(100L, 1L), ChangeType.CREATED);
+        assertThat(meterRegistry.counter("review.write_behind.dropped").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("review.write_behind.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void start_skipsReplayedEntry_whenReviewWasSavedAndDeletedBeforeRestart() {
+        // given: 저장 후 체크포인트 전에 종료됐고, 재시작 전에 사용자가 그 리뷰를 삭제했다
+        PendingReview applied;
+        PendingReview notApplied;
+        try (ReviewWriteJournal journal = new ReviewWriteJournal(directory, objectMapper, Long.MAX_VALUE)) {
+            applied = journal.append(1L, 10L, 5, "저장 후 삭제됨");
+            notApplied = journal.append(2L, 10L, 4, "미반영");
+        }
+        given(reviewBulkRepository.queryLatestCreatedDates(anySet()))
+            .willReturn(Map.of(new ReviewKey(1L, 10L), applied.requestedAt().plusNanos(1_000)));
+        given(reviewBulkRepository.insertSkippingDuplicates(anyList(), any()))
+            .willReturn(List.of(new InsertedReview(200L, 2L, 10L)));
+
+        // when
+        queue = startQueue();
+        queue.flush();
+
+        // then: 삭제된 리뷰는 되살리지 않고 미반영 항목만 저장한 뒤 체크포인트를 남긴다
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PendingReview>> written = ArgumentCaptor.forClass(List.class);
+        verify(reviewBulkRepository).insertSkippingDuplicates(written.capture(), any(LocalDateTime.class));
+        assertThat(written.getValue()).extracting(PendingReview::sequence).containsExactly(notApplied.sequence());
+        verify(outboxService).recordReviewsChanged(Map.of(200L, 2L), ChangeType.CREATED);
+
+        queue.stop();
+        queue = null;
+        try (ReviewWriteJournal reopened = new ReviewWriteJournal(directory, objectMapper, Long.MAX_VALUE)) {
+            assertThat(reopened.readUnapplied()).isEmpty();
+        }
+    }
+
+    @Test
+    void stop_drainsPendingEntries_andRejectsNewOffers() {
+        // given
+        queue = startQueue();
+        queue.offer(1L, 10L, 5, "첫 리뷰");
+        queue.offer(2L, 11L, 4, "두 번째");
+        given(reviewBulkRepository.insertSkippingDuplicates(
+            argThat(batch -> batch != null && batch.size() == 2), any()))
+            .willReturn(List.of(new InsertedReview(100L, 1L, 10L), new InsertedReview(101L, 2L, 11L)));
+
+        // when
+        queue.stop();
+
+        // then: 남은 항목을 모두 저장하고 저널에도 남기지 않는다
+        verify(outboxService).recordReviewsChanged(anyMap(), any());
+        assertThat(queue.isRunning()).isFalse();
+        assertThat(queue.offer(3L, 12L, 5, "종료 후")).isEqualTo(OfferResult.REJECTED);
+        queue = null;
+        try (ReviewWriteJournal reopened = new ReviewWriteJournal(directory, objectMapper, Long.MAX_VALUE)) {
+            assertThat(reopened.readUnapplied()).isEmpty();
+        }
+    }
+
+    @Test
+    void offer_returnsDuplicate_whileSameStoreAndMemberPending() {
+        // given
+        queue = startQueue();
+        assertThat(queue.offer(1L, 10L, 5, "첫 리뷰")).isEqualTo(OfferResult.ACCEPTED);
+
+        // when
+        OfferResult second = queue.offer(1L, 10L, 4, "다시 작성");
+
+        // then: 저널/대기열에 넣지 않고 호출 측이 바로 거절한다
+        assertThat(second).isEqualTo(OfferResult.DUPLICATE);
+        assertThat(meterRegistry.get("review.write_behind.pending").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void offer_acceptsSameKeyAgain_afterBatchIsApplied() {
+        // given: 저장이 끝나면 예약을 풀고, 이후 중복 여부는 호출 측의 DB 확인이 맡는다
+        queue = startQueue();
+        queue.offer(1L, 10L, 5, "첫 리뷰");
+        given(reviewBulkRepository.insertSkippingDuplicates(anyList(), any()))
+            .willReturn(List.of(new InsertedReview(100L, 1L, 10L)));
+        queue.flush();
+
+        // when
+        OfferResult result = queue.offer(1L, 10L, 4, "삭제 후 다시 작성");
+
+        // then
+        assertThat(result).isEqualTo(OfferResult.ACCEPTED);
+    }
+
+    @Test
+    void flush_defersCheckpoint_untilIntervalOrStop() {
+        // given
+        queue = startQueue();
+        queue.offer(1L, 10L, 5, "첫 리뷰");
+        queue.offer(2L, 11L, 4, "두 번째");
+        given(reviewBulkRepository.insertSkippingDuplicates(anyList(), any()))
+            .willReturn(List.of(new InsertedReview(100L, 1L, 10L), new InsertedReview(101L, 2L, 11L)));
+
+        // when
+        queue.flush();
+
+        // then: 체크포인트 주기 전이라 저널에는 아직 미반영으로 남는다
+        try (ReviewWriteJournal reopened = new ReviewWriteJournal(directory, objectMapper, Long.MAX_VALUE)) {
+            assertThat(reopened.readUnapplied()).hasSize(2);
+        }
+
+        // when: 종료 시 체크포인트를 남긴다
+        queue.stop();
+        queue = null;
+
+        // then
+        try (ReviewWriteJournal reopened = new ReviewWriteJournal(directory, objectMapper, Long.MAX_VALUE)) {
+            assertThat(reopened.readUnapplied()).isEmpty();
+        }
+    }
+
+    private ReviewWriteBehindQueue startQueue() {
+        ReviewWriteBehindQueue started = new ReviewWriteBehindQueue(reviewBulkRepository, outboxService, eventPublisher,
+            transactionManager, objectMapper, meterRegistry, directory.toString(), 200, 10_000, NEVER_MILLIS, NEVER_MILLIS);
+        started.start();
+        return started;
+    }
+}
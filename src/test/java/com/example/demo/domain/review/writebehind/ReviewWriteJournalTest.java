@@ -0,0 +1,83 @@
+package com.example.demo.domain.review.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReviewWriteJournalTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readUnapplied_returnsEntriesAfterCheckpoint_whenReopened() {
+        // given
+        try (ReviewWriteJournal journal = new ReviewWriteJournal(directory, objectMapper, Long.MAX_VALUE)) {
+            journal.append(1L, 10L, 5, "맛있어요");
+            PendingReview second = journal.append(2L, 10L, 4, null);
+            journal.append(3L, 11L, 3, "보통");
+            journal.checkpoint(second.sequence());
+        }
+
+        // when
+        List<PendingReview> unapplied;
+        try (ReviewWriteJournal reopened = new ReviewWriteJournal(directory, objectMapper, Long.MAX_VALUE)) {
+            unapplied = reopened.readUnapplied();
+        }
+
+        // then
+        assertThat(unapplied).singleElement().satisfies(entry -> {
+            assertThat(entry.sequence()).isEqualTo(3L);
+            assertThat(entry.storeId()).isEqualTo(3L);
+            assertThat(entry.content()).isEqualTo("보통");
+        });
+    }
+
+    @Test
+    void append_continuesSequence_afterCompaction() {
+        // given
+        try (ReviewWriteJournal journal = new ReviewWriteJournal(directory, objectMapper, 0L)) {
+            PendingReview first = journal.append(1L, 10L, 5, "첫 리뷰");
+            journal.checkpoint(first.sequence());
+        }
+
+        // when
+        PendingReview next;
+        try (ReviewWriteJournal reopened = new ReviewWriteJournal(directory, objectMapper, 0L)) {
+            assertThat(reopened.readUnapplied()).isEmpty();
+            next = reopened.append(2L, 10L, 4, "두 번째");
+        }
+
+        // then
+        assertThat(next.sequence()).isEqualTo(2L);
+    }
+
+    @Test
+    void readUnapplied_skipsTruncatedLastLine() throws Exception {
+        // given
+        try (ReviewWriteJournal journal = new ReviewWriteJournal(directory, objectMapper, Long.MAX_VALUE)) {
+            journal.append(1L, 10L, 5, "정상");
+        }
+        Files.writeString(directory.resolve("review-journal.log"), "{\"sequence\":2,\"storeId\":",
+            StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        // when
+        List<PendingReview> unapplied;
+        try (ReviewWriteJournal reopened = new ReviewWriteJournal(directory, objectMapper, Long.MAX_VALUE)) {
+            unapplied = reopened.readUnapplied();
+        }
+
+        // then
+        assertThat(unapplied).extracting(PendingReview::sequence).containsExactly(1L);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.demo.domain.store.counter;
+
+import com.example.demo.domain.store.repository.StoreViewCountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class StoreViewCounterTest {
+
+    @Mock
+    private StoreViewCountRepository storeViewCountRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StoreViewCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new StoreViewCounter(storeViewCountRepository, transactionManager, new SimpleMeterRegistry(), 5000, 500);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void flush_combinesConcurrentIncrements_intoOneDeltaPerStore() throws InterruptedException {
+        // given: 8 스레드가 업소 1을 1000회씩, 업소 2를 한 번 조회
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    counter.increment(1L);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        counter.increment(2L);
+
+        // when
+        counter.flush();
+        counter.flush();
+
+        // then: 두 번째 반영에는 증가분이 없으므로 쿼리하지 않는다
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(storeViewCountRepository, times(1)).incrementAll(captor.capture());
+        assertThat(captor.getValue()).containsExactly(Map.entry(1L, 8000L), Map.entry(2L, 1L));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void flush_keepsDeltas_whenUpdateFails() {
+        // given
+        counter.increment(1L);
+        counter.increment(1L);
+        willThrow(new DataAccessResourceFailureException("down"))
+            .willDoNothing()
+            .given(storeViewCountRepository).incrementAll(anyMap());
+
+        // when
+        counter.flush();
+        counter.increment(1L);
+        counter.flush();
+
+        // then
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(storeViewCountRepository, times(2)).incrementAll(captor.capture());
+        List<Map<Long, Long>> calls = captor.getAllValues();
+        assertThat(calls.get(1)).containsExactly(Map.entry(1L, 3L));
+    }
+
+    @Test
+    void flush_doesNothing_withoutViews() {
+        // when
+        counter.flush();
+
+        // then
+        verifyNoInteractions(storeViewCountRepository);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.domain.store.cursor;
+
+import com.example.demo.domain.store.exception.StoreHandler;
+import com.example.demo.domain.store.vo.NearbyCursor;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NearbyCursorCodecTest {
+
+    private static final String SCOPE = "37.5665|126.978|5.0|StoreNearbyFilter[maxPrice=null, category=null, majorCategory=null, subCategory=null]";
+
+    private final NearbyCursorCodec codec = new NearbyCursorCodec("test-secret");
+
+    @Test
+    void decode_restoresEncodedPosition() {
+        // given
+        NearbyCursor cursor = new NearbyCursor(1.2345678901234, 42L);
+
+        // when
+        NearbyCursor decoded = codec.decode(codec.encode(cursor, SCOPE), SCOPE);
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void decode_rejectsCursorFromOtherQuery() {
+        // given
+        String encoded = codec.encode(new NearbyCursor(1.5, 42L), SCOPE);
+
+        // when & then
+        assertThatThrownBy(() -> codec.decode(encoded, SCOPE.replace("5.0", "10.0")))
+            .isInstanceOf(StoreHandler.class);
+        assertThatThrownBy(() -> new NearbyCursorCodec("other-secret").decode(encoded, SCOPE))
+            .isInstanceOf(StoreHandler.class);
+    }
+
+    @Test
+    void decode_rejectsTamperedOrMalformedCursor() {
+        // given
+        byte[] bytes = Base64.getUrlDecoder().decode(codec.encode(new NearbyCursor(1.5, 42L), SCOPE));
+        bytes[bytes.length - 20] ^= 1;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        // when & then
+        assertThatThrownBy(() -> codec.decode(tampered, SCOPE)).isInstanceOf(StoreHandler.class);
+        assertThatThrownBy(() -> codec.decode("not a cursor", SCOPE)).isInstanceOf(StoreHandler.class);
+        assertThatThrownBy(() -> codec.decode("AAAA", SCOPE)).isInstanceOf(StoreHandler.class);
+    }
+}
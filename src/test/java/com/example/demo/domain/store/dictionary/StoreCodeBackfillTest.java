@@ -0,0 +1,90 @@
+package com.example.demo.domain.store.dictionary;
+
+import com.example.demo.domain.outbox.entity.ChangeType;
+import com.example.demo.domain.outbox.service.OutboxService;
+import com.example.demo.domain.store.adaptor.StoreReadModelAdaptor;
+import com.example.demo.domain.store.repository.StoreCodeBulkRepository;
+import com.example.demo.domain.store.repository.StoreCodeBulkRepository.NamePair;
+import com.example.demo.domain.store.vo.RegionCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StoreCodeBackfillTest {
+
+    @Mock
+    private StoreCodeDictionary storeCodeDictionary;
+
+    @Mock
+    private StoreCodeBulkRepository storeCodeBulkRepository;
+
+    @Mock
+    private StoreReadModelAdaptor storeReadModelAdaptor;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StoreCodeBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        backfill = new StoreCodeBackfill(storeCodeDictionary, storeCodeBulkRepository, storeReadModelAdaptor,
+            outboxService, transactionManager);
+    }
+
+    @Test
+    void backfill_recordsUpdatedStoresInOutbox_andMarksReadModelStale() {
+        // given: 약칭으로 저장된 코드 없는 업소 두 곳
+        NamePair region = new NamePair("서울", "중구");
+        given(storeCodeBulkRepository.findUncodedRegions()).willReturn(List.of(region));
+        given(storeCodeDictionary.resolveRegion("서울", "중구")).willReturn(new RegionCode(11, 11001, "서울특별시", "중구"));
+        given(storeCodeBulkRepository.findUncodedRegionStoreIds(region)).willReturn(List.of(1L, 2L));
+        given(storeCodeBulkRepository.updateRegion(region, new NamePair("서울특별시", "중구"), 11, 11001)).willReturn(2);
+        given(storeCodeBulkRepository.findUncodedCategories()).willReturn(List.of());
+
+        // when
+        backfill.backfill();
+
+        // then: UPDATE 와 같은 트랜잭션에서 아웃박스 기록(커밋 후 캐시 무효화)과 stale 표시를 한 뒤 커밋한다
+        InOrder inOrder = inOrder(storeCodeBulkRepository, outboxService, storeReadModelAdaptor, transactionManager);
+        inOrder.verify(storeCodeBulkRepository).updateRegion(region, new NamePair("서울특별시", "중구"), 11, 11001);
+        inOrder.verify(outboxService).recordStoresChanged(List.of(1L, 2L), ChangeType.UPDATED);
+        inOrder.verify(storeReadModelAdaptor).markStale(List.of(1L, 2L));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void backfill_skipsUpdateAndInvalidation_whenNoStoreLeft() {
+        // given: 앞선 채우기가 이미 같은 조합을 채웠다
+        NamePair region = new NamePair("서울", "중구");
+        given(storeCodeBulkRepository.findUncodedRegions()).willReturn(List.of(region));
+        given(storeCodeDictionary.resolveRegion("서울", "중구")).willReturn(new RegionCode(11, 11001, "서울특별시", "중구"));
+        given(storeCodeBulkRepository.findUncodedRegionStoreIds(region)).willReturn(List.of());
+        given(storeCodeBulkRepository.findUncodedCategories()).willReturn(List.of());
+
+        // when
+        backfill.backfill();
+
+        // then
+        verify(storeCodeBulkRepository, never()).updateRegion(any(), any(), any(), any());
+        verify(outboxService, never()).recordStoresChanged(anyList(), any());
+        verify(storeReadModelAdaptor, never()).markStale(anyList());
+    }
+}
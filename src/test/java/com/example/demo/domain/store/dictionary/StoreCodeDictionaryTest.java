@@ -0,0 +1,201 @@
+package com.example.demo.domain.store.dictionary;
+
+import com.example.demo.domain.store.entity.StoreCode;
+import com.example.demo.domain.store.entity.StoreCodeType;
+import com.example.demo.domain.store.event.StoreCodesDeferredEvent;
+import com.example.demo.domain.store.repository.StoreCodeRepository;
+import com.example.demo.domain.store.vo.CategoryCode;
+import com.example.demo.domain.store.vo.RegionCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class StoreCodeDictionaryTest {
+
+    @Mock
+    private StoreCodeRepository storeCodeRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StoreCodeDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new StoreCodeDictionary(storeCodeRepository, eventPublisher, transactionManager, 0L);
+        // 시도가 사전에 없으면 코드 사전을 읽지 않는다
+        lenient().when(storeCodeRepository.findAll()).thenReturn(List.of(
+            code(StoreCodeType.SIGUN, 11001, 11, "중구"),
+            code(StoreCodeType.SIGUN, 26001, 26, "중구"),
+            code(StoreCodeType.MAJOR_CATEGORY, 1, StoreCode.ROOT, "한식")
+        ));
+    }
+
+    @Test
+    void resolveRegion_normalizesSidoAlias_andReusesKnownSigunCode() {
+        // when
+        RegionCode region = dictionary.resolveRegion(" 서울 ", "중구");
+
+        // then
+        assertThat(region).isEqualTo(new RegionCode(11, 11001, "서울특별시", "중구"));
+        verify(storeCodeRepository, never()).save(any());
+    }
+
+    @Test
+    void resolveRegion_assignsNextCodeUnderSido_once() {
+        // when
+        RegionCode first = dictionary.resolveRegion("서울특별시", "종로구");
+        RegionCode second = dictionary.resolveRegion("서울", "종로구");
+
+        // then
+        assertThat(first.sigunCode()).isEqualTo(11002);
+        assertThat(second.sigunCode()).isEqualTo(11002);
+        ArgumentCaptor<StoreCode> saved = ArgumentCaptor.forClass(StoreCode.class);
+        verify(storeCodeRepository, times(1)).save(saved.capture());
+        assertThat(saved.getValue().getParentCode()).isEqualTo(11);
+        // 같은 값은 같은 인스턴스를 공유한다
+        assertThat(first.sido()).isSameAs(second.sido());
+    }
+
+    @Test
+    void resolveRegion_unknownSido_keepsNameWithoutCode() {
+        // when
+        RegionCode region = dictionary.resolveRegion("어딘가  특별시", null);
+
+        // then
+        assertThat(region).isEqualTo(new RegionCode(null, null, "어딘가 특별시", null));
+    }
+
+    @Test
+    void resolveRegion_defersNewCode_insideCallerTransaction() {
+        // given: 호출 측 트랜잭션이 진행 중
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            // when
+            RegionCode known = dictionary.resolveRegion("서울", "중구");
+            RegionCode unknown = dictionary.resolveRegion("서울", "종로구");
+
+            // then: 아는 명칭은 코드를 쓰고, 새 명칭은 별도 트랜잭션 없이 코드를 비워 커밋 후 채우기로 넘긴다
+            assertThat(known).isEqualTo(new RegionCode(11, 11001, "서울특별시", "중구"));
+            assertThat(unknown).isEqualTo(new RegionCode(null, null, "서울특별시", "종로구"));
+            verify(storeCodeRepository, never()).save(any());
+            verifyNoInteractions(transactionManager);
+            verify(eventPublisher).publishEvent(new StoreCodesDeferredEvent());
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    void resolveCategory_assignsSubCodeUnderMajor() {
+        // when
+        CategoryCode category = dictionary.resolveCategory("한식", " 육류 ");
+
+        // then
+        assertThat(category).isEqualTo(new CategoryCode(1, 1001, "한식", "육류"));
+    }
+
+    @Test
+    void regionFilter_sigunOnly_matchesSameNameInEverySido() {
+        // when
+        StoreCodeDictionary.RegionFilter sigunOnly = dictionary.regionFilter(null, "중구");
+        StoreCodeDictionary.RegionFilter unknownSigun = dictionary.regionFilter("서울", "없는구");
+
+        // then
+        assertThat(sigunOnly.sigunCodes()).containsExactly(11001, 26001);
+        assertThat(unknownSigun.matchesNothing()).isTrue();
+        verify(storeCodeRepository, never()).save(any());
+    }
+
+    @Test
+    void regionFilter_fallsBackToPartialName_whenNoExactMatch() {
+        // given
+        given(storeCodeRepository.findAll()).willReturn(List.of(
+            code(StoreCodeType.SIGUN, 11001, 11, "중구"),
+            code(StoreCodeType.SIGUN, 11002, 11, "종로구"),
+            code(StoreCodeType.SIGUN, 41001, 41, "수원시 장안구")
+        ));
+
+        // when
+        StoreCodeDictionary.RegionFilter partialSigun = dictionary.regionFilter("서울", "로");
+        StoreCodeDictionary.RegionFilter partialSigunOnly = dictionary.regionFilter(null, "장안");
+        StoreCodeDictionary.RegionFilter partialSido = dictionary.regionFilter("제주특별", null);
+        StoreCodeDictionary.RegionFilter ambiguousSido = dictionary.regionFilter("광역시", null);
+
+        // then: 정확한 명칭이 없으면 명칭 일부로 찾고, 시도는 하나로 좁혀질 때만 찾는다
+        assertThat(partialSigun.sigunCodes()).containsExactly(11002);
+        assertThat(partialSigunOnly.sigunCodes()).containsExactly(41001);
+        assertThat(partialSido.sidoCode()).isEqualTo(50);
+        assertThat(dictionary.regionFilter("특별자치도", null).matchesNothing()).isTrue();
+        assertThat(ambiguousSido.matchesNothing()).isTrue();
+    }
+
+    @Test
+    void regionFilter_reloadsDictionary_whenCodeWasAssignedByOtherNode() {
+        // given: 이 노드가 사전을 읽은 뒤 다른 노드가 종로구 코드를 부여했다
+        List<StoreCode> initial = List.of(code(StoreCodeType.SIGUN, 11001, 11, "중구"));
+        List<StoreCode> reloaded = List.of(
+            code(StoreCodeType.SIGUN, 11001, 11, "중구"),
+            code(StoreCodeType.SIGUN, 11002, 11, "종로구")
+        );
+        given(storeCodeRepository.findAll()).willReturn(initial, reloaded);
+
+        // when
+        StoreCodeDictionary.RegionFilter filter = dictionary.regionFilter("서울", "종로구");
+        StoreCodeDictionary.RegionFilter sigunOnly = dictionary.regionFilter(null, "종로구");
+
+        // then
+        assertThat(filter.sigunCodes()).containsExactly(11002);
+        assertThat(sigunOnly.sigunCodes()).containsExactly(11002);
+    }
+
+    @Test
+    void resolveRegion_retriesWithNextCode_whenCodeWasTakenByOtherName() {
+        // given: 다른 노드가 11002 를 성북구에 먼저 부여했다
+        given(storeCodeRepository.findAll()).willReturn(
+            List.of(code(StoreCodeType.SIGUN, 11001, 11, "중구")),
+            List.of(code(StoreCodeType.SIGUN, 11001, 11, "중구"), code(StoreCodeType.SIGUN, 11002, 11, "성북구"))
+        );
+        given(storeCodeRepository.save(any(StoreCode.class)))
+            .willThrow(new DataIntegrityViolationException("uk_store_code_type_code"))
+            .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        RegionCode region = dictionary.resolveRegion("서울", "종로구");
+
+        // then
+        assertThat(region.sigunCode()).isEqualTo(11003);
+        verify(storeCodeRepository, times(2)).save(any());
+    }
+
+    private static StoreCode code(StoreCodeType type, int code, int parentCode, String name) {
+        return StoreCode.builder()
+            .codeType(type)
+            .code(code)
+            .parentCode(parentCode)
+            .name(name)
+            .build();
+    }
+}
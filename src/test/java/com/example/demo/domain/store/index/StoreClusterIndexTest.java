@@ -0,0 +1,146 @@
+package com.example.demo.domain.store.index;
+
+import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.vo.CoordinateRange;
+import com.example.demo.domain.store.vo.StoreSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class StoreClusterIndexTest {
+
+    private static final Comparator<StoreCluster> BY_POSITION = Comparator
+        .comparingDouble(StoreCluster::latitude)
+        .thenComparingDouble(StoreCluster::longitude);
+
+    @Mock
+    private StoreLocationIndex storeLocationIndex;
+
+    @InjectMocks
+    private StoreClusterIndex storeClusterIndex;
+
+    @Test
+    void queryClusters_matchesFullScan_forEveryZoomAndViewport() {
+        // given
+        List<StoreSummary> stores = randomStores(5000, new Random(7));
+        given(storeLocationIndex.snapshot()).willReturn(snapshot(1L, stores));
+        CoordinateRange world = range(-85.0, 85.0, -180.0, 180.0);
+        List<CoordinateRange> viewports = List.of(
+            range(37.40, 37.70, 126.80, 127.20),
+            range(37.55, 37.56, 126.97, 126.99),
+            range(35.00, 38.00, 126.00, 129.50),
+            range(33.00, 34.00, 120.00, 121.00));
+
+        for (int zoom = StoreClusterIndex.MIN_ZOOM; zoom <= StoreClusterIndex.MAX_ZOOM; zoom++) {
+            List<StoreCluster> all = storeClusterIndex.queryClusters(world, zoom);
+            for (CoordinateRange viewport : viewports) {
+                // when
+                List<StoreCluster> actual = storeClusterIndex.queryClusters(viewport, zoom);
+
+                // then: 타일 버킷으로 찾은 결과가 전체 클러스터를 뷰포트로 거른 결과와 같다
+                List<StoreCluster> expected = all.stream()
+                    .filter(cluster -> viewport.contains(cluster.latitude(), cluster.longitude()))
+                    .toList();
+                assertThat(actual).as("zoom %d", zoom)
+                    .usingElementComparator(BY_POSITION)
+                    .containsExactlyInAnyOrderElementsOf(expected);
+            }
+            assertThat(all.stream().mapToInt(StoreCluster::count).sum()).isEqualTo(stores.size());
+        }
+    }
+
+    @Test
+    void queryClusters_mergesStoresInSameCell_intoCentroid() {
+        // given: 줌 10 에서 같은 셀에 드는 두 업소와 멀리 떨어진 한 업소
+        given(storeLocationIndex.snapshot()).willReturn(snapshot(1L, List.of(
+            store(1L, 37.5660, 126.9780),
+            store(2L, 37.5670, 126.9790),
+            store(3L, 35.1796, 129.0756))));
+
+        // when
+        List<StoreCluster> clusters = storeClusterIndex.queryClusters(range(33.0, 39.0, 124.0, 132.0), 10);
+
+        // then
+        assertThat(clusters).hasSize(2);
+        StoreCluster merged = clusters.stream().filter(cluster -> cluster.count() == 2).findFirst().orElseThrow();
+        assertThat(merged.latitude()).isCloseTo(37.5665, offset(1e-9));
+        assertThat(merged.longitude()).isCloseTo(126.9785, offset(1e-9));
+        assertThat(merged.storeId()).isNull();
+        StoreCluster single = clusters.stream().filter(StoreCluster::isSingleStore).findFirst().orElseThrow();
+        assertThat(single.storeId()).isEqualTo(3L);
+    }
+
+    @Test
+    void queryClusters_returnsIndividualStores_aboveClusterZoom() {
+        // given
+        given(storeLocationIndex.snapshot()).willReturn(snapshot(1L, List.of(
+            store(1L, 37.5660, 126.9780),
+            store(2L, 37.5661, 126.9781))));
+
+        // when
+        List<StoreCluster> clusters = storeClusterIndex.queryClusters(range(37.56, 37.57, 126.97, 126.98), 18);
+
+        // then
+        assertThat(clusters).extracting(StoreCluster::storeId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void queryClusters_rebuildsLevel_whenSnapshotVersionChanges() {
+        // given
+        CoordinateRange seoul = range(37.40, 37.70, 126.80, 127.20);
+        given(storeLocationIndex.snapshot()).willReturn(
+            snapshot(1L, List.of(store(1L, 37.5660, 126.9780))),
+            snapshot(2L, List.of(store(1L, 37.5660, 126.9780), store(2L, 37.4979, 127.0276))));
+        assertThat(storeClusterIndex.queryClusters(seoul, 14)).hasSize(1);
+
+        // when
+        List<StoreCluster> clusters = storeClusterIndex.queryClusters(seoul, 14);
+
+        // then
+        assertThat(clusters).extracting(StoreCluster::storeId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    private List<StoreSummary> randomStores(int count, Random random) {
+        List<StoreSummary> stores = new ArrayList<>();
+        for (long storeId = 1; storeId <= count; storeId++) {
+            // 대부분 수도권에 몰려 있고 일부는 전국에 흩어진 분포
+            boolean capital = random.nextDouble() < 0.7;
+            double latitude = capital ? 37.4 + random.nextDouble() * 0.3 : 33.0 + random.nextDouble() * 5.5;
+            double longitude = capital ? 126.8 + random.nextDouble() * 0.4 : 124.5 + random.nextDouble() * 7.0;
+            stores.add(store(storeId, latitude, longitude));
+        }
+        return stores;
+    }
+
+    private StoreLocationIndex.Snapshot snapshot(long version, List<StoreSummary> stores) {
+        return new StoreLocationIndex.Snapshot(version, 1L, Instant.now(), stores);
+    }
+
+    private CoordinateRange range(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+        return CoordinateRange.builder()
+            .minLatitude(minLatitude)
+            .maxLatitude(maxLatitude)
+            .minLongitude(minLongitude)
+            .maxLongitude(maxLongitude)
+            .build();
+    }
+
+    private StoreSummary store(Long storeId, double latitude, double longitude) {
+        return new StoreSummary(storeId, "업소" + storeId, Category.RESTAURANT, null, null, null,
+            "서울특별시", "중구", "서울특별시 중구", latitude, longitude, true, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
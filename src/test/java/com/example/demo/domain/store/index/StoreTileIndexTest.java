@@ -0,0 +1,91 @@
+package com.example.demo.domain.store.index;
+
+import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.vo.CoordinateRange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StoreTileIndexTest {
+
+    @Mock
+    private StoreLocationIndex storeLocationIndex;
+
+    @Mock
+    private StoreClusterIndex storeClusterIndex;
+
+    @InjectMocks
+    private StoreTileIndex storeTileIndex;
+
+    @BeforeEach
+    void setUp() {
+        given(storeClusterIndex.queryClusters(any(CoordinateRange.class), anyInt()))
+            .willReturn(List.of(new StoreCluster(37.5665, 126.9780, 1, 1L, "착한식당", Category.RESTAURANT)));
+    }
+
+    @Test
+    void getTile_returnsCachedTile_whileSnapshotVersionUnchanged() {
+        // given
+        given(storeLocationIndex.snapshot()).willReturn(snapshot(1L));
+
+        // when
+        StoreTileIndex.StoreTile first = storeTileIndex.getTile(0, 0, 0);
+        StoreTileIndex.StoreTile second = storeTileIndex.getTile(0, 0, 0);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.version()).isEqualTo(1L);
+        verify(storeClusterIndex, times(1)).queryClusters(any(CoordinateRange.class), eq(0));
+    }
+
+    @Test
+    void getTile_reencodes_whenSnapshotVersionChanges() {
+        // given
+        given(storeLocationIndex.snapshot()).willReturn(snapshot(1L), snapshot(2L), snapshot(2L));
+        StoreTileIndex.StoreTile stale = storeTileIndex.getTile(0, 0, 0);
+
+        // when: 스냅샷이 갱신되면 캐시를 비우고 새 버전으로 다시 인코딩한다
+        StoreTileIndex.StoreTile refreshed = storeTileIndex.getTile(0, 0, 0);
+        StoreTileIndex.StoreTile cachedAgain = storeTileIndex.getTile(0, 0, 0);
+
+        // then
+        assertThat(refreshed).isNotSameAs(stale);
+        assertThat(refreshed.version()).isEqualTo(2L);
+        assertThat(cachedAgain).isSameAs(refreshed);
+        verify(storeClusterIndex, times(2)).queryClusters(any(CoordinateRange.class), eq(0));
+    }
+
+    @Test
+    void getTile_cachesEachTileSeparately() {
+        // given
+        given(storeLocationIndex.snapshot()).willReturn(snapshot(1L));
+
+        // when
+        StoreTileIndex.StoreTile west = storeTileIndex.getTile(1, 0, 0);
+        StoreTileIndex.StoreTile east = storeTileIndex.getTile(1, 1, 0);
+
+        // then: 업소는 동쪽 타일(1/1/0)에만 포함된다
+        assertThat(west).isNotSameAs(east);
+        assertThat(east.content().length).isGreaterThan(west.content().length);
+        verify(storeClusterIndex, times(2)).queryClusters(any(CoordinateRange.class), eq(1));
+    }
+
+    private StoreLocationIndex.Snapshot snapshot(long version) {
+        return new StoreLocationIndex.Snapshot(version, 1L, Instant.now(), List.of());
+    }
+}
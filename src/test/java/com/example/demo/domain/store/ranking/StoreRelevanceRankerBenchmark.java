@@ -0,0 +1,60 @@
+package com.example.demo.domain.store.ranking;
+
+import com.example.demo.domain.review.vo.StoreRatingAggregate;
+import com.example.demo.domain.store.index.StoreNearbyGridIndex.NearbyStore;
+import com.example.demo.domain.store.trending.TrendingStoreCounter.TrendingCount;
+import com.example.demo.domain.store.vo.StoreSummary;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관련도 정렬 비용 측정: 10만 업소 특성 배열에서 후보 1,000개에 점수를 매겨 상위 20개를 고른다
+ * 거리순 후보 조회에 더해지는 비용이 1ms 미만이어야 한다. ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+class StoreRelevanceRankerBenchmark {
+
+    private static final int STORES = 100_000;
+    private static final int CANDIDATES = 1_000;
+    private static final int LIMIT = 20;
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURE_ROUNDS = 10_000;
+
+    @Test
+    void rankThousandCandidates() {
+        Random random = new Random(11);
+        List<StoreSummary> stores = LongStream.rangeClosed(1, STORES).mapToObj(StoreRelevanceRankerTest::store).toList();
+        List<StoreRatingAggregate> ratings = new ArrayList<>();
+        for (long id = 1; id <= STORES; id += 3) {
+            ratings.add(StoreRelevanceRankerTest.rating(id, 1 + random.nextInt(41) / 10.0, (long) random.nextInt(500)));
+        }
+        List<TrendingCount> trending = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            long views = random.nextInt(1_000);
+            trending.add(new TrendingCount(1L + random.nextInt(STORES), views, 0, views));
+        }
+        StoreRelevanceRanker.Features features =
+            StoreRelevanceRanker.Features.build(1, stores, ratings, StoreRelevanceRankerTest.WEIGHTS, 10);
+        features.applyTrending(trending);
+        List<NearbyStore> candidates = StoreRelevanceRankerTest.candidates(stores, CANDIDATES, random);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            features.rank(candidates, LIMIT);
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            features.rank(candidates, LIMIT);
+        }
+        double micros = (System.nanoTime() - startedAt) / 1_000.0 / MEASURE_ROUNDS;
+
+        System.out.printf("relevance rank: %d candidates, top %d -> %.1f us/op%n", CANDIDATES, LIMIT, micros);
+        assertThat(micros).isLessThan(1_000);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.demo.domain.store.ranking;
+
+import com.example.demo.domain.review.vo.StoreRatingAggregate;
+import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.index.StoreNearbyGridIndex.NearbyStore;
+import com.example.demo.domain.store.trending.TrendingStoreCounter.TrendingCount;
+import com.example.demo.domain.store.vo.StoreSummary;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreRelevanceRankerTest {
+
+    static final StoreRelevanceRanker.Weights WEIGHTS = new StoreRelevanceRanker.Weights(0.5, 0.3, 0.1, 0.1, 1.0);
+
+    @Test
+    void rank_prefersWellRatedStore_overSlightlyCloserPoorlyRatedStore() {
+        // given
+        List<StoreSummary> stores = List.of(store(1L), store(2L));
+        StoreRelevanceRanker.Features features = StoreRelevanceRanker.Features.build(1, stores, List.of(
+            rating(1L, 4.9, 40L),
+            rating(2L, 1.0, 40L)
+        ), WEIGHTS, 10);
+
+        // when
+        List<NearbyStore> ranked = features.rank(List.of(
+            new NearbyStore(stores.get(1), 0.25, null),
+            new NearbyStore(stores.get(0), 0.30, null)
+        ), 2);
+
+        // then
+        assertThat(ranked).extracting(nearby -> nearby.store().storeId()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void rank_shrinksFewReviewsTowardMean() {
+        // given: 리뷰 1건 5점보다 리뷰 200건 4.6점이 앞선다
+        List<StoreSummary> stores = List.of(store(1L), store(2L), store(3L));
+        StoreRelevanceRanker.Features features = StoreRelevanceRanker.Features.build(1, stores, List.of(
+            rating(1L, 5.0, 1L),
+            rating(2L, 4.6, 200L),
+            rating(3L, 2.0, 200L)
+        ), WEIGHTS, 10);
+
+        // when
+        List<NearbyStore> ranked = features.rank(List.of(
+            new NearbyStore(stores.get(0), 1.0, null),
+            new NearbyStore(stores.get(1), 1.0, null),
+            new NearbyStore(stores.get(2), 1.0, null)
+        ), 3);
+
+        // then
+        assertThat(ranked).extracting(nearby -> nearby.store().storeId()).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    void rank_appliesTrendingAndRatingUpdates() {
+        // given
+        List<StoreSummary> stores = List.of(store(1L), store(2L));
+        StoreRelevanceRanker.Features features = StoreRelevanceRanker.Features.build(1, stores, List.of(), WEIGHTS, 10);
+        List<NearbyStore> candidates = List.of(
+            new NearbyStore(stores.get(0), 0.5, null),
+            new NearbyStore(stores.get(1), 0.5, null)
+        );
+
+        // when
+        features.applyTrending(List.of(new TrendingCount(2L, 30, 0, 30.0)));
+        List<NearbyStore> trending = features.rank(candidates, 2);
+        features.applyRating(rating(1L, 5.0, 500L));
+        List<NearbyStore> rated = features.rank(candidates, 2);
+
+        // then
+        assertThat(trending).extracting(nearby -> nearby.store().storeId()).containsExactly(2L, 1L);
+        assertThat(rated).extracting(nearby -> nearby.store().storeId()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void rank_keepsTopK_sameAsSortingEveryCandidate() {
+        // given
+        Random random = new Random(3);
+        List<StoreSummary> stores = LongStream.rangeClosed(1, 2000).mapToObj(StoreRelevanceRankerTest::store).toList();
+        List<StoreRatingAggregate> ratings = new ArrayList<>();
+        for (long id = 1; id <= 2000; id += 2) {
+            ratings.add(rating(id, 1 + random.nextInt(41) / 10.0, (long) random.nextInt(300)));
+        }
+        StoreRelevanceRanker.Features features = StoreRelevanceRanker.Features.build(1, stores, ratings, WEIGHTS, 10);
+        List<NearbyStore> candidates = candidates(stores, 500, random);
+
+        // when
+        List<Long> top = features.rank(candidates, 20).stream().map(nearby -> nearby.store().storeId()).toList();
+        List<Long> all = features.rank(candidates, candidates.size()).stream().map(nearby -> nearby.store().storeId()).toList();
+
+        // then
+        assertThat(top).hasSize(20).isEqualTo(all.subList(0, 20));
+    }
+
+    static List<NearbyStore> candidates(List<StoreSummary> stores, int count, Random random) {
+        List<NearbyStore> candidates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            candidates.add(new NearbyStore(stores.get(random.nextInt(stores.size())), random.nextDouble() * 5, null));
+        }
+        return candidates;
+    }
+
+    static StoreRatingAggregate rating(Long storeId, double averageRating, Long reviewCount) {
+        return new StoreRatingAggregate(storeId, "업소" + storeId, Category.RESTAURANT, "서울특별시", "중구", averageRating, reviewCount);
+    }
+
+    static StoreSummary store(Long storeId) {
+        return new StoreSummary(storeId, "업소" + storeId, Category.RESTAURANT, "한식", "일반", null,
+            "서울특별시", "중구", "서울특별시 중구", 37.5, 127.0, true, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.demo.domain.store.service;
+
+import com.example.demo.domain.outbox.entity.ChangeType;
+import com.example.demo.domain.outbox.service.OutboxService;
+import com.example.demo.domain.store.dictionary.StoreCodeDictionary;
+import com.example.demo.domain.store.exception.StoreHandler;
+import com.example.demo.domain.store.repository.StoreMenuRepository;
+import com.example.demo.domain.store.repository.StoreRepository;
+import com.example.demo.domain.store.vo.CategoryCode;
+import com.example.demo.domain.store.vo.RegionCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StoreExcelServiceTest {
+
+    private static final String HEADER = "시도,시군,업종,업소명,연락처,주소,메뉴1,가격1,메뉴2,가격2,메뉴3,가격3,메뉴4,가격4,경도,위도";
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private StoreMenuRepository storeMenuRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private StoreCodeDictionary storeCodeDictionary;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StoreExcelService storeExcelService;
+
+    @BeforeEach
+    void setUp() {
+        storeExcelService = new StoreExcelService(storeRepository, storeMenuRepository, outboxService,
+            new TransactionTemplate(transactionManager), storeCodeDictionary);
+        given(storeCodeDictionary.resolveRegion(any(), any()))
+            .willReturn(new RegionCode(11, 11001, "서울특별시", "중구"));
+        given(storeCodeDictionary.resolveCategory(any(), any()))
+            .willReturn(new CategoryCode(1, 101, "한식", "육류"));
+    }
+
+    @Test
+    void importStoresFromFile_recordsStoreChanges_inBatchTransaction_beforeCommit() {
+        // given
+        given(storeRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        storeExcelService.importStoresFromFile(csv(
+            "서울,중구,한식,착한식당,02-0000-0000,서울특별시 중구 세종대로 110,김치찌개,8000,,,,,,,126.9780,37.5665",
+            "서울,중구,한식,두번째식당,02-0000-0001,서울특별시 중구 세종대로 111,비빔밥,7000,,,,,,,126.9781,37.5666"));
+
+        // then: 위치/상세 캐시 무효화는 아웃박스 기록과 함께 커밋 후로 등록되고, 가져오기가 직접 무효화하지 않는다
+        InOrder inOrder = inOrder(storeRepository, outboxService, transactionManager);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(storeRepository).saveAll(anyList());
+        inOrder.verify(outboxService).recordStoresChanged(anyList(), eq(ChangeType.CREATED));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void importStoresFromFile_recordsNothing_whenBatchRollsBack() {
+        // given
+        given(storeRepository.saveAll(anyList())).willThrow(new QueryTimeoutException("lock wait timeout"));
+
+        // when & then: 롤백된 배치는 아웃박스에도 남지 않아 커밋 후 무효화도 일어나지 않는다
+        assertThatThrownBy(() -> storeExcelService.importStoresFromFile(csv(
+            "서울,중구,한식,착한식당,02-0000-0000,서울특별시 중구 세종대로 110,김치찌개,8000,,,,,,,126.9780,37.5665")))
+            .isInstanceOf(StoreHandler.class);
+        verify(outboxService, never()).recordStoresChanged(anyList(), any());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    private MockMultipartFile csv(String... rows) {
+        String content = HEADER + "\n" + String.join("\n", List.of(rows)) + "\n";
+        return new MockMultipartFile("file", "stores.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.demo.domain.store.stats;
+
+import com.example.demo.domain.outbox.entity.ChangeType;
+import com.example.demo.domain.review.adaptor.ReviewAdaptor;
+import com.example.demo.domain.review.event.ReviewChangedEvent;
+import com.example.demo.domain.review.vo.StoreRatingAggregate;
+import com.example.demo.domain.store.adaptor.StoreAdaptor;
+import com.example.demo.domain.store.entity.Category;
+import com.example.demo.domain.store.event.StoreChangedEvent;
+import com.example.demo.domain.store.vo.StoreMenuStats;
+import com.example.demo.domain.store.vo.StoreSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class StoreStatsCubeTest {
+
+    @Mock
+    private StoreAdaptor storeAdaptor;
+
+    @Mock
+    private ReviewAdaptor reviewAdaptor;
+
+    private StoreStatsCube cube;
+
+    @BeforeEach
+    void setUp() {
+        cube = new StoreStatsCube(storeAdaptor, reviewAdaptor, 3600);
+        given(storeAdaptor.queryAllSummaries()).willReturn(List.of(
+            store(1L, Category.RESTAURANT, "한식", "서울특별시", "중구", true),
+            store(2L, Category.RESTAURANT, "중식", "서울특별시", "종로구", true),
+            store(3L, Category.CAFE, "카페", "서울특별시", "중구", true),
+            store(4L, Category.RESTAURANT, "한식", "부산광역시", "중구", true),
+            store(5L, Category.RESTAURANT, "한식", "서울특별시", "중구", false)
+        ));
+        given(storeAdaptor.queryMenuStats()).willReturn(List.of(
+            menuStats(1L, 2L, "16000"),
+            menuStats(2L, 1L, "7000"),
+            menuStats(4L, 1L, "6000")
+        ));
+        given(reviewAdaptor.queryRatingAggregates()).willReturn(List.of(
+            rating(1L, 4.5, 2L),
+            rating(3L, 3.0, 1L)
+        ));
+    }
+
+    @Test
+    void rollUp_bySido_sumsActiveStoresOnly() {
+        // when
+        List<StoreStats> rows = cube.rollUp(EnumSet.of(StatsDimension.SIDO), StoreStatsKey.ALL);
+
+        // then
+        assertThat(rows).extracting(row -> row.key().sido(), StoreStats::storeCount)
+            .containsExactly(
+                tuple("서울특별시", 3L),
+                tuple("부산광역시", 1L));
+        StoreStats seoul = rows.get(0);
+        // 메뉴 단위 평균 (16000 + 7000) / 3, 리뷰 단위 평균 (9 + 3) / 3
+        assertThat(seoul.averageMenuPrice()).isEqualByComparingTo("7667");
+        assertThat(seoul.averageRating()).isEqualTo(4.0);
+        assertThat(seoul.key().category()).isNull();
+    }
+
+    @Test
+    void rollUp_bySigun_keepsSidoToSeparateSameNamedSigun() {
+        // when
+        List<StoreStats> rows = cube.rollUp(EnumSet.of(StatsDimension.SIGUN), new StoreStatsKey(null, "중구", null, null));
+
+        // then
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).key()).isEqualTo(new StoreStatsKey("서울특별시", "중구", null, null));
+        assertThat(rows.get(0).storeCount()).isEqualTo(2);
+        assertThat(rows.get(1).key()).isEqualTo(new StoreStatsKey("부산광역시", "중구", null, null));
+    }
+
+    @Test
+    void total_withoutMatches_returnsEmptyRow() {
+        // when
+        StoreStats total = cube.total(new StoreStatsKey("제주특별자치도", null, null, null));
+
+        // then
+        assertThat(total.storeCount()).isZero();
+        assertThat(total.averageMenuPrice()).isEqualByComparingTo("0");
+        assertThat(total.averageRating()).isZero();
+    }
+
+    @Test
+    void onStoreChanged_replacesPreviousContribution() {
+        // given
+        cube.rollUp(Set.of(), StoreStatsKey.ALL);
+        given(storeAdaptor.querySummaries(List.of(1L, 3L))).willReturn(List.of(
+            store(1L, Category.CAFE, "카페", "부산광역시", "해운대구", true)
+        ));
+        given(storeAdaptor.queryMenuStats(List.of(1L, 3L))).willReturn(List.of(
+            menuStats(1L, 1L, "5000")
+        ));
+        given(reviewAdaptor.queryStoreRatings(List.of(1L, 3L))).willReturn(Map.of(
+            1L, ReviewAdaptor.StoreRatingInfo.builder().averageRating(4.5).reviewCount(2L).build()
+        ));
+
+        // when: 1번 지역/업종 변경, 3번 삭제
+        cube.onStoreChanged(new StoreChangedEvent(List.of(storeChange(1L), storeChange(3L))));
+
+        // then
+        assertThat(cube.rollUp(EnumSet.of(StatsDimension.CATEGORY), StoreStatsKey.ALL))
+            .extracting(row -> row.key().category(), StoreStats::storeCount)
+            .containsExactly(
+                tuple(Category.RESTAURANT, 2L),
+                tuple(Category.CAFE, 1L));
+        StoreStats busan = cube.total(new StoreStatsKey("부산광역시", null, null, null));
+        assertThat(busan.storeCount()).isEqualTo(2);
+        assertThat(busan.averageMenuPrice()).isEqualByComparingTo("5500");
+        assertThat(busan.reviewCount()).isEqualTo(2);
+        assertThat(cube.total(StoreStatsKey.ALL).reviewCount()).isEqualTo(2);
+    }
+
+    @Test
+    void onReviewChanged_isIdempotent() {
+        // given
+        cube.rollUp(Set.of(), StoreStatsKey.ALL);
+        given(storeAdaptor.querySummaries(List.of(2L))).willReturn(List.of(
+            store(2L, Category.RESTAURANT, "중식", "서울특별시", "종로구", true)
+        ));
+        given(storeAdaptor.queryMenuStats(List.of(2L))).willReturn(List.of(
+            menuStats(2L, 1L, "7000")
+        ));
+        given(reviewAdaptor.queryStoreRatings(List.of(2L))).willReturn(Map.of(
+            2L, ReviewAdaptor.StoreRatingInfo.builder().averageRating(5.0).reviewCount(1L).build()
+        ));
+        ReviewChangedEvent event = new ReviewChangedEvent(List.of(
+            new ReviewChangedEvent.Change(1L, 10L, 2L, ChangeType.CREATED, LocalDateTime.now())
+        ));
+
+        // when: 같은 변경이 두 번 전달됨
+        cube.onReviewChanged(event);
+        cube.onReviewChanged(event);
+
+        // then
+        StoreStats total = cube.total(StoreStatsKey.ALL);
+        assertThat(total.storeCount()).isEqualTo(4);
+        assertThat(total.reviewCount()).isEqualTo(4);
+        assertThat(total.ratingSum()).isEqualTo(17);
+    }
+
+    @Test
+    void rollUp_neverSeesPartialReplacement_whileStoreMovesBetweenRegions() throws Exception {
+        // given: 1번 업소가 두 지역을 오가며 계속 변경된다
+        cube.rollUp(Set.of(), StoreStatsKey.ALL);
+        AtomicInteger version = new AtomicInteger();
+        given(storeAdaptor.querySummaries(List.of(1L))).willAnswer(invocation -> List.of(version.incrementAndGet() % 2 == 0
+            ? store(1L, Category.RESTAURANT, "한식", "서울특별시", "중구", true)
+            : store(1L, Category.RESTAURANT, "한식", "부산광역시", "해운대구", true)));
+        given(storeAdaptor.queryMenuStats(List.of(1L))).willReturn(List.of(menuStats(1L, 2L, "16000")));
+        given(reviewAdaptor.queryStoreRatings(List.of(1L))).willReturn(Map.of());
+        StoreChangedEvent event = new StoreChangedEvent(List.of(storeChange(1L)));
+
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> refreshes = writer.submit(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    cube.onStoreChanged(event);
+                }
+            });
+
+            // when & then: 이전 기여분을 뺀 뒤 새 기여분을 더하기 전의 상태를 읽지 않는다
+            while (!refreshes.isDone()) {
+                assertThat(cube.total(StoreStatsKey.ALL).storeCount()).isEqualTo(4);
+            }
+            refreshes.get(5, TimeUnit.SECONDS);
+        } finally {
+            writer.shutdownNow();
+        }
+    }
+
+    @Test
+    void rollUp_matchesAbbreviatedRegionNames_withCanonicalFilter() {
+        // given: 코드 채우기 전 약칭으로 저장된 업소
+        given(storeAdaptor.queryAllSummaries()).willReturn(List.of(
+            store(1L, Category.RESTAURANT, "한식", "서울", "중구", true),
+            store(2L, Category.RESTAURANT, "한식", "서울특별시", "중구", true)
+        ));
+
+        // when
+        StoreStats total = cube.total(new StoreStatsKey("서울특별시", "중구", null, null));
+
+        // then
+        assertThat(total.storeCount()).isEqualTo(2);
+    }
+
+    private static StoreSummary store(Long storeId, Category category, String majorCategory,
+                                      String sido, String sigun, boolean active) {
+        return new StoreSummary(storeId, "업소" + storeId, category, majorCategory, "기타", null,
+            sido, sigun, sido + " " + sigun, 37.5, 127.0, active, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private static StoreMenuStats menuStats(Long storeId, Long menuCount, String priceSum) {
+        return new StoreMenuStats(storeId, menuCount, new BigDecimal(priceSum), new BigDecimal(priceSum));
+    }
+
+    private static StoreRatingAggregate rating(Long storeId, double averageRating, long reviewCount) {
+        return new StoreRatingAggregate(storeId, "업소" + storeId, null, null, null, averageRating, reviewCount);
+    }
+
+    private static StoreChangedEvent.Change storeChange(Long storeId) {
+        return new StoreChangedEvent.Change(storeId, storeId, ChangeType.UPDATED, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.demo.domain.store.trending;
+
+import com.example.demo.domain.store.repository.StoreActivityBulkRepository;
+import com.example.demo.domain.store.repository.StoreActivityBulkRepository.ActivityDelta;
+import com.example.demo.domain.store.repository.StoreActivityBulkRepository.ActivityTotal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingStoreCounterTest {
+
+    @Mock
+    private StoreActivityBulkRepository storeActivityBulkRepository;
+
+    private TrendingStoreCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new TrendingStoreCounter(storeActivityBulkRepository, new SimpleMeterRegistry(),
+            300, 12, 2, 5, 500, 168);
+    }
+
+    @Test
+    void top_ranksByWeightedScore_andAppliesFilter() {
+        // given: 업소 1 조회 6회, 업소 2 리뷰 2회(=10점), 업소 3 조회 20회(필터로 제외)
+        for (int i = 0; i < 6; i++) {
+            counter.record(1L, StoreActivityType.VIEW);
+        }
+        counter.record(2L, StoreActivityType.REVIEW);
+        counter.record(2L, StoreActivityType.REVIEW);
+
+        // when
+        List<TrendingStoreCounter.TrendingCount> top = counter.top(10, storeId -> storeId != 3L);
+
+        // then
+        assertThat(top).extracting(TrendingStoreCounter.TrendingCount::storeId).containsExactly(2L, 1L);
+        assertThat(top.get(0).score()).isEqualTo(10.0);
+    }
+
+    @Test
+    void record_dropsNewStores_whenBucketIsFull() {
+        // given: 구간당 추적 업소 수 제한 2
+        counter.record(1L, StoreActivityType.VIEW);
+        counter.record(2L, StoreActivityType.VIEW);
+
+        // when
+        counter.record(3L, StoreActivityType.VIEW);
+        counter.record(1L, StoreActivityType.VIEW);
+
+        // then
+        assertThat(counter.top(10, storeId -> true))
+            .extracting(TrendingStoreCounter.TrendingCount::storeId)
+            .containsExactly(1L, 2L);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void flush_writesOnlyNewDeltas_andRetriesAfterFailure() {
+        // given
+        counter.record(1L, StoreActivityType.VIEW);
+        counter.record(1L, StoreActivityType.VIEW);
+        given(storeActivityBulkRepository.addAll(anyList()))
+            .willThrow(new DataAccessResourceFailureException("down"))
+            .willReturn(1);
+
+        // when: 첫 반영 실패 후 재시도, 이후 1회 추가 조회
+        counter.flush();
+        counter.flush();
+        counter.record(1L, StoreActivityType.VIEW);
+        counter.flush();
+
+        // then
+        ArgumentCaptor<List<ActivityDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(storeActivityBulkRepository, times(3)).addAll(captor.capture());
+        assertThat(captor.getAllValues().get(1)).extracting(ActivityDelta::views).containsExactly(2L);
+        assertThat(captor.getAllValues().get(2)).extracting(ActivityDelta::views).containsExactly(1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void flush_mergesRetiredBucketsIntoBoundedCarryOver_whileFlushKeepsFailing() {
+        // given: 윈도우(5분 x 12) 만큼씩 시간이 지나며 구간이 밀려나는 동안 반영이 계속 실패한다
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        counter = new TrendingStoreCounter(storeActivityBulkRepository, meterRegistry, 300, 12, 2, 5, 500, 168);
+        long window = 12 * 300_000L;
+        long first = 1_700_000_100_000L;
+        given(storeActivityBulkRepository.addAll(anyList()))
+            .willThrow(new DataAccessResourceFailureException("down"))
+            .willThrow(new DataAccessResourceFailureException("down"))
+            .willThrow(new DataAccessResourceFailureException("down"))
+            .willReturn(1);
+
+        counter.record(1L, StoreActivityType.VIEW, first);
+        counter.record(1L, StoreActivityType.VIEW, first);
+        counter.record(2L, StoreActivityType.REVIEW, first);
+        counter.flush();
+        counter.record(1L, StoreActivityType.VIEW, first + window);
+        counter.record(3L, StoreActivityType.VIEW, first + window);
+        counter.flush();
+        counter.record(1L, StoreActivityType.VIEW, first + 2 * window);
+        counter.flush();
+
+        // when
+        counter.flush();
+
+        // then: 밀려난 두 구간은 최근 구간 시작 시각의 이월분 하나로 합쳐지고, 제한을 넘는 업소 3 은 버려진다
+        ArgumentCaptor<List<ActivityDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(storeActivityBulkRepository, times(4)).addAll(captor.capture());
+        LocalDateTime carryOverStart = LocalDateTime.ofInstant(
+            Instant.ofEpochMilli((first + window) / 300_000L * 300_000L), ZoneId.systemDefault());
+        LocalDateTime currentStart = LocalDateTime.ofInstant(
+            Instant.ofEpochMilli((first + 2 * window) / 300_000L * 300_000L), ZoneId.systemDefault());
+        assertThat(captor.getAllValues().get(3)).containsExactlyInAnyOrder(
+            new ActivityDelta(1L, carryOverStart, 3L, 0L),
+            new ActivityDelta(2L, carryOverStart, 0L, 1L),
+            new ActivityDelta(1L, currentStart, 1L, 0L));
+        assertThat(meterRegistry.counter("store.trending.dropped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void top_mergesClusterTotals_withLocalDeltaSinceLastRefresh() {
+        // given: 이 노드가 조회 2회를 반영한 뒤 읽은 합계에는 다른 노드의 업소 5 활동도 있다
+        counter.record(1L, StoreActivityType.VIEW);
+        counter.record(1L, StoreActivityType.VIEW);
+        given(storeActivityBulkRepository.addAll(anyList())).willReturn(1);
+        counter.flush();
+        given(storeActivityBulkRepository.queryTotalsSince(any()))
+            .willReturn(List.of(new ActivityTotal(5L, 100L, 0L), new ActivityTotal(1L, 2L, 0L)));
+        counter.refreshClusterTotals();
+
+        // when: 합계를 읽은 뒤 이 노드에 1회 더 조회
+        counter.record(1L, StoreActivityType.VIEW);
+        List<TrendingStoreCounter.TrendingCount> top = counter.top(10, storeId -> true);
+
+        // then: 이미 합계에 포함된 2회는 다시 더하지 않는다
+        assertThat(top).extracting(TrendingStoreCounter.TrendingCount::storeId).containsExactly(5L, 1L);
+        assertThat(top.get(1).views()).isEqualTo(3L);
+    }
+
+    @Test
+    void record_neverTracksMoreStoresThanLimit_underConcurrentRecords() throws Exception {
+        // given: 구간당 추적 업소 수 제한 2, 여러 스레드가 동시에 서로 다른 업소를 기록
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            long base = t * 100L;
+            executor.submit(() -> {
+                start.await();
+                for (long storeId = base; storeId < base + 100; storeId++) {
+                    counter.record(storeId, StoreActivityType.VIEW);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(counter.top(1000, storeId -> true)).hasSize(2);
+    }
+}
@@ -0,0 +1,279 @@
+package com.example.demo.domain.store.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class VectorTileEncoderTest {
+
+    @Test
+    void encodePointLayer_decodesToLayerWithExtentAndVersion() {
+        // when
+        Layer layer = decode(VectorTileEncoder.encodePointLayer("stores", List.of(
+            new VectorTileEncoder.Point(1L, 10, 20, Map.of()))));
+
+        // then
+        assertThat(layer.name()).isEqualTo("stores");
+        assertThat(layer.version()).isEqualTo(2);
+        assertThat(layer.extent()).isEqualTo(VectorTileEncoder.EXTENT);
+        assertThat(layer.features()).hasSize(1);
+    }
+
+    @Test
+    void encodePointLayer_writesSingleMoveToWithZigZagOffsetsFromOrigin() {
+        // given: 버퍼 영역(음수)과 타일 끝 좌표
+        List<VectorTileEncoder.Point> points = List.of(
+            new VectorTileEncoder.Point(1L, 0, 0, Map.of()),
+            new VectorTileEncoder.Point(2L, -3, 4095, Map.of()),
+            new VectorTileEncoder.Point(3L, 2048, -1, Map.of()));
+
+        // when
+        Layer layer = decode(VectorTileEncoder.encodePointLayer("stores", points));
+
+        // then: 피처마다 커서가 (0, 0) 에서 시작하므로 MoveTo(1) 한 번과 좌표 자체가 delta 로 기록된다
+        assertThat(layer.features()).extracting(Feature::id).containsExactly(1L, 2L, 3L);
+        for (int i = 0; i < points.size(); i++) {
+            Feature feature = layer.features().get(i);
+            assertThat(feature.type()).isEqualTo(1);
+            assertThat(feature.geometry()).hasSize(3);
+            int command = feature.geometry().get(0);
+            assertThat(command & 0x7).isEqualTo(1);
+            assertThat(command >>> 3).isEqualTo(1);
+            assertThat(unZigZag(feature.geometry().get(1))).isEqualTo(points.get(i).x());
+            assertThat(unZigZag(feature.geometry().get(2))).isEqualTo(points.get(i).y());
+        }
+        assertThat(layer.features().get(1).geometry().get(1)).isEqualTo(5);
+        assertThat(layer.features().get(2).geometry().get(2)).isEqualTo(1);
+    }
+
+    @Test
+    void encodePointLayer_sharesKeysAndValuesAcrossFeatureTags() {
+        // given
+        Map<String, Object> single = new LinkedHashMap<>();
+        single.put("category", "RESTAURANT");
+        Map<String, Object> cluster = new LinkedHashMap<>();
+        cluster.put("cluster", true);
+        cluster.put("point_count", 42);
+        Map<String, Object> sameCategory = new LinkedHashMap<>();
+        sameCategory.put("category", "RESTAURANT");
+        sameCategory.put("missing", null);
+
+        // when
+        Layer layer = decode(VectorTileEncoder.encodePointLayer("stores", List.of(
+            new VectorTileEncoder.Point(1L, 1, 1, single),
+            new VectorTileEncoder.Point(null, 2, 2, cluster),
+            new VectorTileEncoder.Point(3L, 3, 3, sameCategory))));
+
+        // then: 키/값은 레이어에 한 번만 기록되고 피처는 인덱스 쌍으로 참조한다 (null 속성은 생략)
+        assertThat(layer.keys()).containsExactly("category", "cluster", "point_count");
+        assertThat(layer.values()).containsExactly("RESTAURANT", true, 42L);
+        assertThat(layer.properties(0)).containsExactly(entry("category", "RESTAURANT"));
+        assertThat(layer.properties(1)).containsExactly(entry("cluster", true), entry("point_count", 42L));
+        assertThat(layer.properties(2)).containsExactly(entry("category", "RESTAURANT"));
+        assertThat(layer.features().get(1).id()).isNull();
+    }
+
+    @Test
+    void encodePointLayer_encodesNegativeAndFractionalValuesByType() {
+        // given
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("offset", -5L);
+        properties.put("rating", 4.5);
+
+        // when
+        Layer layer = decode(VectorTileEncoder.encodePointLayer("stores", List.of(
+            new VectorTileEncoder.Point(1L, 0, 0, properties))));
+
+        // then: 음수 정수는 sint_value(zigzag), 실수는 double_value
+        assertThat(layer.properties(0)).containsExactly(entry("offset", -5L), entry("rating", 4.5));
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // ---- 명세(vector_tile.proto) 기준 최소 디코더 ----
+
+    private static Layer decode(byte[] tile) {
+        ProtoReader reader = new ProtoReader(tile);
+        Layer layer = null;
+        while (reader.hasRemaining()) {
+            int tag = (int) reader.readVarint();
+            if (tag >>> 3 == 3 && (tag & 0x7) == 2) {
+                assertThat(layer).as("레이어는 하나").isNull();
+                layer = decodeLayer(reader.readBytes());
+            } else {
+                reader.skip(tag & 0x7);
+            }
+        }
+        assertThat(layer).isNotNull();
+        return layer;
+    }
+
+    private static Layer decodeLayer(byte[] bytes) {
+        ProtoReader reader = new ProtoReader(bytes);
+        Layer layer = new Layer();
+        while (reader.hasRemaining()) {
+            int tag = (int) reader.readVarint();
+            switch (tag >>> 3) {
+                case 15 -> layer.version = (int) reader.readVarint();
+                case 1 -> layer.name = new String(reader.readBytes(), StandardCharsets.UTF_8);
+                case 2 -> layer.features.add(decodeFeature(reader.readBytes()));
+                case 3 -> layer.keys.add(new String(reader.readBytes(), StandardCharsets.UTF_8));
+                case 4 -> layer.values.add(decodeValue(reader.readBytes()));
+                case 5 -> layer.extent = (int) reader.readVarint();
+                default -> reader.skip(tag & 0x7);
+            }
+        }
+        return layer;
+    }
+
+    private static Feature decodeFeature(byte[] bytes) {
+        ProtoReader reader = new ProtoReader(bytes);
+        Long id = null;
+        int type = 0;
+        List<Integer> tags = new ArrayList<>();
+        List<Integer> geometry = new ArrayList<>();
+        while (reader.hasRemaining()) {
+            int tag = (int) reader.readVarint();
+            switch (tag >>> 3) {
+                case 1 -> id = reader.readVarint();
+                case 2 -> tags.addAll(readPacked(reader.readBytes()));
+                case 3 -> type = (int) reader.readVarint();
+                case 4 -> geometry.addAll(readPacked(reader.readBytes()));
+                default -> reader.skip(tag & 0x7);
+            }
+        }
+        return new Feature(id, type, tags, geometry);
+    }
+
+    private static Object decodeValue(byte[] bytes) {
+        ProtoReader reader = new ProtoReader(bytes);
+        int tag = (int) reader.readVarint();
+        Object value = switch (tag >>> 3) {
+            case 1 -> new String(reader.readBytes(), StandardCharsets.UTF_8);
+            case 3 -> Double.longBitsToDouble(reader.readFixed64());
+            case 5 -> reader.readVarint();
+            case 6 -> {
+                long raw = reader.readVarint();
+                yield (raw >>> 1) ^ -(raw & 1);
+            }
+            case 7 -> reader.readVarint() != 0;
+            default -> throw new AssertionError("지원하지 않는 값 필드: " + (tag >>> 3));
+        };
+        assertThat(reader.hasRemaining()).as("값 메시지에는 필드 하나").isFalse();
+        return value;
+    }
+
+    private static List<Integer> readPacked(byte[] bytes) {
+        ProtoReader reader = new ProtoReader(bytes);
+        List<Integer> values = new ArrayList<>();
+        while (reader.hasRemaining()) {
+            values.add((int) reader.readVarint());
+        }
+        return values;
+    }
+
+    private static final class Layer {
+        private int version;
+        private String name;
+        private int extent;
+        private final List<Feature> features = new ArrayList<>();
+        private final List<String> keys = new ArrayList<>();
+        private final List<Object> values = new ArrayList<>();
+
+        int version() {
+            return version;
+        }
+
+        String name() {
+            return name;
+        }
+
+        int extent() {
+            return extent;
+        }
+
+        List<Feature> features() {
+            return features;
+        }
+
+        List<String> keys() {
+            return keys;
+        }
+
+        List<Object> values() {
+            return values;
+        }
+
+        Map<String, Object> properties(int featureIndex) {
+            List<Integer> tags = features.get(featureIndex).tags();
+            assertThat(tags.size() % 2).isZero();
+            Map<String, Object> properties = new LinkedHashMap<>();
+            for (int i = 0; i < tags.size(); i += 2) {
+                properties.put(keys.get(tags.get(i)), values.get(tags.get(i + 1)));
+            }
+            return properties;
+        }
+    }
+
+    private record Feature(Long id, int type, List<Integer> tags, List<Integer> geometry) {}
+
+    private static final class ProtoReader {
+        private final byte[] bytes;
+        private int position;
+
+        ProtoReader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        boolean hasRemaining() {
+            return position < bytes.length;
+        }
+
+        long readVarint() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = bytes[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new AssertionError("잘못된 varint");
+        }
+
+        long readFixed64() {
+            long result = 0;
+            for (int i = 0; i < 8; i++) {
+                result |= (long) (bytes[position++] & 0xFF) << (8 * i);
+            }
+            return result;
+        }
+
+        byte[] readBytes() {
+            int length = (int) readVarint();
+            byte[] result = new byte[length];
+            System.arraycopy(bytes, position, result, 0, length);
+            position += length;
+            return result;
+        }
+
+        void skip(int wireType) {
+            switch (wireType) {
+                case 0 -> readVarint();
+                case 1 -> position += 8;
+                case 2 -> readBytes();
+                case 5 -> position += 4;
+                default -> throw new AssertionError("지원하지 않는 wire type: " + wireType);
+            }
+        }
+    }
+}
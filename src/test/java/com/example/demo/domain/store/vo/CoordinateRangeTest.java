@@ -0,0 +1,64 @@
+package com.example.demo.domain.store.vo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoordinateRangeTest {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    @Test
+    void around_containsEveryPointWithinRadius() {
+        // given: 반경 조회 쿼리와 같은 거리 계산식으로 반경 안에 드는 임의의 좌표
+        Random random = new Random(46);
+        double radiusKm = 3.0;
+        for (double latitude : new double[] {33.5, 37.5665, 60.0, -45.0}) {
+            double longitude = 126.978;
+            CoordinateRange range = CoordinateRange.around(latitude, longitude, radiusKm);
+
+            for (int i = 0; i < 10_000; i++) {
+                double pointLatitude = latitude + (random.nextDouble() - 0.5) * 0.2;
+                double pointLongitude = longitude + (random.nextDouble() - 0.5) * 0.4;
+                if (distanceKm(latitude, longitude, pointLatitude, pointLongitude) > radiusKm) {
+                    continue;
+                }
+
+                // then
+                assertThat(range.contains(pointLatitude, pointLongitude)).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void around_narrowsToRadius() {
+        // when
+        CoordinateRange range = CoordinateRange.around(37.5665, 126.978, 1.0);
+
+        // then: 위도 약 ±0.009도, 경도는 위도에 따라 약 ±0.0113도
+        assertThat(range.getMaxLatitude() - range.getMinLatitude()).isBetween(0.0179, 0.0181);
+        assertThat(range.getMaxLongitude() - range.getMinLongitude()).isBetween(0.0225, 0.0228);
+    }
+
+    @Test
+    void around_usesFullLongitude_whenRangeCrossesPoleOrAntimeridian() {
+        // when
+        CoordinateRange nearPole = CoordinateRange.around(89.99, 10.0, 5.0);
+        CoordinateRange nearAntimeridian = CoordinateRange.around(10.0, 179.99, 5.0);
+
+        // then
+        assertThat(nearPole.getMaxLatitude()).isEqualTo(90.0);
+        assertThat(nearPole.getMinLongitude()).isEqualTo(-180.0);
+        assertThat(nearPole.getMaxLongitude()).isEqualTo(180.0);
+        assertThat(nearAntimeridian.getMinLongitude()).isEqualTo(-180.0);
+        assertThat(nearAntimeridian.getMaxLongitude()).isEqualTo(180.0);
+    }
+
+    private static double distanceKm(double latitude, double longitude, double pointLatitude, double pointLongitude) {
+        return EARTH_RADIUS_KM * Math.acos(Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(pointLatitude))
+            * Math.cos(Math.toRadians(pointLongitude) - Math.toRadians(longitude))
+            + Math.sin(Math.toRadians(latitude)) * Math.sin(Math.toRadians(pointLatitude)));
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.domain.store.vo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegionNameTest {
+
+    @Test
+    void of_convertsAliasToOfficialName_andTidiesWhitespace() {
+        // when
+        RegionName region = RegionName.of(" 서울 ", " 중구 ");
+        RegionName renamed = RegionName.of("전라북도", "전주시  완산구");
+
+        // then
+        assertThat(region).isEqualTo(new RegionName("서울특별시", "중구"));
+        assertThat(renamed).isEqualTo(new RegionName("전북특별자치도", "전주시 완산구"));
+    }
+
+    @Test
+    void of_keepsUnknownSido_andBlankAsNull() {
+        // when
+        RegionName unknown = RegionName.of("  해외 ", null);
+        RegionName blank = RegionName.of(" ", "");
+
+        // then
+        assertThat(unknown).isEqualTo(new RegionName("해외", null));
+        assertThat(blank).isEqualTo(new RegionName(null, null));
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.demo.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 노드가 하나의 전송 계층(Redis 대역)을 공유하는 상황에서의 캐시 무효화 검증
+ */
+class CacheCoherenceManagerTest {
+
+    private LocalCacheInvalidationTransport transport;
+    private TestRegion regionA;
+    private TestRegion regionB;
+    private CacheCoherenceManager nodeA;
+    private CacheCoherenceManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        transport = new LocalCacheInvalidationTransport();
+        regionA = new TestRegion(CacheEntityType.STORE_RATING);
+        regionB = new TestRegion(CacheEntityType.STORE_RATING);
+        nodeA = new CacheCoherenceManager(List.of(regionA), transport, new SimpleMeterRegistry(), 2);
+        nodeB = new CacheCoherenceManager(List.of(regionB), transport, new SimpleMeterRegistry(), 2);
+    }
+
+    @Test
+    void invalidate_evictsLocalImmediately_andRemoteAfterFlush() {
+        // given
+        regionA.load(List.of(1L, 2L, 3L));
+        regionB.load(List.of(1L, 2L, 3L));
+
+        // when
+        nodeA.invalidate(CacheEntityType.STORE_RATING, List.of(1L, 2L));
+
+        // then
+        assertThat(regionA.cachedKeys()).containsExactly(3L);
+        assertThat(regionB.cachedKeys()).containsExactlyInAnyOrder(1L, 2L, 3L);
+
+        nodeA.flush();
+
+        assertThat(regionB.cachedKeys()).containsExactly(3L);
+    }
+
+    @Test
+    void flush_batchesIdsPerType_andIgnoresOwnMessages() {
+        // given
+        nodeA.invalidate(CacheEntityType.STORE_RATING, List.of(1L, 2L));
+        nodeA.invalidate(CacheEntityType.STORE_RATING, List.of(2L, 3L));
+        int localEvictionsBeforeFlush = regionA.evictCalls;
+
+        // when
+        nodeA.flush();
+
+        // then - 중복 제거된 3개 ID가 최대 2개씩 2개 메시지로 전달
+        assertThat(regionB.evictCalls).isEqualTo(2);
+        assertThat(regionB.evictedIds).containsExactly(1L, 2L, 3L);
+        assertThat(regionA.evictCalls).isEqualTo(localEvictionsBeforeFlush);
+    }
+
+    @Test
+    void invalidateAll_clearsRemoteRegion() {
+        // given
+        regionB.load(List.of(1L, 2L));
+
+        // when
+        nodeA.invalidateAll(CacheEntityType.STORE_RATING);
+        nodeA.flush();
+
+        // then
+        assertThat(regionB.cachedKeys()).isEmpty();
+    }
+
+    @Test
+    void invalidate_ignoresRegionsOfOtherTypes() {
+        // given
+        TestRegion storeRegion = new TestRegion(CacheEntityType.STORE);
+        CacheCoherenceManager nodeC = new CacheCoherenceManager(List.of(storeRegion), transport, new SimpleMeterRegistry(), 10);
+        storeRegion.load(List.of(1L));
+
+        // when
+        nodeA.invalidate(CacheEntityType.STORE_RATING, List.of(1L));
+        nodeA.flush();
+
+        // then
+        assertThat(storeRegion.cachedKeys()).containsExactly(1L);
+        assertThat(nodeC.getNodeId()).isNotEqualTo(nodeA.getNodeId());
+    }
+
+    @Test
+    void localTtlCache_reloadsAfterTtl_whenInvalidationIsLost() {
+        // given
+        AtomicLong clock = new AtomicLong();
+        AtomicLong loads = new AtomicLong();
+        LocalTtlCache<Long, String> cache = new LocalTtlCache<>(Duration.ofSeconds(60), 100, clock::get);
+
+        cache.getAll(List.of(1L), keys -> { loads.incrementAndGet(); return Map.of(1L, "v1"); });
+        cache.getAll(List.of(1L), keys -> { loads.incrementAndGet(); return Map.of(1L, "v2"); });
+        assertThat(loads.get()).isEqualTo(1);
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(61).toNanos());
+        Map<Long, String> result = cache.getAll(List.of(1L), keys -> { loads.incrementAndGet(); return Map.of(1L, "v3"); });
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(result).containsEntry(1L, "v3");
+    }
+
+    @Test
+    void localTtlCache_doesNotStoreValueLoadedDuringEviction() {
+        // given
+        LocalTtlCache<Long, String> cache = new LocalTtlCache<>(Duration.ofSeconds(60), 100);
+
+        // when - 조회 도중 다른 노드의 무효화가 도착
+        cache.getAll(List.of(1L), keys -> {
+            cache.evict(List.of(1L));
+            return Map.of(1L, "stale");
+        });
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void localTtlCache_storesValue_whenOtherKeyIsEvictedDuringLoad() {
+        // given
+        LocalTtlCache<Long, String> cache = new LocalTtlCache<>(Duration.ofSeconds(60), 100);
+        AtomicLong loads = new AtomicLong();
+
+        // when - 다른 키의 무효화는 이 조회 결과의 저장을 막지 않는다
+        cache.getAll(List.of(1L), keys -> {
+            loads.incrementAndGet();
+            cache.evict(List.of(2L));
+            return Map.of(1L, "v1");
+        });
+        Map<Long, String> cached = cache.getAll(List.of(1L), keys -> { loads.incrementAndGet(); return Map.of(1L, "v2"); });
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cached).containsEntry(1L, "v1");
+    }
+
+    @Test
+    void localTtlCache_evictsOldestEntries_whenFull() {
+        // given
+        AtomicLong clock = new AtomicLong();
+        LocalTtlCache<Long, String> cache = new LocalTtlCache<>(Duration.ofSeconds(60), 10, clock::get);
+        for (long key = 1; key <= 10; key++) {
+            long loadedKey = key;
+            cache.getAll(List.of(loadedKey), keys -> Map.of(loadedKey, "v" + loadedKey));
+            clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        }
+
+        // when
+        cache.getAll(List.of(11L), keys -> Map.of(11L, "v11"));
+
+        // then - 전부 비우지 않고 가장 오래된 항목만 정리한다
+        assertThat(cache.size()).isEqualTo(9);
+        AtomicLong reloads = new AtomicLong();
+        cache.getAll(List.of(1L, 2L, 10L, 11L), keys -> {
+            reloads.addAndGet(keys.size());
+            return Map.of();
+        });
+        assertThat(reloads.get()).isEqualTo(2);
+    }
+
+    private static class TestRegion implements LocalCacheRegion {
+        private final CacheEntityType entityType;
+        private final Map<Long, String> values = new HashMap<>();
+        private final List<Long> evictedIds = new ArrayList<>();
+        private int evictCalls;
+
+        TestRegion(CacheEntityType entityType) {
+            this.entityType = entityType;
+        }
+
+        void load(List<Long> ids) {
+            ids.forEach(id -> values.put(id, "value-" + id));
+        }
+
+        Collection<Long> cachedKeys() {
+            return values.keySet();
+        }
+
+        @Override
+        public CacheEntityType entityType() {
+            return entityType;
+        }
+
+        @Override
+        public void evict(Collection<Long> ids) {
+            evictCalls++;
+            evictedIds.addAll(ids);
+            ids.forEach(values::remove);
+        }
+
+        @Override
+        public void evictAll() {
+            values.clear();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.demo.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 Redis pub/sub 을 거친 노드 간 캐시 무효화 검증 (Docker 가 없으면 건너뛴다)
+ * 두 노드는 각자의 커넥션과 리스너 컨테이너로 같은 Redis 채널을 구독한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisCacheInvalidationTransportTest {
+
+    private static final String CHANNEL = "cache-invalidation-test";
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+        .withExposedPorts(6379);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Node> nodes = new ArrayList<>();
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (Node node : nodes) {
+            node.close();
+        }
+    }
+
+    @Test
+    void flush_evictsRemoteNodeThroughRedis() throws Exception {
+        // given
+        nodeA.region.load(List.of(1L, 2L, 3L));
+        nodeB.region.load(List.of(1L, 2L, 3L));
+
+        // when
+        nodeA.manager.invalidate(CacheEntityType.STORE_RATING, List.of(1L, 2L));
+        nodeA.manager.flush();
+
+        // then
+        awaitCachedKeys(nodeB.region, List.of(3L));
+        assertThat(nodeA.region.cachedKeys()).containsExactly(3L);
+    }
+
+    @Test
+    void invalidateAll_clearsRemoteRegionThroughRedis() throws Exception {
+        // given
+        nodeB.region.load(List.of(1L, 2L));
+
+        // when
+        nodeA.manager.invalidateAll(CacheEntityType.STORE_RATING);
+        nodeA.manager.flush();
+
+        // then
+        awaitCachedKeys(nodeB.region, List.of());
+    }
+
+    @Test
+    void subscriber_skipsMalformedMessage_andKeepsListening() throws Exception {
+        // given
+        nodeB.region.load(List.of(1L, 2L));
+
+        // when: 형식이 맞지 않는 메시지 뒤에 정상 메시지가 온다
+        nodeA.redisTemplate.convertAndSend(CHANNEL, "{not-json");
+        nodeA.manager.invalidate(CacheEntityType.STORE_RATING, List.of(1L));
+        nodeA.manager.flush();
+
+        // then
+        awaitCachedKeys(nodeB.region, List.of(2L));
+    }
+
+    private Node startNode() {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+
+        RedisCacheInvalidationTransport transport =
+            new RedisCacheInvalidationTransport(redisTemplate, listenerContainer, objectMapper, CHANNEL);
+        TestRegion region = new TestRegion();
+        CacheCoherenceManager manager = new CacheCoherenceManager(List.of(region), transport, new SimpleMeterRegistry(), 100);
+        // 구독이 등록된 뒤 시작해야 시작 직후 발행된 메시지도 받는다 (start 는 구독 완료까지 기다린다)
+        listenerContainer.start();
+
+        Node node = new Node(connectionFactory, redisTemplate, listenerContainer, region, manager);
+        nodes.add(node);
+        return node;
+    }
+
+    private static void awaitCachedKeys(TestRegion region, List<Long> expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!region.cachedKeys().equals(expected)) {
+            if (System.nanoTime() > deadline) {
+                assertThat(region.cachedKeys()).containsExactlyElementsOf(expected);
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private record Node(LettuceConnectionFactory connectionFactory,
+                        StringRedisTemplate redisTemplate,
+                        RedisMessageListenerContainer listenerContainer,
+                        TestRegion region,
+                        CacheCoherenceManager manager) {
+
+        void close() throws Exception {
+            listenerContainer.destroy();
+            connectionFactory.destroy();
+        }
+    }
+
+    /**
+     * 리스너 스레드에서 무효화되는 캐시 영역
+     */
+    private static class TestRegion implements LocalCacheRegion {
+
+        private final Map<Long, String> values = new ConcurrentHashMap<>();
+
+        void load(List<Long> ids) {
+            ids.forEach(id -> values.put(id, "value-" + id));
+        }
+
+        List<Long> cachedKeys() {
+            return values.keySet().stream().sorted().toList();
+        }
+
+        @Override
+        public CacheEntityType entityType() {
+            return CacheEntityType.STORE_RATING;
+        }
+
+        @Override
+        public void evict(Collection<Long> ids) {
+            ids.forEach(values::remove);
+        }
+
+        @Override
+        public void evictAll() {
+            values.clear();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.demo.infrastructure.config.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentChangeTrackerTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private final RecentChangeTracker<Long> tracker = new RecentChangeTracker<>(now::get);
+
+    @Test
+    void isRecent_false_beforeAnyChange() {
+        // then
+        assertThat(tracker.isRecent()).isFalse();
+        assertThat(tracker.recentOf(List.of(1L, 2L))).isEmpty();
+    }
+
+    @Test
+    void recentOf_returnsOnlyChangedKeys_withinLagWindow() {
+        // given
+        tracker.markChanged(List.of(1L));
+
+        // when & then
+        assertThat(tracker.recentOf(List.of(1L, 2L))).containsExactly(1L);
+
+        now.addAndGet(DataSourceRoutingContext.replicaLagWindowNanos());
+        assertThat(tracker.recentOf(List.of(1L, 2L))).isEmpty();
+    }
+
+    @Test
+    void recentOf_returnsAllKeys_afterFullChange() {
+        // given
+        tracker.markChanged();
+
+        // when & then
+        assertThat(tracker.recentOf(List.of(1L, 2L))).containsExactly(1L, 2L);
+
+        now.addAndGet(DataSourceRoutingContext.replicaLagWindowNanos());
+        assertThat(tracker.isRecent()).isFalse();
+    }
+
+    @Test
+    void callOnPrimaryIfRecent_pinsOnlyRightAfterChange() {
+        // when
+        boolean beforeChange = tracker.callOnPrimaryIfRecent(DataSourceRoutingContext::isPinnedToPrimary);
+        tracker.markChanged(List.of(1L));
+        boolean afterChange = tracker.callOnPrimaryIfRecent(DataSourceRoutingContext::isPinnedToPrimary);
+
+        // then
+        assertThat(beforeChange).isFalse();
+        assertThat(afterChange).isTrue();
+        assertThat(DataSourceRoutingContext.isPinnedToPrimary()).isFalse();
+    }
+}
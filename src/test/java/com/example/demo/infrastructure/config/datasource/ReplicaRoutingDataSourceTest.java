@@ -0,0 +1,121 @@
+package com.example.demo.infrastructure.config.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        routingDataSource = new ReplicaRoutingDataSource(meterRegistry);
+        routingDataSource.setTargetDataSources(Map.of(
+            DataSourceType.PRIMARY, primary,
+            DataSourceType.REPLICA, replica
+        ));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        DataSourceRoutingContext.clear();
+    }
+
+    @Test
+    void getConnection_routesToReplica_whenReadOnlyTransaction() throws Exception {
+        // given
+        beginTransaction(true);
+
+        // when
+        Connection connection = routingDataSource.getConnection();
+
+        // then
+        assertThat(connection).isSameAs(replicaConnection);
+        assertThat(meterRegistry.counter("datasource.routing.connections", "pool", "replica").count()).isEqualTo(1);
+    }
+
+    @Test
+    void getConnection_routesToPrimary_whenReadWriteTransaction() throws Exception {
+        // given
+        beginTransaction(false);
+
+        // when
+        Connection connection = routingDataSource.getConnection();
+
+        // then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void getConnection_routesToPrimary_whenNoTransaction() throws Exception {
+        // when
+        Connection connection = routingDataSource.getConnection();
+
+        // then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void getConnection_routesToPrimary_whenPinnedInsideReadOnlyTransaction() throws Exception {
+        // given
+        beginTransaction(true);
+
+        // when
+        Connection pinned = DataSourceRoutingContext.callOnPrimary(this::connect);
+        Connection afterPin = routingDataSource.getConnection();
+
+        // then
+        assertThat(pinned).isSameAs(primaryConnection);
+        assertThat(afterPin).isSameAs(replicaConnection);
+        assertThat(DataSourceRoutingContext.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    void callOnPrimary_keepsOuterPin_whenNested() {
+        // given
+        DataSourceRoutingContext.pinToPrimary();
+
+        // when
+        DataSourceRoutingContext.runOnPrimary(() -> { });
+
+        // then
+        assertThat(DataSourceRoutingContext.isPinnedToPrimary()).isTrue();
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private Connection connect() {
+        try {
+            return routingDataSource.getConnection();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
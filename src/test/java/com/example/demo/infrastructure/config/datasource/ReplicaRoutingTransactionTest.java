@@ -0,0 +1,122 @@
+package com.example.demo.infrastructure.config.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 운영 구성과 같이 LazyConnectionDataSourceProxy 와 트랜잭션 매니저를 거쳐 두 데이터소스 중 어디서 커넥션을 얻는지 확인
+ */
+class ReplicaRoutingTransactionTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+
+    private DataSource dataSource;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(primary.getConnection()).thenReturn(mock(Connection.class));
+        when(replica.getConnection()).thenReturn(mock(Connection.class));
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(new SimpleMeterRegistry());
+        routingDataSource.setTargetDataSources(Map.of(
+            DataSourceType.PRIMARY, primary,
+            DataSourceType.REPLICA, replica
+        ));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        // 기본 커넥션 속성을 지정해 두어 프록시 초기화 시 커넥션을 얻지 않도록 한다
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+        proxy.setTargetDataSource(routingDataSource);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        proxy.afterPropertiesSet();
+
+        dataSource = proxy;
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DataSourceRoutingContext.clear();
+    }
+
+    @Test
+    void readOnlyTransaction_usesReplica() throws Exception {
+        // when
+        executeQuery(true);
+
+        // then
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void readWriteTransaction_usesPrimary() throws Exception {
+        // when
+        executeQuery(false);
+
+        // then
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void readOnlyTransaction_usesPrimary_whenPinned() throws Exception {
+        // when
+        DataSourceRoutingContext.runOnPrimary(() -> executeQuery(true));
+
+        // then
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void readOnlyTransaction_usesPrimary_onlyRightAfterChange() throws Exception {
+        // given
+        RecentChangeTracker<Long> recentChanges = new RecentChangeTracker<>();
+
+        // when: 변경 전 적재는 레플리카, 변경 직후 적재는 primary
+        recentChanges.callOnPrimaryIfRecent(() -> executeQuery(true));
+        recentChanges.markChanged();
+        recentChanges.callOnPrimaryIfRecent(() -> executeQuery(true));
+
+        // then
+        verify(replica).getConnection();
+        verify(primary).getConnection();
+    }
+
+    /**
+     * 읽기 전용 어댑터 메서드처럼 트랜잭션 안에서 첫 쿼리를 실행 (이 시점에 실제 커넥션을 얻는다)
+     */
+    private Void executeQuery(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        template.executeWithoutResult(status -> {
+            try {
+                DataSourceUtils.getConnection(dataSource).createStatement();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        return null;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.demo.infrastructure.monitoring;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청 처리 스레드 비교 (Tomcat 기본 플랫폼 스레드 풀 200개 / 요청마다 가상 스레드)
+ * DB 조회는 Hikari 풀 크기(10)의 세마포어를 잡은 채 대기, Redis 등 풀 밖의 I/O 는 잡지 않고 대기하는 것으로 흉내 낸다.
+ * - 주변 업소: 메모리 격자 인덱스 조회 후 Redis 캐시 조회 2ms (DB 없음)
+ * - 상세: Redis 캐시 조회 2ms 후 읽기 모델 조회 4ms (커넥션 점유)
+ * 동시 사용자 1000명이 응답을 받는 즉시 다음 요청을 보내는 부하로 5초씩 측정한다. ./gradlew benchmark -PjavaVersion=21 로 실행
+ * 참고 측정값 (JDK 21.0.1, 1 vCPU, 3회, 처리량 req/s, p50 / p99 ms, 플랫폼 200 / 가상):
+ * 주변 업소 23,379~33,471 (p50 11.7~28.7, p99 468~737) / 181,167~222,037 (p50 3.8~4.1, p99 12.8~22.6),
+ * 상세 2,353~2,382 (p50 416~424, p99 437~466) / 2,311~2,400 (p50 414~432, p99 439~486)
+ * DB 를 쓰지 않는 주변 업소 조회는 스레드 수 제한이 없어져 처리량이 늘고, 상세 조회는 두 방식 모두 Hikari 풀이 처리량을 제한한다.
+ */
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadExecutionBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int HIKARI_POOL_SIZE = 10;
+    private static final int CLIENTS = 1_000;
+    private static final long WARMUP_MILLIS = 1_000;
+    private static final long MEASURE_MILLIS = 5_000;
+
+    private final Semaphore connectionPool = new Semaphore(HIKARI_POOL_SIZE, true);
+
+    @Test
+    void compareNearbyAndDetail() throws Exception {
+        System.out.printf("%-8s %-9s %12s %9s %9s%n", "endpoint", "threads", "req/s", "p50(ms)", "p99(ms)");
+        for (String endpoint : new String[]{"nearby", "detail"}) {
+            Runnable request = endpoint.equals("nearby") ? this::nearby : this::detail;
+            print(endpoint, "platform", measure(Executors.newFixedThreadPool(TOMCAT_MAX_THREADS), request));
+            print(endpoint, "virtual", measure(newVirtualThreadPerTaskExecutor(), request));
+        }
+    }
+
+    private void nearby() {
+        block(2);
+    }
+
+    private void detail() {
+        block(2);
+        connectionPool.acquireUninterruptibly();
+        try {
+            block(4);
+        } finally {
+            connectionPool.release();
+        }
+    }
+
+    /**
+     * 동시 사용자마다 요청을 하나씩 처리 스레드에 넘기고, 응답을 받으면 바로 다음 요청을 보낸다
+     */
+    private Result measure(ExecutorService requestExecutor, Runnable request) throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicBoolean recording = new AtomicBoolean(false);
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService clients = newVirtualThreadPerTaskExecutor();
+        try {
+            for (int client = 0; client < CLIENTS; client++) {
+                clients.submit(() -> {
+                    while (running.get()) {
+                        long startedAt = System.nanoTime();
+                        requestExecutor.submit(request).get();
+                        if (recording.get()) {
+                            histogram.record(System.nanoTime() - startedAt);
+                        }
+                    }
+                    return null;
+                });
+            }
+            Thread.sleep(WARMUP_MILLIS);
+            recording.set(true);
+            Thread.sleep(MEASURE_MILLIS);
+            recording.set(false);
+            Result result = new Result(histogram.count() * 1_000.0 / MEASURE_MILLIS,
+                histogram.percentileMillis(0.50), histogram.percentileMillis(0.99));
+            running.set(false);
+            clients.shutdown();
+            clients.awaitTermination(30, TimeUnit.SECONDS);
+            return result;
+        } finally {
+            clients.shutdownNow();
+            requestExecutor.shutdownNow();
+        }
+    }
+
+    private static void print(String endpoint, String threads, Result result) {
+        System.out.printf("%-8s %-9s %,12.0f %9.1f %9.1f%n", endpoint, threads, result.throughput(), result.p50(), result.p99());
+    }
+
+    private static void block(long millis) {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    // Java 17 로 컴파일되는 테스트 소스에서 Java 21 API 를 쓰기 위해 리플렉션으로 호출한다
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+
+    private record Result(double throughput, double p50, double p99) {
+    }
+
+    /**
+     * 10us 단위 응답 시간 분포 (2초 이상은 마지막 구간)
+     */
+    private static final class LatencyHistogram {
+
+        private static final long BUCKET_NANOS = 10_000;
+        private final AtomicLongArray buckets = new AtomicLongArray(200_000);
+        private final AtomicLong count = new AtomicLong();
+
+        void record(long nanos) {
+            buckets.incrementAndGet((int) Math.min(buckets.length() - 1, nanos / BUCKET_NANOS));
+            count.incrementAndGet();
+        }
+
+        long count() {
+            return count.get();
+        }
+
+        double percentileMillis(double percentile) {
+            long target = (long) Math.ceil(count.get() * percentile);
+            long seen = 0;
+            for (int bucket = 0; bucket < buckets.length(); bucket++) {
+                seen += buckets.get(bucket);
+                if (seen >= target && seen > 0) {
+                    return (bucket + 1) * BUCKET_NANOS / 1_000_000.0;
+                }
+            }
+            return 0.0;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.demo.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * jdk.VirtualThreadPinned 이벤트는 Java 21 부터 발생하므로 Java 21 이상에서만 실행한다 (./gradlew test -PjavaVersion=21)
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, 20L);
+    private final Object monitorLock = new Object();
+    private final ReentrantLock reentrantLock = new ReentrantLock();
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void start_recordsPinning_onlyForBlockingInsideSynchronized() throws Exception {
+        // given
+        monitor.start();
+
+        // when: ReentrantLock 안의 대기는 캐리어 스레드를 놓고, synchronized 안의 대기는 고정된다
+        runOnVirtualThread(() -> {
+            reentrantLock.lock();
+            try {
+                Thread.sleep(50);
+            } finally {
+                reentrantLock.unlock();
+            }
+        });
+        runOnVirtualThread(() -> {
+            synchronized (monitorLock) {
+                Thread.sleep(50);
+            }
+        });
+
+        // then: JFR 스트림은 이벤트를 비동기로 전달하므로 기다린 뒤 확인한다
+        awaitPinnedCount(1);
+        Thread.sleep(1_500);
+        assertThat(meterRegistry.get("jvm.threads.virtual.pinned").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("jvm.threads.virtual.pinned.duration").timer().totalTime(TimeUnit.MILLISECONDS))
+            .isGreaterThanOrEqualTo(40.0);
+    }
+
+    @Test
+    void stop_closesRecordingStream() {
+        // given
+        monitor.start();
+
+        // when
+        monitor.stop();
+
+        // then
+        assertThat(monitor.isRunning()).isFalse();
+    }
+
+    private void awaitPinnedCount(double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (meterRegistry.get("jvm.threads.virtual.pinned").counter().count() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("pinned event was not recorded");
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private static void runOnVirtualThread(BlockingTask task) throws Exception {
+        // Java 17 로 컴파일되는 테스트 소스에서 Java 21 API 를 쓰기 위해 리플렉션으로 호출한다
+        ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        try {
+            executor.submit(() -> {
+                task.run();
+                return null;
+            }).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    private interface BlockingTask {
+        void run() throws Exception;
+    }
+}